@@ -0,0 +1,74 @@
+package IABomberMan;
+
+import Etat.Direction;
+import Etat.GameMode;
+import Simulation.GameSnapshot;
+import Simulation.SimulationEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latence d'une décision d'IA (carte des dangers et recherche de chemin).
+ * <p>
+ * Mesurée en mode échantillonné pour obtenir la distribution (p50, p99...) :
+ * c'est la queue qui retarde une IA en pleine fuite.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiDecisionBenchmark {
+
+    /** Nombre de bombes posées autour des joueurs avant la décision */
+    @Param({"0", "4", "12"})
+    public int bombs;
+
+    private AiPlanner planner;
+    private GameSnapshot snapshot;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        SimulationEngine engine = new SimulationEngine(GameMode.INFINITE_BOMBS, 42);
+        for (int i = 0; i < 4; i++) {
+            engine.addPlayer("IA " + (i + 1));
+        }
+        engine.start();
+
+        // Les joueurs s'écartent de leur spawn en posant des bombes
+        Direction[] moves = {Direction.RIGHT, Direction.DOWN, Direction.LEFT, Direction.UP};
+        int placed = 0;
+        for (int step = 0; placed < bombs && step < 200; step++) {
+            int playerId = step % 4;
+            if (engine.placeBomb(playerId)) {
+                placed++;
+            }
+            engine.movePlayer(playerId, moves[(step / 4) % moves.length]);
+            engine.tick();
+        }
+
+        snapshot = engine.snapshot();
+        planner = new AiPlanner();
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public AiPlanner.Decision decide() {
+        return planner.decide(snapshot, 0, random);
+    }
+}
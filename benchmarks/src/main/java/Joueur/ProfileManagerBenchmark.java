@@ -0,0 +1,132 @@
+package Joueur;
+
+import Etat.ProfileSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chargement, sauvegarde, mise à jour et classement de la base de profils.
+ * <p>
+ * Le gestionnaire travaille sur un fichier dédié ({@value #PROFILES_FILE} pour le journal,
+ * {@value #MAPPED_PROFILES_FILE} pour le fichier projeté), créé avant chaque série de mesures
+ * par l'import d'un fichier texte ({@value #LEGACY_PROFILES_FILE}) contenant le nombre de
+ * profils demandé. Le stockage est choisi par le paramètre {@code backend} ; chaque
+ * combinaison de paramètres s'exécute dans sa propre JVM.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Dbomberman.profiles.legacy=" + ProfileManagerBenchmark.LEGACY_PROFILES_FILE})
+public class ProfileManagerBenchmark {
+
+    /** Fichier de profils utilisé par les mesures (relatif au répertoire de lancement) */
+    public static final String PROFILES_FILE = "target/jmh-profiles.db";
+
+    /** Fichier projeté utilisé par les mesures du stockage MAPPED */
+    public static final String MAPPED_PROFILES_FILE = "target/jmh-profiles.dat";
+
+    /** Fichier texte importé pour créer le journal */
+    public static final String LEGACY_PROFILES_FILE = "target/jmh-profiles.txt";
+
+    @Param({"10000", "100000", "1000000"})
+    public int profileCount;
+
+    @Param({"LOG", "MAPPED"})
+    public String backend;
+
+    private ProfileManager manager;
+    private Profile profile;
+
+    @Setup
+    public void writeProfiles() throws IOException {
+        // Lu à l'initialisation de ProfileManager, qui n'a pas encore eu lieu dans cette JVM
+        System.setProperty("bomberman.profiles.backend", backend);
+        System.setProperty("bomberman.profiles.file", "MAPPED".equals(backend) ? MAPPED_PROFILES_FILE : PROFILES_FILE);
+        deleteProfiles();
+
+        Path file = Path.of(LEGACY_PROFILES_FILE);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        String[] colors = ProfileManager.getAvailableColors();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < profileCount; i++) {
+                writer.write("Joueur" + i + ";Nom" + (i * 31 % 9973) + ";" + colors[i % colors.length]
+                        + ";" + (i % 50) + ";" + (i % 20) + ";" + (i * 7 % 5000));
+                writer.newLine();
+            }
+        }
+
+        manager = ProfileManager.getInstance();
+        manager.loadProfiles();
+        profile = manager.findProfile("Joueur" + (profileCount / 2), "Nom" + (profileCount / 2 * 31 % 9973));
+    }
+
+    @TearDown
+    public void deleteProfiles() throws IOException {
+        Files.deleteIfExists(Path.of(PROFILES_FILE));
+        Files.deleteIfExists(Path.of(MAPPED_PROFILES_FILE));
+        Files.deleteIfExists(Path.of(MAPPED_PROFILES_FILE + ".idx"));
+        Files.deleteIfExists(Path.of(LEGACY_PROFILES_FILE));
+    }
+
+    @Benchmark
+    public int loadProfiles() {
+        manager.loadProfiles();
+        return manager.getProfileCount();
+    }
+
+    @Benchmark
+    public int saveProfiles() {
+        manager.saveProfiles();
+        manager.flush();
+        return manager.getProfileCount();
+    }
+
+    @Benchmark
+    public int updateProfile() {
+        profile.updateStats(true, 10);
+        manager.updateProfile(profile);
+        return profile.getGamesPlayed();
+    }
+
+    @Benchmark
+    public int topTwentyByScore() {
+        List<Profile> ranking = manager.getProfilesSortedBy(ProfileSort.TOTAL_SCORE);
+        int total = 0;
+        for (int i = 0; i < 20 && i < ranking.size(); i++) {
+            total += ranking.get(i).getTotalScore();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int rankByRating() {
+        return manager.getRank(profile, ProfileSort.RATING);
+    }
+
+    @Benchmark
+    public int leaderboardPage() {
+        return manager.getLeaderboardPage(ProfileSort.RATING, profileCount / 2, 20).size();
+    }
+}
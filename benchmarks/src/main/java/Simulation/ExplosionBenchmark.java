@@ -0,0 +1,70 @@
+package Simulation;
+
+import Etat.GameMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Résolution d'une explosion sur une carte remplie de bombes.
+ * <p>
+ * Une bombe est posée sur chaque cellule libre ; toutes explosent au même tick et
+ * la réaction en chaîne parcourt toute la carte. La mesure porte sur ce seul tick.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExplosionBenchmark {
+
+    /** Puissance des bombes posées */
+    @Param({"1", "3", "8"})
+    public int power;
+
+    private SimulationEngine engine;
+
+    @Setup(Level.Invocation)
+    public void packMap() {
+        engine = new SimulationEngine(GameMode.INFINITE_BOMBS, 42);
+        SimPlayer owner = engine.addPlayer("A");
+        engine.addPlayer("B");
+        engine.start();
+        for (int i = 1; i < power; i++) {
+            owner.increaseBombPower();
+        }
+
+        for (int y = 0; y < MapLayout.GRID_HEIGHT; y++) {
+            for (int x = 0; x < MapLayout.GRID_WIDTH; x++) {
+                if (engine.isWalkable(x, y)) {
+                    engine.placeBombAt(owner, x, y);
+                }
+            }
+        }
+
+        // Jusqu'au tick précédant l'explosion
+        for (int t = 1; t < SimulationEngine.BOMB_FUSE_TICKS; t++) {
+            engine.tick();
+        }
+        engine.pollEvents();
+    }
+
+    @Benchmark
+    public int explodePackedMap() {
+        engine.tick();
+        return engine.getFlames().size();
+    }
+}
@@ -0,0 +1,85 @@
+package Simulation;
+
+import Etat.GameMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requêtes d'occupation du moteur, sur toutes les cellules de la carte.
+ * <p>
+ * La partie compte quatre joueurs, une bombe une cellule libre sur trois et
+ * les power-ups initiaux.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OccupancyBenchmark {
+
+    private SimulationEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = new SimulationEngine(GameMode.INFINITE_BOMBS, 7);
+        SimPlayer owner = engine.addPlayer("A");
+        engine.addPlayer("B");
+        engine.addPlayer("C");
+        engine.addPlayer("D");
+        engine.start();
+
+        int free = 0;
+        for (int y = 0; y < MapLayout.GRID_HEIGHT; y++) {
+            for (int x = 0; x < MapLayout.GRID_WIDTH; x++) {
+                if (engine.isWalkable(x, y) && free++ % 3 == 0) {
+                    engine.placeBombAt(owner, x, y);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int isOccupiedByPlayer() {
+        int count = 0;
+        for (int y = 0; y < MapLayout.GRID_HEIGHT; y++) {
+            for (int x = 0; x < MapLayout.GRID_WIDTH; x++) {
+                if (engine.isOccupiedByPlayer(x, y, null)) count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int isOccupiedByBomb() {
+        int count = 0;
+        for (int y = 0; y < MapLayout.GRID_HEIGHT; y++) {
+            for (int x = 0; x < MapLayout.GRID_WIDTH; x++) {
+                if (engine.isOccupiedByBomb(x, y)) count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int isPowerUpAt() {
+        int count = 0;
+        for (int y = 0; y < MapLayout.GRID_HEIGHT; y++) {
+            for (int x = 0; x < MapLayout.GRID_WIDTH; x++) {
+                if (engine.isPowerUpAt(x, y)) count++;
+            }
+        }
+        return count;
+    }
+}
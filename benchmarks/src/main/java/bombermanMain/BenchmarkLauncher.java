@@ -0,0 +1,37 @@
+package bombermanMain;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Point d'entrée du jar des bancs d'essai.
+ * <p>
+ * Transmet les arguments à JMH. Sauf indication contraire (options {@code -rf} / {@code -rff}),
+ * les résultats sont écrits au format JSON dans {@code target/jmh-result.json}, pour être
+ * comparés d'un commit à l'autre.
+ * </p>
+ */
+public final class BenchmarkLauncher {
+
+    /** Fichier de résultats par défaut */
+    public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkLauncher() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(Arrays.asList(args));
+        if (!jmhArgs.contains("-rf")) {
+            jmhArgs.add("-rf");
+            jmhArgs.add("json");
+        }
+        if (!jmhArgs.contains("-rff")) {
+            jmhArgs.add("-rff");
+            jmhArgs.add(DEFAULT_RESULT_FILE);
+        }
+        Main.main(jmhArgs.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,48 @@
+package fonctionnaliteInitial;
+
+import Simulation.MapLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Génération aléatoire de la carte.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapGenerationBenchmark {
+
+    private BombermanMap map;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        map = new BombermanMap();
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public BombermanMap generateRandomMap() {
+        map.generateRandomMap();
+        return map;
+    }
+
+    @Benchmark
+    public int[][] generateLayout() {
+        return MapLayout.generate(random);
+    }
+}
@@ -0,0 +1,50 @@
+package Etat;
+
+/**
+ * Énumération représentant les couches d'une cellule du plateau, de la plus basse à la plus haute
+ */
+public enum BoardLayer {
+    FLOOR("Sol", "Sol de la cellule (vide ou zone d'apparition)"),
+    BLOCK("Bloc", "Mur indestructible ou bloc destructible"),
+    ITEM("Objet", "Power-up posé sur la cellule"),
+    BOMB("Bombe", "Bombe posée sur la cellule"),
+    ACTOR("Joueur", "Joueurs présents sur la cellule"),
+    FX("Effet", "Flammes et autres effets visuels");
+
+    private final String displayName;
+    private final String description;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom affiché de la couche
+     * @param description Description de la couche
+     */
+    BoardLayer(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Retourne le nom d'affichage de la couche
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description de la couche
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Indique si la couche représente la carte elle-même plutôt qu'un élément dynamique
+     * @return true pour le sol et les blocs
+     */
+    public boolean isTile() {
+        return this == FLOOR || this == BLOCK;
+    }
+}
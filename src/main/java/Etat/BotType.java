@@ -0,0 +1,39 @@
+package Etat;
+
+/**
+ * Énumération représentant les comportements d'IA disponibles pour les tournois sans interface
+ */
+public enum BotType {
+    STANDARD("IA standard", "Le comportement des IA en jeu : planificateur et pauses de 500 à 1100 ms entre deux actions"),
+    AGGRESSIVE("IA agressive", "Le même planificateur, mais une décision à chaque pas, sans temps mort"),
+    RANDOM("Aléatoire", "Pas sûrs choisis au hasard et bombes occasionnelles (niveau de référence)");
+
+    private final String displayName;
+    private final String description;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom affiché du comportement
+     * @param description Description du comportement
+     */
+    BotType(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Retourne le nom d'affichage du comportement
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description du comportement
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
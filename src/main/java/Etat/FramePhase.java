@@ -0,0 +1,45 @@
+package Etat;
+
+/**
+ * Énumération représentant les phases d'une frame de la boucle de jeu, mesurées par le profileur
+ */
+public enum FramePhase {
+    AI_COMMANDS("IA cmd", "Application des décisions calculées par les IA"),
+    INPUT("Entrées", "Transmission des touches pressées au moteur"),
+    ENGINE("Moteur", "Tick du moteur : bombes, flammes, power-ups, victoire"),
+    EVENTS("Événements", "Affichage des événements produits par le moteur"),
+    AI_SNAPSHOT("IA snap", "Publication de l'instantané pour les IA"),
+    SCHEDULER("Ordonnanc.", "Tâches planifiées arrivées à échéance"),
+    PLAYERS("Joueurs", "Mise à jour des joueurs JavaFX"),
+    HUD("Panneau", "Synchronisation des joueurs et panneau d'informations"),
+    RENDER("Rendu", "Redessin des cellules modifiées du plateau");
+
+    private final String displayName;
+    private final String description;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom court affiché dans le profileur
+     * @param description Description de la phase
+     */
+    FramePhase(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Retourne le nom d'affichage de la phase
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description de la phase
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
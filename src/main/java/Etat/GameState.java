@@ -5,6 +5,7 @@ package Etat;
  */
 public enum GameState {
     MENU,       // Menu principal
+    STARTING,   // Compte à rebours avant la partie
     PLAYING,    // Jeu en cours
     PAUSED,     // Jeu en pause
     GAME_OVER,  // Fin de partie
@@ -0,0 +1,51 @@
+package Etat;
+
+/**
+ * Énumération représentant les niveaux de journalisation, du plus bavard au plus grave
+ */
+public enum LogLevel {
+    TRACE("TRACE", "Détail de chaque tick (très verbeux)"),
+    DEBUG("DEBUG", "Actions des joueurs, des bombes et des IA"),
+    INFO("INFO", "Étapes importantes de la partie"),
+    WARN("WARN", "Situations anormales sans conséquence grave"),
+    ERROR("ERROR", "Erreurs"),
+    OFF("OFF", "Journalisation désactivée");
+
+    private final String displayName;
+    private final String description;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom affiché du niveau
+     * @param description Description du niveau
+     */
+    LogLevel(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Retourne le nom d'affichage du niveau
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description du niveau
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Vérifie si un message de ce niveau passe un seuil donné
+     * @param threshold Seuil configuré
+     * @return true si le message doit être journalisé
+     */
+    public boolean isEnabledFor(LogLevel threshold) {
+        return this != OFF && ordinal() >= threshold.ordinal();
+    }
+}
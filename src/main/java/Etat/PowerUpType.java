@@ -1,5 +1,7 @@
 package Etat;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Énumération représentant les différents types de power-ups
  * disponibles dans le jeu Bomberman
@@ -165,15 +167,16 @@ public enum PowerUpType {
 
     /**
      * Retourne un power-up aléatoire selon les probabilités
+     * @param random Générateur à utiliser (flux des power-ups de la partie)
      * @return Un power-up choisi aléatoirement
      */
-    public static PowerUpType getRandomPowerUp() {
-        double random = Math.random();
+    public static PowerUpType getRandomPowerUp(RandomGenerator random) {
+        double roll = random.nextDouble();
         double cumulative = 0.0;
 
         for (PowerUpType type : values()) {
             cumulative += type.getSpawnProbability();
-            if (random <= cumulative) {
+            if (roll <= cumulative) {
                 return type;
             }
         }
@@ -183,11 +186,12 @@ public enum PowerUpType {
 
     /**
      * Retourne un power-up aléatoire avec probabilités égales
+     * @param random Générateur à utiliser (flux des power-ups de la partie)
      * @return Un power-up choisi aléatoirement
      */
-    public static PowerUpType getRandomPowerUpUniform() {
+    public static PowerUpType getRandomPowerUpUniform(RandomGenerator random) {
         PowerUpType[] types = values();
-        return types[(int) (Math.random() * types.length)];
+        return types[random.nextInt(types.length)];
     }
 
     /**
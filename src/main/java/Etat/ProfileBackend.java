@@ -0,0 +1,38 @@
+package Etat;
+
+/**
+ * Énumération représentant les façons de stocker les profils sur le disque
+ */
+public enum ProfileBackend {
+    LOG("Journal", "Journal binaire en ajout seul, entièrement chargé en mémoire au démarrage"),
+    MAPPED("Fichier projeté", "Enregistrements de taille fixe projetés en mémoire, lus à la demande");
+
+    private final String displayName;
+    private final String description;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom affiché du stockage
+     * @param description Description du stockage
+     */
+    ProfileBackend(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Retourne le nom d'affichage du stockage
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description du stockage
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
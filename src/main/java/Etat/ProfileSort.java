@@ -0,0 +1,40 @@
+package Etat;
+
+/**
+ * Énumération représentant les classements des profils, du meilleur au moins bon
+ */
+public enum ProfileSort {
+    WINS("Victoires", "Nombre de parties gagnées"),
+    WIN_RATE("Taux de victoire", "Pourcentage de parties gagnées"),
+    TOTAL_SCORE("Score total", "Score cumulé sur toutes les parties"),
+    RATING("Cote", "Cote Glicko-2, calculée d'après les résultats face aux autres profils");
+
+    private final String displayName;
+    private final String description;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom affiché du classement
+     * @param description Description du classement
+     */
+    ProfileSort(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Retourne le nom d'affichage du classement
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description du classement
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
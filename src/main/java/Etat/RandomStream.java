@@ -0,0 +1,40 @@
+package Etat;
+
+/**
+ * Énumération représentant les flux aléatoires indépendants tirés de la graine d'une partie
+ */
+public enum RandomStream {
+    MAP("Carte", "Placement des blocs destructibles"),
+    POWER_UPS("Power-ups", "Type, position et délai d'apparition des power-ups"),
+    AI("Intelligence artificielle", "Décisions et rythme des joueurs contrôlés par l'IA (un flux par joueur)"),
+    EFFECTS("Effets", "Variations purement visuelles, sans incidence sur la partie");
+
+    private final String displayName;
+    private final String description;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom affiché du flux
+     * @param description Ce que le flux détermine
+     */
+    RandomStream(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Retourne le nom d'affichage du flux
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description du flux
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,44 @@
+package Etat;
+
+/**
+ * Énumération représentant les modes de rendu du plateau de jeu
+ */
+public enum RenderMode {
+    NODES(
+            "🧩 Nœuds JavaFX",
+            "Chaque cellule du plateau est un nœud de la scène (rendu d'origine)"
+    ),
+    CANVAS(
+            "🖼️ Canvas",
+            "Le plateau est dessiné sur un seul Canvas avec des tuiles pré-calculées"
+    );
+
+    private final String displayName;
+    private final String description;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom affiché du mode
+     * @param description Description détaillée du mode
+     */
+    RenderMode(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Retourne le nom d'affichage du mode
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description du mode
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,70 @@
+package Etat;
+
+/**
+ * Énumération représentant les vitesses de lecture d'un replay dans la vue du jeu
+ */
+public enum ReplaySpeed {
+    X1("x1", "Vitesse réelle", 1),
+    X2("x2", "Deux fois plus vite", 2),
+    X4("x4", "Quatre fois plus vite", 4),
+    X8("x8", "Huit fois plus vite", 8),
+    X16("x16", "Seize fois plus vite", 16),
+    X32("x32", "Trente-deux fois plus vite", 32);
+
+    private final String displayName;
+    private final String description;
+    private final int factor;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom affiché de la vitesse
+     * @param description Description de la vitesse
+     * @param factor Nombre de ticks joués par tick de temps réel
+     */
+    ReplaySpeed(String displayName, String description, int factor) {
+        this.displayName = displayName;
+        this.description = description;
+        this.factor = factor;
+    }
+
+    /**
+     * Retourne le nom d'affichage de la vitesse
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description de la vitesse
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Retourne le facteur d'accélération
+     * @return Le nombre de ticks joués par tick de temps réel
+     */
+    public int getFactor() {
+        return factor;
+    }
+
+    /**
+     * Retourne la vitesse immédiatement supérieure
+     * @return La vitesse suivante, ou celle-ci si c'est la plus rapide
+     */
+    public ReplaySpeed faster() {
+        ReplaySpeed[] speeds = values();
+        return ordinal() + 1 < speeds.length ? speeds[ordinal() + 1] : this;
+    }
+
+    /**
+     * Retourne la vitesse immédiatement inférieure
+     * @return La vitesse précédente, ou celle-ci si c'est la plus lente
+     */
+    public ReplaySpeed slower() {
+        return ordinal() > 0 ? values()[ordinal() - 1] : this;
+    }
+}
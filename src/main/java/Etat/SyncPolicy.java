@@ -0,0 +1,39 @@
+package Etat;
+
+/**
+ * Énumération représentant les politiques de synchronisation sur disque du fichier des profils
+ */
+public enum SyncPolicy {
+    NONE("Aucune", "Le système écrit les données sur le disque quand il le souhaite (le plus rapide)"),
+    BATCH("Par lot", "Synchronisation après chaque lot d'écritures"),
+    EACH("Chaque écriture", "Synchronisation après chaque enregistrement (le plus sûr, le plus lent)");
+
+    private final String displayName;
+    private final String description;
+
+    /**
+     * Constructeur de l'énumération
+     * @param displayName Nom affiché de la politique
+     * @param description Description de la politique
+     */
+    SyncPolicy(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Retourne le nom d'affichage de la politique
+     * @return Le nom d'affichage
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Retourne la description de la politique
+     * @return La description
+     */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -1,21 +1,59 @@
 package IABomberMan;
 
+import Journal.Log;
+import Journal.Logger;
+import Simulation.GameSnapshot;
 import fonctionnaliteInitial.GameController;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Gère les joueurs contrôlés par l'IA dans le jeu.
  * Cette classe permet d'ajouter, démarrer, arrêter et gérer des joueurs IA.
+ * <p>
+ * Les décisions des IA ne sont pas calculées sur le thread JavaFX : la boucle de jeu
+ * publie à chaque tick un {@link GameSnapshot} immuable, les IA dont une décision est
+ * due la calculent en parallèle sur des threads virtuels, puis déposent leur commande
+ * dans une file non bloquante que la boucle de jeu vide au tick suivant.
+ * </p>
  */
 public class AIManager {
+
+    private static final Logger LOG = Log.getLogger(AIManager.class);
+
+    /** Exécuteur des calculs de décision (un thread virtuel par décision) */
+    private static final ExecutorService AI_WORKERS = Executors.newVirtualThreadPerTaskExecutor();
+
     private Map<Integer, AiPlayer> aiPlayers;
     private GameController gameController;
 
+    /** Dernier instantané publié par la boucle de jeu */
+    private volatile GameSnapshot latestSnapshot;
+
+    /** Commandes calculées par les threads de travail, appliquées par la boucle de jeu */
+    private final Queue<AiCommand> pendingCommands = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Décision calculée pour une IA, en attente d'application sur le thread JavaFX.
+     */
+    private static final class AiCommand {
+        private final AiPlayer aiPlayer;
+        private final AiPlanner.Decision decision;
+
+        AiCommand(AiPlayer aiPlayer, AiPlanner.Decision decision) {
+            this.aiPlayer = aiPlayer;
+            this.decision = decision;
+        }
+    }
+
     /**
      * Crée un nouveau gestionnaire d'IA avec le contrôleur de jeu spécifié.
-     * 
+     *
      * @param gameController le contrôleur de jeu utilisé par les IA
      */
     public AIManager(GameController gameController) {
@@ -25,27 +63,28 @@ public class AIManager {
 
     /**
      * Ajoute un joueur IA avec l'identifiant spécifié.
-     * 
+     *
      * @param playerId l'identifiant unique du joueur à contrôler par l'IA
      */
     public void addAIPlayer(int playerId) {
-        AiPlayer aiPlayer = new AiPlayer(playerId, gameController);
+        AiPlayer aiPlayer = new AiPlayer(playerId, gameController, this);
         aiPlayers.put(playerId, aiPlayer);
-        System.out.println("🤖 IA ajoutée pour le joueur " + playerId);
+        LOG.info("🤖 IA ajoutée pour le joueur {}", playerId);
     }
 
     public void startAllAI() {
         for (AiPlayer aiPlayer : aiPlayers.values()) {
             aiPlayer.startAI();
         }
-        System.out.println("🚀 Toutes les IA ont été démarrées");
+        LOG.info("🚀 Toutes les IA ont été démarrées");
     }
 
     public void stopAllAI() {
         for (AiPlayer aiPlayer : aiPlayers.values()) {
             aiPlayer.stopAI();
         }
-        System.out.println("🛑 Toutes les IA ont été arrêtées");
+        pendingCommands.clear();
+        LOG.info("🛑 Toutes les IA ont été arrêtées");
     }
 
     public void removeAIPlayer(int playerId) {
@@ -53,7 +92,7 @@ public class AIManager {
         if (aiPlayer != null) {
             aiPlayer.stopAI();
             aiPlayers.remove(playerId);
-            System.out.println("🗑️ IA supprimée pour le joueur " + playerId);
+            LOG.info("🗑️ IA supprimée pour le joueur {}", playerId);
         }
     }
 
@@ -61,6 +100,13 @@ public class AIManager {
         return aiPlayers.containsKey(playerId);
     }
 
+    /**
+     * @return true si au moins une IA est gérée (la boucle de jeu publie alors ses instantanés)
+     */
+    public boolean hasAIPlayers() {
+        return !aiPlayers.isEmpty();
+    }
+
     public void pauseAllAI() {
         for (AiPlayer aiPlayer : aiPlayers.values()) {
             aiPlayer.stopAI();
@@ -72,4 +118,56 @@ public class AIManager {
             aiPlayer.startAI();
         }
     }
-}
\ No newline at end of file
+
+    // ===== DÉCISIONS HORS DU THREAD JAVAFX =====
+
+    /**
+     * Publie l'état de la partie pour les prochains calculs de décision.
+     * <p>
+     * Appelé par la boucle de jeu à chaque tick.
+     * </p>
+     *
+     * @param snapshot Instantané immuable du moteur
+     */
+    public void publishSnapshot(GameSnapshot snapshot) {
+        latestSnapshot = snapshot;
+    }
+
+    /**
+     * Lance le calcul de la prochaine décision d'une IA sur un thread de travail.
+     *
+     * @param aiPlayer IA dont la décision est due
+     * @param planner Planificateur de l'IA
+     * @return true si le calcul a été lancé (un instantané est disponible)
+     */
+    boolean submitDecision(AiPlayer aiPlayer, AiPlanner planner) {
+        GameSnapshot snapshot = latestSnapshot;
+        if (snapshot == null) return false;
+
+        AI_WORKERS.execute(() -> {
+            AiPlanner.Decision decision = null;
+            try {
+                decision = planner.decide(snapshot, aiPlayer.getPlayerId(), aiPlayer.getRandom());
+            } catch (RuntimeException e) {
+                LOG.error("❌ Erreur IA Joueur " + aiPlayer.getPlayerId(), e);
+            }
+            // Une commande est toujours déposée, pour que l'IA puisse replanifier
+            pendingCommands.add(new AiCommand(aiPlayer, decision));
+        });
+        return true;
+    }
+
+    /**
+     * Applique les décisions calculées depuis le dernier appel.
+     * <p>
+     * Appelé par la boucle de jeu, sur le thread JavaFX, avant de transmettre
+     * les entrées au moteur. Ne bloque jamais.
+     * </p>
+     */
+    public void applyPendingCommands() {
+        AiCommand command;
+        while ((command = pendingCommands.poll()) != null) {
+            command.aiPlayer.applyDecision(command.decision);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package IABomberMan;
+
+import Etat.Direction;
+import Simulation.GameSnapshot;
+import Simulation.GridState;
+import Simulation.SimulationEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Planificateur des décisions d'un joueur IA.
+ * <p>
+ * À chaque décision, le planificateur construit une {@link DangerMap} à partir d'un
+ * instantané du moteur puis explore en largeur les couples (cellule, instant) : un pas
+ * dure {@link SimulationEngine#MOVE_COOLDOWN_TICKS} ticks et l'IA peut aussi attendre
+ * sur place. Une cellule n'est traversée que si elle n'est pas en feu pendant le pas.
+ * </p>
+ * <ul>
+ *     <li>Menacée, l'IA rejoint la cellule la plus proche qui restera sûre jusqu'à
+ *     l'extinction des flammes.</li>
+ *     <li>Elle ne pose une bombe que si un chemin de fuite existe en tenant compte
+ *     de cette nouvelle bombe.</li>
+ *     <li>Sinon, elle se dirige vers un power-up ou une cellule d'où une bombe
+ *     toucherait un bloc destructible ou un adversaire.</li>
+ * </ul>
+ * <p>
+ * Chaque recherche est bornée par un nombre maximal d'états et par un budget de
+ * temps fixe : une fois le budget épuisé, l'IA se contente d'un pas sans danger.
+ * </p>
+ */
+public class AiPlanner {
+
+    /** Durée d'un pas de déplacement en ticks */
+    public static final int STEP_TICKS = SimulationEngine.MOVE_COOLDOWN_TICKS;
+
+    /** Profondeur maximale de la recherche (en pas) */
+    private static final int MAX_DEPTH = 30;
+    /** Budget de temps par défaut d'une décision (1 ms) */
+    public static final long DEFAULT_BUDGET_NANOS = 1_000_000L;
+    /** Fréquence de vérification du budget (en états explorés) */
+    private static final int BUDGET_CHECK_INTERVAL = 64;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    /** Code de la première action « attendre sur place » */
+    private static final byte WAIT = -1;
+
+    private final long budgetNanos;
+
+    /**
+     * Décision prise par le planificateur.
+     */
+    public static final class Decision {
+        private final Direction direction;
+        private final boolean placeBomb;
+        private final boolean urgent;
+
+        Decision(Direction direction, boolean placeBomb, boolean urgent) {
+            this.direction = direction;
+            this.placeBomb = placeBomb;
+            this.urgent = urgent;
+        }
+
+        /**
+         * @return La direction du prochain pas, ou null pour rester sur place
+         */
+        public Direction getDirection() { return direction; }
+
+        /**
+         * @return true si l'IA doit poser une bombe sur sa cellule
+         */
+        public boolean shouldPlaceBomb() { return placeBomb; }
+
+        /**
+         * @return true si l'IA est menacée et doit décider de nouveau au prochain pas
+         */
+        public boolean isUrgent() { return urgent; }
+    }
+
+    /**
+     * Objectif d'une recherche en largeur.
+     */
+    private interface Goal {
+        boolean isReached(int x, int y, int arrivalTick);
+    }
+
+    /**
+     * Crée un planificateur avec le budget de temps par défaut.
+     */
+    public AiPlanner() {
+        this(DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * Crée un planificateur.
+     *
+     * @param budgetNanos Budget de temps d'une décision en nanosecondes ; 0 pour ne borner
+     *                    la recherche que par sa profondeur (décisions reproductibles)
+     */
+    public AiPlanner(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Choisit la prochaine action d'un joueur.
+     *
+     * @param snapshot État de la partie
+     * @param playerId Identifiant du joueur IA
+     * @param random Générateur utilisé pour départager les pas sans objectif
+     * @return La décision, ou null si le joueur n'est plus en jeu
+     */
+    public Decision decide(GameSnapshot snapshot, int playerId, RandomGenerator random) {
+        GameSnapshot.PlayerState self = snapshot.getPlayer(playerId);
+        if (self == null || !self.isAlive() || snapshot.isGameOver()) {
+            return null;
+        }
+
+        long deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        DangerMap danger = new DangerMap(snapshot);
+        int x = self.getX();
+        int y = self.getY();
+
+        // 1. Menacé : rejoindre la cellule sûre la plus proche
+        if (!danger.isSafeFrom(x, y, 0)) {
+            Direction escape = search(snapshot, danger, self, deadline,
+                    (cx, cy, arrival) -> danger.isSafeFrom(cx, cy, arrival));
+            if (escape == null && !danger.isSafeFrom(x, y, 0)) {
+                escape = leastDangerousStep(snapshot, danger, self, random);
+            }
+            return new Decision(escape, false, true);
+        }
+
+        // 2. Poser une bombe utile, seulement si une fuite existe ensuite
+        if (canPlaceBomb(self) && isUsefulBombCell(snapshot, self, x, y)) {
+            DangerMap withBomb = new DangerMap(snapshot, x, y, self.getBombPower());
+            Direction escape = search(snapshot, withBomb, self, deadline,
+                    (cx, cy, arrival) -> withBomb.isSafeFrom(cx, cy, arrival));
+            if (escape != null) {
+                return new Decision(null, true, true);
+            }
+        }
+
+        // 3. Se diriger vers un objectif sans traverser de danger
+        long[] targets = findTargets(snapshot, self);
+        GridState grid = snapshot.getGridState();
+        Direction move = search(snapshot, danger, self, deadline,
+                (cx, cy, arrival) -> grid.isSet(targets, cx, cy) && danger.isSafeFrom(cx, cy, arrival));
+        if (move == null) {
+            move = randomSafeStep(snapshot, danger, self, random);
+        }
+
+        // Une cellule d'arrivée qui s'enflammera plus tard impose de décider de nouveau au prochain pas
+        boolean urgent = move != null && !danger.isSafeFrom(x + dx(move), y + dy(move), STEP_TICKS);
+        return new Decision(move, false, urgent);
+    }
+
+    // ===== RECHERCHE =====
+
+    /**
+     * Recherche en largeur sur (cellule, pas) du premier état qui atteint l'objectif.
+     *
+     * @return La première direction du chemin, ou null (attente ou aucun chemin)
+     */
+    private Direction search(GameSnapshot snapshot, DangerMap danger, GameSnapshot.PlayerState self,
+                             long deadline, Goal goal) {
+        GridState grid = snapshot.getGridState();
+        int width = grid.getWidth();
+        int cells = width * grid.getHeight();
+        int startX = self.getX();
+        int startY = self.getY();
+        int startCell = startY * width + startX;
+
+        // Une fois toutes les flammes éteintes, l'instant n'importe plus :
+        // les pas suivants partagent la dernière couche de temps
+        int layers = Math.min(MAX_DEPTH, Math.ceilDiv(danger.getClearTick(), STEP_TICKS) + 1);
+
+        boolean[] visited = new boolean[cells * (layers + 1)];
+        int[] queue = new int[cells * (layers + 1)];
+        byte[] firstMove = new byte[cells * (layers + 1)];
+        int head = 0;
+        int tail = 0;
+
+        if (goal.isReached(startX, startY, 0)) {
+            return null;
+        }
+        visited[startCell] = true;
+        firstMove[startCell] = WAIT;
+        queue[tail++] = startCell;
+
+        int expanded = 0;
+        while (head < tail) {
+            if (++expanded % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                break;
+            }
+
+            int state = queue[head++];
+            int step = state / cells;
+            int cell = state % cells;
+
+            int cx = cell % width;
+            int cy = cell / width;
+            int nextStep = Math.min(step + 1, layers);
+            int arrival = nextStep * STEP_TICKS;
+
+            // Attendre sur place, puis les quatre voisins
+            for (int move = -1; move < DIRECTIONS.length; move++) {
+                int nx = cx;
+                int ny = cy;
+                if (move >= 0) {
+                    nx += dx(DIRECTIONS[move]);
+                    ny += dy(DIRECTIONS[move]);
+                    if (!isPassable(snapshot, grid, nx, ny, step, startCell)) continue;
+                }
+
+                // La cellule ne doit pas être en feu pendant le pas
+                if (danger.isDangerous(nx, ny, arrival - STEP_TICKS, arrival + STEP_TICKS)) continue;
+
+                int next = nextStep * cells + ny * width + nx;
+                if (visited[next]) continue;
+                visited[next] = true;
+
+                byte first = step == 0 ? (byte) move : firstMove[state];
+                firstMove[next] = first;
+
+                if (goal.isReached(nx, ny, arrival)) {
+                    return first == WAIT ? null : DIRECTIONS[first];
+                }
+                queue[tail++] = next;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Une cellule est franchissable si elle est libre de mur et de bombe. Les autres
+     * joueurs ne bloquent que le premier pas : ils se seront déplacés ensuite.
+     */
+    private boolean isPassable(GameSnapshot snapshot, GridState grid, int x, int y, int step, int startCell) {
+        if (!grid.isWalkable(x, y)) return false;
+        if (grid.has(GridState.BOMB, x, y) && y * grid.getWidth() + x != startCell) return false;
+        return step > 0 || !grid.has(GridState.PLAYER, x, y);
+    }
+
+    // ===== REPLIS =====
+
+    /**
+     * Aucun abri accessible : choisir le voisin qui s'enflamme le plus tard.
+     */
+    private Direction leastDangerousStep(GameSnapshot snapshot, DangerMap danger,
+                                         GameSnapshot.PlayerState self, RandomGenerator random) {
+        GridState grid = snapshot.getGridState();
+        int startCell = self.getY() * grid.getWidth() + self.getX();
+        Direction best = null;
+        int bestStart = danger.getDangerStart(self.getX(), self.getY());
+
+        for (Direction dir : DIRECTIONS) {
+            int nx = self.getX() + dx(dir);
+            int ny = self.getY() + dy(dir);
+            if (!isPassable(snapshot, grid, nx, ny, 0, startCell)) continue;
+
+            int start = danger.getDangerStart(nx, ny);
+            if (start > bestStart || (start == bestStart && best != null && random.nextBoolean())) {
+                best = dir;
+                bestStart = start;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Aucun objectif accessible : un pas au hasard parmi ceux qui restent sûrs.
+     */
+    private Direction randomSafeStep(GameSnapshot snapshot, DangerMap danger,
+                                     GameSnapshot.PlayerState self, RandomGenerator random) {
+        GridState grid = snapshot.getGridState();
+        int startCell = self.getY() * grid.getWidth() + self.getX();
+        List<Direction> safe = new ArrayList<>(DIRECTIONS.length);
+
+        for (Direction dir : DIRECTIONS) {
+            int nx = self.getX() + dx(dir);
+            int ny = self.getY() + dy(dir);
+            if (isPassable(snapshot, grid, nx, ny, 0, startCell) && danger.isSafeFrom(nx, ny, STEP_TICKS)) {
+                safe.add(dir);
+            }
+        }
+        return safe.isEmpty() ? null : safe.get(random.nextInt(safe.size()));
+    }
+
+    // ===== ÉVALUATION =====
+
+    private static boolean canPlaceBomb(GameSnapshot.PlayerState self) {
+        return self.getGameMode().isInfinite() || self.getBombInventory() > 0;
+    }
+
+    /**
+     * Calcule le masque des objectifs : power-ups et cellules d'où une bombe serait utile.
+     */
+    private static long[] findTargets(GameSnapshot snapshot, GameSnapshot.PlayerState self) {
+        GridState grid = snapshot.getGridState();
+        long[] targets = grid.getLayer(GridState.POWERUP);
+        if (!canPlaceBomb(self)) return targets;
+
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                if (grid.isWalkable(x, y) && isUsefulBombCell(snapshot, self, x, y)) {
+                    targets[y] |= 1L << x;
+                }
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Vérifie si une bombe posée sur la cellule toucherait un bloc destructible ou un adversaire.
+     */
+    private static boolean isUsefulBombCell(GameSnapshot snapshot, GameSnapshot.PlayerState self, int x, int y) {
+        GridState grid = snapshot.getGridState();
+        if (grid.has(GridState.BOMB, x, y)) return false;
+
+        long[] blast = grid.newMask();
+        grid.addBlast(x, y, self.getBombPower(), blast);
+
+        for (int row = 0; row < blast.length; row++) {
+            if ((blast[row] & grid.getRow(GridState.DESTRUCTIBLE, row)) != 0) {
+                return true;
+            }
+        }
+        for (GameSnapshot.PlayerState other : snapshot.getPlayers()) {
+            if (other.getId() != self.getId() && other.isAlive() && grid.isSet(blast, other.getX(), other.getY())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int dx(Direction direction) {
+        return switch (direction) {
+            case LEFT -> -1;
+            case RIGHT -> 1;
+            default -> 0;
+        };
+    }
+
+    private static int dy(Direction direction) {
+        return switch (direction) {
+            case UP -> -1;
+            case DOWN -> 1;
+            default -> 0;
+        };
+    }
+}
@@ -1,46 +1,68 @@
 package IABomberMan;
 
 import Etat.Direction;
+import Etat.RandomStream;
+import Journal.Log;
+import Journal.Logger;
 import fonctionnaliteInitial.GameController;
-import Joueur.JavaFXPlayer;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
-import java.util.Random;
-import java.util.List;
+import Simulation.GameRandom;
+import Simulation.SimulationEngine;
+import Simulation.TickScheduler;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Classe représentant un joueur contrôlé par l'intelligence artificielle.
  * <p>
  * Cette classe implémente le comportement d'un joueur IA qui peut se déplacer de façon autonome,
- * poser des bombes et réagir à son environnement dans le jeu Bomberman.
+ * poser des bombes et réagir à son environnement dans le jeu Bomberman. Les décisions
+ * sont prises par un {@link AiPlanner} qui tient compte du souffle et de la mèche de
+ * chaque bombe.
+ * </p>
+ * <p>
+ * Les décisions sont planifiées dans le {@link TickScheduler} de la boucle de jeu :
+ * les deux tâches de l'IA sont créées une seule fois puis replanifiées.
  * </p>
  */
 public class AiPlayer {
+    private static final Logger LOG = Log.getLogger(AiPlayer.class);
+
     /** Identifiant unique du joueur IA */
     private int playerId;
     
     /** Contrôleur de jeu permettant d'interagir avec le monde du jeu */
     private GameController gameController;
+
+    /** Gestionnaire calculant les décisions hors du thread JavaFX */
+    private final AIManager aiManager;
     
-    /** Générateur de nombres aléatoires pour les décisions de l'IA */
-    private Random random;
+    /** Générateur du rythme de l'IA (délais entre actions), utilisé sur le thread JavaFX */
+    private SplittableRandom random;
+
+    /** Générateur des décisions, utilisé par un seul calcul de décision à la fois */
+    private SplittableRandom decisionRandom;
     
-    /** Timeline contrôlant les actions périodiques de l'IA */
-    private Timeline aiTimeline;
+    /** Ordonnanceur de la boucle de jeu */
+    private TickScheduler scheduler;
+
+    /** Tâche déclenchant la prochaine action de l'IA */
+    private TickScheduler.Task actionTask;
+
+    /** Tâche relâchant la direction en cours de déplacement */
+    private TickScheduler.Task stopMovementTask;
+
+    /** Direction à relâcher par {@link #stopMovementTask} */
+    private String movingDirection;
     
     /** Indique si l'IA est actuellement active */
     private boolean isActive;
     
-    /** Indique si l'IA vient de poser une bombe (pour déclencher une fuite) */
-    private boolean justPlacedBomb = false;
+    /** Planificateur des décisions (carte des dangers et recherche de chemin) */
+    private final AiPlanner planner = new AiPlanner();
+
+    /** Indique qu'une décision est en cours de calcul sur un thread de travail */
+    private boolean decisionPending;
 
-    /** Probabilité que l'IA décide de se déplacer (90%) */
-    private static final double MOVE_PROBABILITY = 0.9;
-    
-    /** Probabilité que l'IA décide de poser une bombe (10%) */
-    private static final double BOMB_PROBABILITY = 0.1;
-    
     /** Intervalle de base entre deux actions de l'IA (en millisecondes) */
     private static final double ACTION_INTERVAL = 800;
 
@@ -49,25 +71,34 @@ public class AiPlayer {
      * 
      * @param playerId Identifiant unique du joueur contrôlé par l'IA
      * @param gameController Contrôleur de jeu utilisé pour interagir avec l'environnement
+     * @param aiManager Gestionnaire calculant les décisions de l'IA
      */
-    public AiPlayer(int playerId, GameController gameController) {
+    public AiPlayer(int playerId, GameController gameController, AIManager aiManager) {
         this.playerId = playerId;
         this.gameController = gameController;
-        this.random = new Random();
+        this.aiManager = aiManager;
         this.isActive = true;
 
-        initializeAI();
+        // Flux propre au joueur, tiré de la graine de la partie : aucun générateur partagé
+        GameRandom gameRandom = gameController.getRandom();
+        if (gameRandom == null) {
+            gameRandom = new GameRandom(GameRandom.newMatchSeed());
+        }
+        this.random = gameRandom.fork(RandomStream.AI, playerId);
+        this.decisionRandom = random.split();
     }
 
     /**
-     * Initialise la timeline qui contrôlera les actions périodiques de l'IA.
+     * Crée les tâches qui contrôleront les actions périodiques de l'IA.
+     * <p>
+     * Les tâches référencent l'instance : elles sont créées au démarrage plutôt que dans
+     * le constructeur.
+     * </p>
      */
     private void initializeAI() {
-        aiTimeline = new Timeline(new KeyFrame(
-                Duration.millis(ACTION_INTERVAL + random.nextInt(400)),
-                e -> performAIAction()
-        ));
-        aiTimeline.setCycleCount(Timeline.INDEFINITE);
+        scheduler = gameController.getScheduler();
+        actionTask = scheduler.newTask(this::performAIAction);
+        stopMovementTask = scheduler.newTask(this::releaseMovement);
     }
 
     /**
@@ -78,10 +109,14 @@ public class AiPlayer {
      * </p>
      */
     public void startAI() {
-        if (isActive && aiTimeline != null) {
-            aiTimeline.play();
-            System.out.println("🤖 IA Joueur " + playerId + " activée");
+        if (!isActive) {
+            return;
         }
+        if (actionTask == null) {
+            initializeAI();
+        }
+        scheduler.schedule(actionTask, firstActionDelay(random));
+        LOG.debug("🤖 IA Joueur {} activée", playerId);
     }
 
     /**
@@ -91,144 +126,168 @@ public class AiPlayer {
      * </p>
      */
     public void stopAI() {
-        if (aiTimeline != null) {
-            aiTimeline.stop();
+        if (scheduler != null) {
+            scheduler.cancel(actionTask);
+            if (scheduler.cancel(stopMovementTask)) {
+                releaseMovement();
+            }
         }
         isActive = false;
-        System.out.println("🛑 IA Joueur " + playerId + " désactivée");
+        LOG.debug("🛑 IA Joueur {} désactivée", playerId);
     }
 
     /**
-     * Effectue un mouvement d'évasion lorsque l'IA est en danger.
+     * Méthode principale qui détermine et exécute l'action de l'IA.
      * <p>
-     * Cette méthode est notamment utilisée après avoir posé une bombe pour
-     * s'éloigner de la zone de danger.
+     * Cette méthode est appelée périodiquement par l'ordonnanceur et constitue
+     * le cœur du comportement de l'IA : la décision est confiée au {@link AiPlanner},
+     * à partir du dernier instantané publié, sur un thread de travail de l'{@link AIManager}.
      * </p>
      */
-    private void performEscapeMovement() {
-        JavaFXPlayer aiPlayer = gameController.getPlayerById(playerId);
-
-        if (aiPlayer == null || !aiPlayer.isAlive()) {
+    private void performAIAction() {
+        if (!isActive || gameController == null || decisionPending) {
             return;
         }
 
-        List<Direction> safeDirs = gameController.getSafeDirections(aiPlayer);
-
-        if (!safeDirs.isEmpty()) {
-            // 🔍 Choisir une direction libre pour fuir
-            Direction escapeDir = safeDirs.get(random.nextInt(safeDirs.size()));
-            String directionStr = escapeDir.name();
-
-            gameController.handleAIMovement(playerId, directionStr, true);
-
-            Timeline stopMovement = new Timeline(new KeyFrame(
-                    Duration.millis(100 + random.nextInt(100)), // 🔍 plus rapide que d'habitude
-                    e -> gameController.handleAIMovement(playerId, directionStr, false)
-            ));
-            stopMovement.play();
-
-            System.out.println("🏃💨 IA " + playerId + " fuit vers " + directionStr);
-        } else {
-            System.out.println("⚠️ IA " + playerId + " n'a nulle part où fuir !");
+        // Le calcul se fait sur un thread de travail ; la décision revient par applyDecision
+        decisionPending = aiManager.submitDecision(this, planner);
+        if (!decisionPending) {
+            adjustNextActionDelay(false);
         }
     }
 
     /**
-     * Méthode principale qui détermine et exécute l'action de l'IA.
+     * Applique une décision calculée par un thread de travail.
      * <p>
-     * Cette méthode est appelée périodiquement par la timeline et constitue
-     * le cœur du comportement de l'IA.
+     * Appelée par {@link AIManager#applyPendingCommands()} sur le thread JavaFX.
      * </p>
+     *
+     * @param decision La décision, ou null si l'IA n'a rien à faire
      */
-    private void performAIAction() {
-        if (!isActive || gameController == null) {
+    void applyDecision(AiPlanner.Decision decision) {
+        decisionPending = false;
+        if (!isActive) {
             return;
         }
 
+        boolean urgent = false;
         try {
-            // 🔍 Si une bombe vient d'être posée, priorité à la fuite !
-            if (justPlacedBomb) {
-                performEscapeMovement(); // méthode à ajouter ci-dessous
-                justPlacedBomb = false;  // Reset pour la prochaine action
-            } else {
-                double actionChoice = random.nextDouble();
-
-                if (actionChoice < MOVE_PROBABILITY) {
-                    performSmartMovement(); // méthode existante qui bouge vers cases libres
-                } else if (actionChoice < MOVE_PROBABILITY + BOMB_PROBABILITY) {
+            if (decision != null) {
+                urgent = decision.isUrgent();
+                if (decision.shouldPlaceBomb()) {
                     placeBomb();
+                } else if (decision.getDirection() != null) {
+                    moveTowards(decision.getDirection(), urgent);
                 }
             }
 
-            adjustNextActionDelay();
-
         } catch (Exception e) {
-            System.out.println("❌ Erreur IA Joueur " + playerId + ": " + e.getMessage());
+            LOG.error("❌ Erreur IA Joueur {}: {}", playerId, e.getMessage());
         }
+
+        adjustNextActionDelay(urgent);
     }
 
     /**
-     * Effectue un mouvement intelligent en choisissant une direction sûre.
-     * <p>
-     * L'IA sélectionne aléatoirement une direction parmi celles qui ne sont pas bloquées.
-     * </p>
+     * Fait avancer l'IA d'une case dans la direction choisie par le planificateur.
+     *
+     * @param direction Direction du pas
+     * @param escaping true si l'IA fuit une explosion
      */
-    private void performSmartMovement() {
-        JavaFXPlayer aiPlayer = gameController.getPlayerById(playerId);
-
-        if (aiPlayer == null || !aiPlayer.isAlive()) {
-            System.out.println("⚠️ IA " + playerId + " non valide ou morte.");
-            return;
-        }
+    private void moveTowards(Direction direction, boolean escaping) {
+        String directionStr = direction.name(); // "UP", "DOWN", "LEFT", "RIGHT"
 
-        List<Direction> safeDirs = gameController.getSafeDirections(aiPlayer);
+        gameController.handleAIMovement(playerId, directionStr, true);
 
-        if (!safeDirs.isEmpty()) {
-            Direction chosenDir = safeDirs.get(random.nextInt(safeDirs.size()));
-
-            String directionStr = chosenDir.name(); // "UP", "DOWN", "LEFT", "RIGHT"
-
-            gameController.handleAIMovement(playerId, directionStr, true);
-
-            Timeline stopMovement = new Timeline(new KeyFrame(
-                    Duration.millis(200 + random.nextInt(300)),
-                    e -> gameController.handleAIMovement(playerId, directionStr, false)
-            ));
-            stopMovement.play();
-
-            System.out.println("🤖 Joueur " + playerId + " se déplace vers " + directionStr);
+        if (escaping) {
+            // 🔍 plus rapide que d'habitude
+            scheduleRelease(directionStr, 100 + random.nextInt(100));
+            LOG.debug("🏃💨 IA {} fuit vers {}", playerId, directionStr);
         } else {
-            System.out.println("🤖 IA " + playerId + " reste immobile (aucune case libre)");
+            scheduleRelease(directionStr, 200 + random.nextInt(300));
+            LOG.debug("🤖 Joueur {} se déplace vers {}", playerId, directionStr);
         }
     }
 
     /**
-     * Fait poser une bombe par l'IA et marque l'état pour déclencher une fuite.
+     * Fait poser une bombe par l'IA ; la fuite est planifiée à la décision suivante.
      */
     private void placeBomb() {
         gameController.handleAIBombPlacement(playerId);
-        justPlacedBomb = true; // 🔍 Signale qu'une bombe a été posée pour fuir ensuite
-        System.out.println("💣 Joueur " + playerId + " pose une bombe");
+        LOG.debug("💣 Joueur {} pose une bombe", playerId);
     }
 
     /**
      * Ajuste l'intervalle avant la prochaine action de l'IA.
      * <p>
      * Introduit une variation aléatoire dans le timing des actions pour
-     * rendre le comportement moins prévisible.
+     * rendre le comportement moins prévisible. Menacée, l'IA décide de
+     * nouveau dès qu'elle peut faire le pas suivant.
      * </p>
+     *
+     * @param urgent true si l'IA est menacée ou vient de poser une bombe
+     */
+    private void adjustNextActionDelay(boolean urgent) {
+        if (!isActive) return;
+
+        scheduler.schedule(actionTask, nextActionDelay(random, urgent));
+    }
+
+    /**
+     * Délai avant la première action d'une IA (partagé avec les IA sans interface).
+     *
+     * @param random Générateur du rythme de l'IA
+     * @return Le délai en ticks
      */
-    private void adjustNextActionDelay() {
+    static long firstActionDelay(RandomGenerator random) {
+        return toTicks(ACTION_INTERVAL + random.nextInt(400));
+    }
+
+    /**
+     * Délai avant l'action suivante d'une IA (partagé avec les IA sans interface).
+     *
+     * @param random Générateur du rythme de l'IA
+     * @param urgent true si l'IA est menacée ou vient de poser une bombe
+     * @return Le délai en ticks : un pas si l'IA est menacée, 800 ms ± 300 ms sinon
+     */
+    static long nextActionDelay(RandomGenerator random, boolean urgent) {
+        if (urgent) {
+            return AiPlanner.STEP_TICKS;
+        }
         double newInterval = ACTION_INTERVAL + random.nextInt(600) - 300;
-        newInterval = Math.max(300, newInterval);
+        return toTicks(Math.max(300, newInterval));
+    }
 
-        aiTimeline.stop();
-        aiTimeline = new Timeline(new KeyFrame(
-                Duration.millis(newInterval),
-                e -> performAIAction()
-        ));
-        aiTimeline.setCycleCount(Timeline.INDEFINITE);
-        aiTimeline.play();
+    /**
+     * Programme le relâchement d'une direction de déplacement.
+     * <p>
+     * Un nouveau déplacement remplace le précédent : l'ancienne direction est
+     * relâchée immédiatement avant d'être remplacée.
+     * </p>
+     *
+     * @param directionStr Direction à relâcher
+     * @param delayMillis Délai avant le relâchement en millisecondes
+     */
+    private void scheduleRelease(String directionStr, double delayMillis) {
+        if (stopMovementTask.isScheduled() && !directionStr.equals(movingDirection)) {
+            releaseMovement();
+        }
+        movingDirection = directionStr;
+        scheduler.schedule(stopMovementTask, toTicks(delayMillis));
+    }
+
+    /**
+     * Relâche la direction de déplacement en cours.
+     */
+    private void releaseMovement() {
+        if (movingDirection != null) {
+            gameController.handleAIMovement(playerId, movingDirection, false);
+            movingDirection = null;
+        }
+    }
+
+    private static long toTicks(double millis) {
+        return SimulationEngine.millisToTicks(Math.round(millis));
     }
 
     /**
@@ -240,6 +299,18 @@ public class AiPlayer {
         return isActive;
     }
 
+    /**
+     * Retourne le générateur aléatoire des décisions de l'IA.
+     * <p>
+     * Il n'est pas synchronisé : l'IA ne lance jamais deux calculs de décision à la fois.
+     * </p>
+     *
+     * @return Le générateur des décisions
+     */
+    SplittableRandom getRandom() {
+        return decisionRandom;
+    }
+
     /**
      * Retourne l'identifiant du joueur contrôlé par cette IA.
      * 
@@ -0,0 +1,199 @@
+package IABomberMan;
+
+import Simulation.GameSnapshot;
+import Simulation.GridState;
+import Simulation.SimulationEngine;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Carte des dangers à venir, indexée par le temps.
+ * <p>
+ * Pour chaque cellule, la carte retient l'intervalle de ticks (relatifs à l'instantané)
+ * pendant lequel la cellule sera en feu : flammes déjà présentes, puis souffle de
+ * chaque bombe à son instant d'explosion. Les réactions en chaîne sont prises en
+ * compte : une bombe atteinte par le souffle d'une autre explose en même temps qu'elle.
+ * </p>
+ * <p>
+ * Une cellule touchée par plusieurs explosions reçoit l'union de leurs intervalles
+ * (du premier allumage à la dernière extinction), ce qui reste prudent.
+ * </p>
+ */
+public final class DangerMap {
+
+    /** Valeur d'une cellule qui ne sera jamais en feu */
+    public static final int NEVER = Integer.MAX_VALUE;
+
+    private final GridState grid;
+    private final int width;
+    /** Premier tick où la cellule est en feu */
+    private final int[] dangerStart;
+    /** Tick où la dernière flamme de la cellule s'éteint */
+    private final int[] dangerEnd;
+    /** Tick où toutes les flammes connues se sont éteintes */
+    private int clearTick;
+
+    /**
+     * Construit la carte des dangers d'un instantané.
+     *
+     * @param snapshot État de la partie
+     */
+    public DangerMap(GameSnapshot snapshot) {
+        this(snapshot, -1, -1, 0);
+    }
+
+    /**
+     * Construit la carte des dangers d'un instantané auquel on ajoute une bombe
+     * hypothétique, posée à l'instant de l'instantané.
+     *
+     * @param snapshot État de la partie
+     * @param bombX Colonne de la bombe ajoutée (-1 pour aucune)
+     * @param bombY Ligne de la bombe ajoutée
+     * @param bombPower Puissance de la bombe ajoutée
+     */
+    public DangerMap(GameSnapshot snapshot, int bombX, int bombY, int bombPower) {
+        this.grid = snapshot.getGridState();
+        this.width = grid.getWidth();
+
+        int cells = width * grid.getHeight();
+        this.dangerStart = new int[cells];
+        this.dangerEnd = new int[cells];
+        Arrays.fill(dangerStart, NEVER);
+
+        // Flammes encore actives
+        for (GameSnapshot.FlameState flame : snapshot.getFlames()) {
+            mark(flame.getY() * width + flame.getX(), 0,
+                    (int) Math.max(0, flame.getExpireTick() - snapshot.getTick()));
+        }
+
+        // Bombes posées (et bombe hypothétique)
+        List<GameSnapshot.BombState> bombs = snapshot.getBombs();
+        int count = bombs.size() + (bombX >= 0 ? 1 : 0);
+        int[] xs = new int[count];
+        int[] ys = new int[count];
+        int[] detonation = new int[count];
+        long[][] blasts = new long[count][];
+
+        for (int i = 0; i < bombs.size(); i++) {
+            GameSnapshot.BombState bomb = bombs.get(i);
+            xs[i] = bomb.getX();
+            ys[i] = bomb.getY();
+            detonation[i] = bomb.getFuseTicks();
+            blasts[i] = blast(bomb.getX(), bomb.getY(), bomb.getPower());
+        }
+        if (bombX >= 0) {
+            int last = count - 1;
+            xs[last] = bombX;
+            ys[last] = bombY;
+            detonation[last] = SimulationEngine.BOMB_FUSE_TICKS;
+            blasts[last] = blast(bombX, bombY, bombPower);
+        }
+
+        propagateChains(xs, ys, detonation, blasts);
+
+        for (int i = 0; i < count; i++) {
+            int end = detonation[i] + SimulationEngine.FLAME_DURATION_TICKS;
+            long[] mask = blasts[i];
+            for (int y = 0; y < mask.length; y++) {
+                long row = mask[y];
+                while (row != 0) {
+                    int x = Long.numberOfTrailingZeros(row);
+                    row &= row - 1;
+                    mark(y * width + x, detonation[i], end);
+                }
+            }
+        }
+    }
+
+    /**
+     * Avance l'explosion des bombes atteintes par le souffle d'une bombe qui explose
+     * plus tôt (parcours par ordre d'explosion croissant, comme un Dijkstra).
+     */
+    private void propagateChains(int[] xs, int[] ys, int[] detonation, long[][] blasts) {
+        int count = detonation.length;
+        boolean[] settled = new boolean[count];
+
+        for (int round = 0; round < count; round++) {
+            int next = -1;
+            for (int i = 0; i < count; i++) {
+                if (!settled[i] && (next == -1 || detonation[i] < detonation[next])) {
+                    next = i;
+                }
+            }
+            settled[next] = true;
+
+            for (int j = 0; j < count; j++) {
+                if (!settled[j] && detonation[next] < detonation[j] && grid.isSet(blasts[next], xs[j], ys[j])) {
+                    detonation[j] = detonation[next];
+                }
+            }
+        }
+    }
+
+    private long[] blast(int x, int y, int power) {
+        long[] mask = grid.newMask();
+        grid.addBlast(x, y, power, mask);
+        return mask;
+    }
+
+    private void mark(int cell, int start, int end) {
+        dangerStart[cell] = Math.min(dangerStart[cell], start);
+        dangerEnd[cell] = Math.max(dangerEnd[cell], end);
+        clearTick = Math.max(clearTick, end);
+    }
+
+    // ===== REQUÊTES =====
+
+    /**
+     * Vérifie si une cellule est en feu à un moment de l'intervalle [from, to).
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @param from Début de l'intervalle (ticks relatifs)
+     * @param to Fin de l'intervalle (exclue)
+     * @return true si la cellule est dangereuse pendant l'intervalle
+     */
+    public boolean isDangerous(int x, int y, int from, int to) {
+        int cell = y * width + x;
+        return dangerStart[cell] < to && dangerEnd[cell] > from;
+    }
+
+    /**
+     * Vérifie si une cellule ne sera plus jamais en feu à partir d'un instant.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @param from Instant d'arrivée (ticks relatifs)
+     * @return true si la cellule est sûre jusqu'à l'extinction de toutes les flammes
+     */
+    public boolean isSafeFrom(int x, int y, int from) {
+        int cell = y * width + x;
+        return dangerStart[cell] == NEVER || dangerEnd[cell] <= from;
+    }
+
+    /**
+     * Retourne le premier tick où une cellule sera en feu.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return Le tick relatif, ou {@link #NEVER}
+     */
+    public int getDangerStart(int x, int y) {
+        return dangerStart[y * width + x];
+    }
+
+    /**
+     * @return Le tick relatif où toutes les flammes connues se sont éteintes
+     */
+    public int getClearTick() {
+        return clearTick;
+    }
+
+    /**
+     * @return La grille de l'instantané
+     */
+    public GridState getGrid() {
+        return grid;
+    }
+}
@@ -0,0 +1,118 @@
+package IABomberMan;
+
+import Etat.BotType;
+import Etat.Direction;
+import Etat.RandomStream;
+import Simulation.GameRandom;
+import Simulation.GameSnapshot;
+import Simulation.SimPlayer;
+import Simulation.SimulationEngine;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Joueur IA sans interface, piloté directement par la boucle d'un match de {@link Tournament}.
+ * <p>
+ * Il reproduit le déroulement d'un {@link AiPlayer} en jeu : la décision est calculée sur
+ * l'état de fin d'un tick puis appliquée au tick suivant, et l'action suivante est planifiée
+ * avec les mêmes délais ({@link AiPlayer#nextActionDelay}). Ses générateurs sont tirés de la
+ * graine du match comme ceux d'un {@link AiPlayer}. Tout s'exécute sur le thread du match.
+ * </p>
+ */
+final class HeadlessBot {
+
+    /** Un bot aléatoire pose une bombe une action sur ce nombre */
+    private static final int RANDOM_BOMB_ODDS = 8;
+
+    private final int playerId;
+    private final BotType type;
+    /** Planificateur (null pour un bot aléatoire) */
+    private final AiPlanner planner;
+    /** Générateur du rythme des actions */
+    private final SplittableRandom random;
+    /** Générateur des décisions */
+    private final SplittableRandom decisionRandom;
+
+    /** Tick de la prochaine décision */
+    private long nextActionTick;
+    /** Décision calculée au tick précédent, à appliquer */
+    private AiPlanner.Decision pending;
+    private boolean hasPending;
+
+    /**
+     * @param playerId Identifiant du joueur dans le moteur
+     * @param type Comportement du bot
+     * @param gameRandom Flux aléatoires du match
+     * @param budgetNanos Budget de temps d'une décision (0 : sans limite)
+     * @param startTick Tick de départ du match
+     */
+    HeadlessBot(int playerId, BotType type, GameRandom gameRandom, long budgetNanos, long startTick) {
+        this.playerId = playerId;
+        this.type = type;
+        this.planner = type == BotType.RANDOM ? null : new AiPlanner(budgetNanos);
+        this.random = gameRandom.fork(RandomStream.AI, playerId);
+        this.decisionRandom = random.split();
+        this.nextActionTick = startTick + AiPlayer.firstActionDelay(random);
+    }
+
+    /**
+     * @param tick Tick courant
+     * @return true si une décision doit être calculée à la fin de ce tick
+     */
+    boolean isDue(long tick) {
+        return !hasPending && tick >= nextActionTick;
+    }
+
+    /**
+     * Calcule la prochaine décision à partir de l'état de fin de tick.
+     *
+     * @param engine Moteur du match
+     * @param snapshot Instantané du moteur, partagé par les bots du même tick
+     */
+    void decide(SimulationEngine engine, GameSnapshot snapshot) {
+        pending = planner != null
+                ? planner.decide(snapshot, playerId, decisionRandom)
+                : randomDecision(engine);
+        hasPending = true;
+    }
+
+    /**
+     * Applique la décision calculée au tick précédent et planifie la suivante.
+     *
+     * @param engine Moteur du match
+     */
+    void apply(SimulationEngine engine) {
+        if (!hasPending) return;
+        hasPending = false;
+
+        boolean urgent = false;
+        if (pending != null) {
+            urgent = pending.isUrgent();
+            if (pending.shouldPlaceBomb()) {
+                engine.placeBomb(playerId);
+            } else if (pending.getDirection() != null) {
+                engine.movePlayer(playerId, pending.getDirection());
+            }
+            pending = null;
+        }
+
+        long delay = type == BotType.AGGRESSIVE ? AiPlanner.STEP_TICKS : AiPlayer.nextActionDelay(random, urgent);
+        nextActionTick = engine.getTick() + delay;
+    }
+
+    private AiPlanner.Decision randomDecision(SimulationEngine engine) {
+        SimPlayer self = engine.getPlayer(playerId);
+        if (self == null || !self.isAlive()) {
+            return null;
+        }
+        if (self.canPlaceBomb() && decisionRandom.nextInt(RANDOM_BOMB_ODDS) == 0) {
+            return new AiPlanner.Decision(null, true, true);
+        }
+        List<Direction> safe = engine.getSafeDirections(playerId);
+        Direction move = safe.isEmpty() ? null : safe.get(decisionRandom.nextInt(safe.size()));
+        return new AiPlanner.Decision(move, false, false);
+    }
+
+    int getPlayerId() { return playerId; }
+}
@@ -0,0 +1,372 @@
+package IABomberMan;
+
+import Etat.BotType;
+import Etat.GameMode;
+import Simulation.GameSnapshot;
+import Simulation.MapLayout;
+import Simulation.SimPlayer;
+import Simulation.SimulationEngine;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tournoi d'IA sans interface, en ligne de commande.
+ * <p>
+ * Un tournoi joue un nombre donné de matchs entre les mêmes bots ({@link BotType}) sur une
+ * plage de graines de carte. Le match {@code i} utilise la graine
+ * {@code premièreGraine + i % nombreDeGraines} ; les bots changent de coin de départ à chaque
+ * match, et d'un passage sur la plage à l'autre une même graine est rejouée depuis d'autres
+ * coins, pour que l'avantage d'un coin ne fausse pas le classement. Par défaut, chaque graine
+ * est jouée depuis chaque coin.
+ * </p>
+ * <p>
+ * Un match qui atteint la durée maximale est départagé entre les survivants : le plus de vies,
+ * puis le meilleur score. Ces victoires aux points sont comptées à part ; seuls les matchs
+ * qu'aucun critère ne départage sont nuls.
+ * </p>
+ * <p>
+ * Chaque match est une tâche d'un {@link ForkJoinPool} (vol de tâches) : il crée son propre
+ * moteur et ses propres bots, et ne partage aucun état modifiable avec les autres ; les
+ * résultats sont fusionnés en remontant l'arbre des tâches. Avec un budget de décision nul
+ * (par défaut), les décisions ne dépendent que des graines : un tournoi donne le même
+ * résultat quel que soit le nombre de threads.
+ * </p>
+ * <p>
+ * Usage :
+ * {@code Tournament --bots=STANDARD,RANDOM [--seeds=1-100] [--matches=N] [--mode=LIMITED_BOMBS]
+ * [--threads=N] [--max-ticks=N] [--budget-us=N]}
+ * </p>
+ */
+public final class Tournament {
+
+    /** Coefficient de l'intervalle de confiance à 95 % */
+    private static final double Z_95 = 1.96;
+    /** Durée maximale d'un match par défaut : 10 minutes de jeu, au-delà le match est nul */
+    private static final long DEFAULT_MAX_TICKS = SimulationEngine.millisToTicks(10 * 60 * 1000);
+
+    private final BotType[] bots;
+    private final long firstSeed;
+    private final int seedCount;
+    private final int matchCount;
+    private final GameMode gameMode;
+    private final long maxTicks;
+    private final long budgetNanos;
+
+    /**
+     * @param bots Bots engagés, de 2 à 4 (un même type peut apparaître plusieurs fois)
+     * @param firstSeed Première graine de carte
+     * @param seedCount Nombre de graines de la plage
+     * @param matchCount Nombre de matchs
+     * @param gameMode Mode de gestion des bombes
+     * @param maxTicks Durée maximale d'un match en ticks
+     * @param budgetNanos Budget de temps d'une décision (0 : sans limite)
+     */
+    public Tournament(BotType[] bots, long firstSeed, int seedCount, int matchCount, GameMode gameMode,
+                      long maxTicks, long budgetNanos) {
+        if (bots.length < 2 || bots.length > MapLayout.getMaxPlayers()) {
+            throw new IllegalArgumentException("Un tournoi oppose de 2 à " + MapLayout.getMaxPlayers() + " bots");
+        }
+        if (seedCount <= 0 || matchCount <= 0 || maxTicks <= 0 || budgetNanos < 0) {
+            throw new IllegalArgumentException("Paramètres de tournoi invalides");
+        }
+        this.bots = bots.clone();
+        this.firstSeed = firstSeed;
+        this.seedCount = seedCount;
+        this.matchCount = matchCount;
+        this.gameMode = gameMode;
+        this.maxTicks = maxTicks;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Joue tous les matchs du tournoi.
+     *
+     * @param pool Pool qui exécute les matchs
+     * @return Les résultats cumulés
+     */
+    public Standings run(ForkJoinPool pool) {
+        return pool.invoke(new MatchRange(0, matchCount));
+    }
+
+    /**
+     * Joue un match.
+     *
+     * @param index Numéro du match dans le tournoi
+     * @return Son résultat
+     */
+    Standings playMatch(int index) {
+        long seed = firstSeed + index % seedCount;
+        // Un coin de plus à chaque match, décalé d'un cran à chaque passage sur la plage
+        int rotation = (index + index / seedCount) % bots.length;
+
+        SimulationEngine engine = new SimulationEngine(gameMode, seed);
+        HeadlessBot[] seats = new HeadlessBot[bots.length];
+        int[] entries = new int[bots.length];
+        for (int seat = 0; seat < bots.length; seat++) {
+            entries[seat] = (seat + rotation) % bots.length;
+            engine.addPlayer(bots[entries[seat]].getDisplayName() + " #" + (entries[seat] + 1));
+        }
+        engine.start();
+        for (int seat = 0; seat < bots.length; seat++) {
+            seats[seat] = new HeadlessBot(seat, bots[entries[seat]], engine.getRandom(), budgetNanos, engine.getTick());
+        }
+
+        while (!engine.isGameOver() && engine.getTick() < maxTicks) {
+            // Décisions du tick précédent, appliquées avant d'avancer comme dans le jeu
+            for (HeadlessBot bot : seats) {
+                bot.apply(engine);
+            }
+            engine.tick();
+            engine.pollEvents();
+
+            GameSnapshot snapshot = null;
+            for (HeadlessBot bot : seats) {
+                if (!bot.isDue(engine.getTick())) continue;
+                SimPlayer player = engine.getPlayer(bot.getPlayerId());
+                if (player == null || !player.isAlive()) continue;
+                if (snapshot == null) {
+                    snapshot = engine.snapshot();
+                }
+                bot.decide(engine, snapshot);
+            }
+        }
+
+        Standings result = new Standings(bots.length);
+        result.matches = 1;
+        result.ticks = engine.getTick();
+        SimPlayer winner = engine.getWinner();
+        if (winner != null) {
+            result.wins[entries[winner.getId()]]++;
+        } else if (!engine.isGameOver() && (winner = leaderOnPoints(engine)) != null) {
+            result.pointWins[entries[winner.getId()]]++;
+        } else {
+            result.draws++;
+        }
+        return result;
+    }
+
+    /**
+     * Départage les survivants d'un match arrêté à la durée maximale.
+     *
+     * @param engine Moteur du match
+     * @return Le survivant ayant le plus de vies puis le meilleur score, ou null en cas d'égalité
+     */
+    private static SimPlayer leaderOnPoints(SimulationEngine engine) {
+        SimPlayer leader = null;
+        boolean tied = false;
+        for (SimPlayer player : engine.getPlayers()) {
+            if (!player.isAlive()) continue;
+            int comparison = leader == null ? 1 : compareOnPoints(player, leader);
+            if (comparison > 0) {
+                leader = player;
+                tied = false;
+            } else if (comparison == 0) {
+                tied = true;
+            }
+        }
+        return tied ? null : leader;
+    }
+
+    private static int compareOnPoints(SimPlayer a, SimPlayer b) {
+        int comparison = Integer.compare(a.getLives(), b.getLives());
+        return comparison != 0 ? comparison : Integer.compare(a.getScore(), b.getScore());
+    }
+
+    /**
+     * Plage de matchs, découpée en deux jusqu'à un match par tâche.
+     */
+    private final class MatchRange extends RecursiveTask<Standings> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        MatchRange(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Standings compute() {
+            if (to - from == 1) {
+                return playMatch(from);
+            }
+            int middle = (from + to) >>> 1;
+            MatchRange left = new MatchRange(from, middle);
+            left.fork();
+            Standings right = new MatchRange(middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Résultats cumulés d'un ensemble de matchs.
+     */
+    public static final class Standings {
+        /** Victoires de chaque bot, dans l'ordre d'engagement */
+        private final int[] wins;
+        /** Victoires aux points (durée maximale atteinte) de chaque bot */
+        private final int[] pointWins;
+        private int draws;
+        private int matches;
+        private long ticks;
+
+        Standings(int botCount) {
+            this.wins = new int[botCount];
+            this.pointWins = new int[botCount];
+        }
+
+        Standings merge(Standings other) {
+            for (int i = 0; i < wins.length; i++) {
+                wins[i] += other.wins[i];
+                pointWins[i] += other.pointWins[i];
+            }
+            draws += other.draws;
+            matches += other.matches;
+            ticks += other.ticks;
+            return this;
+        }
+
+        /**
+         * @param bot Index du bot dans l'ordre d'engagement
+         * @return Son nombre de victoires
+         */
+        public int getWins(int bot) { return wins[bot]; }
+
+        /**
+         * @param bot Index du bot dans l'ordre d'engagement
+         * @return Son nombre de victoires aux points, à la durée maximale
+         */
+        public int getPointWins(int bot) { return pointWins[bot]; }
+
+        /**
+         * @return Le nombre de matchs sans gagnant (élimination simultanée, ou égalité
+         *         parfaite à la durée maximale)
+         */
+        public int getDraws() { return draws; }
+
+        public int getMatches() { return matches; }
+
+        /**
+         * @return Le nombre total de ticks simulés
+         */
+        public long getTicks() { return ticks; }
+    }
+
+    /**
+     * Intervalle de confiance de Wilson d'une proportion.
+     *
+     * @param successes Nombre de succès
+     * @param trials Nombre d'essais
+     * @param z Coefficient de l'intervalle (1.96 pour 95 %)
+     * @return Les bornes basse et haute
+     */
+    static double[] wilsonInterval(int successes, int trials, double z) {
+        if (trials == 0) {
+            return new double[]{0, 1};
+        }
+        double p = (double) successes / trials;
+        double z2 = z * z;
+        double denominator = 1 + z2 / trials;
+        double center = (p + z2 / (2.0 * trials)) / denominator;
+        double halfWidth = z * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new double[]{Math.max(0, center - halfWidth), Math.min(1, center + halfWidth)};
+    }
+
+    /**
+     * Lance un tournoi et affiche le classement.
+     *
+     * @param args Options du tournoi (voir la documentation de la classe)
+     */
+    public static void main(String[] args) {
+        BotType[] bots = null;
+        long firstSeed = 1;
+        int seedCount = 100;
+        Integer matchCount = null;
+        GameMode gameMode = GameMode.LIMITED_BOMBS;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long maxTicks = DEFAULT_MAX_TICKS;
+        long budgetNanos = 0;
+
+        try {
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (!arg.startsWith("--") || separator < 0) {
+                    throw new IllegalArgumentException("Option invalide: " + arg);
+                }
+                String name = arg.substring(2, separator);
+                String value = arg.substring(separator + 1);
+                switch (name) {
+                    case "bots" -> bots = Arrays.stream(value.split(","))
+                            .map(bot -> BotType.valueOf(bot.trim().toUpperCase(Locale.ROOT)))
+                            .toArray(BotType[]::new);
+                    case "seeds" -> {
+                        int dash = value.indexOf('-', 1);
+                        firstSeed = Long.parseLong(dash < 0 ? value : value.substring(0, dash));
+                        long lastSeed = dash < 0 ? firstSeed : Long.parseLong(value.substring(dash + 1));
+                        seedCount = Math.toIntExact(lastSeed - firstSeed + 1);
+                    }
+                    case "matches" -> matchCount = Integer.parseInt(value);
+                    case "mode" -> gameMode = GameMode.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "threads" -> threads = Integer.parseInt(value);
+                    case "max-ticks" -> maxTicks = Long.parseLong(value);
+                    case "budget-us" -> budgetNanos = Long.parseLong(value) * 1000;
+                    default -> throw new IllegalArgumentException("Option inconnue: " + name);
+                }
+            }
+            if (bots == null) {
+                throw new IllegalArgumentException("Option --bots manquante");
+            }
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: Tournament --bots=" + Arrays.toString(BotType.values()).replaceAll("[\\[\\] ]", "")
+                    + " [--seeds=1-100] [--matches=N] [--mode=LIMITED_BOMBS|INFINITE_BOMBS]"
+                    + " [--threads=N] [--max-ticks=N] [--budget-us=N]");
+            System.exit(2);
+            return;
+        }
+
+        Tournament tournament;
+        ForkJoinPool pool;
+        try {
+            // Par défaut, chaque graine est jouée depuis chaque coin
+            tournament = new Tournament(bots, firstSeed, seedCount,
+                    matchCount != null ? matchCount : Math.multiplyExact(seedCount, bots.length),
+                    gameMode, maxTicks, budgetNanos);
+            pool = new ForkJoinPool(threads);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        long start = System.nanoTime();
+        Standings standings;
+        try {
+            standings = tournament.run(pool);
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf(Locale.ROOT, "Tournoi: %d matchs, graines %d-%d, %s, %d threads%n",
+                standings.getMatches(), firstSeed, firstSeed + seedCount - 1, gameMode.name(), threads);
+        System.out.printf(Locale.ROOT, "%-4s %-22s %9s %10s %8s   %s%n",
+                "#", "Bot", "Victoires", "Aux points", "Taux", "IC 95 % (Wilson)");
+        for (int i = 0; i < bots.length; i++) {
+            int wins = standings.getWins(i);
+            int pointWins = standings.getPointWins(i);
+            double[] interval = wilsonInterval(wins + pointWins, standings.getMatches(), Z_95);
+            System.out.printf(Locale.ROOT, "%-4d %-22s %9d %10d %7.1f %%   [%5.1f %% ; %5.1f %%]%n",
+                    i + 1, bots[i].getDisplayName(), wins, pointWins,
+                    100.0 * (wins + pointWins) / standings.getMatches(),
+                    100 * interval[0], 100 * interval[1]);
+        }
+        System.out.printf(Locale.ROOT, "Nuls: %d | %.1f matchs/s | %.0f ticks par match en moyenne%n",
+                standings.getDraws(), standings.getMatches() / Math.max(seconds, 1e-9),
+                (double) standings.getTicks() / standings.getMatches());
+    }
+}
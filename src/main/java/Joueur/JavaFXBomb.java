@@ -1,8 +1,11 @@
 package Joueur;
 
+import Journal.Log;
+import Journal.Logger;
+import Simulation.SimulationEngine;
+import Simulation.TickScheduler;
 import fonctionnaliteInitial.GameObject;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import fonctionnaliteInitial.SpriteCache;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
@@ -11,7 +14,6 @@ import javafx.scene.effect.DropShadow;
 import javafx.scene.effect.Glow;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.util.Duration;
 
 /**
  * Classe représentant une bombe dans le jeu Bomberman avec rendu JavaFX.
@@ -19,12 +21,14 @@ import javafx.util.Duration;
  * qui peut être placée par un joueur, compter à rebours et exploser.
  * 
  * La bombe possède un minuteur, une puissance d'explosion et un propriétaire.
- * Elle utilise un système d'animation pour simuler le compte à rebours visuellement
- * avec un clignotement qui s'accélère avant l'explosion.
+ * Le compte à rebours et le clignotement (qui s'accélère avant l'explosion) sont
+ * des tâches du {@link TickScheduler} de la boucle de jeu : aucune Timeline n'est
+ * créée par bombe.
  * 
  * @author Équipe BomberManSae2.01
  */
 public class JavaFXBomb extends GameObject {
+    private static final Logger LOG = Log.getLogger(JavaFXBomb.class);
 
     /**
      * Délai avant l'explosion de la bombe en millisecondes (3 secondes).
@@ -37,6 +41,17 @@ public class JavaFXBomb extends GameObject {
      */
     private static final int BLINKING_START = 1000;
 
+    /**
+     * Intervalle de clignotement normal, puis accéléré, en millisecondes.
+     */
+    private static final int BLINK_INTERVAL = 200;
+    private static final int FAST_BLINK_INTERVAL = 100;
+
+    /**
+     * Délai après le début du clignotement avant son accélération, en millisecondes.
+     */
+    private static final int BLINK_ACCELERATION_DELAY = 500;
+
     /**
      * Minuteur interne de la bombe.
      */
@@ -68,14 +83,29 @@ public class JavaFXBomb extends GameObject {
     private int gridY;
     
     /**
-     * Timeline contrôlant le compte à rebours jusqu'à l'explosion.
+     * Ordonnanceur de la boucle de jeu qui porte les tâches de la bombe.
      */
-    private Timeline countdownTimer;
-    
+    private TickScheduler scheduler;
+
+    /**
+     * Tâche déclenchant l'explosion à la fin du compte à rebours.
+     */
+    private TickScheduler.Task countdownTask;
+
+    /**
+     * Tâche (réutilisée) qui démarre puis entretient le clignotement.
+     */
+    private TickScheduler.Task blinkTask;
+
+    /**
+     * Tick auquel le clignotement accélère.
+     */
+    private long fastBlinkTick;
+
     /**
-     * Timeline contrôlant l'animation de clignotement.
+     * Indique si le clignotement est passé en phase rapide.
      */
-    private Timeline blinkingTimer;
+    private boolean fastBlinking;
     
     /**
      * Callback à exécuter lorsque la bombe explose.
@@ -107,6 +137,18 @@ public class JavaFXBomb extends GameObject {
      */
     private boolean isBlinking;
 
+    /**
+     * Effets appliqués au sprite, partagés par toutes les bombes.
+     */
+    private static final javafx.scene.effect.Blend NORMAL_EFFECT = createBombEffect(0.4);
+    // Brillance légèrement plus forte pour la bombe rouge
+    private static final javafx.scene.effect.Blend RED_EFFECT = createBombEffect(0.6);
+
+    /**
+     * Corps de la bombe de secours (si les sprites ne sont pas chargés).
+     */
+    private Circle fallbackBody;
+
     /**
      * Constructeur de la bombe.
      * 
@@ -126,30 +168,17 @@ public class JavaFXBomb extends GameObject {
         this.useRedBomb = false;
         this.isBlinking = false;
 
-        // Pré-charger les images pour éviter les ralentissements
+        // Les images sont décodées une seule fois par le cache partagé
         loadBombImages();
     }
 
     /**
-     * Charge les images de la bombe (version noire et rouge).
+     * Récupère les images de la bombe (version noire et rouge) dans le cache partagé.
      * Ces images serviront pour l'animation de clignotement.
      */
     private void loadBombImages() {
-        try {
-            // Charger les deux sprites de bombe
-            String blackBombPath = "/com/example/bombermansae201/Bombe/Bombe_safe.png";
-            String redBombPath = "/com/example/bombermansae201/Bombe/Bombe_rouge.png";
-
-            blackBombImage = new Image(getClass().getResourceAsStream(blackBombPath));
-            redBombImage = new Image(getClass().getResourceAsStream(redBombPath));
-
-            System.out.println("✅ Sprites de bombe chargés avec succès (noir et rouge)");
-
-        } catch (Exception e) {
-            System.err.println("❌ Erreur lors du chargement des sprites de bombe: " + e.getMessage());
-            blackBombImage = null;
-            redBombImage = null;
-        }
+        blackBombImage = SpriteCache.getImage(SpriteCache.BOMB_SAFE);
+        redBombImage = SpriteCache.getImage(SpriteCache.BOMB_RED);
     }
 
     /**
@@ -159,21 +188,45 @@ public class JavaFXBomb extends GameObject {
      */
     public StackPane createVisualRepresentation() {
         StackPane container = new StackPane();
+        attachVisual(container);
+        return container;
+    }
+
+    /**
+     * Affiche la bombe dans un conteneur, éventuellement repris d'une bombe précédente.
+     * <p>
+     * Les conteneurs des bombes explosées sont réutilisés par le contrôleur de jeu :
+     * si le conteneur porte déjà un sprite de bombe, seule son image est réinitialisée,
+     * sinon son contenu est construit.
+     * </p>
+     *
+     * @param container Conteneur vide ou ayant déjà affiché une bombe
+     */
+    public void attachVisual(StackPane container) {
         container.setPrefSize(40, 40);
         container.setMaxSize(40, 40);
         container.setMinSize(40, 40);
         container.setAlignment(javafx.geometry.Pos.CENTER);
-        container.getStyleClass().add("bomb-node");
+        if (!container.getStyleClass().contains("bomb-node")) {
+            container.getStyleClass().add("bomb-node");
+        }
 
         // Essayer d'abord de charger le sprite personnalisé
         if (blackBombImage != null && redBombImage != null) {
-            createBombSprite(container);
+            if (container.getChildren().size() == 1
+                    && container.getChildren().get(0) instanceof ImageView reusedView) {
+                bombImageView = reusedView;
+                bombImageView.setImage(useRedBomb ? redBombImage : blackBombImage);
+                bombImageView.setEffect(useRedBomb ? RED_EFFECT : NORMAL_EFFECT);
+            } else {
+                container.getChildren().clear();
+                createBombSprite(container);
+            }
         } else {
             // Fallback vers l'ancienne version si les sprites ne chargent pas
+            container.getChildren().clear();
             createFallbackBomb(container);
         }
-
-        return container;
     }
 
     /**
@@ -197,25 +250,36 @@ public class JavaFXBomb extends GameObject {
         // Permettre à l'image de dépasser légèrement la cellule
         bombImageView.setPickOnBounds(false);
 
-        // Effet de brillance pour indiquer que c'est interactif
+        // Effet de brillance pour indiquer que c'est interactif, ombre portée pour la profondeur
+        bombImageView.setEffect(useRedBomb ? RED_EFFECT : NORMAL_EFFECT);
+        if (useRedBomb) {
+            bombImageView.setImage(redBombImage);
+        }
+
+        container.getChildren().add(bombImageView);
+        LOG.debug("✅ Sprite de bombe avec alternance créé");
+    }
+
+    /**
+     * Crée l'effet combiné (brillance + ombre portée) du sprite.
+     *
+     * @param glowLevel Intensité de la brillance
+     * @return L'effet à appliquer à l'image
+     */
+    private static javafx.scene.effect.Blend createBombEffect(double glowLevel) {
         Glow glow = new Glow();
-        glow.setLevel(0.4);
+        glow.setLevel(glowLevel);
 
-        // Ombre portée pour plus de profondeur
         DropShadow shadow = new DropShadow();
         shadow.setColor(Color.BLACK);
         shadow.setRadius(3);
         shadow.setOffsetX(2);
         shadow.setOffsetY(2);
 
-        // Combiner les effets
         javafx.scene.effect.Blend blend = new javafx.scene.effect.Blend();
         blend.setTopInput(glow);
         blend.setBottomInput(shadow);
-        bombImageView.setEffect(blend);
-
-        container.getChildren().add(bombImageView);
-        System.out.println("✅ Sprite de bombe avec alternance créé");
+        return blend;
     }
 
     /**
@@ -225,11 +289,11 @@ public class JavaFXBomb extends GameObject {
      * @param container Le conteneur dans lequel ajouter la représentation alternative
      */
     private void createFallbackBomb(StackPane container) {
-        System.out.println("🔄 Utilisation du fallback pour la bombe avec clignotement");
+        LOG.debug("🔄 Utilisation du fallback pour la bombe avec clignotement");
 
         // Corps principal de la bombe (version agrandie)
         Circle bomb = new Circle(15);  // Plus grand que l'original (12 -> 15)
-        bomb.setFill(Color.BLACK);
+        bomb.setFill(useRedBomb ? Color.DARKRED : Color.BLACK);
         bomb.setStroke(Color.DARKGRAY);
         bomb.setStrokeWidth(2);
 
@@ -265,127 +329,82 @@ public class JavaFXBomb extends GameObject {
 
         container.getChildren().addAll(bomb, highlight, fuse, spark);
 
-        // Pour le fallback, on peut faire clignoter la couleur du cercle
-        // (alternative simple si les sprites ne chargent pas)
-        Timeline fallbackBlink = new Timeline(
-                new KeyFrame(Duration.millis(BLINKING_START), e -> {
-                    Timeline colorBlink = new Timeline(
-                            new KeyFrame(Duration.millis(200), ev -> {
-                                Color currentColor = (Color) bomb.getFill();
-                                bomb.setFill(currentColor.equals(Color.BLACK) ? Color.DARKRED : Color.BLACK);
-                            })
-                    );
-                    colorBlink.setCycleCount(Timeline.INDEFINITE);
-                    colorBlink.play();
-                })
-        );
-        fallbackBlink.play();
+        // Pour le fallback, le clignotement alterne la couleur du cercle
+        fallbackBody = bomb;
     }
 
     /**
      * Démarre le compte à rebours de la bombe jusqu'à l'explosion.
-     * 
+     *
+     * @param scheduler Ordonnanceur de la boucle de jeu
      * @param onExplosion Action à exécuter lorsque la bombe explose
      */
-    public void startCountdown(Runnable onExplosion) {
+    public void startCountdown(TickScheduler scheduler, Runnable onExplosion) {
         this.explosionCallback = onExplosion;
 
-        // Timer principal pour l'explosion
-        countdownTimer = new Timeline(
-                new KeyFrame(Duration.millis(EXPLOSION_DELAY), e -> explode())
-        );
-
-        // Timer pour démarrer le clignotement
-        Timeline startBlinkingTimer = new Timeline(
-                new KeyFrame(Duration.millis(BLINKING_START), e -> startBlinking())
-        );
+        // Tâche principale pour l'explosion
+        countdownTask = scheduler.schedule(this::explode, SimulationEngine.millisToTicks(EXPLOSION_DELAY));
 
-        countdownTimer.play();
-        startBlinkingTimer.play();
+        startBlinking(scheduler);
     }
 
     /**
-     * Démarre l'animation de clignotement de la bombe.
-     * Cette animation indique visuellement que la bombe va bientôt exploser.
+     * Programme uniquement le clignotement de la bombe.
+     * <p>
+     * Utilisé lorsque l'explosion est décidée ailleurs (par le moteur de simulation),
+     * qui appelle alors directement {@link #explode()}.
+     * </p>
+     *
+     * @param scheduler Ordonnanceur de la boucle de jeu
      */
-    private void startBlinking() {
-        if (bombImageView != null && !exploded) {
-            isBlinking = true;
-            System.out.println("💣 Bombe commence à clignoter !");
-
-            // Clignotement toutes les 200ms (de plus en plus rapide vers la fin)
-            blinkingTimer = new Timeline(
-                    new KeyFrame(Duration.millis(200), e -> toggleBombColor())
-            );
-            blinkingTimer.setCycleCount(Timeline.INDEFINITE);
-            blinkingTimer.play();
-
-            // Accélérer le clignotement dans la dernière seconde
-            Timeline accelerateTimer = new Timeline(
-                    new KeyFrame(Duration.millis(500), e -> accelerateBlinking())
-            );
-            accelerateTimer.play();
-        }
+    public void startBlinking(TickScheduler scheduler) {
+        this.scheduler = scheduler;
+
+        // Tâche pour démarrer le clignotement
+        blinkTask = scheduler.newTask(this::onBlinkTick);
+        scheduler.schedule(blinkTask, SimulationEngine.millisToTicks(BLINKING_START));
     }
 
     /**
-     * Alterne entre les images de bombe noire et rouge pour créer l'effet de clignotement.
+     * Tâche de clignotement : au premier passage elle démarre l'animation,
+     * ensuite elle alterne la couleur et se replanifie (plus vite dans la dernière phase).
      */
-    private void toggleBombColor() {
-        if (bombImageView != null && !exploded) {
-            useRedBomb = !useRedBomb;
-
-            if (useRedBomb) {
-                bombImageView.setImage(redBombImage);
-                // Augmenter légèrement l'effet de brillance pour la bombe rouge
-                Glow redGlow = new Glow();
-                redGlow.setLevel(0.6);
-
-                DropShadow shadow = new DropShadow();
-                shadow.setColor(Color.BLACK);
-                shadow.setRadius(3);
-                shadow.setOffsetX(2);
-                shadow.setOffsetY(2);
-
-                javafx.scene.effect.Blend blend = new javafx.scene.effect.Blend();
-                blend.setTopInput(redGlow);
-                blend.setBottomInput(shadow);
-                bombImageView.setEffect(blend);
-            } else {
-                bombImageView.setImage(blackBombImage);
-                // Effet normal pour la bombe noire
-                Glow normalGlow = new Glow();
-                normalGlow.setLevel(0.4);
-
-                DropShadow shadow = new DropShadow();
-                shadow.setColor(Color.BLACK);
-                shadow.setRadius(3);
-                shadow.setOffsetX(2);
-                shadow.setOffsetY(2);
-
-                javafx.scene.effect.Blend blend = new javafx.scene.effect.Blend();
-                blend.setTopInput(normalGlow);
-                blend.setBottomInput(shadow);
-                bombImageView.setEffect(blend);
-            }
+    private void onBlinkTick() {
+        if (exploded || (bombImageView == null && fallbackBody == null)) {
+            return;
+        }
+
+        long now = scheduler.getCurrentTick();
+        if (!isBlinking) {
+            isBlinking = true;
+            fastBlinkTick = now + SimulationEngine.millisToTicks(BLINK_ACCELERATION_DELAY);
+            LOG.debug("💣 Bombe commence à clignoter !");
+        } else {
+            toggleBombColor();
+        }
+
+        // Clignotement toutes les 200ms, puis plus rapide (100ms) pour la dernière phase
+        if (!fastBlinking && now >= fastBlinkTick) {
+            fastBlinking = true;
+            LOG.debug("💥 Clignotement accéléré - explosion imminente !");
         }
+        scheduler.schedule(blinkTask,
+                SimulationEngine.millisToTicks(fastBlinking ? FAST_BLINK_INTERVAL : BLINK_INTERVAL));
     }
 
     /**
-     * Accélère le clignotement dans la dernière phase avant l'explosion.
+     * Alterne entre les images de bombe noire et rouge pour créer l'effet de clignotement.
      */
-    private void accelerateBlinking() {
-        if (blinkingTimer != null && !exploded) {
-            blinkingTimer.stop();
+    private void toggleBombColor() {
+        if (exploded) return;
 
-            // Clignotement plus rapide (100ms) pour la dernière phase
-            blinkingTimer = new Timeline(
-                    new KeyFrame(Duration.millis(100), e -> toggleBombColor())
-            );
-            blinkingTimer.setCycleCount(Timeline.INDEFINITE);
-            blinkingTimer.play();
+        useRedBomb = !useRedBomb;
 
-            System.out.println("💥 Clignotement accéléré - explosion imminente !");
+        if (bombImageView != null) {
+            bombImageView.setImage(useRedBomb ? redBombImage : blackBombImage);
+            bombImageView.setEffect(useRedBomb ? RED_EFFECT : NORMAL_EFFECT);
+        } else if (fallbackBody != null) {
+            fallbackBody.setFill(useRedBomb ? Color.DARKRED : Color.BLACK);
         }
     }
 
@@ -395,7 +414,7 @@ public class JavaFXBomb extends GameObject {
      */
     @Override
     public void update() {
-        // La mise à jour est gérée par le Timeline
+        // Le compte à rebours est géré par le TickScheduler
         setPosition(gridX, gridY);  // Synchronisation des coordonnées
     }
 
@@ -407,15 +426,13 @@ public class JavaFXBomb extends GameObject {
         if (!exploded) {
             exploded = true;
 
-            // Arrêter tous les timers
-            if (countdownTimer != null) {
-                countdownTimer.stop();
-            }
-            if (blinkingTimer != null) {
-                blinkingTimer.stop();
+            // Annuler les tâches encore planifiées
+            if (scheduler != null) {
+                scheduler.cancel(countdownTask);
+                scheduler.cancel(blinkTask);
             }
 
-            System.out.println("💥 BOOM ! Bombe explosée !");
+            LOG.debug("💥 BOOM ! Bombe explosée !");
 
             if (explosionCallback != null) {
                 explosionCallback.run();
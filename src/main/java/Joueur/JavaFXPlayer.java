@@ -1,9 +1,12 @@
 package Joueur;
 
+import Journal.Log;
+import Journal.Logger;
 import Etat.Direction;
 import Etat.GameMode;
 import Etat.PowerUpType;
 import fonctionnaliteInitial.GameObject;
+import fonctionnaliteInitial.SpriteCache;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
@@ -38,6 +41,7 @@ import javafx.scene.effect.DropShadow;
  * @version 1.0
  */
 public class JavaFXPlayer extends GameObject {
+    private static final Logger LOG = Log.getLogger(JavaFXPlayer.class);
 
     /**
      * Nom du joueur.
@@ -153,7 +157,7 @@ public class JavaFXPlayer extends GameObject {
     private static final int DEFAULT_SPEED = 1;
 
     /**
-     * Tableau contenant les images des sprites du joueur.
+     * Images des sprites du joueur, partagées par le cache (à ne pas modifier).
      */
     private transient Image[] sprites;
     
@@ -178,18 +182,38 @@ public class JavaFXPlayer extends GameObject {
     private static final long SPRITE_UPDATE_INTERVAL = 200_000_000; // 200ms
 
     /**
-     * Noms des fichiers de sprites pour les différentes animations.
+     * Éléments de la dernière représentation visuelle créée, mis à jour sur place
+     * par {@link #updateVisual()} au lieu de reconstruire le nœud à chaque pas.
      */
-    private static final String[] SPRITE_NAMES = {
-            "PersoBleu.png",             // 0 - face
-            "PersoBleuMarcheDevant.png", // 1 - face_walking
-            "PersoBleuDos.png",          // 2 - back
-            "PersoBleuMarcheDeriere.png",// 3 - back_walking
-            "PersoBleuDroite.png",       // 4 - right
-            "PersoBleuMarcheDroite.png", // 5 - right_walking
-            "PersoBleuGauche.png",       // 6 - left
-            "PersoBleuMarcheGauche.png"  // 7 - left_walking
-    };
+    private transient ImageView visualSprite;
+    private transient Circle visualCircle;
+    private transient Text visualModeIndicator;
+
+    /**
+     * Effets partagés par les représentations de tous les joueurs.
+     */
+    private static final DropShadow SPRITE_SHADOW = createSpriteShadow();
+    private static final Glow INFINITE_GLOW = createInfiniteGlow();
+
+    /**
+     * Observateur prévenu quand une statistique affichée change.
+     */
+    private transient StatsListener statsListener;
+
+    /**
+     * Observateur des statistiques affichées dans le panneau d'informations
+     * (vies, bombes, puissance, état de vie, mode de jeu).
+     * <p>
+     * Il n'est prévenu que lorsqu'une de ces valeurs change effectivement.
+     * </p>
+     */
+    @FunctionalInterface
+    public interface StatsListener {
+        /**
+         * @param player Joueur dont une statistique affichée a changé
+         */
+        void onStatsChanged(JavaFXPlayer player);
+    }
 
     /**
      * Constructeur principal du joueur.
@@ -214,70 +238,24 @@ public class JavaFXPlayer extends GameObject {
 
         loadSprites(); // Charger les sprites
 
-        System.out.println("🎮 JavaFXPlayer créé: " + name + " (" + color + ", Mode: " + gameMode.getEmoji() + ")");
+        LOG.debug("🎮 JavaFXPlayer créé: {} ({}, Mode: {})", name, color, gameMode.getEmoji());
     }
 
     /**
-     * Charge les sprites du joueur depuis les ressources.
+     * Récupère les sprites du joueur dans le cache partagé de l'application.
      * <p>
-     * Cette méthode essaie de charger les sprites à partir de différents chemins possibles
-     * et implémente un système de fallback en cas d'échec.
+     * Les images sont décodées une seule fois pour tous les joueurs de la même couleur ;
+     * si l'une d'elles manque, le joueur est dessiné avec des formes géométriques.
      */
     private void loadSprites() {
-        sprites = new Image[8];
         String colorFolder = getColorFolder();
+        sprites = SpriteCache.getPlayerSprites(colorFolder);
 
-        System.out.println("🎨 Chargement des sprites pour " + name + " (couleur: " + colorFolder + ")");
-
-        boolean allSpritesLoaded = true;
-
-        for (int i = 0; i < SPRITE_NAMES.length; i++) {
-            try {
-                // Essayer différents chemins possibles
-                String[] possiblePaths = {
-                        "/com/example/bombermansae201/Personnage/" + colorFolder + "/" + SPRITE_NAMES[i],
-                        "/com/example/bombermansae201/Personnage/" + colorFolder + ".png/" + SPRITE_NAMES[i],
-                        "/Personnage/" + colorFolder + "/" + SPRITE_NAMES[i],
-                        "/sprites/" + colorFolder + "/" + SPRITE_NAMES[i]
-                };
-
-                Image loadedImage = null;
-                String usedPath = null;
-
-                for (String path : possiblePaths) {
-                    try {
-                        var stream = getClass().getResourceAsStream(path);
-                        if (stream != null) {
-                            loadedImage = new Image(stream);
-                            usedPath = path;
-                            break;
-                        }
-                    } catch (Exception e) {
-                        // Essayer le chemin suivant
-                        continue;
-                    }
-                }
-
-                if (loadedImage != null && !loadedImage.isError()) {
-                    sprites[i] = loadedImage;
-                    System.out.println("✅ Sprite " + i + " chargé: " + usedPath);
-                } else {
-                    System.err.println("❌ Impossible de charger le sprite " + i + ": " + SPRITE_NAMES[i]);
-                    allSpritesLoaded = false;
-                }
-
-            } catch (Exception e) {
-                System.err.println("❌ Erreur lors du chargement du sprite " + i + ": " + e.getMessage());
-                allSpritesLoaded = false;
-            }
-        }
-
-        if (allSpritesLoaded) {
+        if (sprites != null) {
             currentSprite = new ImageView(sprites[0]); // Face par défaut
-            System.out.println("✅ Tous les sprites chargés pour " + name);
+            LOG.debug("✅ Sprites {} utilisés pour {}", colorFolder, name);
         } else {
-            System.err.println("⚠️ Certains sprites n'ont pas pu être chargés pour " + name + ", utilisation du fallback");
-            sprites = null;
+            LOG.warn("⚠️ Certains sprites n'ont pas pu être chargés pour {}, utilisation du fallback", name);
             currentSprite = null;
         }
     }
@@ -351,26 +329,23 @@ public class JavaFXPlayer extends GameObject {
         playerNode.setMinSize(40, 40);
 
         if (sprites == null || currentSprite == null) {
-            System.out.println("⚠️ Utilisation du fallback pour " + name);
+            LOG.warn("⚠️ Utilisation du fallback pour {}", name);
             // Fallback aux formes géométriques si les sprites ne sont pas chargés
             Circle playerCircle = new Circle(18);
             playerCircle.setFill(color);
             playerCircle.setStroke(Color.BLACK);
             playerCircle.setStrokeWidth(2);
-
-            if (gameMode.isInfinite()) {
-                Glow infiniteGlow = new Glow();
-                infiniteGlow.setLevel(0.6);
-                playerCircle.setEffect(infiniteGlow);
-            }
+            playerCircle.setEffect(gameMode.isInfinite() ? INFINITE_GLOW : null);
 
             Text playerText = new Text(getPlayerNumber());
             playerText.setFont(Font.font("Arial", FontWeight.BOLD, 16));
             playerText.setFill(Color.WHITE);
 
             playerNode.getChildren().addAll(playerCircle, playerText);
+            visualCircle = playerCircle;
+            visualSprite = null;
         } else {
-            System.out.println("✅ Utilisation des sprites pour " + name);
+            LOG.debug("✅ Utilisation des sprites pour {}", name);
             updateSprite();
 
             ImageView spriteView = new ImageView();
@@ -381,13 +356,11 @@ public class JavaFXPlayer extends GameObject {
             spriteView.setSmooth(true); // Améliore la qualité de rendu
 
             // Ajouter un effet d'ombre
-            DropShadow shadow = new DropShadow();
-            shadow.setRadius(3);
-            shadow.setOffsetX(2);
-            shadow.setOffsetY(2);
-            spriteView.setEffect(shadow);
+            spriteView.setEffect(SPRITE_SHADOW);
 
             playerNode.getChildren().add(spriteView);
+            visualSprite = spriteView;
+            visualCircle = null;
         }
 
         // Indicateur de mode (petit symbole)
@@ -396,6 +369,7 @@ public class JavaFXPlayer extends GameObject {
         modeIndicator.setTranslateX(12);
         modeIndicator.setTranslateY(-12);
         playerNode.getChildren().add(modeIndicator);
+        visualModeIndicator = modeIndicator;
 
         playerNode.getStyleClass().add("player-node");
         playerNode.setUserData("player-" + name);
@@ -403,6 +377,37 @@ public class JavaFXPlayer extends GameObject {
         return playerNode;
     }
 
+    /**
+     * Met à jour sur place la dernière représentation créée par
+     * {@link #createVisualRepresentation()} : sprite de la direction courante et
+     * indicateur de mode. Aucun nœud n'est créé.
+     */
+    public void updateVisual() {
+        if (visualSprite != null) {
+            updateSprite();
+            visualSprite.setImage(currentSprite.getImage());
+        } else if (visualCircle != null) {
+            visualCircle.setEffect(gameMode.isInfinite() ? INFINITE_GLOW : null);
+        }
+        if (visualModeIndicator != null) {
+            visualModeIndicator.setText(gameMode.getEmoji());
+        }
+    }
+
+    private static DropShadow createSpriteShadow() {
+        DropShadow shadow = new DropShadow();
+        shadow.setRadius(3);
+        shadow.setOffsetX(2);
+        shadow.setOffsetY(2);
+        return shadow;
+    }
+
+    private static Glow createInfiniteGlow() {
+        Glow infiniteGlow = new Glow();
+        infiniteGlow.setLevel(0.6);
+        return infiniteGlow;
+    }
+
     /**
      * Définit le mode de jeu pour les bombes.
      * <p>
@@ -415,12 +420,15 @@ public class JavaFXPlayer extends GameObject {
         GameMode oldMode = this.gameMode;
         this.gameMode = gameMode;
 
-        System.out.println("🔄 " + name + " - Mode changé: " + oldMode.getEmoji() + " → " + gameMode.getEmoji());
+        LOG.debug("🔄 {} - Mode changé: {} → {}", name, oldMode.getEmoji(), gameMode.getEmoji());
 
         // Ajustements lors du changement de mode
         if (gameMode.isLimited() && bombInventory == 0) {
             bombInventory = gameMode.getDefaultBombCount();
-            System.out.println("🎁 " + name + " reçoit " + bombInventory + " bombes pour le mode limité");
+            LOG.debug("🎁 {} reçoit {} bombes pour le mode limité", name, bombInventory);
+        }
+        if (oldMode != gameMode) {
+            fireStatsChanged();
         }
     }
 
@@ -440,7 +448,9 @@ public class JavaFXPlayer extends GameObject {
         this.rightKey = right;
         this.bombKey = bomb;
 
-        System.out.println("⌨️ " + name + " - Touches: " + up + " " + down + " " + left + " " + right + " " + bomb);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("⌨️ " + name + " - Touches: " + up + " " + down + " " + left + " " + right + " " + bomb);
+        }
     }
 
     /**
@@ -453,7 +463,7 @@ public class JavaFXPlayer extends GameObject {
     public void setSpawnPosition(int x, int y) {
         this.spawnX = x;
         this.spawnY = y;
-        System.out.println("🏠 " + name + " - Spawn: (" + x + ", " + y + ")");
+        LOG.debug("🏠 {} - Spawn: ({}, {})", name, x, y);
     }
 
     /**
@@ -502,20 +512,21 @@ public class JavaFXPlayer extends GameObject {
      */
     public boolean canPlaceBomb() {
         if (!alive) {
-            System.out.println("💀 " + name + " - canPlaceBomb: false (joueur mort)");
+            LOG.debug("💀 {} - canPlaceBomb: false (joueur mort)", name);
             return false;
         }
 
         // En mode bombes infinies, on peut toujours placer une bombe
         if (gameMode.isInfinite()) {
-            System.out.println("♾️ " + name + " - canPlaceBomb: true (Mode bombes infinies)");
+            LOG.debug("♾️ {} - canPlaceBomb: true (Mode bombes infinies)", name);
             return true;
         }
 
         // En mode bombes limitées, vérifier l'inventaire
         boolean canPlace = bombInventory > 0;
-        System.out.println((canPlace ? "✅" : "❌") + " " + name + " - canPlaceBomb: " + canPlace +
-                " (Mode limité, inventaire: " + bombInventory + ")");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug((canPlace ? "✅" : "❌") + " " + name + " - canPlaceBomb: " + canPlace + " (Mode limité, inventaire: " + bombInventory + ")");
+        }
         return canPlace;
     }
 
@@ -528,13 +539,14 @@ public class JavaFXPlayer extends GameObject {
         if (!alive) return;
 
         if (gameMode.isInfinite()) {
-            System.out.println("♾️💣 " + name + " place une bombe (Mode bombes infinies)");
+            LOG.debug("♾️💣 {} place une bombe (Mode bombes infinies)", name);
         } else {
             if (bombInventory > 0) {
                 bombInventory--;
-                System.out.println("🎯💣 " + name + " place une bombe (Inventaire: " + bombInventory + ")");
+                LOG.debug("🎯💣 {} place une bombe (Inventaire: {})", name, bombInventory);
+                fireStatsChanged();
             } else {
-                System.out.println("❌ " + name + " ne peut pas placer de bombe (Inventaire vide)");
+                LOG.debug("❌ {} ne peut pas placer de bombe (Inventaire vide)", name);
             }
         }
     }
@@ -557,10 +569,14 @@ public class JavaFXPlayer extends GameObject {
                 bombInventory = 15;
             }
 
-            System.out.println("💣+ " + name + " gagne " + count + " bombe(s) ! (" +
-                    oldInventory + " → " + bombInventory + ")");
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("💣+ " + name + " gagne " + count + " bombe(s) ! (" + oldInventory + " → " + bombInventory + ")");
+            }
+            if (bombInventory != oldInventory) {
+                fireStatsChanged();
+            }
         } else {
-            System.out.println("♾️💣+ " + name + " collecte un power-up bombes (Mode infini - effet cosmétique)");
+            LOG.debug("♾️💣+ {} collecte un power-up bombes (Mode infini - effet cosmétique)", name);
         }
     }
 
@@ -568,7 +584,7 @@ public class JavaFXPlayer extends GameObject {
      * Méthode appelée lorsqu'une bombe du joueur explose.
      */
     public void bombExploded() {
-        System.out.println("💥 Bombe de " + name + " a explosé");
+        LOG.debug("💥 Bombe de {} a explosé", name);
     }
 
     /**
@@ -580,12 +596,13 @@ public class JavaFXPlayer extends GameObject {
         if (!alive) return;
 
         lives--;
-        System.out.println("💔 " + name + " subit des dégâts ! Vies restantes: " + lives);
+        LOG.debug("💔 {} subit des dégâts ! Vies restantes: {}", name, lives);
 
         if (lives <= 0) {
             alive = false;
-            System.out.println("💀 " + name + " est éliminé !");
+            LOG.debug("💀 {} est éliminé !", name);
         }
+        fireStatsChanged();
     }
 
     /**
@@ -596,7 +613,8 @@ public class JavaFXPlayer extends GameObject {
     public void heal() {
         if (alive && lives < 9) {
             lives++;
-            System.out.println("❤️ " + name + " gagne une vie ! Vies: " + lives);
+            LOG.debug("❤️ {} gagne une vie ! Vies: {}", name, lives);
+            fireStatsChanged();
         }
     }
 
@@ -617,7 +635,8 @@ public class JavaFXPlayer extends GameObject {
     public void increaseBombPower() {
         if (bombPower < 8) {
             bombPower++;
-            System.out.println("💥 " + name + " - Puissance des bombes: " + bombPower);
+            LOG.debug("💥 {} - Puissance des bombes: {}", name, bombPower);
+            fireStatsChanged();
         }
     }
 
@@ -629,7 +648,7 @@ public class JavaFXPlayer extends GameObject {
     public void increaseSpeed() {
         if (speed < 5) {
             speed++;
-            System.out.println("⚡ " + name + " - Vitesse: " + speed);
+            LOG.debug("⚡ {} - Vitesse: {}", name, speed);
         }
     }
 
@@ -640,7 +659,7 @@ public class JavaFXPlayer extends GameObject {
      */
     public void addScore(int points) {
         score += points;
-        System.out.println("🏆 " + name + " gagne " + points + " points ! Total: " + score);
+        LOG.debug("🏆 {} gagne {} points ! Total: {}", name, points, score);
     }
 
     /**
@@ -661,7 +680,23 @@ public class JavaFXPlayer extends GameObject {
             setGridPosition(spawnX, spawnY);
         }
 
-        System.out.println("🔄 " + name + " réinitialisé (Mode: " + gameMode.getEmoji() + ")");
+        LOG.debug("🔄 {} réinitialisé (Mode: {})", name, gameMode.getEmoji());
+        fireStatsChanged();
+    }
+
+    /**
+     * Enregistre l'observateur des statistiques affichées (un seul à la fois).
+     *
+     * @param statsListener L'observateur, ou null pour n'en avoir aucun
+     */
+    public void setStatsListener(StatsListener statsListener) {
+        this.statsListener = statsListener;
+    }
+
+    private void fireStatsChanged() {
+        if (statsListener != null) {
+            statsListener.onStatsChanged(this);
+        }
     }
 
     /**
@@ -729,7 +764,7 @@ public class JavaFXPlayer extends GameObject {
      */
     public void applyPowerUp(PowerUpType powerUpType) {
         if (!canReceivePowerUp(powerUpType)) {
-            System.out.println("❌ " + name + " ne peut pas recevoir le power-up " + powerUpType);
+            LOG.debug("❌ {} ne peut pas recevoir le power-up {}", name, powerUpType);
             return;
         }
 
@@ -882,7 +917,11 @@ public class JavaFXPlayer extends GameObject {
      * Définit l'état de vie du joueur.
      * @param alive Nouvel état (true = vivant, false = mort)
      */
-    public void setAlive(boolean alive) { this.alive = alive; }
+    public void setAlive(boolean alive) {
+        if (this.alive == alive) return;
+        this.alive = alive;
+        fireStatsChanged();
+    }
     
     /**
      * Définit le nombre de vies du joueur.
@@ -892,15 +931,21 @@ public class JavaFXPlayer extends GameObject {
      * @param lives Nouveau nombre de vies
      */
     public void setLives(int lives) {
+        if (this.lives == lives && (lives > 0 || !alive)) return;
         this.lives = lives;
         if (lives <= 0) this.alive = false;
+        fireStatsChanged();
     }
     
     /**
      * Définit la puissance des bombes.
      * @param bombPower Nouvelle puissance
      */
-    public void setBombPower(int bombPower) { this.bombPower = bombPower; }
+    public void setBombPower(int bombPower) {
+        if (this.bombPower == bombPower) return;
+        this.bombPower = bombPower;
+        fireStatsChanged();
+    }
     
     /**
      * Définit la vitesse du joueur.
@@ -918,7 +963,11 @@ public class JavaFXPlayer extends GameObject {
      * Définit le nombre de bombes dans l'inventaire.
      * @param bombInventory Nouveau nombre de bombes
      */
-    public void setBombInventory(int bombInventory) { this.bombInventory = bombInventory; }
+    public void setBombInventory(int bombInventory) {
+        if (this.bombInventory == bombInventory) return;
+        this.bombInventory = bombInventory;
+        fireStatsChanged();
+    }
 
     // ===== MÉTHODES UTILITAIRES =====
 
@@ -0,0 +1,288 @@
+package Joueur;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Classement de profils maintenu au fil des modifications : liste à enjambements
+ * (« skip list ») indexable, du plus grand au plus petit.
+ * <p>
+ * Chaque profil y figure sous une clé {@code long} unique. Chaque lien d'un niveau retient
+ * le nombre de profils qu'il enjambe, ce qui donne en O(log n) l'insertion, le retrait, la
+ * position d'une clé et le profil d'une position ; une page de k profils se lit en
+ * O(log n + k). Le classement se construit en une passe à partir de clés déjà triées.
+ * </p>
+ * <p>
+ * Comme les profils du {@link LogProfileRepository}, la structure n'est pas synchronisée.
+ * </p>
+ */
+final class Leaderboard {
+
+    private static final int MAX_LEVEL = 32;
+
+    /** Un nœud monte d'un niveau avec une chance sur 4 */
+    private static final int LEVEL_ODDS = 4;
+
+    private final Node head = new Node(Long.MAX_VALUE, null, MAX_LEVEL);
+    private final SplittableRandom random = new SplittableRandom(0x4C454144L);
+    /** Nombre de niveaux utilisés */
+    private int level = 1;
+    private int size;
+
+    /**
+     * Remplace le contenu par des profils déjà classés.
+     *
+     * @param keys Clés, strictement décroissantes
+     * @param profiles Profils correspondants
+     * @param count Nombre de profils
+     */
+    void build(long[] keys, Profile[] profiles, int count) {
+        clear();
+        Node[] last = new Node[MAX_LEVEL];
+        int[] lastRank = new int[MAX_LEVEL];
+        Arrays.fill(last, head);
+
+        for (int i = 0; i < count; i++) {
+            Node node = new Node(keys[i], profiles[i], randomLevel());
+            int rank = i + 1;
+            for (int l = 0; l < node.next.length; l++) {
+                last[l].next[l] = node;
+                last[l].span[l] = rank - lastRank[l];
+                last[l] = node;
+                lastRank[l] = rank;
+            }
+            level = Math.max(level, node.next.length);
+        }
+        // Le dernier nœud de chaque niveau enjambe les profils qui le suivent
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            last[l].span[l] = count - lastRank[l];
+        }
+        size = count;
+    }
+
+    /**
+     * Ajoute un profil.
+     *
+     * @param key Clé de classement, absente du classement
+     * @param profile Profil
+     */
+    void insert(long key, Profile profile) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node node = head;
+        for (int l = level - 1; l >= 0; l--) {
+            rank[l] = l == level - 1 ? 0 : rank[l + 1];
+            while (node.next[l] != null && node.next[l].key > key) {
+                rank[l] += node.span[l];
+                node = node.next[l];
+            }
+            update[l] = node;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int l = level; l < nodeLevel; l++) {
+                rank[l] = 0;
+                update[l] = head;
+                head.span[l] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node inserted = new Node(key, profile, nodeLevel);
+        for (int l = 0; l < nodeLevel; l++) {
+            inserted.next[l] = update[l].next[l];
+            update[l].next[l] = inserted;
+            inserted.span[l] = update[l].span[l] - (rank[0] - rank[l]);
+            update[l].span[l] = rank[0] - rank[l] + 1;
+        }
+        for (int l = nodeLevel; l < level; l++) {
+            update[l].span[l]++;
+        }
+        size++;
+    }
+
+    /**
+     * Retire un profil.
+     *
+     * @param key Clé de classement du profil
+     * @return false si la clé est absente
+     */
+    boolean remove(long key) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node node = head;
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && node.next[l].key > key) {
+                node = node.next[l];
+            }
+            update[l] = node;
+        }
+
+        Node removed = node.next[0];
+        if (removed == null || removed.key != key) {
+            return false;
+        }
+        for (int l = 0; l < level; l++) {
+            if (update[l].next[l] == removed) {
+                update[l].span[l] += removed.span[l] - 1;
+                update[l].next[l] = removed.next[l];
+            } else {
+                update[l].span[l]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * @param key Clé de classement
+     * @return La position de la clé (0 pour la plus grande), ou -1 si elle est absente
+     */
+    int rankOf(long key) {
+        int rank = 0;
+        Node node = head;
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && node.next[l].key >= key) {
+                rank += node.span[l];
+                node = node.next[l];
+            }
+            if (node != head && node.key == key) {
+                return rank - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param position Position dans le classement
+     * @return Le profil à cette position
+     * @throws IndexOutOfBoundsException si la position est hors du classement
+     */
+    Profile get(int position) {
+        return nodeAt(position).profile;
+    }
+
+    /**
+     * Lit une page du classement.
+     *
+     * @param from Première position
+     * @param count Nombre de profils au plus
+     * @return Les profils de la page (moins de {@code count} en fin de classement)
+     */
+    List<Profile> page(int from, int count) {
+        if (from < 0 || count < 0) {
+            throw new IndexOutOfBoundsException("Page invalide: " + from + ", " + count);
+        }
+        List<Profile> page = new ArrayList<>(Math.min(count, Math.max(0, size - from)));
+        if (from >= size) return page;
+
+        for (Node node = nodeAt(from); node != null && page.size() < count; node = node.next[0]) {
+            page.add(node.profile);
+        }
+        return page;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(head.next, null);
+        Arrays.fill(head.span, 0);
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * @return Une vue non modifiable du classement, qui suit ses modifications
+     */
+    List<Profile> asList() {
+        return new View();
+    }
+
+    private Node nodeAt(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Position " + position + " hors de [0, " + size + ")");
+        }
+        int target = position + 1;
+        int traversed = 0;
+        Node node = head;
+        for (int l = level - 1; l >= 0; l--) {
+            while (node.next[l] != null && traversed + node.span[l] <= target) {
+                traversed += node.span[l];
+                node = node.next[l];
+            }
+            if (traversed == target) {
+                return node;
+            }
+        }
+        throw new IllegalStateException("Classement incohérent à la position " + position);
+    }
+
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && random.nextInt(LEVEL_ODDS) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    private static final class Node {
+        final long key;
+        final Profile profile;
+        final Node[] next;
+        /** Nombre de profils enjambés par chaque lien, le suivant compris */
+        final int[] span;
+
+        Node(long key, Profile profile, int level) {
+            this.key = key;
+            this.profile = profile;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    /**
+     * Vue du classement : accès par position en O(log n), parcours en O(n).
+     */
+    private final class View extends AbstractList<Profile> {
+
+        @Override
+        public Profile get(int position) {
+            return Leaderboard.this.get(position);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Profile> iterator() {
+            return new Iterator<>() {
+                private Node node = head.next[0];
+
+                @Override
+                public boolean hasNext() {
+                    return node != null;
+                }
+
+                @Override
+                public Profile next() {
+                    if (node == null) throw new NoSuchElementException();
+                    Profile profile = node.profile;
+                    node = node.next[0];
+                    return profile;
+                }
+            };
+        }
+    }
+}
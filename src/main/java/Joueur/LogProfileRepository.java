@@ -0,0 +1,274 @@
+package Joueur;
+
+import Etat.ProfileSort;
+import Etat.SyncPolicy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stockage des profils en mémoire, adossé au journal en ajout seul ({@link ProfileStore}).
+ * <p>
+ * Tous les profils sont chargés au démarrage et indexés par nom : recherche et mise à jour
+ * sont en temps constant. Les écritures sont différées par un {@link ProfileWriter}.
+ * </p>
+ * <p>
+ * Les classements sont des {@link Leaderboard} construits à la première demande, en
+ * O(n log n), puis tenus à jour à chaque modification en O(log n) : la position d'un profil
+ * et une page du classement ne demandent plus de trier tous les profils.
+ * </p>
+ */
+final class LogProfileRepository implements ProfileRepository {
+
+    /** Profils, indexés par {@link ProfileStore#indexKey(String, String)} dans l'ordre d'ajout */
+    private final Map<String, Profile> profiles = new LinkedHashMap<>();
+    private final ProfileStore store;
+    private final ProfileWriter writer;
+
+    /** Classements construits ; vide tant qu'aucun n'a été demandé */
+    private final Map<ProfileSort, Leaderboard> leaderboards = new EnumMap<>(ProfileSort.class);
+    /** Ordre de création et clés de classement des profils, tenus dès qu'un classement existe */
+    private final Map<String, Ranking> rankings = new HashMap<>();
+    /** Numéro de création du prochain profil ajouté */
+    private int nextSequence;
+
+    /**
+     * @param file Fichier du journal
+     * @param syncPolicy Politique de synchronisation sur disque
+     * @param writeDelayMillis Délai de regroupement des écritures
+     */
+    LogProfileRepository(Path file, SyncPolicy syncPolicy, long writeDelayMillis) {
+        store = new ProfileStore(file);
+        writer = new ProfileWriter(store, syncPolicy, writeDelayMillis);
+    }
+
+    @Override
+    public boolean exists() {
+        return store.exists();
+    }
+
+    @Override
+    public void load() throws IOException {
+        writer.flush();
+        resetLeaderboards();
+        try {
+            store.load(profiles);
+        } catch (IOException e) {
+            profiles.clear();
+            throw e;
+        }
+    }
+
+    @Override
+    public void importProfiles(Collection<Profile> imported) throws IOException {
+        writer.flush();
+        resetLeaderboards();
+        profiles.clear();
+        for (Profile profile : imported) {
+            profiles.putIfAbsent(keyOf(profile), profile);
+        }
+        store.compact(profiles.values());
+    }
+
+    @Override
+    public Profile find(String firstName, String lastName) {
+        return profiles.get(ProfileStore.indexKey(firstName, lastName));
+    }
+
+    @Override
+    public boolean add(Profile profile) {
+        String key = keyOf(profile);
+        if (profiles.putIfAbsent(key, profile) != null) {
+            return false;
+        }
+        if (!leaderboards.isEmpty()) {
+            Ranking ranking = new Ranking(nextSequence++);
+            rankings.put(key, ranking);
+            for (Map.Entry<ProfileSort, Leaderboard> board : leaderboards.entrySet()) {
+                board.getValue().insert(ranking.rekey(board.getKey(), profile), profile);
+            }
+        }
+        writer.put(key, profile, profiles.size());
+        return true;
+    }
+
+    @Override
+    public boolean update(Profile profile) {
+        String key = keyOf(profile);
+        if (profiles.replace(key, profile) == null) {
+            return false;
+        }
+        Ranking ranking = rankings.get(key);
+        if (ranking != null) {
+            for (Map.Entry<ProfileSort, Leaderboard> board : leaderboards.entrySet()) {
+                Leaderboard leaderboard = board.getValue();
+                leaderboard.remove(ranking.keyOf(board.getKey()));
+                leaderboard.insert(ranking.rekey(board.getKey(), profile), profile);
+            }
+        }
+        writer.put(key, profile, profiles.size());
+        return true;
+    }
+
+    @Override
+    public boolean remove(Profile profile) {
+        String key = keyOf(profile);
+        if (profiles.remove(key) == null) {
+            return false;
+        }
+        Ranking ranking = rankings.remove(key);
+        if (ranking != null) {
+            for (Map.Entry<ProfileSort, Leaderboard> board : leaderboards.entrySet()) {
+                board.getValue().remove(ranking.keyOf(board.getKey()));
+            }
+        }
+        writer.delete(key, profile, profiles.size());
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return profiles.size();
+    }
+
+    @Override
+    public List<Profile> all() {
+        return Collections.unmodifiableList(new ArrayList<>(profiles.values()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * La liste est une vue du classement, qui suit ses modifications jusqu'au prochain
+     * rechargement : l'accès par position coûte O(log n), le parcours O(n).
+     * </p>
+     */
+    @Override
+    public List<Profile> sorted(ProfileSort sort) {
+        return leaderboard(sort).asList();
+    }
+
+    @Override
+    public int rank(Profile profile, ProfileSort sort) {
+        Leaderboard leaderboard = leaderboard(sort);
+        Ranking ranking = rankings.get(keyOf(profile));
+        return ranking == null ? -1 : leaderboard.rankOf(ranking.keyOf(sort));
+    }
+
+    @Override
+    public List<Profile> page(ProfileSort sort, int from, int count) {
+        return Collections.unmodifiableList(leaderboard(sort).page(from, count));
+    }
+
+    /**
+     * Retourne un classement, construit à la première demande.
+     */
+    private Leaderboard leaderboard(ProfileSort sort) {
+        Leaderboard leaderboard = leaderboards.get(sort);
+        if (leaderboard != null) return leaderboard;
+
+        if (leaderboards.isEmpty()) {
+            // Premier classement : numéros de création dans l'ordre de l'index
+            rankings.clear();
+            nextSequence = 0;
+            for (String key : profiles.keySet()) {
+                rankings.put(key, new Ranking(nextSequence++));
+            }
+        }
+
+        int count = profiles.size();
+        long[] keys = new long[count];
+        Profile[] bySequence = new Profile[nextSequence];
+        int i = 0;
+        for (Map.Entry<String, Profile> entry : profiles.entrySet()) {
+            Ranking ranking = rankings.get(entry.getKey());
+            keys[i++] = ranking.rekey(sort, entry.getValue());
+            bySequence[ranking.sequence] = entry.getValue();
+        }
+        Arrays.sort(keys);
+
+        // Clés croissantes, lues à l'envers ; les bits bas redonnent le numéro de création
+        long[] descending = new long[count];
+        Profile[] ranked = new Profile[count];
+        for (int j = 0; j < count; j++) {
+            descending[j] = keys[count - 1 - j];
+            ranked[j] = bySequence[~(int) descending[j]];
+        }
+
+        leaderboard = new Leaderboard();
+        leaderboard.build(descending, ranked, count);
+        leaderboards.put(sort, leaderboard);
+        return leaderboard;
+    }
+
+    private void resetLeaderboards() {
+        leaderboards.clear();
+        rankings.clear();
+        nextSequence = 0;
+    }
+
+    @Override
+    public void saveAll() {
+        // Des profils ont pu être modifiés sans passer par update : classements à reconstruire
+        resetLeaderboards();
+        writer.rewrite(profiles.values());
+    }
+
+    @Override
+    public void clear() {
+        profiles.clear();
+        resetLeaderboards();
+        writer.rewrite(profiles.values());
+    }
+
+    @Override
+    public boolean flush() {
+        return writer.flush();
+    }
+
+    private static String keyOf(Profile profile) {
+        return ProfileStore.indexKey(profile.getFirstName(), profile.getLastName());
+    }
+
+    /**
+     * Numéro de création d'un profil et ses clés dans les classements construits.
+     * <p>
+     * Un profil est modifié avant d'être enregistré : son ancienne clé, nécessaire pour le
+     * retirer d'un classement, ne peut pas être recalculée et est donc conservée ici.
+     * </p>
+     */
+    private static final class Ranking {
+        private final int sequence;
+        private final long[] keys = new long[ProfileSort.values().length];
+
+        Ranking(int sequence) {
+            this.sequence = sequence;
+        }
+
+        long keyOf(ProfileSort sort) {
+            return keys[sort.ordinal()];
+        }
+
+        /**
+         * Calcule et retient la clé d'un classement : la valeur de classement dans les 32 bits
+         * hauts, le complément du numéro de création dans les bits bas (à égalité, le plus
+         * ancien d'abord).
+         */
+        long rekey(ProfileSort sort, Profile profile) {
+            int value = ProfileRepository.sortKey(sort, profile.getGamesPlayed(), profile.getGamesWon(),
+                    profile.getTotalScore(), profile.getRating());
+            long key = ((long) value << 32) | (~sequence & 0xFFFFFFFFL);
+            keys[sort.ordinal()] = key;
+            return key;
+        }
+    }
+}
@@ -0,0 +1,861 @@
+package Joueur;
+
+import Etat.ProfileSort;
+import Etat.SyncPolicy;
+import Journal.Log;
+import Journal.Logger;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Stockage des profils dans un fichier d'enregistrements de taille fixe projeté en mémoire
+ * ({@link FileChannel#map}).
+ * <p>
+ * L'ouverture ne lit pas les profils : elle projette le fichier de données et son fichier
+ * d'index, puis vérifie leurs en-têtes. Le démarrage ne dépend donc pas du nombre de profils.
+ * Un {@link Profile} n'est construit que lorsqu'il est demandé ; tant qu'il reste utilisé,
+ * les demandes suivantes retournent la même instance.
+ * </p>
+ * <p>
+ * Le fichier d'index ({@code <fichier>.idx}) contient une table de hachage par nom (adressage
+ * ouvert) et, pour l'ordre de création et chaque {@link ProfileSort classement}, le tableau
+ * trié des numéros d'enregistrement. Une mise à jour des statistiques ne déplace un profil
+ * que de sa position à sa nouvelle position dans chaque classement. Après un arrêt brutal
+ * (fichier marqué « ouvert » au démarrage), l'index est reconstruit à partir des données.
+ * </p>
+ * <p>
+ * La cote occupe la fin d'un enregistrement, restée à zéro dans les fichiers écrits avant
+ * son ajout : un écart type nul y désigne un profil jamais classé.
+ * </p>
+ * <p>
+ * Les pages modifiées sont écrites par le système ; elles sont forcées sur le disque à chaque
+ * modification avec {@link SyncPolicy#EACH}, sinon par {@link #flush()} et à la fermeture.
+ * </p>
+ */
+final class MappedProfileRepository implements ProfileRepository {
+
+    private static final Logger LOG = Log.getLogger(MappedProfileRepository.class);
+
+    // ===== FICHIER DE DONNÉES =====
+
+    /** "BMPD" */
+    private static final int DATA_MAGIC = 0x424D5044;
+    private static final int VERSION = 1;
+    private static final int DATA_HEADER = 64;
+    private static final int H_RECORD_COUNT = 8;
+    private static final int H_LIVE_COUNT = 12;
+    private static final int H_CLEAN = 16;
+
+    private static final int RECORD_SIZE = 96;
+    private static final int R_STATUS = 0;
+    private static final int R_FIRST_NAME = 1;
+    private static final int R_LAST_NAME = 32;
+    private static final int R_COLOR = 63;
+    private static final int R_PLAYED = 76;
+    private static final int R_WON = 80;
+    private static final int R_SCORE = 84;
+    /** Cote (float) */
+    private static final int R_RATING = 88;
+    /** Écart type en centièmes, sur 16 bits non signés ; nul pour un profil jamais classé */
+    private static final int R_DEVIATION = 92;
+    /** Volatilité en cent-millièmes, sur 16 bits non signés */
+    private static final int R_VOLATILITY = 94;
+    private static final double DEVIATION_UNIT = 100;
+    private static final double VOLATILITY_UNIT = 100_000;
+    private static final int NAME_MAX_BYTES = 30;
+    private static final int COLOR_MAX_BYTES = 12;
+
+    private static final byte DELETED = 0;
+    private static final byte LIVE = 1;
+
+    // ===== FICHIER D'INDEX (en entiers) =====
+
+    /** "BMPI" */
+    private static final int INDEX_MAGIC = 0x424D5049;
+    private static final int INDEX_HEADER = 8;
+    private static final int I_HASH_CAPACITY = 2;
+    private static final int I_ORDER_CAPACITY = 3;
+    private static final int I_LIVE_COUNT = 4;
+    private static final int I_TOMBSTONES = 5;
+    private static final int I_RECORD_COUNT = 6;
+
+    /** Case de hachage vide ; une case occupée contient le numéro d'enregistrement + 1 */
+    private static final int EMPTY = 0;
+    private static final int TOMBSTONE = -1;
+
+    /** Ordre 0 : création ; ordres suivants : classements, dans l'ordre de {@link ProfileSort} */
+    private static final ProfileSort[] SORTS = ProfileSort.values();
+    private static final int ORDER_COUNT = SORTS.length + 1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MOVE_CHUNK = 4096;
+
+    private final Path file;
+    private final Path indexFile;
+    private final SyncPolicy syncPolicy;
+
+    private FileChannel dataChannel;
+    private FileChannel indexChannel;
+    private MappedByteBuffer data;
+    private MappedByteBuffer indexBuffer;
+    private IntBuffer index;
+    private int recordCapacity;
+    private int hashCapacity;
+    private int orderCapacity;
+
+    /** Profils construits et encore utilisés, par numéro d'enregistrement */
+    private final Map<Integer, ProfileRef> materialized = new HashMap<>();
+    private final ReferenceQueue<Profile> collected = new ReferenceQueue<>();
+    private final int[] moveBuffer = new int[MOVE_CHUNK];
+
+    /**
+     * @param file Fichier des données ; l'index est écrit à côté
+     * @param syncPolicy Politique de synchronisation sur disque
+     */
+    MappedProfileRepository(Path file, SyncPolicy syncPolicy) {
+        this.file = file;
+        this.indexFile = file.resolveSibling(file.getFileName() + ".idx");
+        this.syncPolicy = syncPolicy;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "bomberman-profile-close"));
+    }
+
+    // ===== OUVERTURE =====
+
+    @Override
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Si le fichier est illisible, il n'est pas modifié : le stockage reste fermé et vide, et
+     * les ajouts sont refusés.
+     * </p>
+     */
+    @Override
+    public synchronized void load() throws IOException {
+        close();
+        materialized.clear();
+        try {
+            open();
+        } catch (IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    private void open() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        dataChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        boolean created = dataChannel.size() == 0;
+        if (created) {
+            mapData(INITIAL_CAPACITY);
+            data.putInt(0, DATA_MAGIC);
+            data.putInt(4, VERSION);
+        } else {
+            if (dataChannel.size() < DATA_HEADER) {
+                throw new IOException("Fichier de profils tronqué: " + file);
+            }
+            mapData((int) ((dataChannel.size() - DATA_HEADER) / RECORD_SIZE));
+            if (data.getInt(0) != DATA_MAGIC) {
+                throw new IOException("Fichier de profils non reconnu: " + file);
+            }
+            if (data.getInt(4) != VERSION) {
+                throw new IOException("Version de fichier de profils non supportée: " + data.getInt(4));
+            }
+        }
+
+        boolean wasClean = created || data.get(H_CLEAN) == 1;
+        data.put(H_CLEAN, (byte) 0);
+        data.force();
+
+        indexChannel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (!wasClean || !openIndex()) {
+            if (!created) {
+                LOG.warn("⚠️ Index des profils absent ou incohérent, reconstruction");
+            }
+            rebuildIndex(liveCount());
+        }
+        LOG.debug("📂 Fichier de profils projeté: {} profils", liveCount());
+    }
+
+    /**
+     * Projette l'index existant s'il correspond aux données.
+     */
+    private boolean openIndex() throws IOException {
+        long size = indexChannel.size();
+        if (size < INDEX_HEADER * Integer.BYTES) return false;
+
+        MappedByteBuffer header = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, INDEX_HEADER * Integer.BYTES);
+        if (header.getInt(0) != INDEX_MAGIC || header.getInt(4) != VERSION) return false;
+
+        int hashCap = header.getInt(I_HASH_CAPACITY * Integer.BYTES);
+        int orderCap = header.getInt(I_ORDER_CAPACITY * Integer.BYTES);
+        if (header.getInt(I_LIVE_COUNT * Integer.BYTES) != liveCount()
+                || header.getInt(I_RECORD_COUNT * Integer.BYTES) != recordCount()
+                || Integer.bitCount(hashCap) != 1 || orderCap < liveCount()
+                || size < indexSize(hashCap, orderCap)) {
+            return false;
+        }
+
+        mapIndex(hashCap, orderCap);
+        return true;
+    }
+
+    private void mapData(int capacity) throws IOException {
+        data = dataChannel.map(FileChannel.MapMode.READ_WRITE, 0, DATA_HEADER + (long) capacity * RECORD_SIZE);
+        recordCapacity = capacity;
+    }
+
+    private void mapIndex(int hashCap, int orderCap) throws IOException {
+        indexBuffer = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexSize(hashCap, orderCap));
+        index = indexBuffer.asIntBuffer();
+        hashCapacity = hashCap;
+        orderCapacity = orderCap;
+    }
+
+    private static long indexSize(int hashCap, int orderCap) {
+        return ((long) INDEX_HEADER + hashCap + (long) ORDER_COUNT * orderCap) * Integer.BYTES;
+    }
+
+    /**
+     * Reconstruit l'index à partir des enregistrements, avec la place pour {@code liveTarget} profils.
+     */
+    private void rebuildIndex(int liveTarget) throws IOException {
+        int orderCap = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, liveTarget)) << 1);
+        mapIndex(orderCap << 1, orderCap);
+
+        index.put(0, INDEX_MAGIC);
+        index.put(1, VERSION);
+        index.put(I_HASH_CAPACITY, hashCapacity);
+        index.put(I_ORDER_CAPACITY, orderCapacity);
+        index.put(I_TOMBSTONES, 0);
+        index.put(I_RECORD_COUNT, recordCount());
+        Arrays.fill(moveBuffer, EMPTY);
+        for (int slot = 0; slot < hashCapacity; slot += MOVE_CHUNK) {
+            index.put(INDEX_HEADER + slot, moveBuffer, 0, Math.min(MOVE_CHUNK, hashCapacity - slot));
+        }
+
+        int[] records = new int[liveCount()];
+        int live = 0;
+        for (int record = 0, count = recordCount(); record < count; record++) {
+            if (data.get(recordOffset(record) + R_STATUS) != LIVE) continue;
+            if (live == records.length) {
+                records = Arrays.copyOf(records, live * 2 + 1);
+            }
+            records[live++] = record;
+            insertHash(recordKey(record), record);
+        }
+        if (live != liveCount()) {
+            data.putInt(H_LIVE_COUNT, live);
+        }
+        index.put(I_LIVE_COUNT, live);
+
+        index.put(orderBase(0), records, 0, live);
+        long[] composites = new long[live];
+        for (int order = 1; order < ORDER_COUNT; order++) {
+            for (int i = 0; i < live; i++) {
+                composites[i] = composite(order, records[i]);
+            }
+            Arrays.sort(composites);
+            int base = orderBase(order);
+            for (int i = 0; i < live; i++) {
+                index.put(base + i, ~(int) composites[i]);
+            }
+        }
+        indexBuffer.force();
+    }
+
+    /**
+     * Force les données sur le disque et marque le fichier comme fermé proprement.
+     */
+    synchronized void close() {
+        if (data != null) {
+            if (indexBuffer != null) {
+                indexBuffer.force();
+            }
+            data.put(H_CLEAN, (byte) 1);
+            data.force();
+        }
+        release();
+    }
+
+    /**
+     * Ferme les fichiers sans rien y écrire.
+     */
+    private void release() {
+        try {
+            if (dataChannel != null) dataChannel.close();
+            if (indexChannel != null) indexChannel.close();
+        } catch (IOException e) {
+            LOG.error("❌ Erreur lors de la fermeture du fichier de profils", e);
+        } finally {
+            data = null;
+            indexBuffer = null;
+            index = null;
+            dataChannel = null;
+            indexChannel = null;
+        }
+    }
+
+    // ===== CONSULTATION =====
+
+    @Override
+    public synchronized Profile find(String firstName, String lastName) {
+        int record = findRecord(ProfileStore.indexKey(firstName, lastName));
+        return record < 0 ? null : materialize(record);
+    }
+
+    @Override
+    public synchronized int size() {
+        return data == null ? 0 : liveCount();
+    }
+
+    @Override
+    public List<Profile> all() {
+        return new OrderView(0);
+    }
+
+    @Override
+    public List<Profile> sorted(ProfileSort sort) {
+        return new OrderView(sort.ordinal() + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Recherche dichotomique dans l'ordre trié de l'index, en O(log n).
+     * </p>
+     */
+    @Override
+    public synchronized int rank(Profile profile, ProfileSort sort) {
+        int record = findRecord(keyOf(profile));
+        if (record < 0) return -1;
+
+        int order = sort.ordinal() + 1;
+        int live = liveCount();
+        // Les classements sont stockés par clé croissante
+        return live - 1 - lowerBound(order, composite(order, record), 0, live);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Les noms sont lus directement dans les enregistrements : seuls les profils trouvés
+     * sont construits.
+     * </p>
+     */
+    @Override
+    public synchronized List<Profile> search(String query, ProfileSort sort, int limit) {
+        String needle = query.trim().toLowerCase(Locale.ROOT);
+        List<Profile> found = new ArrayList<>(Math.min(limit, 64));
+        int order = sort == null ? 0 : sort.ordinal() + 1;
+        int live = size();
+        for (int position = 0; position < live && found.size() < limit; position++) {
+            int record = recordAt(order, position, live);
+            int offset = recordOffset(record);
+            String fullName = readString(offset + R_FIRST_NAME) + " " + readString(offset + R_LAST_NAME);
+            if (fullName.toLowerCase(Locale.ROOT).contains(needle)) {
+                found.add(materialize(record));
+            }
+        }
+        return Collections.unmodifiableList(found);
+    }
+
+    /**
+     * @param order Ordre de l'index (0 : création, puis un par classement)
+     * @param position Position dans l'ordre, le premier profil affiché en 0
+     * @param live Nombre de profils
+     * @return L'enregistrement à cette position
+     */
+    private int recordAt(int order, int position, int live) {
+        // Les classements sont stockés par clé croissante
+        int stored = order == 0 ? position : live - 1 - position;
+        return index.get(orderBase(order) + stored);
+    }
+
+    /**
+     * Construit le profil d'un enregistrement, ou retourne celui déjà construit.
+     */
+    private Profile materialize(int record) {
+        expungeCollected();
+        ProfileRef ref = materialized.get(record);
+        Profile profile = ref == null ? null : ref.get();
+        if (profile != null) return profile;
+
+        int offset = recordOffset(record);
+        profile = new Profile(readString(offset + R_FIRST_NAME), readString(offset + R_LAST_NAME),
+                readString(offset + R_COLOR), data.getInt(offset + R_PLAYED), data.getInt(offset + R_WON),
+                data.getInt(offset + R_SCORE));
+        int deviation = Short.toUnsignedInt(data.getShort(offset + R_DEVIATION));
+        if (deviation != 0) {
+            profile.setRating(data.getFloat(offset + R_RATING), deviation / DEVIATION_UNIT,
+                    Short.toUnsignedInt(data.getShort(offset + R_VOLATILITY)) / VOLATILITY_UNIT);
+        }
+        materialized.put(record, new ProfileRef(profile, record, collected));
+        return profile;
+    }
+
+    private void expungeCollected() {
+        ProfileRef ref;
+        while ((ref = (ProfileRef) collected.poll()) != null) {
+            materialized.remove(ref.record, ref);
+        }
+    }
+
+    // ===== MODIFICATIONS =====
+
+    @Override
+    public synchronized boolean add(Profile profile) {
+        checkOpen();
+        checkLengths(profile);
+        if (findRecord(keyOf(profile)) >= 0) {
+            return false;
+        }
+
+        try {
+            ensureCapacity(liveCount() + 1);
+        } catch (IOException e) {
+            throw new IllegalStateException("Impossible d'agrandir le fichier de profils", e);
+        }
+
+        int record = recordCount();
+        writeRecord(record, profile);
+        data.putInt(H_RECORD_COUNT, record + 1);
+        index.put(I_RECORD_COUNT, record + 1);
+        insertHash(keyOf(profile), record);
+        for (int order = 0; order < ORDER_COUNT; order++) {
+            insertOrdered(order, record);
+        }
+        setLiveCount(liveCount() + 1);
+        materialized.put(record, new ProfileRef(profile, record, collected));
+        afterWrite();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean update(Profile profile) {
+        checkLengths(profile);
+        int record = findRecord(keyOf(profile));
+        if (record < 0) {
+            return false;
+        }
+
+        int[] positions = new int[ORDER_COUNT];
+        long[] before = new long[ORDER_COUNT];
+        for (int order = 1; order < ORDER_COUNT; order++) {
+            before[order] = composite(order, record);
+            positions[order] = lowerBound(order, before[order], 0, liveCount());
+        }
+
+        int offset = recordOffset(record);
+        writeString(offset + R_COLOR, profile.getColorName(), COLOR_MAX_BYTES);
+        data.putInt(offset + R_PLAYED, profile.getGamesPlayed());
+        data.putInt(offset + R_WON, profile.getGamesWon());
+        data.putInt(offset + R_SCORE, profile.getTotalScore());
+        writeRating(offset, profile);
+
+        for (int order = 1; order < ORDER_COUNT; order++) {
+            reposition(order, record, positions[order], before[order]);
+        }
+
+        ProfileRef ref = materialized.get(record);
+        if (ref == null || ref.get() != profile) {
+            materialized.put(record, new ProfileRef(profile, record, collected));
+        }
+        afterWrite();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Profile profile) {
+        String key = keyOf(profile);
+        int record = findRecord(key);
+        if (record < 0) {
+            return false;
+        }
+
+        int live = liveCount();
+        for (int order = 0; order < ORDER_COUNT; order++) {
+            int position = lowerBound(order, composite(order, record), 0, live);
+            moveInts(orderBase(order) + position + 1, orderBase(order) + position, live - position - 1);
+        }
+        removeHash(key, record);
+        data.put(recordOffset(record) + R_STATUS, DELETED);
+        setLiveCount(live - 1);
+        materialized.remove(record);
+        afterWrite();
+        return true;
+    }
+
+    @Override
+    public synchronized void importProfiles(Collection<Profile> profiles) throws IOException {
+        resetContent();
+        if (profiles.size() > recordCapacity) {
+            mapData(profiles.size());
+        }
+
+        // Les enregistrements sont écrits d'abord, l'index est construit une seule fois ensuite
+        Map<String, Boolean> seen = new HashMap<>();
+        int record = 0;
+        for (Profile profile : profiles) {
+            if (seen.putIfAbsent(keyOf(profile), Boolean.TRUE) != null) continue;
+            checkLengths(profile);
+            if (record == recordCapacity) {
+                mapData(recordCapacity * 2);
+            }
+            writeRecord(record++, profile);
+        }
+        data.putInt(H_RECORD_COUNT, record);
+        data.putInt(H_LIVE_COUNT, record);
+        rebuildIndex(record);
+        data.force();
+    }
+
+    @Override
+    public synchronized void saveAll() {
+        expungeCollected();
+        List<Profile> inUse = new ArrayList<>();
+        for (ProfileRef ref : materialized.values()) {
+            Profile profile = ref.get();
+            if (profile != null) inUse.add(profile);
+        }
+        for (Profile profile : inUse) {
+            update(profile);
+        }
+        flush();
+    }
+
+    @Override
+    public synchronized void clear() {
+        if (data == null) return;
+        try {
+            resetContent();
+            rebuildIndex(0);
+            afterWrite();
+        } catch (IOException e) {
+            LOG.error("❌ Erreur lors de la suppression des profils", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean flush() {
+        if (data == null) return true;
+        data.force();
+        indexBuffer.force();
+        return true;
+    }
+
+    private void resetContent() {
+        materialized.clear();
+        data.putInt(H_RECORD_COUNT, 0);
+        data.putInt(H_LIVE_COUNT, 0);
+    }
+
+    private void afterWrite() {
+        if (syncPolicy == SyncPolicy.EACH) {
+            flush();
+        }
+    }
+
+    /**
+     * Agrandit les fichiers pour accueillir un enregistrement de plus et {@code liveTarget} profils.
+     */
+    private void ensureCapacity(int liveTarget) throws IOException {
+        if (recordCount() >= recordCapacity) {
+            mapData(Math.max(INITIAL_CAPACITY, recordCapacity * 2));
+        }
+        if (liveTarget > orderCapacity || (liveTarget + index.get(I_TOMBSTONES)) * 2L > hashCapacity) {
+            rebuildIndex(liveTarget);
+        }
+    }
+
+    private void checkOpen() {
+        if (data == null) {
+            throw new IllegalStateException("Fichier de profils non ouvert: " + file);
+        }
+    }
+
+    private void checkLengths(Profile profile) {
+        checkLength(profile.getFirstName(), NAME_MAX_BYTES);
+        checkLength(profile.getLastName(), NAME_MAX_BYTES);
+        checkLength(profile.getColorName(), COLOR_MAX_BYTES);
+    }
+
+    private static void checkLength(String value, int maxBytes) {
+        if (value.getBytes(StandardCharsets.UTF_8).length > maxBytes) {
+            throw new IllegalArgumentException("Champ de profil trop long (" + maxBytes + " octets au plus): " + value);
+        }
+    }
+
+    // ===== ENREGISTREMENTS =====
+
+    private int recordCount() {
+        return data.getInt(H_RECORD_COUNT);
+    }
+
+    private int liveCount() {
+        return data.getInt(H_LIVE_COUNT);
+    }
+
+    private void setLiveCount(int live) {
+        data.putInt(H_LIVE_COUNT, live);
+        index.put(I_LIVE_COUNT, live);
+    }
+
+    private static int recordOffset(int record) {
+        return DATA_HEADER + record * RECORD_SIZE;
+    }
+
+    private void writeRecord(int record, Profile profile) {
+        int offset = recordOffset(record);
+        data.put(offset + R_STATUS, LIVE);
+        writeString(offset + R_FIRST_NAME, profile.getFirstName(), NAME_MAX_BYTES);
+        writeString(offset + R_LAST_NAME, profile.getLastName(), NAME_MAX_BYTES);
+        writeString(offset + R_COLOR, profile.getColorName(), COLOR_MAX_BYTES);
+        data.putInt(offset + R_PLAYED, profile.getGamesPlayed());
+        data.putInt(offset + R_WON, profile.getGamesWon());
+        data.putInt(offset + R_SCORE, profile.getTotalScore());
+        writeRating(offset, profile);
+    }
+
+    private void writeRating(int offset, Profile profile) {
+        data.putFloat(offset + R_RATING, (float) profile.getRating());
+        data.putShort(offset + R_DEVIATION, (short) quantize(profile.getRatingDeviation(), DEVIATION_UNIT, 1));
+        data.putShort(offset + R_VOLATILITY, (short) quantize(profile.getVolatility(), VOLATILITY_UNIT, 0));
+    }
+
+    private static int quantize(double value, double unit, int min) {
+        return (int) Math.max(min, Math.min(0xFFFF, Math.round(value * unit)));
+    }
+
+    /**
+     * @return La cote d'un enregistrement (celle d'un nouveau joueur s'il n'a jamais été classé)
+     */
+    private double readRating(int offset) {
+        return data.getShort(offset + R_DEVIATION) == 0 ? SkillRating.DEFAULT_RATING : data.getFloat(offset + R_RATING);
+    }
+
+    private void writeString(int offset, String value, int maxBytes) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxBytes) {
+            throw new IllegalArgumentException("Champ de profil trop long: " + value);
+        }
+        data.put(offset, (byte) bytes.length);
+        data.put(offset + 1, bytes);
+    }
+
+    private String readString(int offset) {
+        byte[] bytes = new byte[Byte.toUnsignedInt(data.get(offset))];
+        data.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String recordKey(int record) {
+        int offset = recordOffset(record);
+        return ProfileStore.indexKey(readString(offset + R_FIRST_NAME), readString(offset + R_LAST_NAME));
+    }
+
+    private static String keyOf(Profile profile) {
+        return ProfileStore.indexKey(profile.getFirstName(), profile.getLastName());
+    }
+
+    // ===== TABLE DE HACHAGE =====
+
+    private int findRecord(String key) {
+        if (data == null) return -1;
+
+        int mask = hashCapacity - 1;
+        for (int slot = spread(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int value = index.get(INDEX_HEADER + slot);
+            if (value == EMPTY) return -1;
+            if (value != TOMBSTONE && recordKey(value - 1).equals(key)) return value - 1;
+        }
+    }
+
+    private void insertHash(String key, int record) {
+        int mask = hashCapacity - 1;
+        for (int slot = spread(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int value = index.get(INDEX_HEADER + slot);
+            if (value == EMPTY || value == TOMBSTONE) {
+                if (value == TOMBSTONE) {
+                    index.put(I_TOMBSTONES, index.get(I_TOMBSTONES) - 1);
+                }
+                index.put(INDEX_HEADER + slot, record + 1);
+                return;
+            }
+        }
+    }
+
+    private void removeHash(String key, int record) {
+        int mask = hashCapacity - 1;
+        for (int slot = spread(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int value = index.get(INDEX_HEADER + slot);
+            if (value == EMPTY) return;
+            if (value == record + 1) {
+                index.put(INDEX_HEADER + slot, TOMBSTONE);
+                index.put(I_TOMBSTONES, index.get(I_TOMBSTONES) + 1);
+                return;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // ===== ORDRES TRIÉS =====
+
+    private int orderBase(int order) {
+        return INDEX_HEADER + hashCapacity + order * orderCapacity;
+    }
+
+    /**
+     * Clé de tri unique d'un enregistrement dans un ordre, croissante dans le tableau.
+     * <p>
+     * Ordre de création : le numéro d'enregistrement. Classements : la valeur de classement
+     * dans les 32 bits hauts et le complément du numéro dans les bits bas, pour que le
+     * tableau lu à l'envers donne les meilleurs profils d'abord, les plus anciens en premier
+     * à égalité.
+     * </p>
+     */
+    private long composite(int order, int record) {
+        if (order == 0) return record;
+
+        int offset = recordOffset(record);
+        int key = ProfileRepository.sortKey(SORTS[order - 1], data.getInt(offset + R_PLAYED),
+                data.getInt(offset + R_WON), data.getInt(offset + R_SCORE), readRating(offset));
+        return ((long) key << 32) | (~record & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Première position de [from, to) dont la clé est supérieure ou égale à {@code target}.
+     */
+    private int lowerBound(int order, long target, int from, int to) {
+        int base = orderBase(order);
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (composite(order, index.get(base + middle)) < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void insertOrdered(int order, int record) {
+        int live = liveCount();
+        int position = lowerBound(order, composite(order, record), 0, live);
+        int base = orderBase(order);
+        moveInts(base + position, base + position + 1, live - position);
+        index.put(base + position, record);
+    }
+
+    /**
+     * Replace un enregistrement dont la clé a changé, en ne décalant que les profils
+     * compris entre son ancienne et sa nouvelle position.
+     */
+    private void reposition(int order, int record, int position, long before) {
+        long after = composite(order, record);
+        int base = orderBase(order);
+
+        if (after > before) {
+            int target = lowerBound(order, after, position + 1, liveCount()) - 1;
+            moveInts(base + position + 1, base + position, target - position);
+            index.put(base + target, record);
+        } else if (after < before) {
+            int target = lowerBound(order, after, 0, position);
+            moveInts(base + target, base + target + 1, position - target);
+            index.put(base + target, record);
+        }
+    }
+
+    /**
+     * Déplace {@code count} entiers de l'index ; les zones peuvent se chevaucher.
+     */
+    private void moveInts(int from, int to, int count) {
+        if (count <= 0 || from == to) return;
+
+        if (to < from) {
+            for (int done = 0; done < count; done += MOVE_CHUNK) {
+                int length = Math.min(MOVE_CHUNK, count - done);
+                index.get(from + done, moveBuffer, 0, length);
+                index.put(to + done, moveBuffer, 0, length);
+            }
+        } else {
+            for (int remaining = count; remaining > 0; remaining -= MOVE_CHUNK) {
+                int length = Math.min(MOVE_CHUNK, remaining);
+                int start = remaining - length;
+                index.get(from + start, moveBuffer, 0, length);
+                index.put(to + start, moveBuffer, 0, length);
+            }
+        }
+    }
+
+    /**
+     * Vue d'un ordre de l'index : les profils ne sont construits qu'à la lecture.
+     */
+    private final class OrderView extends AbstractList<Profile> implements RandomAccess {
+        private final int order;
+
+        OrderView(int order) {
+            this.order = order;
+        }
+
+        @Override
+        public Profile get(int position) {
+            synchronized (MappedProfileRepository.this) {
+                int live = size();
+                if (position < 0 || position >= live) {
+                    throw new IndexOutOfBoundsException("Position " + position + " hors de [0, " + live + ")");
+                }
+                return materialize(recordAt(order, position, live));
+            }
+        }
+
+        @Override
+        public int size() {
+            return MappedProfileRepository.this.size();
+        }
+    }
+
+    /**
+     * Référence faible vers un profil construit, qui connaît son enregistrement.
+     */
+    private static final class ProfileRef extends WeakReference<Profile> {
+        final int record;
+
+        ProfileRef(Profile profile, int record, ReferenceQueue<Profile> queue) {
+            super(profile, queue);
+            this.record = record;
+        }
+    }
+}
@@ -6,7 +6,8 @@ import javafx.scene.paint.Color;
  * La classe Profile représente un profil de joueur dans le jeu Bomberman.
  * <p>
  * Cette classe gère les informations personnelles du joueur (nom, prénom, couleur préférée) 
- * ainsi que ses statistiques de jeu (parties jouées, victoires, score total).
+ * ainsi que ses statistiques de jeu (parties jouées, victoires, score total) et sa cote
+ * Glicko-2 ({@link SkillRating}).
  * Les profils sont utilisés pour identifier les joueurs et suivre leurs performances
  * au fil du temps.
  * </p>
@@ -52,6 +53,21 @@ public class Profile {
      */
     private int totalScore;
 
+    /**
+     * La cote Glicko-2 du joueur, sur l'échelle habituelle (1500 pour un nouveau joueur).
+     */
+    private double rating = SkillRating.DEFAULT_RATING;
+
+    /**
+     * L'écart type de la cote : grand tant que le joueur a peu joué.
+     */
+    private double ratingDeviation = SkillRating.DEFAULT_DEVIATION;
+
+    /**
+     * La volatilité de la cote : l'ampleur attendue de ses variations.
+     */
+    private double volatility = SkillRating.DEFAULT_VOLATILITY;
+
     /**
      * Constructeur principal pour créer un nouveau profil de joueur.
      * <p>
@@ -296,6 +312,49 @@ public class Profile {
         this.totalScore = totalScore;
     }
 
+    /**
+     * Récupère la cote Glicko-2 du joueur.
+     *
+     * @return  La cote (1500 pour un joueur qui n'a jamais été classé)
+     */
+    public double getRating() {
+        return rating;
+    }
+
+    /**
+     * Récupère l'écart type de la cote du joueur.
+     *
+     * @return  L'écart type, sur l'échelle de la cote
+     */
+    public double getRatingDeviation() {
+        return ratingDeviation;
+    }
+
+    /**
+     * Récupère la volatilité de la cote du joueur.
+     *
+     * @return  La volatilité
+     */
+    public double getVolatility() {
+        return volatility;
+    }
+
+    /**
+     * Modifie la cote du joueur.
+     * <p>
+     * Utilisé par {@link SkillRating} après une partie et lors du chargement des profils.
+     * </p>
+     *
+     * @param rating           La nouvelle cote
+     * @param ratingDeviation  Le nouvel écart type
+     * @param volatility       La nouvelle volatilité
+     */
+    public void setRating(double rating, double ratingDeviation, double volatility) {
+        this.rating = rating;
+        this.ratingDeviation = ratingDeviation;
+        this.volatility = volatility;
+    }
+
     /**
      * Retourne une représentation textuelle du profil.
      * <p>
@@ -1,6 +1,8 @@
 package Joueur;
 
+import Etat.ProfileSort;
 import bombermanMain.BombermanApplication;
+import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -15,6 +17,7 @@ import javafx.stage.Stage;
 import javafx.animation.Timeline;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
+import javafx.animation.PauseTransition;
 import javafx.util.Duration;
 
 import java.util.List;
@@ -42,6 +45,27 @@ import java.util.Optional;
  */
 public class ProfileInterface {
 
+    /**
+     * Nombre maximal de profils retenus par une recherche.
+     */
+    private static final int SEARCH_LIMIT = 200;
+
+    /**
+     * Délai entre la dernière frappe dans un champ de recherche et la recherche, en millisecondes.
+     */
+    private static final double SEARCH_DELAY_MILLIS = 250;
+
+    /**
+     * Hauteur d'une ligne de la liste des profils existants : fixe, la liste n'a pas à mesurer
+     * chaque profil pour calculer sa barre de défilement.
+     */
+    private static final double PROFILE_CELL_HEIGHT = 100;
+
+    /**
+     * Hauteur d'une ligne de la liste de sélection d'un profil.
+     */
+    private static final double SELECTION_CELL_HEIGHT = 26;
+
     /**
      * Référence à l'application principale Bomberman.
      */
@@ -229,16 +253,19 @@ public class ProfileInterface {
 
     /**
      * Affiche la page des profils existants.
-     * Cette page liste tous les profils enregistrés et permet de les sélectionner ou de les supprimer.
+     * Cette page liste les profils enregistrés et permet de les rechercher, de les classer,
+     * de les sélectionner ou de les supprimer.
      * Si aucun profil n'existe, un message d'alerte est affiché et l'utilisateur est redirigé vers
      * la page principale des profils.
+     *
+     * <p>La liste est virtualisée : elle est branchée directement sur le stockage des profils et
+     * ne construit que les lignes visibles, réutilisées pendant le défilement. Le temps
+     * d'ouverture et la mémoire utilisée ne dépendent pas du nombre de profils.
      */
     public void showExistingProfilesPage() {
         stopAnimations();
 
-        List<Profile> profiles = profileManager.getAllProfiles();
-
-        if (profiles.isEmpty()) {
+        if (profileManager.getProfileCount() == 0) {
             showAlert("AUCUN PROFIL", "Aucun profil n'a été créé.\nVeuillez d'abord créer un profil.", Alert.AlertType.INFORMATION);
             showProfileMainPage();
             return;
@@ -255,7 +282,7 @@ public class ProfileInterface {
         );
         root.setBackground(new Background(new BackgroundFill(backgroundGradient, null, null)));
 
-        VBox mainContainer = new VBox(30);
+        VBox mainContainer = new VBox(20);
         mainContainer.setAlignment(Pos.CENTER);
         mainContainer.setPadding(new Insets(30));
 
@@ -265,28 +292,51 @@ public class ProfileInterface {
         titleLabel.setTextFill(Color.WHITE);
         titleLabel.setStyle("-fx-effect: dropshadow(gaussian, black, 5, 0, 3, 3);");
 
-        // Liste des profils dans un ScrollPane
-        ScrollPane scrollPane = new ScrollPane();
-        scrollPane.setMaxWidth(800);
-        scrollPane.setMaxHeight(400);
-        scrollPane.setStyle("-fx-background-color: transparent; -fx-border-color: white; -fx-border-width: 2;");
-
-        VBox profilesList = new VBox(15);
-        profilesList.setAlignment(Pos.CENTER);
-        profilesList.setPadding(new Insets(20));
-
-        for (Profile profile : profiles) {
-            HBox profileBox = createProfileBox(profile);
-            profilesList.getChildren().add(profileBox);
+        // Recherche et classement, appliqués par le stockage des profils
+        TextField searchField = createRetroTextField("Rechercher un nom...");
+        ComboBox<String> sortBox = new ComboBox<>();
+        sortBox.getItems().add("Ordre de création");
+        for (ProfileSort sort : ProfileSort.values()) {
+            sortBox.getItems().add(sort.getDisplayName());
         }
-
-        scrollPane.setContent(profilesList);
+        sortBox.getSelectionModel().selectFirst();
+        styleRetroComboBox(sortBox);
+
+        HBox controls = new HBox(20, searchField, sortBox);
+        controls.setAlignment(Pos.CENTER);
+
+        Label countLabel = createRetroLabel("");
+
+        // Liste virtualisée des profils
+        ListView<Profile> profilesList = new ListView<>();
+        profilesList.setMaxWidth(800);
+        profilesList.setMaxHeight(400);
+        profilesList.setFixedCellSize(PROFILE_CELL_HEIGHT);
+        profilesList.setStyle("-fx-background-color: transparent; -fx-control-inner-background: transparent; " +
+                "-fx-border-color: white; -fx-border-width: 2;");
+
+        Runnable refresh = () -> {
+            int shown = showProfiles(profilesList, searchField.getText(), selectedSort(sortBox));
+            countLabel.setText(searchField.getText().isBlank()
+                    ? shown + " profils"
+                    : (shown == SEARCH_LIMIT ? "Les " + shown + " premiers résultats" : shown + " profils trouvés"));
+        };
+        profilesList.setCellFactory(list -> new ProfileCell(() -> {
+            if (profileManager.getProfileCount() == 0) {
+                showExistingProfilesPage();
+            } else {
+                refresh.run();
+            }
+        }));
+        bindSearch(searchField, refresh);
+        sortBox.setOnAction(e -> refresh.run());
+        refresh.run();
 
         // Bouton retour
         Button backButton = createRetroButton("🔙 RETOUR", Color.web("#AA0000"));
         backButton.setOnAction(e -> showProfileMainPage());
 
-        mainContainer.getChildren().addAll(titleLabel, scrollPane, backButton);
+        mainContainer.getChildren().addAll(titleLabel, controls, countLabel, profilesList, backButton);
         root.getChildren().add(mainContainer);
 
         Scene existingScene = new Scene(root);
@@ -297,70 +347,141 @@ public class ProfileInterface {
     }
 
     /**
-     * Crée une boîte d'affichage pour un profil spécifique.
-     * Cette boîte contient les informations du profil (nom, couleur, statistiques) 
-     * et des boutons pour sélectionner ou supprimer le profil.
+     * Remplit une liste avec les profils du stockage.
+     * Sans recherche, la liste est une vue de l'ordre demandé, sans copie : seules les lignes
+     * visibles lisent leur profil. Une recherche est faite par le stockage et limitée à
+     * {@link #SEARCH_LIMIT} résultats.
      *
-     * @param profile le profil à afficher
-     * @return un conteneur HBox contenant les informations et actions disponibles pour le profil
+     * @param list la liste à remplir
+     * @param query le texte recherché dans les noms (vide pour tous les profils)
+     * @param sort le classement, ou null pour l'ordre de création
+     * @return le nombre de profils affichés
      */
-    private HBox createProfileBox(Profile profile) {
-        HBox profileBox = new HBox(20);
-        profileBox.setAlignment(Pos.CENTER_LEFT);
-        profileBox.setPadding(new Insets(15));
-        profileBox.setMaxWidth(750);
-        profileBox.setStyle("-fx-background-color: rgba(0,0,0,0.6); -fx-border-color: " +
-                getColorCode(profile.getColor()) + "; -fx-border-width: 2;");
-
-        // Informations du profil
-        VBox infoBox = new VBox(5);
-        infoBox.setAlignment(Pos.CENTER_LEFT);
-
-        Label nameLabel = new Label(profile.getFullName());
-        nameLabel.setFont(Font.font("Monospace", FontWeight.BOLD, 18));
-        nameLabel.setTextFill(profile.getColor());
-
-        Label colorLabel = new Label("Couleur: " + profile.getColorName());
-        colorLabel.setFont(Font.font("Monospace", FontWeight.NORMAL, 14));
-        colorLabel.setTextFill(Color.WHITE);
-
-        Label statsLabel = new Label(String.format("Parties: %d | Victoires: %d | Score: %d",
-                profile.getGamesPlayed(), profile.getGamesWon(), profile.getTotalScore()));
-        statsLabel.setFont(Font.font("Monospace", FontWeight.NORMAL, 12));
-        statsLabel.setTextFill(Color.LIGHTGRAY);
-
-        infoBox.getChildren().addAll(nameLabel, colorLabel, statsLabel);
-
-        // Boutons d'actions
-        HBox buttonsBox = new HBox(10);
-        buttonsBox.setAlignment(Pos.CENTER_RIGHT);
-
-        Button selectButton = createSmallRetroButton("SELECTIONNER", Color.web("#0088FF"));
-        selectButton.setOnAction(e -> {
-            showAlert("PROFIL SÉLECTIONNÉ", "Profil de " + profile.getFullName() + " sélectionné !\n" +
-                    "Ce profil sera utilisé lors de la prochaine partie.", Alert.AlertType.INFORMATION);
-        });
+    private int showProfiles(ListView<Profile> list, String query, ProfileSort sort) {
+        List<Profile> profiles;
+        if (query == null || query.isBlank()) {
+            profiles = sort == null ? profileManager.getAllProfiles() : profileManager.getProfilesSortedBy(sort);
+        } else {
+            profiles = profileManager.searchProfiles(query, sort, SEARCH_LIMIT);
+        }
+        list.setItems(FXCollections.observableList(profiles));
+        list.scrollTo(0);
+        return profiles.size();
+    }
 
-        Button deleteButton = createSmallRetroButton("SUPPRIMER", Color.web("#FF4444"));
-        deleteButton.setOnAction(e -> {
-            Alert confirmDialog = new Alert(Alert.AlertType.CONFIRMATION);
-            confirmDialog.setTitle("CONFIRMATION");
-            confirmDialog.setHeaderText("Supprimer le profil");
-            confirmDialog.setContentText("Êtes-vous sûr de vouloir supprimer le profil de " + profile.getFullName() + " ?");
-
-            Optional<ButtonType> result = confirmDialog.showAndWait();
-            if (result.isPresent() && result.get() == ButtonType.OK) {
-                profileManager.removeProfile(profile);
-                showExistingProfilesPage(); // Rafraîchir la page
-            }
-        });
+    /**
+     * Relance une recherche peu après la dernière frappe dans le champ, plutôt qu'à chaque touche.
+     *
+     * @param searchField le champ de recherche
+     * @param refresh l'action qui relit les profils
+     */
+    private void bindSearch(TextField searchField, Runnable refresh) {
+        PauseTransition searchDelay = new PauseTransition(Duration.millis(SEARCH_DELAY_MILLIS));
+        searchDelay.setOnFinished(e -> refresh.run());
+        searchField.textProperty().addListener((observable, oldText, newText) -> searchDelay.playFromStart());
+    }
+
+    /**
+     * Retourne le classement choisi dans la liste déroulante des profils.
+     *
+     * @param sortBox la liste déroulante (ordre de création, puis les classements)
+     * @return le classement, ou null pour l'ordre de création
+     */
+    private ProfileSort selectedSort(ComboBox<String> sortBox) {
+        int index = sortBox.getSelectionModel().getSelectedIndex();
+        return index <= 0 ? null : ProfileSort.values()[index - 1];
+    }
+
+    /**
+     * Ligne de la liste des profils existants.
+     * Ses composants (informations du profil, boutons de sélection et de suppression) sont
+     * créés une seule fois ; la liste réutilise la ligne pour un autre profil en ne changeant
+     * que les textes et les couleurs.
+     */
+    private final class ProfileCell extends ListCell<Profile> {
+
+        private final HBox profileBox = new HBox(20);
+        private final Label nameLabel = new Label();
+        private final Label colorLabel = new Label();
+        private final Label statsLabel = new Label();
+
+        /**
+         * @param onDelete action exécutée après la suppression d'un profil
+         */
+        ProfileCell(Runnable onDelete) {
+            profileBox.setAlignment(Pos.CENTER_LEFT);
+            profileBox.setPadding(new Insets(15));
+            profileBox.setMaxWidth(750);
+
+            // Informations du profil
+            VBox infoBox = new VBox(5);
+            infoBox.setAlignment(Pos.CENTER_LEFT);
+
+            nameLabel.setFont(Font.font("Monospace", FontWeight.BOLD, 18));
+
+            colorLabel.setFont(Font.font("Monospace", FontWeight.NORMAL, 14));
+            colorLabel.setTextFill(Color.WHITE);
+
+            statsLabel.setFont(Font.font("Monospace", FontWeight.NORMAL, 12));
+            statsLabel.setTextFill(Color.LIGHTGRAY);
+
+            infoBox.getChildren().addAll(nameLabel, colorLabel, statsLabel);
+
+            // Boutons d'actions
+            HBox buttonsBox = new HBox(10);
+            buttonsBox.setAlignment(Pos.CENTER_RIGHT);
+
+            Button selectButton = createSmallRetroButton("SELECTIONNER", Color.web("#0088FF"));
+            selectButton.setOnAction(e -> {
+                Profile profile = getItem();
+                if (profile == null) return;
+                showAlert("PROFIL SÉLECTIONNÉ", "Profil de " + profile.getFullName() + " sélectionné !\n" +
+                        "Ce profil sera utilisé lors de la prochaine partie.", Alert.AlertType.INFORMATION);
+            });
+
+            Button deleteButton = createSmallRetroButton("SUPPRIMER", Color.web("#FF4444"));
+            deleteButton.setOnAction(e -> {
+                Profile profile = getItem();
+                if (profile == null) return;
+
+                Alert confirmDialog = new Alert(Alert.AlertType.CONFIRMATION);
+                confirmDialog.setTitle("CONFIRMATION");
+                confirmDialog.setHeaderText("Supprimer le profil");
+                confirmDialog.setContentText("Êtes-vous sûr de vouloir supprimer le profil de " + profile.getFullName() + " ?");
+
+                Optional<ButtonType> result = confirmDialog.showAndWait();
+                if (result.isPresent() && result.get() == ButtonType.OK) {
+                    profileManager.removeProfile(profile);
+                    onDelete.run(); // Rafraîchir la liste
+                }
+            });
+
+            buttonsBox.getChildren().addAll(selectButton, deleteButton);
+
+            profileBox.getChildren().addAll(infoBox, buttonsBox);
+            HBox.setHgrow(infoBox, Priority.ALWAYS);
 
-        buttonsBox.getChildren().addAll(selectButton, deleteButton);
+            setStyle("-fx-background-color: transparent; -fx-padding: 4 10 4 10;");
+        }
 
-        profileBox.getChildren().addAll(infoBox, buttonsBox);
-        HBox.setHgrow(infoBox, Priority.ALWAYS);
+        @Override
+        protected void updateItem(Profile profile, boolean empty) {
+            super.updateItem(profile, empty);
+            setText(null);
+            if (empty || profile == null) {
+                setGraphic(null);
+                return;
+            }
 
-        return profileBox;
+            profileBox.setStyle("-fx-background-color: rgba(0,0,0,0.6); -fx-border-color: " +
+                    getColorCode(profile.getColor()) + "; -fx-border-width: 2;");
+            nameLabel.setText(profile.getFullName());
+            nameLabel.setTextFill(profile.getColor());
+            colorLabel.setText("Couleur: " + profile.getColorName());
+            statsLabel.setText(String.format("Parties: %d | Victoires: %d | Score: %d | Cote: %d",
+                    profile.getGamesPlayed(), profile.getGamesWon(), profile.getTotalScore(), Math.round(profile.getRating())));
+            setGraphic(profileBox);
+        }
     }
 
     /**
@@ -601,9 +722,7 @@ public class ProfileInterface {
      * @return le profil sélectionné ou null si aucun profil n'est sélectionné
      */
     public Profile selectProfileForPlayer(int playerNumber, String defaultPlayerName, Color defaultColor) {
-        List<Profile> profiles = profileManager.getAllProfiles();
-
-        if (profiles.isEmpty()) {
+        if (profileManager.getProfileCount() == 0) {
             // Aucun profil disponible, utiliser les paramètres par défaut
             showAlert("AUCUN PROFIL", "Aucun profil disponible.\nUtilisation des paramètres par défaut pour " +
                     defaultPlayerName + ".", Alert.AlertType.INFORMATION);
@@ -637,38 +756,51 @@ public class ProfileInterface {
 
     /**
      * Affiche une boîte de dialogue pour sélectionner un profil parmi les profils existants.
+     * Le choix se fait dans une liste virtualisée, avec recherche par nom : la boîte s'ouvre
+     * aussi vite quel que soit le nombre de profils.
      *
      * @param playerNumber numéro du joueur pour lequel sélectionner un profil
      * @return le profil sélectionné ou null si aucun profil n'est sélectionné
      */
     private Profile showProfileSelectionDialog(int playerNumber) {
-        List<Profile> profiles = profileManager.getAllProfiles();
-
-        // Créer une liste de chaînes de caractères pour l'affichage
-        String[] profileNames = new String[profiles.size()];
-        for (int i = 0; i < profiles.size(); i++) {
-            Profile profile = profiles.get(i);
-            profileNames[i] = profile.getFullName() + " (" + profile.getColorName() + ")";
-        }
-
-        // Créer un dialogue de choix simple
-        ChoiceDialog<String> dialog = new ChoiceDialog<>(profileNames[0], profileNames);
+        Dialog<Profile> dialog = new Dialog<>();
         dialog.setTitle("SÉLECTION DE PROFIL");
         dialog.setHeaderText("Joueur " + playerNumber);
-        dialog.setContentText("Choisissez un profil :");
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+
+        TextField searchField = new TextField();
+        searchField.setPromptText("Rechercher un nom...");
+
+        ListView<Profile> profilesList = new ListView<>();
+        profilesList.setPrefSize(400, 300);
+        profilesList.setFixedCellSize(SELECTION_CELL_HEIGHT);
+        profilesList.setCellFactory(list -> new ListCell<>() {
+            @Override
+            protected void updateItem(Profile profile, boolean empty) {
+                super.updateItem(profile, empty);
+                setText(empty || profile == null ? null : profile.getFullName() + " (" + profile.getColorName() + ")");
+            }
+        });
+
+        Runnable refresh = () -> {
+            showProfiles(profilesList, searchField.getText(), null);
+            profilesList.getSelectionModel().selectFirst();
+        };
+        bindSearch(searchField, refresh);
+        refresh.run();
 
-        Optional<String> result = dialog.showAndWait();
+        dialog.getDialogPane().lookupButton(ButtonType.OK).disableProperty()
+                .bind(profilesList.getSelectionModel().selectedItemProperty().isNull());
+        dialog.getDialogPane().setContent(new VBox(10, new Label("Choisissez un profil :"), searchField, profilesList));
+        dialog.setResultConverter(button ->
+                button == ButtonType.OK ? profilesList.getSelectionModel().getSelectedItem() : null);
+
+        Optional<Profile> result = dialog.showAndWait();
 
         if (result.isPresent()) {
-            // Retrouver le profil correspondant à la sélection
-            String selectedName = result.get();
-            for (int i = 0; i < profileNames.length; i++) {
-                if (profileNames[i].equals(selectedName)) {
-                    Profile selectedProfile = profiles.get(i);
-                    System.out.println("✅ Profil sélectionné pour Joueur " + playerNumber + ": " + selectedProfile.getFullName());
-                    return selectedProfile;
-                }
-            }
+            Profile selectedProfile = result.get();
+            System.out.println("✅ Profil sélectionné pour Joueur " + playerNumber + ": " + selectedProfile.getFullName());
+            return selectedProfile;
         }
 
         return null;
@@ -1,19 +1,52 @@
 package Joueur;
 
-import java.io.*;
+import Etat.ProfileBackend;
+import Etat.ProfileSort;
+import Etat.SyncPolicy;
+import Journal.Log;
+import Journal.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Gestionnaire de profils utilisateurs.
  * <p>
  * Cette classe implémente le patron de conception Singleton pour gérer la sauvegarde et le chargement des profils
- * utilisateurs. Elle permet de stocker, récupérer, modifier et supprimer des profils dans un fichier texte.
+ * utilisateurs. Elle permet de stocker, récupérer, modifier et supprimer des profils dans un fichier binaire.
  * Les profils contiennent des informations comme le nom, prénom, couleur préférée et statistiques de jeu.
  * </p>
  * <p>
- * Le format de stockage dans le fichier utilise un séparateur ";" entre les champs suivants :
- * prénom, nom, couleur, parties jouées, parties gagnées, score total.
+ * Les profils sont indexés en mémoire par prénom et nom (sans tenir compte de la casse) : recherche et mise
+ * à jour sont en temps constant. Le fichier est un journal en ajout seul ({@link ProfileStore}) : chaque
+ * ajout, modification ou suppression n'écrit que l'enregistrement du profil concerné, et le journal est
+ * compacté automatiquement quand les enregistrements périmés deviennent majoritaires.
+ * </p>
+ * <p>
+ * Les écritures sont différées ({@link ProfileWriter}) : les méthodes de modification ne font que mettre
+ * à jour l'index et programmer l'écriture, réalisée par lots sur un thread de fond. La synchronisation
+ * sur disque se règle par {@code -Dbomberman.profiles.sync} ({@link SyncPolicy}, BATCH par défaut) et le
+ * délai de regroupement par {@code -Dbomberman.profiles.delay} (en millisecondes).
+ * </p>
+ * <p>
+ * Avec {@code -Dbomberman.profiles.backend=MAPPED} ({@link ProfileBackend}), les profils sont stockés dans
+ * un fichier d'enregistrements de taille fixe projeté en mémoire ({@link MappedProfileRepository}) : rien
+ * n'est lu au démarrage, les profils sont construits à la demande et les classements
+ * ({@link #getProfilesSortedBy(ProfileSort)}) sont lus dans un index trié sur disque. Avec le journal,
+ * les classements sont tenus en mémoire ({@link Leaderboard}) dès leur première consultation.
+ * </p>
+ * <p>
+ * L'ancien fichier texte (champs séparés par ";" : prénom, nom, couleur, parties jouées, parties gagnées,
+ * score total) est importé au premier lancement si le fichier binaire n'existe pas encore. Le stockage
+ * projeté importe de même le journal binaire s'il existe.
  * </p>
  * 
  * @author Non spécifié
@@ -22,26 +55,44 @@ import java.util.List;
  */
 public class ProfileManager {
 
-    /** Chemin du fichier où sont stockés les profils */
-    private static final String PROFILES_FILE = "profiles.txt";
+    private static final Logger LOG = Log.getLogger(ProfileManager.class);
+
+    /** Stockage des profils (modifiable par -Dbomberman.profiles.backend) */
+    private static final ProfileBackend BACKEND = parseBackend(System.getProperty("bomberman.profiles.backend"));
+
+    /** Journal binaire des profils, fichier par défaut du stockage LOG */
+    private static final String LOG_PROFILES_FILE = "profiles.db";
+
+    /** Chemin du fichier où sont stockés les profils (modifiable par -Dbomberman.profiles.file) */
+    private static final String PROFILES_FILE = System.getProperty("bomberman.profiles.file",
+            BACKEND == ProfileBackend.MAPPED ? "profiles.dat" : LOG_PROFILES_FILE);
+
+    /** Ancien fichier texte des profils, importé s'il n'existe pas encore de fichier binaire */
+    private static final String LEGACY_PROFILES_FILE = System.getProperty("bomberman.profiles.legacy", "profiles.txt");
     
-    /** Séparateur utilisé dans le fichier pour délimiter les champs */
-    private static final String SEPARATOR = ";";
+    /** Séparateur utilisé dans l'ancien fichier texte pour délimiter les champs */
+    private static final char SEPARATOR = ';';
     
-    /** Liste des profils chargés en mémoire */
-    private List<Profile> profiles;
+    /** Politique de synchronisation sur disque (modifiable par -Dbomberman.profiles.sync) */
+    private static final SyncPolicy SYNC_POLICY = parseSyncPolicy(System.getProperty("bomberman.profiles.sync"));
+
+    /** Délai de regroupement des écritures en millisecondes (modifiable par -Dbomberman.profiles.delay) */
+    private static final long WRITE_DELAY_MILLIS = Long.getLong("bomberman.profiles.delay", 200);
+
+    /** Stockage des profils */
+    private final ProfileRepository repository;
     
     /** Instance unique du gestionnaire de profils (Singleton) */
     private static ProfileManager instance;
 
     /**
-     * Constructeur privé qui initialise la liste des profils et charge les profils existants.
+     * Constructeur privé qui crée le stockage des profils et charge les profils existants.
      * <p>
      * Ce constructeur est privé pour empêcher l'instanciation directe (patron Singleton).
      * </p>
      */
     private ProfileManager() {
-        profiles = new ArrayList<>();
+        repository = ProfileRepository.create(BACKEND, Path.of(PROFILES_FILE), SYNC_POLICY, WRITE_DELAY_MILLIS);
         loadProfiles();
     }
 
@@ -63,59 +114,111 @@ public class ProfileManager {
     /**
      * Charge les profils depuis le fichier de sauvegarde.
      * <p>
-     * Cette méthode efface d'abord la liste des profils en mémoire, puis lit le fichier
-     * ligne par ligne pour recréer les objets Profile. Si le fichier n'existe pas, une nouvelle
-     * liste vide est créée.
+     * Cette méthode attend l'écriture des modifications en attente, puis recharge le stockage : le journal
+     * binaire est rejoué, le fichier projeté est simplement rouvert. Si le fichier n'existe pas, l'ancien
+     * fichier texte est importé s'il est présent ; sinon la liste reste vide.
      * </p>
      */
     public void loadProfiles() {
-        profiles.clear();
-        File file = new File(PROFILES_FILE);
-
-        if (!file.exists()) {
-            System.out.println("Aucun fichier de profils trouvé. Création d'une nouvelle liste.");
-            return;
+        try {
+            if (!repository.exists() && importPreviousProfiles()) {
+                return;
+            }
+            repository.load();
+            LOG.info("✅ {} profils chargés avec succès.", repository.size());
+        } catch (IOException e) {
+            LOG.error("❌ Erreur lors du chargement des profils", e);
         }
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                Profile profile = parseProfileFromLine(line);
-                if (profile != null) {
-                    profiles.add(profile);
-                }
+    /**
+     * Importe les profils d'un ancien fichier : le journal binaire pour le stockage projeté,
+     * sinon le fichier texte.
+     *
+     * @return true si un fichier a été importé
+     */
+    private boolean importPreviousProfiles() throws IOException {
+        Path logFile = Path.of(LOG_PROFILES_FILE);
+        if (BACKEND == ProfileBackend.MAPPED && Files.exists(logFile)) {
+            Map<String, Profile> previous = new LinkedHashMap<>();
+            try (ProfileStore previousStore = new ProfileStore(logFile)) {
+                previousStore.load(previous);
             }
-            System.out.println("✅ " + profiles.size() + " profils chargés avec succès.");
-        } catch (IOException e) {
-            System.err.println("❌ Erreur lors du chargement des profils: " + e.getMessage());
+            importProfiles(previous.values(), logFile);
+            return true;
         }
+
+        Path legacyFile = Path.of(LEGACY_PROFILES_FILE);
+        if (Files.exists(legacyFile)) {
+            importTextProfiles(legacyFile);
+            return true;
+        }
+
+        LOG.info("Aucun fichier de profils trouvé. Création d'une nouvelle liste.");
+        return false;
     }
 
     /**
      * Sauvegarde tous les profils dans le fichier.
      * <p>
-     * Cette méthode écrit chaque profil en mémoire dans le fichier de sauvegarde,
-     * en convertissant chaque profil en une ligne de texte.
+     * Les modifications étant écrites au fur et à mesure, cette méthode sert surtout aux profils
+     * modifiés directement : une copie de tous les profils est prise, puis le journal est réécrit en
+     * arrière-plan avec un seul enregistrement par profil. {@link #flush()} attend la fin de l'écriture.
      * </p>
      */
     public void saveProfiles() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(PROFILES_FILE))) {
-            for (Profile profile : profiles) {
-                String line = formatProfileToLine(profile);
-                writer.write(line);
-                writer.newLine();
+        repository.saveAll();
+        LOG.info("✅ Sauvegarde de {} profils programmée.", repository.size());
+    }
+
+    /**
+     * Attend que toutes les modifications programmées soient écrites sur le disque.
+     *
+     * @return true si tout a été écrit, false si le délai d'attente est dépassé
+     */
+    public boolean flush() {
+        return repository.flush();
+    }
+
+    /**
+     * Importe l'ancien fichier texte des profils et écrit le fichier binaire correspondant.
+     * <p>
+     * Le fichier texte est laissé en place ; il n'est plus relu une fois le fichier binaire créé.
+     * </p>
+     *
+     * @param legacyFile Le fichier texte à importer
+     */
+    private void importTextProfiles(Path legacyFile) throws IOException {
+        List<Profile> imported = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(legacyFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Profile profile = parseProfileFromLine(line);
+                if (profile != null) {
+                    imported.add(profile);
+                }
             }
-            System.out.println("✅ " + profiles.size() + " profils sauvegardés avec succès.");
-        } catch (IOException e) {
-            System.err.println("❌ Erreur lors de la sauvegarde des profils: " + e.getMessage());
         }
+        importProfiles(imported, legacyFile);
     }
 
     /**
-     * Analyse une ligne du fichier pour créer un objet Profile.
+     * Remplace le contenu du stockage par des profils importés.
+     *
+     * @param imported Les profils importés
+     * @param source Le fichier d'origine
+     */
+    private void importProfiles(Collection<Profile> imported, Path source) throws IOException {
+        repository.load();
+        repository.importProfiles(imported);
+        LOG.info("✅ {} profils importés depuis {}", repository.size(), source);
+    }
+
+    /**
+     * Analyse une ligne de l'ancien fichier texte pour créer un objet Profile.
      * <p>
-     * Cette méthode divise la ligne en utilisant le séparateur et extrait les informations
-     * nécessaires pour créer un nouveau profil.
+     * Cette méthode découpe la ligne sur le séparateur sans expression régulière et extrait les
+     * informations nécessaires pour créer un nouveau profil.
      * </p>
      *
      * @param line La ligne de texte à analyser
@@ -123,48 +226,35 @@ public class ProfileManager {
      */
     private Profile parseProfileFromLine(String line) {
         try {
-            String[] parts = line.split(SEPARATOR);
-            if (parts.length >= 3) {
-                String firstName = parts[0].trim();
-                String lastName = parts[1].trim();
-                String colorName = parts[2].trim();
+            String[] parts = new String[6];
+            int count = 0;
+            int start = 0;
+            while (count < parts.length) {
+                int end = line.indexOf(SEPARATOR, start);
+                parts[count++] = (end < 0 ? line.substring(start) : line.substring(start, end)).trim();
+                if (end < 0) break;
+                start = end + 1;
+            }
 
+            if (count >= 3) {
                 // Statistiques optionnelles
-                int gamesPlayed = parts.length > 3 ? Integer.parseInt(parts[3].trim()) : 0;
-                int gamesWon = parts.length > 4 ? Integer.parseInt(parts[4].trim()) : 0;
-                int totalScore = parts.length > 5 ? Integer.parseInt(parts[5].trim()) : 0;
+                int gamesPlayed = count > 3 ? Integer.parseInt(parts[3]) : 0;
+                int gamesWon = count > 4 ? Integer.parseInt(parts[4]) : 0;
+                int totalScore = count > 5 ? Integer.parseInt(parts[5]) : 0;
 
-                return new Profile(firstName, lastName, colorName, gamesPlayed, gamesWon, totalScore);
+                return new Profile(parts[0], parts[1], parts[2], gamesPlayed, gamesWon, totalScore);
             }
         } catch (Exception e) {
-            System.err.println("❌ Erreur lors de l'analyse de la ligne: " + line);
+            LOG.error("❌ Erreur lors de l'analyse de la ligne: {}", line);
         }
         return null;
     }
 
     /**
-     * Formate un profil en ligne de texte pour le fichier.
-     * <p>
-     * Cette méthode convertit un objet Profile en une chaîne de caractères
-     * avec les champs séparés par le séparateur défini.
-     * </p>
-     *
-     * @param profile Le profil à formater
-     * @return Une chaîne de caractères représentant le profil
-     */
-    private String formatProfileToLine(Profile profile) {
-        return profile.getFirstName() + SEPARATOR +
-                profile.getLastName() + SEPARATOR +
-                profile.getColorName() + SEPARATOR +
-                profile.getGamesPlayed() + SEPARATOR +
-                profile.getGamesWon() + SEPARATOR +
-                profile.getTotalScore();
-    }
-
-    /**
-     * Ajoute un nouveau profil à la liste et sauvegarde les changements.
+     * Ajoute un nouveau profil à l'index et programme son écriture.
      * <p>
-     * Cette méthode vérifie d'abord si le profil existe déjà avant de l'ajouter.
+     * Cette méthode vérifie d'abord si un profil du même prénom et nom (sans tenir compte
+     * de la casse) existe déjà avant de l'ajouter.
      * </p>
      *
      * @param profile Le profil à ajouter
@@ -172,51 +262,87 @@ public class ProfileManager {
      */
     public boolean addProfile(Profile profile) {
         // Vérifier si le profil existe déjà
-        if (profiles.contains(profile)) {
-            System.out.println("⚠️ Un profil avec ce nom existe déjà: " + profile.getFullName());
+        try {
+            if (!repository.add(profile)) {
+                LOG.warn("⚠️ Un profil avec ce nom existe déjà: {}", profile.getFullName());
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            LOG.warn("⚠️ Profil refusé: {}", e.getMessage());
+            return false;
+        } catch (IllegalStateException e) {
+            // Fichier de profils illisible ou impossible à agrandir
+            LOG.error("❌ Profil non enregistré: {}", e.getMessage());
             return false;
         }
 
-        profiles.add(profile);
-        saveProfiles();
-        System.out.println("✅ Nouveau profil ajouté: " + profile.getFullName());
+        LOG.info("✅ Nouveau profil ajouté: {}", profile.getFullName());
         return true;
     }
 
     /**
-     * Supprime un profil de la liste et sauvegarde les changements.
+     * Supprime un profil de l'index et programme l'écriture de sa suppression.
      *
      * @param profile Le profil à supprimer
      * @return true si le profil a été supprimé avec succès, false s'il n'a pas été trouvé
      */
     public boolean removeProfile(Profile profile) {
-        if (profiles.remove(profile)) {
-            saveProfiles();
-            System.out.println("✅ Profil supprimé: " + profile.getFullName());
-            return true;
+        if (!repository.remove(profile)) {
+            return false;
         }
-        return false;
+
+        LOG.info("✅ Profil supprimé: {}", profile.getFullName());
+        return true;
     }
 
     /**
-     * Met à jour un profil existant dans la liste et sauvegarde les changements.
+     * Met à jour un profil existant et programme l'écriture de son nouvel état.
      * <p>
-     * Cette méthode recherche le profil correspondant et le remplace par la nouvelle version.
+     * Cette méthode recherche le profil correspondant par son nom et enregistre la nouvelle version.
      * </p>
      *
      * @param profile Le profil mis à jour
      */
     public void updateProfile(Profile profile) {
         // Rechercher et remplacer le profil
-        for (int i = 0; i < profiles.size(); i++) {
-            if (profiles.get(i).equals(profile)) {
-                profiles.set(i, profile);
-                saveProfiles();
-                System.out.println("✅ Profil mis à jour: " + profile.getFullName());
-                return;
-            }
+        if (!repository.update(profile)) {
+            LOG.warn("⚠️ Profil non trouvé pour mise à jour: {}", profile.getFullName());
+            return;
+        }
+
+        LOG.info("✅ Profil mis à jour: {}", profile.getFullName());
+    }
+
+    /**
+     * Lit la politique de synchronisation configurée.
+     *
+     * @param value Valeur de la propriété système, ou null
+     * @return La politique, BATCH si la valeur est absente ou inconnue
+     */
+    private static SyncPolicy parseSyncPolicy(String value) {
+        if (value == null) return SyncPolicy.BATCH;
+        try {
+            return SyncPolicy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOG.warn("⚠️ Politique de synchronisation inconnue: {}", value);
+            return SyncPolicy.BATCH;
+        }
+    }
+
+    /**
+     * Lit le stockage configuré.
+     *
+     * @param value Valeur de la propriété système, ou null
+     * @return Le stockage, LOG si la valeur est absente ou inconnue
+     */
+    private static ProfileBackend parseBackend(String value) {
+        if (value == null) return ProfileBackend.LOG;
+        try {
+            return ProfileBackend.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOG.warn("⚠️ Stockage de profils inconnu: {}", value);
+            return ProfileBackend.LOG;
         }
-        System.out.println("⚠️ Profil non trouvé pour mise à jour: " + profile.getFullName());
     }
 
     /**
@@ -227,29 +353,84 @@ public class ProfileManager {
      * @return Le profil correspondant ou null s'il n'existe pas
      */
     public Profile findProfile(String firstName, String lastName) {
-        return profiles.stream()
-                .filter(p -> p.getFirstName().equalsIgnoreCase(firstName) &&
-                        p.getLastName().equalsIgnoreCase(lastName))
-                .findFirst()
-                .orElse(null);
+        return repository.find(firstName, lastName);
     }
 
     /**
-     * Retourne une copie de la liste de tous les profils.
+     * Retourne la liste de tous les profils, dans l'ordre de création.
+     * <p>
+     * La liste n'est pas modifiable. Avec le stockage projeté, c'est une vue : les profils ne sont
+     * construits qu'à la lecture de leur position.
+     * </p>
      *
-     * @return Une nouvelle liste contenant tous les profils
+     * @return La liste de tous les profils
      */
     public List<Profile> getAllProfiles() {
-        return new ArrayList<>(profiles);
+        return repository.all();
+    }
+
+    /**
+     * Retourne les profils classés du meilleur au moins bon ; à égalité, dans l'ordre de création.
+     * <p>
+     * La liste n'est pas modifiable. Avec le stockage projeté, elle est lue dans l'index trié sur
+     * disque, sans tri ni construction des profils non consultés.
+     * </p>
+     *
+     * @param sort Le classement
+     * @return La liste classée des profils
+     */
+    public List<Profile> getProfilesSortedBy(ProfileSort sort) {
+        return repository.sorted(sort);
+    }
+
+    /**
+     * Retourne la position d'un profil dans un classement, en O(log n).
+     * <p>
+     * La position est celle du dernier état enregistré par {@link #updateProfile(Profile)}.
+     * </p>
+     *
+     * @param profile Le profil
+     * @param sort Le classement
+     * @return La position (0 pour le meilleur), ou -1 si le profil n'existe pas
+     */
+    public int getRank(Profile profile, ProfileSort sort) {
+        return repository.rank(profile, sort);
+    }
+
+    /**
+     * Retourne une page d'un classement, sans parcourir les profils qui la précèdent.
+     *
+     * @param sort Le classement
+     * @param from La première position de la page
+     * @param count Le nombre de profils au plus
+     * @return Les profils de la page, du meilleur au moins bon
+     */
+    public List<Profile> getLeaderboardPage(ProfileSort sort, int from, int count) {
+        return repository.page(sort, from, count);
+    }
+
+    /**
+     * Recherche des profils par nom, sans charger ni copier toute la liste.
+     * <p>
+     * Le parcours suit l'ordre demandé et s'arrête au {@code limit}-ième profil trouvé.
+     * </p>
+     *
+     * @param query Le texte recherché dans le nom complet (sans tenir compte de la casse)
+     * @param sort Le classement, ou null pour l'ordre de création
+     * @param limit Le nombre maximal de profils retournés
+     * @return Les profils trouvés, dans l'ordre demandé
+     */
+    public List<Profile> searchProfiles(String query, ProfileSort sort, int limit) {
+        return repository.search(query, sort, limit);
     }
 
     /**
      * Retourne le nombre total de profils.
      *
-     * @return Le nombre de profils dans la liste
+     * @return Le nombre de profils enregistrés
      */
     public int getProfileCount() {
-        return profiles.size();
+        return repository.size();
     }
 
     /**
@@ -273,15 +454,14 @@ public class ProfileManager {
     }
 
     /**
-     * Supprime tous les profils de la liste et sauvegarde les changements.
+     * Supprime tous les profils.
      * <p>
      * Cette méthode est principalement utilisée à des fins de débogage.
      * </p>
      */
     public void clearAllProfiles() {
-        profiles.clear();
-        saveProfiles();
-        System.out.println("🗑️ Tous les profils ont été supprimés.");
+        repository.clear();
+        LOG.info("🗑️ Tous les profils ont été supprimés.");
     }
 
     /**
@@ -292,11 +472,13 @@ public class ProfileManager {
      */
     public void printAllProfiles() {
         System.out.println("=== LISTE DES PROFILS ===");
+        List<Profile> profiles = repository.all();
         if (profiles.isEmpty()) {
             System.out.println("Aucun profil enregistré.");
         } else {
-            for (int i = 0; i < profiles.size(); i++) {
-                System.out.println((i + 1) + ". " + profiles.get(i));
+            int i = 0;
+            for (Profile profile : profiles) {
+                System.out.println((++i) + ". " + profile);
             }
         }
         System.out.println("========================");
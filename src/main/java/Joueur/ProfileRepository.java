@@ -0,0 +1,194 @@
+package Joueur;
+
+import Etat.ProfileBackend;
+import Etat.ProfileSort;
+import Etat.SyncPolicy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Stockage des profils utilisé par le {@link ProfileManager}.
+ * <p>
+ * Les profils sont identifiés par leur prénom et leur nom, sans tenir compte de la casse
+ * ({@link ProfileStore#indexKey(String, String)}). Deux implémentations existent, choisies
+ * par {@link ProfileBackend} :
+ * </p>
+ * <ul>
+ *   <li>{@link LogProfileRepository} : tous les profils en mémoire, écrits dans un journal
+ *   en ajout seul ;</li>
+ *   <li>{@link MappedProfileRepository} : enregistrements de taille fixe projetés en mémoire,
+ *   dont les profils ne sont construits qu'à la demande.</li>
+ * </ul>
+ */
+interface ProfileRepository {
+
+    /**
+     * @return true si le fichier du stockage existe déjà
+     */
+    boolean exists();
+
+    /**
+     * Ouvre ou recharge le stockage.
+     *
+     * @throws IOException Si le fichier est illisible
+     */
+    void load() throws IOException;
+
+    /**
+     * Remplace tout le contenu du stockage (import d'un ancien fichier).
+     *
+     * @param profiles Profils à enregistrer
+     * @throws IOException Si l'écriture échoue
+     */
+    void importProfiles(Collection<Profile> profiles) throws IOException;
+
+    /**
+     * @param firstName Prénom
+     * @param lastName Nom
+     * @return Le profil, ou null s'il n'existe pas
+     */
+    Profile find(String firstName, String lastName);
+
+    /**
+     * @param profile Profil à ajouter
+     * @return false si un profil du même nom existe déjà
+     */
+    boolean add(Profile profile);
+
+    /**
+     * @param profile Profil modifié
+     * @return false si le profil n'existe pas
+     */
+    boolean update(Profile profile);
+
+    /**
+     * @param profile Profil à supprimer
+     * @return false si le profil n'existe pas
+     */
+    boolean remove(Profile profile);
+
+    /**
+     * @return Le nombre de profils
+     */
+    int size();
+
+    /**
+     * @return Les profils dans l'ordre de création ; la liste n'est pas modifiable
+     */
+    List<Profile> all();
+
+    /**
+     * Retourne les profils classés du meilleur au moins bon ; à égalité, dans l'ordre de création.
+     *
+     * @param sort Classement
+     * @return Les profils classés ; la liste n'est pas modifiable
+     */
+    List<Profile> sorted(ProfileSort sort);
+
+    /**
+     * Retourne la position d'un profil dans un classement, d'après son dernier état enregistré.
+     *
+     * @param profile Profil
+     * @param sort Classement
+     * @return La position (0 pour le meilleur), ou -1 si le profil n'existe pas
+     */
+    int rank(Profile profile, ProfileSort sort);
+
+    /**
+     * Lit une page d'un classement.
+     *
+     * @param sort Classement
+     * @param from Première position
+     * @param count Nombre de profils au plus
+     * @return Les profils de la page (moins de {@code count} en fin de classement)
+     */
+    default List<Profile> page(ProfileSort sort, int from, int count) {
+        List<Profile> sorted = sorted(sort);
+        int end = (int) Math.min(sorted.size(), (long) from + count);
+        return from >= end ? List.of() : List.copyOf(sorted.subList(from, end));
+    }
+
+    /**
+     * Recherche des profils par nom, dans l'ordre de création ou d'un classement.
+     * <p>
+     * Les profils sont parcourus dans l'ordre demandé et la recherche s'arrête dès que
+     * {@code limit} profils correspondent : la mémoire utilisée ne dépend que de la limite.
+     * </p>
+     *
+     * @param query Texte recherché dans le nom complet, sans tenir compte de la casse
+     * @param sort Classement, ou null pour l'ordre de création
+     * @param limit Nombre maximal de profils retournés
+     * @return Les profils trouvés
+     */
+    default List<Profile> search(String query, ProfileSort sort, int limit) {
+        String needle = query.trim().toLowerCase(Locale.ROOT);
+        List<Profile> found = new ArrayList<>(Math.min(limit, 64));
+        for (Profile profile : sort == null ? all() : sorted(sort)) {
+            if (found.size() >= limit) break;
+            if (profile.getFullName().toLowerCase(Locale.ROOT).contains(needle)) {
+                found.add(profile);
+            }
+        }
+        return Collections.unmodifiableList(found);
+    }
+
+    /**
+     * Enregistre l'état de tous les profils en mémoire, y compris ceux modifiés directement.
+     */
+    void saveAll();
+
+    /**
+     * Supprime tous les profils.
+     */
+    void clear();
+
+    /**
+     * Attend que toutes les modifications soient écrites sur le disque.
+     *
+     * @return false si le délai d'attente est dépassé
+     */
+    boolean flush();
+
+    /**
+     * Valeur selon laquelle un classement range les profils (la plus grande en premier).
+     *
+     * @param sort Classement
+     * @param gamesPlayed Parties jouées
+     * @param gamesWon Parties gagnées
+     * @param totalScore Score total
+     * @param rating Cote
+     * @return La valeur de classement
+     */
+    static int sortKey(ProfileSort sort, int gamesPlayed, int gamesWon, int totalScore, double rating) {
+        return switch (sort) {
+            case WINS -> gamesWon;
+            // Taux positif : l'ordre des bits d'un float positif est celui des valeurs
+            case WIN_RATE -> gamesPlayed == 0 ? 0 : Float.floatToIntBits((float) gamesWon / gamesPlayed);
+            case TOTAL_SCORE -> totalScore;
+            // Au centième de point : les cotes stockées en float gardent cette précision
+            case RATING -> (int) Math.round(rating * 100);
+        };
+    }
+
+    /**
+     * Crée le stockage correspondant au choix de configuration.
+     *
+     * @param backend Type de stockage
+     * @param file Fichier du stockage
+     * @param syncPolicy Politique de synchronisation sur disque
+     * @param writeDelayMillis Délai de regroupement des écritures (journal uniquement)
+     * @return Le stockage, pas encore chargé
+     */
+    static ProfileRepository create(ProfileBackend backend, Path file, SyncPolicy syncPolicy, long writeDelayMillis) {
+        if (backend == ProfileBackend.MAPPED) {
+            return new MappedProfileRepository(file, syncPolicy);
+        }
+        return new LogProfileRepository(file, syncPolicy, writeDelayMillis);
+    }
+}
@@ -0,0 +1,418 @@
+package Joueur;
+
+import Journal.Log;
+import Journal.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Journal binaire des profils, en ajout seul.
+ * <p>
+ * Chaque modification d'un profil ajoute un enregistrement en fin de fichier : l'écriture
+ * ne coûte que la taille de cet enregistrement, quel que soit le nombre de profils. Au
+ * chargement, les enregistrements sont rejoués dans l'ordre ; le dernier d'un profil
+ * l'emporte. Quand les enregistrements périmés deviennent majoritaires, le journal est
+ * compacté : les profils vivants sont réécrits dans un fichier temporaire qui remplace
+ * ensuite l'ancien.
+ * </p>
+ * <p>
+ * Format : un en-tête (nombre magique, version), puis des enregistrements
+ * {@code [longueur int][crc32 int][type byte][champs]}. Un enregistrement {@code PUT}
+ * contient prénom, nom et couleur (UTF-8 précédé de sa longueur), parties jouées,
+ * gagnées et score total, puis la cote, son écart type et sa volatilité ({@code double}) ;
+ * les enregistrements écrits avant l'ajout de la cote s'arrêtent au score et donnent un
+ * profil non classé. Un {@code DELETE} ne contient que le prénom et le nom. Un
+ * enregistrement incomplet ou corrompu en fin de fichier (arrêt brutal pendant une
+ * écriture) est ignoré et tronqué.
+ * </p>
+ */
+final class ProfileStore implements Closeable {
+
+    private static final Logger LOG = Log.getLogger(ProfileStore.class);
+
+    /** "BMPF" */
+    private static final int MAGIC = 0x424D5046;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    /** Taille de la cote, de son écart type et de sa volatilité en fin d'enregistrement PUT */
+    private static final int RATING_FIELDS = 3 * Double.BYTES;
+
+    /** Longueur et CRC précédant chaque enregistrement */
+    private static final int RECORD_PREFIX = 2 * Integer.BYTES;
+    /** Taille maximale d'un enregistrement, bien au-delà d'un profil réel */
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+
+    /** Nombre d'enregistrements en dessous duquel le journal n'est jamais compacté */
+    private static final int COMPACTION_MIN_RECORDS = 1024;
+
+    private final Path file;
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer buffer = ByteBuffer.allocate(256);
+    private FileChannel channel;
+
+    /** Enregistrements présents dans le fichier, périmés compris */
+    private int recordCount;
+
+    /**
+     * @param file Fichier du journal ; il est créé à la première écriture
+     */
+    ProfileStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Construit la clé d'index d'un profil ; la casse n'est pas prise en compte,
+     * comme dans {@link ProfileManager#findProfile(String, String)}.
+     *
+     * @param firstName Prénom
+     * @param lastName Nom
+     * @return La clé
+     */
+    static String indexKey(String firstName, String lastName) {
+        return firstName.toLowerCase(Locale.ROOT) + '\u0000' + lastName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return true si le fichier du journal existe
+     */
+    boolean exists() {
+        return Files.exists(file);
+    }
+
+    // ===== LECTURE =====
+
+    /**
+     * Rejoue le journal dans l'index fourni, qui est d'abord vidé.
+     * <p>
+     * Les profils sont insérés par {@link #indexKey(String, String)} dans l'ordre de
+     * leur première apparition.
+     * </p>
+     *
+     * @param index Index à remplir
+     * @throws IOException Si le fichier est illisible ou n'est pas un journal de profils
+     */
+    synchronized void load(Map<String, Profile> index) throws IOException {
+        index.clear();
+        closeChannel();
+        recordCount = 0;
+        if (!exists() || Files.size(file) == 0) return;
+
+        long validLength = HEADER_SIZE;
+        byte[] record = new byte[256];
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Fichier de profils non reconnu: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Version de fichier de profils non supportée: " + version);
+            }
+
+            while (true) {
+                int length;
+                int checksum;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length <= 0 || length > MAX_RECORD_SIZE) break;
+
+                if (record.length < length) {
+                    record = new byte[Math.max(length, record.length * 2)];
+                }
+                if (!readFully(in, record, length)) break;
+
+                crc.reset();
+                crc.update(record, 0, length);
+                if ((int) crc.getValue() != checksum) break;
+
+                if (!apply(ByteBuffer.wrap(record, 0, length), index)) break;
+
+                validLength += RECORD_PREFIX + length;
+                recordCount++;
+            }
+        } catch (EOFException e) {
+            throw new IOException("Fichier de profils tronqué: " + file, e);
+        }
+
+        long fileLength = Files.size(file);
+        if (validLength < fileLength) {
+            LOG.warn("⚠️ Fin du fichier de profils illisible, {} octets ignorés", fileLength - validLength);
+            openChannel().truncate(validLength);
+        }
+    }
+
+    private static boolean readFully(InputStream in, byte[] target, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int count = in.read(target, read, length - read);
+            if (count < 0) return false;
+            read += count;
+        }
+        return true;
+    }
+
+    private static boolean apply(ByteBuffer record, Map<String, Profile> index) {
+        try {
+            byte type = record.get();
+            String firstName = readString(record);
+            String lastName = readString(record);
+            String key = indexKey(firstName, lastName);
+
+            if (type == DELETE) {
+                index.remove(key);
+                return true;
+            }
+            if (type != PUT) return false;
+
+            String colorName = readString(record);
+            int gamesPlayed = record.getInt();
+            int gamesWon = record.getInt();
+            int totalScore = record.getInt();
+            boolean rated = record.remaining() >= RATING_FIELDS;
+            double rating = rated ? record.getDouble() : SkillRating.DEFAULT_RATING;
+            double deviation = rated ? record.getDouble() : SkillRating.DEFAULT_DEVIATION;
+            double volatility = rated ? record.getDouble() : SkillRating.DEFAULT_VOLATILITY;
+
+            Profile profile = index.get(key);
+            if (profile == null) {
+                profile = new Profile(firstName, lastName, colorName, gamesPlayed, gamesWon, totalScore);
+                index.put(key, profile);
+            } else {
+                profile.setColorName(colorName);
+                profile.setGamesPlayed(gamesPlayed);
+                profile.setGamesWon(gamesWon);
+                profile.setTotalScore(totalScore);
+            }
+            profile.setRating(rating, deviation, volatility);
+            return true;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String readString(ByteBuffer record) {
+        int length = Short.toUnsignedInt(record.getShort());
+        if (length > record.remaining()) throw new BufferUnderflowException();
+
+        String value = new String(record.array(), record.arrayOffset() + record.position(), length, StandardCharsets.UTF_8);
+        record.position(record.position() + length);
+        return value;
+    }
+
+    // ===== ÉCRITURE =====
+
+    /**
+     * Ajoute l'état courant d'un profil en fin de journal.
+     *
+     * @param profile Profil créé ou modifié
+     * @throws IOException Si l'écriture échoue
+     */
+    synchronized void appendPut(Profile profile) throws IOException {
+        beginRecord(PUT, profile.getFirstName(), profile.getLastName());
+        putString(profile.getColorName());
+        ensureCapacity(3 * Integer.BYTES + RATING_FIELDS);
+        buffer.putInt(profile.getGamesPlayed());
+        buffer.putInt(profile.getGamesWon());
+        buffer.putInt(profile.getTotalScore());
+        buffer.putDouble(profile.getRating());
+        buffer.putDouble(profile.getRatingDeviation());
+        buffer.putDouble(profile.getVolatility());
+        writeRecord();
+    }
+
+    /**
+     * Ajoute la suppression d'un profil en fin de journal.
+     *
+     * @param profile Profil supprimé
+     * @throws IOException Si l'écriture échoue
+     */
+    synchronized void appendDelete(Profile profile) throws IOException {
+        beginRecord(DELETE, profile.getFirstName(), profile.getLastName());
+        writeRecord();
+    }
+
+    /**
+     * Indique si le journal mérite d'être compacté : il dépasse le seuil minimal et les
+     * enregistrements périmés y sont plus nombreux que les profils vivants.
+     *
+     * @param liveCount Nombre de profils en mémoire
+     * @return true si {@link #compact(Collection)} doit être appelé
+     */
+    synchronized boolean needsCompaction(int liveCount) {
+        return recordCount > COMPACTION_MIN_RECORDS && recordCount > 2 * liveCount;
+    }
+
+    /**
+     * Réécrit le journal avec un seul enregistrement par profil vivant.
+     * <p>
+     * Le nouveau fichier est écrit à côté de l'ancien puis le remplace d'un seul
+     * déplacement : un arrêt pendant la compaction laisse l'ancien journal intact.
+     * </p>
+     *
+     * @param profiles Profils vivants
+     * @throws IOException Si l'écriture échoue
+     */
+    synchronized void compact(Collection<Profile> profiles) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        closeChannel();
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel = out;
+            writeHeader();
+            for (Profile profile : profiles) {
+                appendPut(profile);
+            }
+            out.force(false);
+        } finally {
+            channel = null;
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        recordCount = profiles.size();
+    }
+
+    /**
+     * Compacte le journal à partir de son propre contenu : il est relu pour retrouver les
+     * profils vivants, puis réécrit. Utilisé hors du thread de l'interface, qui seul
+     * possède les profils en mémoire.
+     *
+     * @throws IOException Si la lecture ou l'écriture échoue
+     */
+    synchronized void compact() throws IOException {
+        Map<String, Profile> live = new LinkedHashMap<>();
+        load(live);
+        compact(live.values());
+    }
+
+    /**
+     * Force l'écriture sur le disque des enregistrements déjà ajoutés.
+     *
+     * @throws IOException Si la synchronisation échoue
+     */
+    synchronized void sync() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeChannel();
+    }
+
+    private void beginRecord(byte type, String firstName, String lastName) {
+        buffer.clear();
+        buffer.position(RECORD_PREFIX);
+        buffer.put(type);
+        putString(firstName);
+        putString(lastName);
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Champ de profil trop long: " + bytes.length + " octets");
+        }
+        ensureCapacity(Short.BYTES + bytes.length);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (buffer.remaining() >= extra) return;
+
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + extra));
+        buffer.flip();
+        larger.put(buffer);
+        buffer = larger;
+    }
+
+    private void writeRecord() throws IOException {
+        int length = buffer.position() - RECORD_PREFIX;
+        crc.reset();
+        crc.update(buffer.array(), RECORD_PREFIX, length);
+        buffer.putInt(0, length);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        buffer.flip();
+
+        FileChannel out = openChannel();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        recordCount++;
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    /**
+     * Ouvre le journal en écriture, positionné en fin de fichier ; un fichier
+     * nouveau reçoit son en-tête.
+     */
+    private FileChannel openChannel() throws IOException {
+        if (channel != null) return channel;
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            writeHeader();
+        }
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            FileChannel open = channel;
+            channel = null;
+            open.close();
+        }
+    }
+}
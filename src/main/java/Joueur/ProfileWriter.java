@@ -0,0 +1,268 @@
+package Joueur;
+
+import Etat.SyncPolicy;
+import Journal.Log;
+import Journal.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Écriture différée des profils dans le {@link ProfileStore}.
+ * <p>
+ * Le thread de l'interface ne touche jamais au disque : chaque modification dépose une
+ * copie du profil dans une table des profils en attente, où une modification plus récente
+ * du même profil remplace la précédente. Un thread démon vide cette table par lots : il
+ * laisse passer un court délai pour regrouper les mises à jour d'une même fin de partie,
+ * écrit un enregistrement par profil modifié, puis synchronise le fichier selon la
+ * {@link SyncPolicy} choisie. Le journal est compacté sur ce même thread.
+ * </p>
+ * <p>
+ * Un crochet d'arrêt de la JVM écrit les modifications encore en attente.
+ * </p>
+ */
+final class ProfileWriter {
+
+    private static final Logger LOG = Log.getLogger(ProfileWriter.class);
+
+    /** Attente maximale de {@link #flush()} et du crochet d'arrêt */
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    private final ProfileStore store;
+    private final SyncPolicy syncPolicy;
+    private final long batchDelayMillis;
+    private final Thread thread;
+
+    private final Object lock = new Object();
+
+    /** Dernière modification en attente de chaque profil, par clé d'index */
+    private Map<String, PendingWrite> pending = new LinkedHashMap<>();
+    /** Contenu complet à réécrire avant les modifications en attente, ou null */
+    private List<Profile> rewrite;
+    /** Nombre de profils vivants, pour décider d'une compaction */
+    private int liveCount;
+    private boolean writing;
+    private boolean flushRequested;
+
+    /**
+     * Crée l'écrivain et démarre son thread.
+     *
+     * @param store Journal des profils
+     * @param syncPolicy Politique de synchronisation sur disque
+     * @param batchDelayMillis Délai de regroupement des modifications avant écriture
+     */
+    ProfileWriter(ProfileStore store, SyncPolicy syncPolicy, long batchDelayMillis) {
+        this.store = store;
+        this.syncPolicy = syncPolicy;
+        this.batchDelayMillis = batchDelayMillis;
+
+        thread = new Thread(this::writeLoop, "bomberman-profile-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "bomberman-profile-flush"));
+    }
+
+    // ===== MODIFICATIONS =====
+
+    /**
+     * Programme l'écriture de l'état courant d'un profil.
+     *
+     * @param key Clé d'index du profil
+     * @param profile Profil créé ou modifié ; une copie est prise immédiatement
+     * @param liveCount Nombre de profils après la modification
+     */
+    void put(String key, Profile profile, int liveCount) {
+        Profile snapshot = copyOf(profile);
+        synchronized (lock) {
+            pending.put(key, new PendingWrite(snapshot, false));
+            this.liveCount = liveCount;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Programme la suppression d'un profil.
+     *
+     * @param key Clé d'index du profil
+     * @param profile Profil supprimé
+     * @param liveCount Nombre de profils après la suppression
+     */
+    void delete(String key, Profile profile, int liveCount) {
+        Profile snapshot = copyOf(profile);
+        synchronized (lock) {
+            pending.put(key, new PendingWrite(snapshot, true));
+            this.liveCount = liveCount;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Programme la réécriture complète du journal ; les modifications en attente,
+     * antérieures, sont abandonnées.
+     *
+     * @param profiles Profils vivants ; une copie est prise immédiatement
+     */
+    void rewrite(Collection<Profile> profiles) {
+        List<Profile> snapshot = new ArrayList<>(profiles.size());
+        for (Profile profile : profiles) {
+            snapshot.add(copyOf(profile));
+        }
+        synchronized (lock) {
+            pending.clear();
+            rewrite = snapshot;
+            liveCount = snapshot.size();
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Attend que toutes les modifications programmées soient écrites (au plus
+     * {@value #FLUSH_TIMEOUT_MILLIS} ms).
+     *
+     * @return true si tout a été écrit dans le délai
+     */
+    boolean flush() {
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+        synchronized (lock) {
+            flushRequested = true;
+            lock.notifyAll();
+            try {
+                while (hasWork() || writing) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        LOG.warn("⚠️ {} profils n'ont pas pu être enregistrés à temps", pending.size());
+                        return false;
+                    }
+                    lock.wait(remaining);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                flushRequested = false;
+            }
+        }
+    }
+
+    private boolean hasWork() {
+        return !pending.isEmpty() || rewrite != null;
+    }
+
+    private static Profile copyOf(Profile profile) {
+        Profile copy = new Profile(profile.getFirstName(), profile.getLastName(), profile.getColorName(),
+                profile.getGamesPlayed(), profile.getGamesWon(), profile.getTotalScore());
+        copy.setRating(profile.getRating(), profile.getRatingDeviation(), profile.getVolatility());
+        return copy;
+    }
+
+    // ===== THREAD D'ÉCRITURE =====
+
+    private void writeLoop() {
+        while (true) {
+            Map<String, PendingWrite> batch;
+            List<Profile> fullRewrite;
+            int live;
+
+            synchronized (lock) {
+                try {
+                    while (!hasWork()) {
+                        lock.wait();
+                    }
+                    // Laisser les modifications d'une même fin de partie se regrouper
+                    long deadline = System.currentTimeMillis() + batchDelayMillis;
+                    long remaining;
+                    while (!flushRequested && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                        lock.wait(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                batch = pending;
+                pending = new LinkedHashMap<>();
+                fullRewrite = rewrite;
+                rewrite = null;
+                live = liveCount;
+                writing = true;
+            }
+
+            try {
+                write(batch, fullRewrite, live);
+            } catch (IOException | RuntimeException e) {
+                LOG.error("❌ Erreur lors de la sauvegarde des profils", e);
+                requeue(batch, fullRewrite);
+            } finally {
+                synchronized (lock) {
+                    writing = false;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void write(Map<String, PendingWrite> batch, List<Profile> fullRewrite, int live) throws IOException {
+        long start = System.nanoTime();
+
+        if (fullRewrite != null) {
+            store.compact(fullRewrite);
+        }
+        for (PendingWrite write : batch.values()) {
+            if (write.deleted) {
+                store.appendDelete(write.profile);
+            } else {
+                store.appendPut(write.profile);
+            }
+            if (syncPolicy == SyncPolicy.EACH) {
+                store.sync();
+            }
+        }
+        if (syncPolicy == SyncPolicy.BATCH) {
+            store.sync();
+        }
+
+        if (store.needsCompaction(live)) {
+            store.compact();
+        }
+        LOG.debug("💾 {} profils enregistrés en {} µs", batch.size(), (System.nanoTime() - start) / 1000);
+    }
+
+    /**
+     * Remet en attente un lot qui n'a pas pu être écrit, sans écraser les modifications
+     * plus récentes.
+     */
+    private void requeue(Map<String, PendingWrite> batch, List<Profile> fullRewrite) {
+        synchronized (lock) {
+            // Une réécriture demandée entre-temps remplace tout le lot
+            if (rewrite == null) {
+                rewrite = fullRewrite;
+                Map<String, PendingWrite> merged = new LinkedHashMap<>(batch);
+                merged.putAll(pending);
+                pending = merged;
+            }
+            try {
+                // Ne pas réessayer en boucle serrée si le disque reste indisponible
+                lock.wait(Math.max(batchDelayMillis, 1000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Modification en attente d'un profil : son dernier état, ou sa suppression.
+     */
+    private static final class PendingWrite {
+        final Profile profile;
+        final boolean deleted;
+
+        PendingWrite(Profile profile, boolean deleted) {
+            this.profile = profile;
+            this.deleted = deleted;
+        }
+    }
+}
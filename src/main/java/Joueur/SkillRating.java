@@ -0,0 +1,170 @@
+package Joueur;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calcul des cotes Glicko-2 des profils.
+ * <p>
+ * Chaque partie est une période de classement : tous les participants sont mis à jour à
+ * partir des cotes de leurs adversaires <em>avant</em> la partie, si bien que l'ordre de
+ * traitement ne compte pas. Une partie à plusieurs joueurs est décomposée en duels : le
+ * gagnant bat chacun des autres ; les perdants ne sont pas départagés entre eux, la partie
+ * ne disant rien de leur ordre. Sans gagnant (élimination simultanée), chaque paire de
+ * participants fait match nul.
+ * </p>
+ * <p>
+ * Le calcul suit Glickman, « Example of the Glicko-2 system » (2013) ; la nouvelle
+ * volatilité est obtenue par la méthode d'Illinois.
+ * </p>
+ */
+public final class SkillRating {
+
+    /** Cote d'un nouveau joueur */
+    public static final double DEFAULT_RATING = 1500;
+    /** Écart type d'un nouveau joueur */
+    public static final double DEFAULT_DEVIATION = 350;
+    /** Volatilité d'un nouveau joueur */
+    public static final double DEFAULT_VOLATILITY = 0.06;
+
+    /** Contrainte sur l'évolution de la volatilité (entre 0.3 et 1.2 selon Glickman) */
+    private static final double TAU = 0.5;
+    /** Facteur entre l'échelle Glicko et l'échelle interne de Glicko-2 */
+    private static final double SCALE = 173.7178;
+    /** Précision de la recherche de la volatilité */
+    private static final double EPSILON = 1e-6;
+
+    private SkillRating() {
+    }
+
+    /**
+     * Met à jour la cote des participants d'une partie.
+     * <p>
+     * Un même profil présent plusieurs fois n'est compté qu'une fois ; avec moins de deux
+     * profils distincts, rien n'est modifié.
+     * </p>
+     *
+     * @param participants Profils des joueurs de la partie
+     * @param winner Profil du gagnant, ou null si la partie n'a pas de gagnant (ou que le
+     *               gagnant n'a pas de profil)
+     */
+    public static void rateMatch(List<Profile> participants, Profile winner) {
+        List<Profile> players = new ArrayList<>(participants.size());
+        for (Profile profile : participants) {
+            if (profile != null && !containsSame(players, profile)) {
+                players.add(profile);
+            }
+        }
+        int count = players.size();
+        if (count < 2) return;
+
+        // Cotes d'avant la partie, sur l'échelle Glicko-2
+        double[] mu = new double[count];
+        double[] phi = new double[count];
+        for (int i = 0; i < count; i++) {
+            mu[i] = (players.get(i).getRating() - DEFAULT_RATING) / SCALE;
+            phi[i] = players.get(i).getRatingDeviation() / SCALE;
+        }
+
+        boolean decided = winner != null && containsSame(players, winner);
+        double[][] updated = new double[count][];
+        for (int i = 0; i < count; i++) {
+            Profile player = players.get(i);
+            boolean isWinner = player == winner;
+
+            double inverseVariance = 0;
+            double improvement = 0;
+            for (int j = 0; j < count; j++) {
+                if (j == i) continue;
+                double score;
+                if (!decided) {
+                    score = 0.5;
+                } else if (isWinner) {
+                    score = 1;
+                } else if (players.get(j) == winner) {
+                    score = 0;
+                } else {
+                    // Deux perdants : aucun résultat entre eux
+                    continue;
+                }
+                double g = g(phi[j]);
+                double expected = 1 / (1 + Math.exp(-g * (mu[i] - mu[j])));
+                inverseVariance += g * g * expected * (1 - expected);
+                improvement += g * (score - expected);
+            }
+
+            updated[i] = update(mu[i], phi[i], player.getVolatility(), 1 / inverseVariance, improvement);
+        }
+
+        for (int i = 0; i < count; i++) {
+            players.get(i).setRating(DEFAULT_RATING + SCALE * updated[i][0], SCALE * updated[i][1], updated[i][2]);
+        }
+    }
+
+    /**
+     * Étapes 5 à 7 de Glicko-2 : nouvelle volatilité, nouvel écart type et nouvelle cote.
+     *
+     * @param mu Cote (échelle Glicko-2)
+     * @param phi Écart type (échelle Glicko-2)
+     * @param sigma Volatilité
+     * @param variance Variance estimée de la cote d'après les résultats
+     * @param improvement Somme des g(φj)(sj - Ej)
+     * @return La nouvelle cote, le nouvel écart type et la nouvelle volatilité
+     */
+    static double[] update(double mu, double phi, double sigma, double variance, double improvement) {
+        double delta = variance * improvement;
+        double phi2 = phi * phi;
+        double delta2 = delta * delta;
+        double a = Math.log(sigma * sigma);
+
+        double boundA = a;
+        double boundB;
+        if (delta2 > phi2 + variance) {
+            boundB = Math.log(delta2 - phi2 - variance);
+        } else {
+            int k = 1;
+            while (volatilityEquation(a - k * TAU, a, phi2, variance, delta2) < 0) {
+                k++;
+            }
+            boundB = a - k * TAU;
+        }
+
+        double fA = volatilityEquation(boundA, a, phi2, variance, delta2);
+        double fB = volatilityEquation(boundB, a, phi2, variance, delta2);
+        while (Math.abs(boundB - boundA) > EPSILON) {
+            double c = boundA + (boundA - boundB) * fA / (fB - fA);
+            double fC = volatilityEquation(c, a, phi2, variance, delta2);
+            if (fC * fB <= 0) {
+                boundA = boundB;
+                fA = fB;
+            } else {
+                fA /= 2;
+            }
+            boundB = c;
+            fB = fC;
+        }
+
+        double newSigma = Math.exp(boundA / 2);
+        double preRatingPhi = Math.sqrt(phi2 + newSigma * newSigma);
+        double newPhi = 1 / Math.sqrt(1 / (preRatingPhi * preRatingPhi) + 1 / variance);
+        double newMu = mu + newPhi * newPhi * improvement;
+        return new double[]{newMu, newPhi, newSigma};
+    }
+
+    private static double volatilityEquation(double x, double a, double phi2, double variance, double delta2) {
+        double ex = Math.exp(x);
+        double denominator = phi2 + variance + ex;
+        return ex * (delta2 - phi2 - variance - ex) / (2 * denominator * denominator) - (x - a) / (TAU * TAU);
+    }
+
+    private static double g(double phi) {
+        return 1 / Math.sqrt(1 + 3 * phi * phi / (Math.PI * Math.PI));
+    }
+
+    private static boolean containsSame(List<Profile> profiles, Profile profile) {
+        for (Profile candidate : profiles) {
+            if (candidate == profile) return true;
+        }
+        return false;
+    }
+}
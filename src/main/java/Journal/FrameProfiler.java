@@ -0,0 +1,332 @@
+package Journal;
+
+import Etat.FramePhase;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Profileur des frames de la boucle de jeu.
+ * <p>
+ * Chaque frame est découpée en {@link FramePhase phases} : la boucle appelle
+ * {@link #beginFrame()}, puis {@link #mark(FramePhase)} à la fin de chaque phase
+ * (le temps écoulé depuis la marque précédente est attribué à la phase), puis
+ * {@link #endFrame(int)}. Une phase exécutée plusieurs fois dans la frame (rattrapage
+ * de plusieurs ticks) cumule ses durées.
+ * </p>
+ * <p>
+ * Les {@value #WINDOW} dernières frames sont conservées dans des tableaux circulaires
+ * alloués une fois : durée de chaque phase, durée totale, octets alloués par le thread
+ * de la boucle et ramasse-miettes survenus pendant la frame. Les percentiles ne sont
+ * calculés qu'à la demande. Désactivé, le profileur se réduit à un test par appel.
+ * </p>
+ */
+public final class FrameProfiler {
+
+    /** Nombre de frames conservées (10 secondes à 60 images par seconde) */
+    public static final int WINDOW = 600;
+
+    private static final FramePhase[] PHASES = FramePhase.values();
+
+    private final long[][] phaseNanos = new long[PHASES.length][WINDOW];
+    private final long[] frameNanos = new long[WINDOW];
+    private final int[] updates = new int[WINDOW];
+    private final long[] allocatedBytes = new long[WINDOW];
+    private final long[] gcCounts = new long[WINDOW];
+    private final long[] gcMillis = new long[WINDOW];
+
+    /** Durées de la frame en cours */
+    private final long[] current = new long[PHASES.length];
+
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    private boolean enabled;
+    private boolean inFrame;
+    private long frameCount;
+
+    private long frameStart;
+    private long lastMark;
+    private long allocationStart;
+    private long gcCountStart;
+    private long gcMillisStart;
+
+    /**
+     * Crée un profileur désactivé.
+     */
+    public FrameProfiler() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean sunThreads
+                && sunThreads.isThreadAllocatedMemorySupported()) {
+            sunThreads.setThreadAllocatedMemoryEnabled(true);
+            this.allocationBean = sunThreads;
+        } else {
+            this.allocationBean = null;
+        }
+    }
+
+    // ===== MESURE =====
+
+    /**
+     * Commence la mesure d'une frame.
+     */
+    public void beginFrame() {
+        if (!enabled) return;
+        Arrays.fill(current, 0);
+        allocationStart = allocatedBytes();
+        gcCountStart = 0;
+        gcMillisStart = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCountStart += Math.max(0, collector.getCollectionCount());
+            gcMillisStart += Math.max(0, collector.getCollectionTime());
+        }
+        inFrame = true;
+        frameStart = System.nanoTime();
+        lastMark = frameStart;
+    }
+
+    /**
+     * Termine une phase : le temps écoulé depuis la marque précédente lui est attribué.
+     *
+     * @param phase Phase qui vient de s'achever
+     */
+    public void mark(FramePhase phase) {
+        if (!inFrame) return;
+        long now = System.nanoTime();
+        current[phase.ordinal()] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Termine la frame et l'enregistre dans la fenêtre glissante.
+     *
+     * @param tickCount Nombre de ticks du moteur joués pendant la frame
+     */
+    public void endFrame(int tickCount) {
+        if (!inFrame) return;
+        inFrame = false;
+        long end = System.nanoTime();
+
+        int slot = (int) (frameCount % WINDOW);
+        for (int p = 0; p < PHASES.length; p++) {
+            phaseNanos[p][slot] = current[p];
+        }
+        frameNanos[slot] = end - frameStart;
+        updates[slot] = tickCount;
+        allocatedBytes[slot] = allocationBean != null ? allocatedBytes() - allocationStart : -1;
+
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcTime += Math.max(0, collector.getCollectionTime());
+        }
+        gcCounts[slot] = gcCount - gcCountStart;
+        gcMillis[slot] = gcTime - gcMillisStart;
+        frameCount++;
+    }
+
+    private long allocatedBytes() {
+        return allocationBean != null ? allocationBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    // ===== CONFIGURATION =====
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Active ou désactive la mesure ; la fenêtre est vidée à l'activation.
+     *
+     * @param enabled true pour mesurer les frames suivantes
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            frameCount = 0;
+        }
+        this.enabled = enabled;
+        inFrame = false;
+    }
+
+    /**
+     * @return Le nombre de frames mesurées depuis l'activation
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return true si les octets alloués par frame sont mesurés par la JVM
+     */
+    public boolean isAllocationSupported() {
+        return allocationBean != null;
+    }
+
+    // ===== STATISTIQUES =====
+
+    /**
+     * Statistiques d'une série de mesures sur la fenêtre glissante.
+     */
+    public static final class Stats {
+        private final long p50;
+        private final long p99;
+        private final long max;
+        private final long total;
+
+        Stats(long p50, long p99, long max, long total) {
+            this.p50 = p50;
+            this.p99 = p99;
+            this.max = max;
+            this.total = total;
+        }
+
+        public long getP50() { return p50; }
+
+        public long getP99() { return p99; }
+
+        public long getMax() { return max; }
+
+        /** @return La somme des mesures de la fenêtre */
+        public long getTotal() { return total; }
+    }
+
+    /**
+     * @param phase Phase mesurée
+     * @return Les durées de la phase par frame, en nanosecondes
+     */
+    public Stats getPhaseStats(FramePhase phase) {
+        return stats(phaseNanos[phase.ordinal()]);
+    }
+
+    /**
+     * @return Les durées totales des frames, en nanosecondes
+     */
+    public Stats getFrameStats() {
+        return stats(frameNanos);
+    }
+
+    /**
+     * @return Les octets alloués par frame sur le thread de la boucle de jeu
+     */
+    public Stats getAllocationStats() {
+        return stats(allocatedBytes);
+    }
+
+    /**
+     * @return Les ramasse-miettes survenus par frame
+     */
+    public Stats getGcCountStats() {
+        return stats(gcCounts);
+    }
+
+    /**
+     * @return Le temps passé dans le ramasse-miettes par frame, en millisecondes
+     */
+    public Stats getGcMillisStats() {
+        return stats(gcMillis);
+    }
+
+    private Stats stats(long[] samples) {
+        int count = sampleCount();
+        if (count == 0) {
+            return new Stats(0, 0, 0, 0);
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long sample : sorted) {
+            total += sample;
+        }
+        return new Stats(percentile(sorted, 50), percentile(sorted, 99), sorted[count - 1], total);
+    }
+
+    /**
+     * Percentile par la méthode du rang le plus proche.
+     */
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private int sampleCount() {
+        return (int) Math.min(frameCount, WINDOW);
+    }
+
+    // ===== RAPPORT =====
+
+    /**
+     * Construit le résumé affiché par la surcouche du profileur.
+     *
+     * @return Un texte à colonnes fixes (durées en microsecondes)
+     */
+    public String formatReport() {
+        StringBuilder report = new StringBuilder(512);
+        report.append(String.format("%-10s %5s %5s %5s%n", "µs", "p50", "p99", "max"));
+        for (FramePhase phase : PHASES) {
+            appendMicros(report, phase.getDisplayName(), getPhaseStats(phase));
+        }
+        appendMicros(report, "FRAME", getFrameStats());
+
+        if (allocationBean != null) {
+            Stats allocation = getAllocationStats();
+            report.append(String.format("%-10s %5d %5d %5d%n", "Alloc Ko",
+                    allocation.getP50() / 1024, allocation.getP99() / 1024, allocation.getMax() / 1024));
+        }
+        report.append(String.format("GC %d (%d ms) / %d frames",
+                getGcCountStats().getTotal(), getGcMillisStats().getTotal(), sampleCount()));
+        return report.toString();
+    }
+
+    private static void appendMicros(StringBuilder report, String name, Stats stats) {
+        report.append(String.format("%-10s %5d %5d %5d%n", name,
+                stats.getP50() / 1000, stats.getP99() / 1000, stats.getMax() / 1000));
+    }
+
+    /**
+     * Exporte les frames de la fenêtre, de la plus ancienne à la plus récente.
+     *
+     * @param file Fichier CSV à écrire
+     * @throws IOException En cas d'erreur d'écriture
+     */
+    public void exportCsv(Path file) throws IOException {
+        int count = sampleCount();
+        long first = frameCount - count;
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("frame");
+            for (FramePhase phase : PHASES) {
+                writer.write(',');
+                writer.write(phase.name().toLowerCase());
+                writer.write("_ns");
+            }
+            writer.write(",frame_ns,ticks,alloc_bytes,gc_count,gc_ms");
+            writer.newLine();
+
+            StringBuilder row = new StringBuilder(256);
+            for (long frame = first; frame < frameCount; frame++) {
+                int slot = (int) (frame % WINDOW);
+                row.setLength(0);
+                row.append(frame);
+                for (int p = 0; p < PHASES.length; p++) {
+                    row.append(',').append(phaseNanos[p][slot]);
+                }
+                row.append(',').append(frameNanos[slot])
+                        .append(',').append(updates[slot])
+                        .append(',').append(allocatedBytes[slot])
+                        .append(',').append(gcCounts[slot])
+                        .append(',').append(gcMillis[slot]);
+                writer.write(row.toString());
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package Journal;
+
+import Etat.LogLevel;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Point d'entrée de la journalisation du jeu.
+ * <p>
+ * Chaque classe obtient son {@link Logger} par {@link #getLogger(Class)}. Le niveau d'un
+ * journal est celui du préfixe configuré le plus précis (nom de classe, puis paquets
+ * englobants, puis niveau racine). La configuration se fait par programme
+ * ({@link #setLevel(String, LogLevel)}) ou par propriétés système :
+ * </p>
+ * <ul>
+ *   <li>{@code -Dbomberman.log.level=DEBUG} : niveau racine (INFO par défaut)</li>
+ *   <li>{@code -Dbomberman.log.level.IABomberMan=OFF} : niveau d'un paquet ou d'une classe</li>
+ * </ul>
+ * <p>
+ * Les messages ne sont ni formatés ni écrits par le thread appelant : ils sont déposés
+ * dans une {@link LogRingBuffer} vidée par un thread démon qui les formate et les écrit
+ * sur la sortie standard. La boucle de jeu ne bloque donc jamais sur la console.
+ * </p>
+ */
+public final class Log {
+
+    /** Préfixe des propriétés système de configuration */
+    public static final String PROPERTY_PREFIX = "bomberman.log.level";
+
+    /** Nombre de messages pouvant attendre le thread d'écriture */
+    private static final int BUFFER_CAPACITY = 8192;
+
+    /** Attente du thread d'écriture quand la file est vide */
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+    private static final Map<String, LogLevel> LEVELS = new ConcurrentHashMap<>();
+    private static final Map<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+    private static volatile LogLevel rootLevel = LogLevel.INFO;
+
+    private static final LogRingBuffer BUFFER = new LogRingBuffer(BUFFER_CAPACITY);
+    private static final PrintStream OUT = System.out;
+    private static final Thread WRITER;
+
+    static {
+        loadSystemProperties();
+
+        WRITER = new Thread(Log::drainLoop, "bomberman-log-writer");
+        WRITER.setDaemon(true);
+        WRITER.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "bomberman-log-flush"));
+    }
+
+    private Log() {
+    }
+
+    // ===== CONFIGURATION =====
+
+    /**
+     * Retourne le journal d'une classe.
+     *
+     * @param type Classe qui journalise
+     * @return Le journal associé (partagé par les appels suivants)
+     */
+    public static Logger getLogger(Class<?> type) {
+        return getLogger(type.getName());
+    }
+
+    /**
+     * Retourne le journal d'un nom arbitraire (nom qualifié de classe ou de paquet).
+     *
+     * @param name Nom du journal
+     * @return Le journal associé
+     */
+    public static Logger getLogger(String name) {
+        return LOGGERS.computeIfAbsent(name, n -> new Logger(n, resolveLevel(n)));
+    }
+
+    /**
+     * Fixe le niveau d'un paquet ou d'une classe ; les journaux existants sont mis à jour.
+     *
+     * @param prefix Nom de paquet (ex. {@code IABomberMan}) ou nom qualifié de classe
+     * @param level Niveau, ou null pour revenir au niveau hérité
+     */
+    public static void setLevel(String prefix, LogLevel level) {
+        if (level == null) {
+            LEVELS.remove(prefix);
+        } else {
+            LEVELS.put(prefix, level);
+        }
+        refreshLoggers();
+    }
+
+    /**
+     * Fixe le niveau racine, utilisé par les journaux sans configuration propre.
+     *
+     * @param level Nouveau niveau racine
+     */
+    public static void setRootLevel(LogLevel level) {
+        rootLevel = level;
+        refreshLoggers();
+    }
+
+    public static LogLevel getRootLevel() {
+        return rootLevel;
+    }
+
+    private static void refreshLoggers() {
+        for (Logger logger : LOGGERS.values()) {
+            logger.setThreshold(resolveLevel(logger.getName()));
+        }
+    }
+
+    /**
+     * Cherche le niveau du préfixe le plus précis d'un nom.
+     */
+    private static LogLevel resolveLevel(String name) {
+        String prefix = name;
+        while (true) {
+            LogLevel level = LEVELS.get(prefix);
+            if (level != null) return level;
+            int dot = prefix.lastIndexOf('.');
+            if (dot < 0) return rootLevel;
+            prefix = prefix.substring(0, dot);
+        }
+    }
+
+    private static void loadSystemProperties() {
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (!key.startsWith(PROPERTY_PREFIX)) continue;
+            LogLevel level = parseLevel(System.getProperty(key));
+            if (level == null) continue;
+
+            if (key.equals(PROPERTY_PREFIX)) {
+                rootLevel = level;
+            } else if (key.charAt(PROPERTY_PREFIX.length()) == '.') {
+                LEVELS.put(key.substring(PROPERTY_PREFIX.length() + 1), level);
+            }
+        }
+    }
+
+    private static LogLevel parseLevel(String value) {
+        try {
+            return LogLevel.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            OUT.println("⚠️ Niveau de journalisation inconnu: " + value);
+            return null;
+        }
+    }
+
+    // ===== FILE ET THREAD D'ÉCRITURE =====
+
+    static void enqueue(LogLevel level, String loggerName, String pattern, Object arg1, Object arg2, Object arg3,
+                        Supplier<String> supplier, Throwable error) {
+        BUFFER.offer(level, loggerName, pattern, arg1, arg2, arg3, supplier, error);
+    }
+
+    /**
+     * Attend que les messages déjà déposés soient écrits (au plus une seconde).
+     */
+    public static void flush() {
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (!BUFFER.isEmpty() && System.nanoTime() < deadline) {
+            LockSupport.unpark(WRITER);
+            Thread.onSpinWait();
+        }
+        OUT.flush();
+    }
+
+    private static void drainLoop() {
+        StringBuilder line = new StringBuilder(256);
+        while (true) {
+            LogRingBuffer.Slot slot = BUFFER.peek();
+            if (slot == null) {
+                long dropped = BUFFER.takeDropped();
+                if (dropped > 0) {
+                    OUT.println("⚠️ Journal saturé: " + dropped + " messages perdus");
+                }
+                OUT.flush();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+
+            line.setLength(0);
+            try {
+                format(slot, line);
+                OUT.append(line);
+                if (slot.error != null) {
+                    slot.error.printStackTrace(OUT);
+                }
+            } catch (RuntimeException e) {
+                OUT.println("⚠️ Message de journal illisible (" + slot.loggerName + "): " + e);
+            }
+            BUFFER.release();
+        }
+    }
+
+    private static void format(LogRingBuffer.Slot slot, StringBuilder line) {
+        long millisOfDay = Math.floorMod(slot.timeMillis + java.util.TimeZone.getDefault().getOffset(slot.timeMillis),
+                86_400_000L);
+        appendPadded(line, millisOfDay / 3_600_000L, 2).append(':');
+        appendPadded(line, millisOfDay / 60_000L % 60, 2).append(':');
+        appendPadded(line, millisOfDay / 1000L % 60, 2).append('.');
+        appendPadded(line, millisOfDay % 1000L, 3).append(' ');
+
+        line.append(slot.level.name());
+        for (int i = slot.level.name().length(); i < 5; i++) line.append(' ');
+        line.append(" [").append(slot.loggerName).append("] ");
+
+        if (slot.supplier != null) {
+            line.append(slot.supplier.get());
+        } else {
+            appendPattern(line, slot.pattern, slot.arg1, slot.arg2, slot.arg3);
+        }
+        line.append(System.lineSeparator());
+    }
+
+    /**
+     * Remplace les marqueurs {@code {}} du motif par les arguments, dans l'ordre.
+     */
+    private static void appendPattern(StringBuilder line, String pattern, Object arg1, Object arg2, Object arg3) {
+        if (pattern == null) {
+            line.append("null");
+            return;
+        }
+        int argIndex = 0;
+        int start = 0;
+        int marker;
+        while (argIndex < 3 && (marker = pattern.indexOf("{}", start)) >= 0) {
+            line.append(pattern, start, marker);
+            line.append(argIndex == 0 ? arg1 : argIndex == 1 ? arg2 : arg3);
+            argIndex++;
+            start = marker + 2;
+        }
+        line.append(pattern, start, pattern.length());
+    }
+
+    private static StringBuilder appendPadded(StringBuilder line, long value, int width) {
+        for (long bound = 10, digits = 1; digits < width; bound *= 10, digits++) {
+            if (value < bound) line.append('0');
+        }
+        return line.append(value);
+    }
+}
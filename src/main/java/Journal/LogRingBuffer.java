@@ -0,0 +1,147 @@
+package Journal;
+
+import Etat.LogLevel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * File circulaire bornée et sans verrou entre les threads qui journalisent et le
+ * thread d'écriture.
+ * <p>
+ * Les emplacements sont alloués une fois pour toutes : un producteur réserve un
+ * emplacement par CAS sur la position d'écriture, le remplit puis le publie via son
+ * numéro de séquence. Le seul consommateur est le thread d'écriture. Quand la file
+ * est pleine, le message est abandonné et compté plutôt que de bloquer le producteur.
+ * </p>
+ */
+final class LogRingBuffer {
+
+    /**
+     * Emplacement réutilisable contenant un message non formaté.
+     */
+    static final class Slot {
+        LogLevel level;
+        String loggerName;
+        String pattern;
+        Object arg1;
+        Object arg2;
+        Object arg3;
+        Supplier<String> supplier;
+        Throwable error;
+        long timeMillis;
+        String threadName;
+
+        void clear() {
+            loggerName = null;
+            pattern = null;
+            arg1 = null;
+            arg2 = null;
+            arg3 = null;
+            supplier = null;
+            error = null;
+            threadName = null;
+        }
+    }
+
+    private final Slot[] slots;
+    /** Séquence de chaque emplacement : position + 1 quand il est publié */
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    /** Prochaine position à réserver par un producteur */
+    private final AtomicLong tail = new AtomicLong();
+    /** Prochaine position à lire (consommateur unique) */
+    private long head;
+    /** Messages abandonnés faute de place */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Crée une file.
+     *
+     * @param capacity Capacité (arrondie à la puissance de deux supérieure)
+     */
+    LogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Dépose un message (appelé par n'importe quel thread).
+     *
+     * @return false si la file est pleine et que le message a été abandonné
+     */
+    boolean offer(LogLevel level, String loggerName, String pattern, Object arg1, Object arg2, Object arg3,
+                  Supplier<String> supplier, Throwable error) {
+        long position;
+        while (true) {
+            position = tail.get();
+            long sequence = sequences.get((int) (position & mask));
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) break;
+            } else if (sequence < position) {
+                // Le consommateur n'a pas encore libéré cet emplacement : file pleine
+                dropped.incrementAndGet();
+                return false;
+            }
+        }
+
+        Slot slot = slots[(int) (position & mask)];
+        slot.level = level;
+        slot.loggerName = loggerName;
+        slot.pattern = pattern;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.arg3 = arg3;
+        slot.supplier = supplier;
+        slot.error = error;
+        slot.timeMillis = System.currentTimeMillis();
+        slot.threadName = Thread.currentThread().getName();
+
+        sequences.set((int) (position & mask), position + 1);
+        return true;
+    }
+
+    /**
+     * Retourne le prochain message publié, sans le retirer (consommateur uniquement).
+     *
+     * @return L'emplacement, ou null si la file est vide
+     */
+    Slot peek() {
+        int index = (int) (head & mask);
+        return sequences.get(index) == head + 1 ? slots[index] : null;
+    }
+
+    /**
+     * Libère l'emplacement retourné par {@link #peek()} (consommateur uniquement).
+     */
+    void release() {
+        int index = (int) (head & mask);
+        slots[index].clear();
+        sequences.set(index, head + slots.length);
+        head++;
+    }
+
+    /**
+     * @return true si aucun message n'est en attente
+     */
+    boolean isEmpty() {
+        return head == tail.get();
+    }
+
+    /**
+     * Récupère et remet à zéro le nombre de messages abandonnés.
+     *
+     * @return Le nombre de messages perdus depuis le dernier appel
+     */
+    long takeDropped() {
+        return dropped.getAndSet(0);
+    }
+}
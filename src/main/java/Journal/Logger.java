@@ -0,0 +1,130 @@
+package Journal;
+
+import Etat.LogLevel;
+
+import java.util.function.Supplier;
+
+/**
+ * Journal d'une classe du jeu.
+ * <p>
+ * Les messages utilisent des marqueurs {@code {}} remplacés par les arguments au moment
+ * de l'écriture, sur le thread d'écriture : l'appelant ne concatène rien. Lorsqu'un niveau
+ * est désactivé, un appel se réduit à la lecture d'un champ. Les arguments étant formatés
+ * plus tard, ils doivent être immuables (nombres, chaînes, énumérations...).
+ * </p>
+ * <p>
+ * Au-delà de trois arguments, utiliser la variante {@link Supplier} ou tester
+ * {@link #isDebugEnabled()} avant de construire le message.
+ * </p>
+ */
+public final class Logger {
+
+    private final String name;
+    private final String shortName;
+    /** Seuil courant, recalculé par {@link Log} quand la configuration change */
+    private volatile LogLevel threshold;
+
+    Logger(String name, LogLevel threshold) {
+        this.name = name;
+        this.shortName = name.substring(name.lastIndexOf('.') + 1);
+        this.threshold = threshold;
+    }
+
+    void setThreshold(LogLevel threshold) {
+        this.threshold = threshold;
+    }
+
+    public String getName() { return name; }
+
+    public LogLevel getThreshold() { return threshold; }
+
+    /**
+     * Vérifie si un niveau est actif pour ce journal.
+     *
+     * @param level Niveau du message
+     * @return true si le message serait écrit
+     */
+    public boolean isEnabled(LogLevel level) {
+        return level.isEnabledFor(threshold);
+    }
+
+    public boolean isTraceEnabled() { return isEnabled(LogLevel.TRACE); }
+
+    public boolean isDebugEnabled() { return isEnabled(LogLevel.DEBUG); }
+
+    public boolean isInfoEnabled() { return isEnabled(LogLevel.INFO); }
+
+    // ===== TRACE =====
+
+    public void trace(String message) { log(LogLevel.TRACE, message, null, null, null, null, null); }
+
+    public void trace(String pattern, Object arg) { log(LogLevel.TRACE, pattern, arg, null, null, null, null); }
+
+    public void trace(String pattern, Object arg1, Object arg2) { log(LogLevel.TRACE, pattern, arg1, arg2, null, null, null); }
+
+    public void trace(String pattern, Object arg1, Object arg2, Object arg3) { log(LogLevel.TRACE, pattern, arg1, arg2, arg3, null, null); }
+
+    public void trace(Supplier<String> message) { log(LogLevel.TRACE, null, null, null, null, message, null); }
+
+    // ===== DEBUG =====
+
+    public void debug(String message) { log(LogLevel.DEBUG, message, null, null, null, null, null); }
+
+    public void debug(String pattern, Object arg) { log(LogLevel.DEBUG, pattern, arg, null, null, null, null); }
+
+    public void debug(String pattern, Object arg1, Object arg2) { log(LogLevel.DEBUG, pattern, arg1, arg2, null, null, null); }
+
+    public void debug(String pattern, Object arg1, Object arg2, Object arg3) { log(LogLevel.DEBUG, pattern, arg1, arg2, arg3, null, null); }
+
+    public void debug(Supplier<String> message) { log(LogLevel.DEBUG, null, null, null, null, message, null); }
+
+    // ===== INFO =====
+
+    public void info(String message) { log(LogLevel.INFO, message, null, null, null, null, null); }
+
+    public void info(String pattern, Object arg) { log(LogLevel.INFO, pattern, arg, null, null, null, null); }
+
+    public void info(String pattern, Object arg1, Object arg2) { log(LogLevel.INFO, pattern, arg1, arg2, null, null, null); }
+
+    public void info(String pattern, Object arg1, Object arg2, Object arg3) { log(LogLevel.INFO, pattern, arg1, arg2, arg3, null, null); }
+
+    public void info(Supplier<String> message) { log(LogLevel.INFO, null, null, null, null, message, null); }
+
+    // ===== WARN =====
+
+    public void warn(String message) { log(LogLevel.WARN, message, null, null, null, null, null); }
+
+    public void warn(String pattern, Object arg) { log(LogLevel.WARN, pattern, arg, null, null, null, null); }
+
+    public void warn(String pattern, Object arg1, Object arg2) { log(LogLevel.WARN, pattern, arg1, arg2, null, null, null); }
+
+    public void warn(String pattern, Object arg1, Object arg2, Object arg3) { log(LogLevel.WARN, pattern, arg1, arg2, arg3, null, null); }
+
+    public void warn(Supplier<String> message) { log(LogLevel.WARN, null, null, null, null, message, null); }
+
+    // ===== ERROR =====
+
+    public void error(String message) { log(LogLevel.ERROR, message, null, null, null, null, null); }
+
+    public void error(String pattern, Object arg) { log(LogLevel.ERROR, pattern, arg, null, null, null, null); }
+
+    public void error(String pattern, Object arg1, Object arg2) { log(LogLevel.ERROR, pattern, arg1, arg2, null, null, null); }
+
+    public void error(String pattern, Object arg1, Object arg2, Object arg3) { log(LogLevel.ERROR, pattern, arg1, arg2, arg3, null, null); }
+
+    public void error(Supplier<String> message) { log(LogLevel.ERROR, null, null, null, null, message, null); }
+
+    /**
+     * Journalise une erreur avec sa pile d'appels.
+     *
+     * @param message Message
+     * @param error Exception à afficher
+     */
+    public void error(String message, Throwable error) { log(LogLevel.ERROR, message, null, null, null, null, error); }
+
+    private void log(LogLevel level, String pattern, Object arg1, Object arg2, Object arg3,
+                     Supplier<String> supplier, Throwable error) {
+        if (!level.isEnabledFor(threshold)) return;
+        Log.enqueue(level, shortName, pattern, arg1, arg2, arg3, supplier, error);
+    }
+}
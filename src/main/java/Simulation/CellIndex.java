@@ -0,0 +1,132 @@
+package Simulation;
+
+/**
+ * Index spatial des entités d'un même type, par cellule.
+ * <p>
+ * Un tableau indexé par {@code y * largeur + x} contient la tête d'une petite liste
+ * chaînée intrusive (le lien est porté par {@link SimEntity}). Le moteur maintient
+ * l'index à chaque déplacement, pose, explosion ou collecte : la question
+ * « qu'y a-t-il en (x, y) ? » se résout en O(1) sans parcourir les listes d'entités.
+ * </p>
+ *
+ * @param <T> Type d'entité indexée
+ */
+public final class CellIndex<T extends SimEntity> {
+
+    private final int width;
+    private final int height;
+    private final SimEntity[] heads;
+    private int size;
+
+    /**
+     * Crée un index vide.
+     *
+     * @param width Largeur de la grille
+     * @param height Hauteur de la grille
+     */
+    public CellIndex(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.heads = new SimEntity[width * height];
+    }
+
+    // ===== REQUÊTES =====
+
+    /**
+     * Retourne la première entité d'une cellule.
+     * <p>
+     * Les suivantes s'obtiennent avec {@link #next(SimEntity)}.
+     * </p>
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return L'entité, ou null si la cellule est vide ou hors de la grille
+     */
+    @SuppressWarnings("unchecked")
+    public T first(int x, int y) {
+        if (!isInside(x, y)) return null;
+        return (T) heads[y * width + x];
+    }
+
+    /**
+     * Retourne l'entité suivante sur la même cellule.
+     *
+     * @param entity Entité courante
+     * @return L'entité suivante, ou null
+     */
+    @SuppressWarnings("unchecked")
+    public T next(T entity) {
+        return (T) entity.nextInCell;
+    }
+
+    /**
+     * Vérifie si une cellule contient au moins une entité.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si la cellule est occupée
+     */
+    public boolean isOccupied(int x, int y) {
+        return first(x, y) != null;
+    }
+
+    /**
+     * @return Nombre total d'entités indexées
+     */
+    public int size() {
+        return size;
+    }
+
+    // ===== MODIFICATIONS (MOTEUR) =====
+
+    /**
+     * Indexe une entité à sa position courante.
+     */
+    void add(T entity) {
+        if (entity.indexedCell != -1) {
+            throw new IllegalStateException("Entité déjà indexée : " + entity);
+        }
+        int cell = entity.getY() * width + entity.getX();
+        entity.nextInCell = heads[cell];
+        entity.indexedCell = cell;
+        heads[cell] = entity;
+        size++;
+    }
+
+    /**
+     * Retire une entité de la cellule sous laquelle elle a été indexée.
+     */
+    void remove(T entity) {
+        int cell = entity.indexedCell;
+        if (cell == -1) return;
+
+        SimEntity previous = null;
+        for (SimEntity current = heads[cell]; current != null; current = current.nextInCell) {
+            if (current == entity) {
+                if (previous == null) {
+                    heads[cell] = current.nextInCell;
+                } else {
+                    previous.nextInCell = current.nextInCell;
+                }
+                break;
+            }
+            previous = current;
+        }
+        entity.nextInCell = null;
+        entity.indexedCell = -1;
+        size--;
+    }
+
+    /**
+     * Déplace une entité et met l'index à jour.
+     */
+    void move(T entity, int x, int y) {
+        remove(entity);
+        entity.setPosition(x, y);
+        add(entity);
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
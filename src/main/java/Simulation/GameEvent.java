@@ -0,0 +1,147 @@
+package Simulation;
+
+import Etat.Direction;
+
+/**
+ * Événement produit par le moteur de simulation.
+ * <p>
+ * Le moteur accumule les événements pendant un tick ; la vue les récupère via
+ * {@link SimulationEngine#pollEvents()} pour mettre à jour uniquement les
+ * éléments visuels concernés. Les champs non pertinents pour un type donné
+ * valent -1 ou null.
+ * </p>
+ */
+public final class GameEvent {
+
+    /**
+     * Types d'événements émis par le moteur.
+     */
+    public enum Type {
+        PLAYER_MOVED,       // Un joueur a changé de cellule
+        PLAYER_DAMAGED,     // Un joueur a perdu une vie
+        PLAYER_RESPAWNED,   // Un joueur a été replacé sur son spawn
+        PLAYER_ELIMINATED,  // Un joueur n'a plus de vie
+        BOMB_PLACED,        // Une bombe a été posée
+        BOMB_EXPLODED,      // Une bombe a explosé
+        FLAME_STARTED,      // Une cellule s'est enflammée
+        FLAME_CLEARED,      // Une flamme a disparu
+        WALL_DESTROYED,     // Un bloc destructible a été détruit
+        POWERUP_SPAWNED,    // Un power-up est apparu
+        POWERUP_COLLECTED,  // Un power-up a été ramassé
+        GAME_OVER           // La partie est terminée
+    }
+
+    private final Type type;
+    private final long tick;
+    private final int playerId;
+    private final int x;
+    private final int y;
+    private final int fromX;
+    private final int fromY;
+    private final Direction direction;
+    private final SimBomb bomb;
+    private final SimPowerUp powerUp;
+    private final SimFlame flame;
+
+    private GameEvent(Type type, long tick, int playerId, int x, int y, int fromX, int fromY,
+                      Direction direction, SimBomb bomb, SimPowerUp powerUp, SimFlame flame) {
+        this.type = type;
+        this.tick = tick;
+        this.playerId = playerId;
+        this.x = x;
+        this.y = y;
+        this.fromX = fromX;
+        this.fromY = fromY;
+        this.direction = direction;
+        this.bomb = bomb;
+        this.powerUp = powerUp;
+        this.flame = flame;
+    }
+
+    static GameEvent playerMoved(long tick, SimPlayer player, int fromX, int fromY, Direction direction) {
+        return new GameEvent(Type.PLAYER_MOVED, tick, player.getId(), player.getX(), player.getY(),
+                fromX, fromY, direction, null, null, null);
+    }
+
+    static GameEvent playerDamaged(long tick, SimPlayer player) {
+        return new GameEvent(Type.PLAYER_DAMAGED, tick, player.getId(), player.getX(), player.getY(),
+                -1, -1, null, null, null, null);
+    }
+
+    static GameEvent playerRespawned(long tick, SimPlayer player, int fromX, int fromY) {
+        return new GameEvent(Type.PLAYER_RESPAWNED, tick, player.getId(), player.getX(), player.getY(),
+                fromX, fromY, null, null, null, null);
+    }
+
+    static GameEvent playerEliminated(long tick, SimPlayer player) {
+        return new GameEvent(Type.PLAYER_ELIMINATED, tick, player.getId(), player.getX(), player.getY(),
+                -1, -1, null, null, null, null);
+    }
+
+    static GameEvent bombPlaced(long tick, SimBomb bomb) {
+        return new GameEvent(Type.BOMB_PLACED, tick, bomb.getOwner().getId(), bomb.getX(), bomb.getY(),
+                -1, -1, null, bomb, null, null);
+    }
+
+    static GameEvent bombExploded(long tick, SimBomb bomb) {
+        return new GameEvent(Type.BOMB_EXPLODED, tick, bomb.getOwner().getId(), bomb.getX(), bomb.getY(),
+                -1, -1, null, bomb, null, null);
+    }
+
+    static GameEvent flameStarted(long tick, SimFlame flame) {
+        return new GameEvent(Type.FLAME_STARTED, tick, -1, flame.getX(), flame.getY(),
+                -1, -1, flame.getDirection(), null, null, flame);
+    }
+
+    static GameEvent flameCleared(long tick, SimFlame flame) {
+        return new GameEvent(Type.FLAME_CLEARED, tick, -1, flame.getX(), flame.getY(),
+                -1, -1, flame.getDirection(), null, null, flame);
+    }
+
+    static GameEvent wallDestroyed(long tick, int x, int y) {
+        return new GameEvent(Type.WALL_DESTROYED, tick, -1, x, y, -1, -1, null, null, null, null);
+    }
+
+    static GameEvent powerUpSpawned(long tick, SimPowerUp powerUp) {
+        return new GameEvent(Type.POWERUP_SPAWNED, tick, -1, powerUp.getX(), powerUp.getY(),
+                -1, -1, null, null, powerUp, null);
+    }
+
+    static GameEvent powerUpCollected(long tick, SimPlayer player, SimPowerUp powerUp) {
+        return new GameEvent(Type.POWERUP_COLLECTED, tick, player.getId(), powerUp.getX(), powerUp.getY(),
+                -1, -1, null, null, powerUp, null);
+    }
+
+    static GameEvent gameOver(long tick, SimPlayer winner) {
+        return new GameEvent(Type.GAME_OVER, tick, winner != null ? winner.getId() : -1, -1, -1,
+                -1, -1, null, null, null, null);
+    }
+
+    public Type getType() { return type; }
+
+    public long getTick() { return tick; }
+
+    public int getPlayerId() { return playerId; }
+
+    public int getX() { return x; }
+
+    public int getY() { return y; }
+
+    public int getFromX() { return fromX; }
+
+    public int getFromY() { return fromY; }
+
+    public Direction getDirection() { return direction; }
+
+    public SimBomb getBomb() { return bomb; }
+
+    public SimPowerUp getPowerUp() { return powerUp; }
+
+    public SimFlame getFlame() { return flame; }
+
+    @Override
+    public String toString() {
+        return String.format("GameEvent{type=%s, tick=%d, player=%d, position=(%d,%d)}",
+                type, tick, playerId, x, y);
+    }
+}
@@ -0,0 +1,90 @@
+package Simulation;
+
+import Etat.RandomStream;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source de tout l'aléatoire d'une partie, tirée d'une seule graine.
+ * <p>
+ * Chaque usage ({@link RandomStream}) reçoit son propre générateur {@link SplittableRandom},
+ * dont la graine est dérivée de celle de la partie, du flux et d'un index (le joueur pour
+ * l'IA). La dérivation ne dépend pas de l'ordre des appels : la carte, les power-ups et
+ * chaque IA tirent toujours la même suite pour une même graine, quels que soient les
+ * threads et l'ordre dans lequel ils démarrent. Aucun générateur n'est partagé, il n'y a
+ * donc aucune contention entre threads.
+ * </p>
+ * <p>
+ * Un {@link SplittableRandom} n'est pas synchronisé : chaque générateur obtenu par
+ * {@link #fork(RandomStream)} doit rester confiné à un seul thread à la fois.
+ * </p>
+ */
+public final class GameRandom {
+
+    /** Incrément de Weyl utilisé par {@link SplittableRandom} (partie fractionnaire du nombre d'or) */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** Générateur des graines de partie quand aucune n'est imposée */
+    private static final SplittableRandom SEEDS = new SplittableRandom();
+
+    private final long seed;
+
+    /**
+     * @param seed Graine de la partie
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Retourne la graine d'une nouvelle partie : celle de la propriété {@code bomberman.seed}
+     * si elle est définie (reproduction d'une partie), sinon une graine aléatoire.
+     *
+     * @return La graine
+     */
+    public static long newMatchSeed() {
+        Long forced = Long.getLong("bomberman.seed");
+        if (forced != null) {
+            return forced;
+        }
+        synchronized (SEEDS) {
+            return SEEDS.nextLong();
+        }
+    }
+
+    /**
+     * Crée le générateur d'un flux.
+     *
+     * @param stream Usage du générateur
+     * @return Un nouveau générateur ; deux appels identiques donnent la même suite
+     */
+    public SplittableRandom fork(RandomStream stream) {
+        return fork(stream, 0);
+    }
+
+    /**
+     * Crée le générateur d'un flux propre à une entité (par exemple un joueur IA).
+     *
+     * @param stream Usage du générateur
+     * @param index Index de l'entité (identifiant du joueur...)
+     * @return Un nouveau générateur ; deux appels identiques donnent la même suite
+     */
+    public SplittableRandom fork(RandomStream stream, int index) {
+        long streamSeed = mix64(seed + GOLDEN_GAMMA * (stream.ordinal() + 1));
+        return new SplittableRandom(mix64(streamSeed + GOLDEN_GAMMA * (index + 1L)));
+    }
+
+    /**
+     * @return La graine de la partie
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Fonction de mélange 64 bits (variante 13 de Stafford, celle de {@link SplittableRandom}) */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
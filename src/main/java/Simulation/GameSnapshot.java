@@ -0,0 +1,218 @@
+package Simulation;
+
+import Etat.GameMode;
+import Etat.PowerUpType;
+
+import java.util.List;
+
+/**
+ * Photographie immuable de l'état du moteur à un tick donné.
+ * <p>
+ * La vue et les IA lisent l'état de la partie au travers de ces instantanés :
+ * ils peuvent être conservés ou transmis à un autre thread sans risque, car
+ * ils ne partagent aucune donnée mutable avec le moteur.
+ * </p>
+ */
+public final class GameSnapshot {
+
+    private final long tick;
+    private final GridState grid;
+    private final List<PlayerState> players;
+    private final List<BombState> bombs;
+    private final List<PowerUpState> powerUps;
+    private final List<FlameState> flames;
+    private final boolean gameOver;
+    private final int winnerId;
+
+    GameSnapshot(long tick, GridState grid, List<PlayerState> players, List<BombState> bombs,
+                 List<PowerUpState> powerUps, List<FlameState> flames, boolean gameOver, int winnerId) {
+        this.tick = tick;
+        this.grid = grid;
+        this.players = List.copyOf(players);
+        this.bombs = List.copyOf(bombs);
+        this.powerUps = List.copyOf(powerUps);
+        this.flames = List.copyOf(flames);
+        this.gameOver = gameOver;
+        this.winnerId = winnerId;
+    }
+
+    public long getTick() { return tick; }
+
+    public List<PlayerState> getPlayers() { return players; }
+
+    public List<BombState> getBombs() { return bombs; }
+
+    public List<PowerUpState> getPowerUps() { return powerUps; }
+
+    public List<FlameState> getFlames() { return flames; }
+
+    public boolean isGameOver() { return gameOver; }
+
+    /**
+     * @return L'identifiant du gagnant, ou -1 (partie en cours ou match nul)
+     */
+    public int getWinnerId() { return winnerId; }
+
+    /**
+     * Retourne le type d'une cellule de la carte.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return Le type de cellule, ou -1 hors de la grille
+     */
+    public int getCell(int x, int y) {
+        return grid.getCellType(x, y);
+    }
+
+    /**
+     * Retourne les bitboards figés de la grille (copie propre à l'instantané).
+     *
+     * @return L'état de la grille au tick de l'instantané
+     */
+    public GridState getGridState() { return grid; }
+
+    /**
+     * Retourne l'état d'un joueur par son identifiant.
+     *
+     * @param playerId Identifiant du joueur
+     * @return L'état du joueur, ou null s'il n'existe pas
+     */
+    public PlayerState getPlayer(int playerId) {
+        return playerId >= 0 && playerId < players.size() ? players.get(playerId) : null;
+    }
+
+    /**
+     * État figé d'un joueur.
+     */
+    public static final class PlayerState {
+        private final int id;
+        private final String name;
+        private final GameMode gameMode;
+        private final int x;
+        private final int y;
+        private final boolean alive;
+        private final int lives;
+        private final int bombInventory;
+        private final int bombPower;
+        private final int speed;
+        private final int score;
+
+        PlayerState(SimPlayer player) {
+            this.id = player.getId();
+            this.name = player.getName();
+            this.gameMode = player.getGameMode();
+            this.x = player.getX();
+            this.y = player.getY();
+            this.alive = player.isAlive();
+            this.lives = player.getLives();
+            this.bombInventory = player.getBombInventory();
+            this.bombPower = player.getBombPower();
+            this.speed = player.getSpeed();
+            this.score = player.getScore();
+        }
+
+        public int getId() { return id; }
+
+        public String getName() { return name; }
+
+        public GameMode getGameMode() { return gameMode; }
+
+        public int getX() { return x; }
+
+        public int getY() { return y; }
+
+        public boolean isAlive() { return alive; }
+
+        public int getLives() { return lives; }
+
+        public int getBombInventory() { return bombInventory; }
+
+        public int getBombPower() { return bombPower; }
+
+        public int getSpeed() { return speed; }
+
+        public int getScore() { return score; }
+    }
+
+    /**
+     * État figé d'une bombe.
+     */
+    public static final class BombState {
+        private final int id;
+        private final int ownerId;
+        private final int x;
+        private final int y;
+        private final int power;
+        private final int fuseTicks;
+
+        BombState(SimBomb bomb, long tick) {
+            this.id = bomb.getId();
+            this.ownerId = bomb.getOwner().getId();
+            this.x = bomb.getX();
+            this.y = bomb.getY();
+            this.power = bomb.getPower();
+            this.fuseTicks = bomb.getRemainingTicks(tick);
+        }
+
+        public int getId() { return id; }
+
+        public int getOwnerId() { return ownerId; }
+
+        public int getX() { return x; }
+
+        public int getY() { return y; }
+
+        public int getPower() { return power; }
+
+        /**
+         * @return Nombre de ticks restants avant l'explosion
+         */
+        public int getFuseTicks() { return fuseTicks; }
+    }
+
+    /**
+     * État figé d'un power-up non collecté.
+     */
+    public static final class PowerUpState {
+        private final int id;
+        private final int x;
+        private final int y;
+        private final PowerUpType type;
+
+        PowerUpState(SimPowerUp powerUp) {
+            this.id = powerUp.getId();
+            this.x = powerUp.getX();
+            this.y = powerUp.getY();
+            this.type = powerUp.getType();
+        }
+
+        public int getId() { return id; }
+
+        public int getX() { return x; }
+
+        public int getY() { return y; }
+
+        public PowerUpType getType() { return type; }
+    }
+
+    /**
+     * État figé d'une cellule enflammée.
+     */
+    public static final class FlameState {
+        private final int x;
+        private final int y;
+        private final long expireTick;
+
+        FlameState(SimFlame flame) {
+            this.x = flame.getX();
+            this.y = flame.getY();
+            this.expireTick = flame.getExpireTick();
+        }
+
+        public int getX() { return x; }
+
+        public int getY() { return y; }
+
+        public long getExpireTick() { return expireTick; }
+    }
+}
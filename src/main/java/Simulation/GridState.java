@@ -0,0 +1,377 @@
+package Simulation;
+
+import Etat.Direction;
+
+/**
+ * État compact de la grille sous forme de bitboards.
+ * <p>
+ * Chaque couche (murs, blocs destructibles, zones de spawn, bombes, flammes,
+ * power-ups, joueurs) est un tableau de {@code long} : un mot par ligne, un bit
+ * par colonne. Les requêtes d'occupation sont en O(1) et les opérations sur des
+ * zones entières (souffle d'une explosion, carte de danger) se font mot par mot.
+ * </p>
+ * <p>
+ * Plusieurs bombes, flammes ou joueurs peuvent partager une cellule : ces couches
+ * conservent en plus un compteur par cellule, et leur bit reste levé tant que le
+ * compteur est positif. Les méthodes de modification sont réservées au moteur.
+ * </p>
+ */
+public final class GridState {
+
+    // Couches
+    public static final int WALL = 0;
+    public static final int DESTRUCTIBLE = 1;
+    public static final int SPAWN = 2;
+    public static final int BOMB = 3;
+    public static final int FLAME = 4;
+    public static final int POWERUP = 5;
+    public static final int PLAYER = 6;
+
+    private static final int LAYER_COUNT = 7;
+
+    /** Largeur maximale supportée (un mot de 64 bits par ligne) */
+    public static final int MAX_WIDTH = Long.SIZE;
+
+    private final int width;
+    private final int height;
+    /** Masque des colonnes valides d'une ligne */
+    private final long rowMask;
+
+    /** bits[couche][ligne] */
+    private final long[][] bits;
+    /** Compteurs par cellule pour les couches partagées (null pour les autres) */
+    private final short[][] counts;
+
+    /**
+     * Crée une grille vide.
+     *
+     * @param width Largeur en cellules (au plus 64)
+     * @param height Hauteur en cellules
+     * @throws IllegalArgumentException si les dimensions sont invalides
+     */
+    public GridState(int width, int height) {
+        if (width <= 0 || width > MAX_WIDTH || height <= 0) {
+            throw new IllegalArgumentException("Dimensions de grille invalides : " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.rowMask = width == MAX_WIDTH ? -1L : (1L << width) - 1;
+        this.bits = new long[LAYER_COUNT][height];
+        this.counts = new short[LAYER_COUNT][];
+        this.counts[BOMB] = new short[width * height];
+        this.counts[FLAME] = new short[width * height];
+        this.counts[PLAYER] = new short[width * height];
+    }
+
+    private GridState(GridState other) {
+        this.width = other.width;
+        this.height = other.height;
+        this.rowMask = other.rowMask;
+        this.bits = new long[LAYER_COUNT][];
+        this.counts = new short[LAYER_COUNT][];
+        for (int layer = 0; layer < LAYER_COUNT; layer++) {
+            bits[layer] = other.bits[layer].clone();
+            if (other.counts[layer] != null) {
+                counts[layer] = other.counts[layer].clone();
+            }
+        }
+    }
+
+    /**
+     * Construit une grille à partir d'une carte de types de cellules.
+     *
+     * @param map Matrice [ligne][colonne] utilisant les types de {@link MapLayout}
+     * @return La grille correspondante
+     */
+    public static GridState fromLayout(int[][] map) {
+        GridState state = new GridState(map[0].length, map.length);
+        for (int y = 0; y < state.height; y++) {
+            for (int x = 0; x < state.width; x++) {
+                switch (map[y][x]) {
+                    case MapLayout.WALL -> state.set(WALL, x, y);
+                    case MapLayout.DESTRUCTIBLE -> state.set(DESTRUCTIBLE, x, y);
+                    case MapLayout.SPAWN_ZONE -> state.set(SPAWN, x, y);
+                    default -> { }
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * @return Une copie indépendante de la grille
+     */
+    public GridState copy() {
+        return new GridState(this);
+    }
+
+    // ===== REQUÊTES =====
+
+    public int getWidth() { return width; }
+
+    public int getHeight() { return height; }
+
+    /**
+     * Vérifie si une position est dans la grille.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si la position est valide
+     */
+    public boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Vérifie la présence d'une couche sur une cellule.
+     *
+     * @param layer Couche (WALL, BOMB, ...)
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si la cellule est marquée (false hors de la grille)
+     */
+    public boolean has(int layer, int x, int y) {
+        return isInside(x, y) && (bits[layer][y] & (1L << x)) != 0;
+    }
+
+    /**
+     * Retourne le nombre d'éléments d'une couche partagée sur une cellule.
+     *
+     * @param layer Couche BOMB, FLAME ou PLAYER
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return Le nombre d'éléments
+     */
+    public int count(int layer, int x, int y) {
+        if (!isInside(x, y)) return 0;
+        if (counts[layer] == null) return has(layer, x, y) ? 1 : 0;
+        return counts[layer][y * width + x];
+    }
+
+    /**
+     * Retourne le type de cellule de la carte (sans les entités).
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return Le type de cellule de {@link MapLayout}, ou -1 hors de la grille
+     */
+    public int getCellType(int x, int y) {
+        if (!isInside(x, y)) return -1;
+
+        long bit = 1L << x;
+        if ((bits[WALL][y] & bit) != 0) return MapLayout.WALL;
+        if ((bits[DESTRUCTIBLE][y] & bit) != 0) return MapLayout.DESTRUCTIBLE;
+        if ((bits[SPAWN][y] & bit) != 0) return MapLayout.SPAWN_ZONE;
+        return MapLayout.EMPTY;
+    }
+
+    /**
+     * Vérifie si une cellule est traversable (ni mur ni bloc destructible).
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true pour une cellule vide ou une zone de spawn
+     */
+    public boolean isWalkable(int x, int y) {
+        return isInside(x, y) && ((bits[WALL][y] | bits[DESTRUCTIBLE][y]) & (1L << x)) == 0;
+    }
+
+    /**
+     * Vérifie si une entité (joueur, bombe ou power-up) se trouve sur une cellule.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si la cellule est occupée
+     */
+    public boolean isOccupied(int x, int y) {
+        if (!isInside(x, y)) return false;
+        return ((bits[PLAYER][y] | bits[BOMB][y] | bits[POWERUP][y]) & (1L << x)) != 0;
+    }
+
+    /**
+     * Retourne une copie d'une couche complète.
+     *
+     * @param layer Couche
+     * @return Un mot par ligne
+     */
+    public long[] getLayer(int layer) {
+        return bits[layer].clone();
+    }
+
+    /**
+     * Retourne la ligne d'une couche.
+     *
+     * @param layer Couche
+     * @param y Ligne
+     * @return Les bits de la ligne (bit x = colonne x)
+     */
+    public long getRow(int layer, int y) {
+        return bits[layer][y];
+    }
+
+    // ===== OPÉRATIONS SUR DES ZONES =====
+
+    /**
+     * Crée un masque vide aux dimensions de la grille.
+     *
+     * @return Un mot par ligne, tous à zéro
+     */
+    public long[] newMask() {
+        return new long[height];
+    }
+
+    /**
+     * Ajoute au masque les cellules atteintes par l'explosion d'une bombe.
+     * <p>
+     * Les rayons s'arrêtent sur un mur et incluent le premier bloc destructible
+     * rencontré, comme dans le moteur. Les rayons horizontaux sont calculés en une
+     * opération sur le mot de la ligne.
+     * </p>
+     *
+     * @param x Colonne de la bombe
+     * @param y Ligne de la bombe
+     * @param power Portée de l'explosion
+     * @param mask Masque à compléter (un mot par ligne)
+     */
+    public void addBlast(int x, int y, int power, long[] mask) {
+        if (!isInside(x, y)) return;
+
+        mask[y] |= horizontalBlast(x, y, power);
+
+        // Rayons verticaux
+        for (int dir = -1; dir <= 1; dir += 2) {
+            for (int i = 1; i <= power; i++) {
+                int row = y + dir * i;
+                if (row < 0 || row >= height) break;
+
+                long bit = 1L << x;
+                if ((bits[WALL][row] & bit) != 0) break;
+                mask[row] |= bit;
+                if ((bits[DESTRUCTIBLE][row] & bit) != 0) break;
+            }
+        }
+    }
+
+    /**
+     * Calcule les cellules atteintes sur la ligne d'une bombe (centre compris).
+     */
+    private long horizontalBlast(int x, int y, int power) {
+        long walls = bits[WALL][y];
+        long stoppers = walls | bits[DESTRUCTIBLE][y];
+        long result = 1L << x;
+
+        // Vers la droite : colonnes x+1 .. x+power
+        int right = Math.min(power, width - 1 - x);
+        if (right > 0) {
+            long range = ((1L << right) - 1) << (x + 1);
+            long hit = stoppers & range;
+            if (hit != 0) {
+                long first = Long.lowestOneBit(hit);
+                // Le premier obstacle est inclus s'il est destructible, exclu si c'est un mur
+                range &= (first << 1) - 1;
+                if ((walls & first) != 0) range &= ~first;
+            }
+            result |= range;
+        }
+
+        // Vers la gauche : colonnes x-power .. x-1
+        int left = Math.min(power, x);
+        if (left > 0) {
+            long range = ((1L << left) - 1) << (x - left);
+            long hit = stoppers & range;
+            if (hit != 0) {
+                long first = Long.highestOneBit(hit);
+                range &= -first;
+                if ((walls & first) != 0) range &= ~first;
+            }
+            result |= range;
+        }
+        return result & rowMask;
+    }
+
+    /**
+     * Calcule la zone dangereuse : flammes actives et souffle de toutes les bombes posées.
+     *
+     * @param bombs Bombes actives
+     * @return Un masque (un mot par ligne)
+     */
+    public long[] dangerMask(Iterable<SimBomb> bombs) {
+        long[] mask = bits[FLAME].clone();
+        for (SimBomb bomb : bombs) {
+            addBlast(bomb.getX(), bomb.getY(), bomb.getPower(), mask);
+        }
+        return mask;
+    }
+
+    /**
+     * Vérifie si une cellule est marquée dans un masque.
+     *
+     * @param mask Masque (un mot par ligne)
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si la cellule est dans le masque
+     */
+    public boolean isSet(long[] mask, int x, int y) {
+        return isInside(x, y) && (mask[y] & (1L << x)) != 0;
+    }
+
+    /**
+     * Compte les cellules d'un masque.
+     *
+     * @param mask Masque (un mot par ligne)
+     * @return Le nombre de cellules marquées
+     */
+    public static int cardinality(long[] mask) {
+        int total = 0;
+        for (long row : mask) {
+            total += Long.bitCount(row);
+        }
+        return total;
+    }
+
+    /**
+     * Vérifie si la cellule voisine dans une direction est traversable et libre
+     * de bombe et de joueur.
+     *
+     * @param x Coordonnée X de départ
+     * @param y Coordonnée Y de départ
+     * @param direction Direction
+     * @return true si la cellule voisine est libre
+     */
+    public boolean isFreeNeighbour(int x, int y, Direction direction) {
+        int nx = x + SimulationEngine.dx(direction);
+        int ny = y + SimulationEngine.dy(direction);
+        if (!isInside(nx, ny)) return false;
+
+        long blocked = bits[WALL][ny] | bits[DESTRUCTIBLE][ny] | bits[BOMB][ny] | bits[PLAYER][ny];
+        return (blocked & (1L << nx)) == 0;
+    }
+
+    // ===== MODIFICATIONS (MOTEUR) =====
+
+    void set(int layer, int x, int y) {
+        bits[layer][y] |= 1L << x;
+    }
+
+    void clear(int layer, int x, int y) {
+        bits[layer][y] &= ~(1L << x);
+    }
+
+    /**
+     * Ajoute un élément à une couche partagée.
+     */
+    void add(int layer, int x, int y) {
+        counts[layer][y * width + x]++;
+        set(layer, x, y);
+    }
+
+    /**
+     * Retire un élément d'une couche partagée ; le bit tombe avec le dernier élément.
+     */
+    void remove(int layer, int x, int y) {
+        int index = y * width + x;
+        if (counts[layer][index] > 0 && --counts[layer][index] == 0) {
+            clear(layer, x, y);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package Simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Disposition logique de la carte du jeu Bomberman.
+ * <p>
+ * Cette classe regroupe la structure de base de la carte (murs fixes, zones de spawn)
+ * ainsi que la génération aléatoire des blocs destructibles. Elle ne dépend d'aucune
+ * classe JavaFX et peut donc être utilisée aussi bien par le moteur de simulation
+ * que par la représentation visuelle de {@link fonctionnaliteInitial.BombermanMap}.
+ * </p>
+ */
+public final class MapLayout {
+
+    /** Largeur de la grille de jeu en nombre de cellules */
+    public static final int GRID_WIDTH = 15;
+    /** Hauteur de la grille de jeu en nombre de cellules */
+    public static final int GRID_HEIGHT = 13;
+
+    // Types de cellules
+    public static final int EMPTY = 0;
+    public static final int WALL = 1;
+    public static final int DESTRUCTIBLE = 2;
+    public static final int SPAWN_ZONE = 3;
+
+    /** Probabilité qu'une cellule libre reçoive un bloc destructible */
+    private static final double DESTRUCTIBLE_DENSITY = 0.65;
+
+    /**
+     * Structure de base de la carte avec les murs fixes et les zones de spawn.
+     * <p>
+     * 1 = mur indestructible, 3 = zone de spawn, 0 = espace vide
+     * </p>
+     */
+    private static final int[][] BASE_MAP = {
+            {1,1,1,1,1,1,1,1,1,1,1,1,1,1,1},
+            {1,3,0,0,0,0,0,0,0,0,0,0,0,3,1},
+            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
+            {1,0,0,0,0,0,0,0,0,0,0,0,0,0,1},
+            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
+            {1,0,0,0,0,0,0,0,0,0,0,0,0,0,1},
+            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
+            {1,0,0,0,0,0,0,0,0,0,0,0,0,0,1},
+            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
+            {1,0,0,0,0,0,0,0,0,0,0,0,0,0,1},
+            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
+            {1,3,0,0,0,0,0,0,0,0,0,0,0,3,1},
+            {1,1,1,1,1,1,1,1,1,1,1,1,1,1,1}
+    };
+
+    /**
+     * Positions de spawn des joueurs (x, y), dans l'ordre des identifiants de joueur.
+     */
+    private static final int[][] SPAWN_POSITIONS = {
+            {1, 1}, {GRID_WIDTH - 2, 1},
+            {1, GRID_HEIGHT - 2}, {GRID_WIDTH - 2, GRID_HEIGHT - 2}
+    };
+
+    private MapLayout() {
+    }
+
+    /**
+     * Génère une carte aléatoire avec des blocs destructibles.
+     * <p>
+     * La carte de base est copiée puis chaque cellule libre qui n'est pas
+     * proche d'une zone de spawn reçoit un bloc destructible avec une
+     * probabilité fixe.
+     * </p>
+     *
+     * @param random Générateur utilisé pour le placement des blocs
+     * @return Une nouvelle matrice [ligne][colonne] représentant la carte
+     */
+    public static int[][] generate(RandomGenerator random) {
+        int[][] map = new int[GRID_HEIGHT][GRID_WIDTH];
+
+        // Copie de la carte de base
+        for (int row = 0; row < GRID_HEIGHT; row++) {
+            System.arraycopy(BASE_MAP[row], 0, map[row], 0, GRID_WIDTH);
+        }
+
+        // Ajout de murs destructibles aléatoires
+        for (int row = 1; row < GRID_HEIGHT - 1; row++) {
+            for (int col = 1; col < GRID_WIDTH - 1; col++) {
+                if (map[row][col] == EMPTY && !isNearSpawn(row, col)) {
+                    if (random.nextDouble() < DESTRUCTIBLE_DENSITY) {
+                        map[row][col] = DESTRUCTIBLE;
+                    }
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Vérifie si une position est proche d'une zone de spawn.
+     *
+     * @param row Ligne dans la grille
+     * @param col Colonne dans la grille
+     * @return true si la position est adjacente à une zone de spawn, false sinon
+     */
+    public static boolean isNearSpawn(int row, int col) {
+        // Zones de spawn aux 4 coins
+        if ((row <= 2 && col <= 2)) return true;
+        if ((row <= 2 && col >= GRID_WIDTH - 3)) return true;
+        if ((row >= GRID_HEIGHT - 3 && col <= 2)) return true;
+        if ((row >= GRID_HEIGHT - 3 && col >= GRID_WIDTH - 3)) return true;
+
+        return false;
+    }
+
+    /**
+     * Vérifie si une position correspond exactement à un point de spawn.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si la position est un point de spawn
+     */
+    public static boolean isSpawnPosition(int x, int y) {
+        for (int[] spawn : SPAWN_POSITIONS) {
+            if (spawn[0] == x && spawn[1] == y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retourne la position de spawn associée à un joueur.
+     *
+     * @param playerId Identifiant du joueur (0 à 3)
+     * @return Tableau {x, y}
+     */
+    public static int[] getSpawnPosition(int playerId) {
+        return SPAWN_POSITIONS[playerId].clone();
+    }
+
+    /**
+     * Retourne le nombre maximal de joueurs supporté par la carte.
+     *
+     * @return Nombre de positions de spawn
+     */
+    public static int getMaxPlayers() {
+        return SPAWN_POSITIONS.length;
+    }
+
+    /**
+     * Vérifie si une cellule est traversable par un joueur.
+     *
+     * @param cellType Type de la cellule
+     * @return true pour une cellule vide ou une zone de spawn
+     */
+    public static boolean isWalkable(int cellType) {
+        return cellType == EMPTY || cellType == SPAWN_ZONE;
+    }
+}
@@ -0,0 +1,337 @@
+package Simulation;
+
+import Etat.GameMode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Enregistrement d'une partie, rejouable à l'identique.
+ * <p>
+ * Toute la part aléatoire du moteur dépend de sa graine : une partie est entièrement
+ * décrite par cette graine, le mode de jeu, l'état initial des joueurs et la suite des
+ * commandes qui ont modifié l'état du moteur, datées de leur tick. Les commandes sans
+ * effet (déplacement pendant le cooldown, bombe refusée) ne sont pas enregistrées.
+ * </p>
+ * <p>
+ * Chaque commande est un entier variable (varint, 7 bits par octet) valant
+ * {@code (écart de ticks depuis la commande précédente << 5) | (joueur << 3) | action},
+ * où l'action est l'ordinal de la {@link Etat.Direction} ou {@link #OP_BOMB}. Le flux est
+ * ensuite compressé : les longues suites de déplacements identiques d'un joueur qui
+ * garde une touche enfoncée n'y coûtent presque rien.
+ * </p>
+ * <p>
+ * Format : un en-tête (nombre magique, version), la graine, le mode, les joueurs (nom,
+ * bombes, puissance, vitesse), puis le tick final, le gagnant, l'empreinte de l'état final
+ * ({@link #checksum(SimulationEngine)}) qui permet de vérifier une relecture, et enfin
+ * les commandes compressées.
+ * </p>
+ */
+public final class Replay {
+
+    /** Extension des fichiers de replay */
+    public static final String FILE_EXTENSION = ".bmr";
+
+    /** "BMRP" */
+    private static final int MAGIC = 0x424D5250;
+    /** Version 2 : carte et power-ups tirés des flux de {@link GameRandom} */
+    private static final short VERSION = 2;
+
+    /** Action : pose d'une bombe (les actions 0 à 3 sont les directions de déplacement) */
+    static final int OP_BOMB = 4;
+    /** Bits occupés par l'action */
+    static final int PLAYER_SHIFT = 3;
+    /** Bits occupés par le joueur et l'action, sous l'écart de ticks */
+    static final int TICK_SHIFT = 5;
+
+    /** Taille maximale acceptée pour le flux de commandes décompressé */
+    private static final int MAX_COMMAND_BYTES = 64 * 1024 * 1024;
+
+    private final long seed;
+    private final GameMode gameMode;
+    private final List<PlayerSetup> players;
+    private final long endTick;
+    private final int winnerId;
+    private final long checksum;
+    private final int commandCount;
+    /** Flux des commandes, non compressé */
+    private final byte[] commands;
+
+    /**
+     * @param seed Graine du moteur
+     * @param gameMode Mode de gestion des bombes
+     * @param players État initial des joueurs, dans l'ordre de leurs identifiants
+     * @param endTick Dernier tick joué
+     * @param winnerId Identifiant du gagnant, -1 s'il n'y en a pas
+     * @param checksum Empreinte de l'état final
+     * @param commandCount Nombre de commandes
+     * @param commands Flux des commandes
+     */
+    Replay(long seed, GameMode gameMode, List<PlayerSetup> players, long endTick, int winnerId,
+           long checksum, int commandCount, byte[] commands) {
+        this.seed = seed;
+        this.gameMode = gameMode;
+        this.players = Collections.unmodifiableList(new ArrayList<>(players));
+        this.endTick = endTick;
+        this.winnerId = winnerId;
+        this.checksum = checksum;
+        this.commandCount = commandCount;
+        this.commands = commands;
+    }
+
+    // ===== FICHIERS =====
+
+    /**
+     * Enregistre le replay dans un fichier.
+     *
+     * @param file Fichier de destination (remplacé s'il existe)
+     * @return La taille du fichier en octets
+     * @throws IOException Si l'écriture échoue
+     */
+    public long write(Path file) throws IOException {
+        byte[] compressed = compress(commands);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(seed);
+            out.writeByte(gameMode.ordinal());
+            out.writeByte(players.size());
+            for (PlayerSetup player : players) {
+                out.writeUTF(player.name);
+                out.writeByte(player.bombInventory);
+                out.writeByte(player.bombPower);
+                out.writeByte(player.speed);
+            }
+            out.writeLong(endTick);
+            out.writeByte(winnerId);
+            out.writeLong(checksum);
+            out.writeInt(commandCount);
+            out.writeInt(commands.length);
+            out.writeInt(compressed.length);
+            out.write(compressed);
+            return out.size();
+        }
+    }
+
+    /**
+     * Lit un replay enregistré par {@link #write(Path)}.
+     *
+     * @param file Fichier à lire
+     * @return Le replay
+     * @throws IOException Si le fichier est illisible ou n'est pas un replay
+     */
+    public static Replay read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Ce fichier n'est pas un replay: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Version de replay non prise en charge: " + version);
+            }
+
+            long seed = in.readLong();
+            int mode = in.readUnsignedByte();
+            if (mode >= GameMode.values().length) {
+                throw new IOException("Mode de jeu inconnu: " + mode);
+            }
+            int playerCount = in.readUnsignedByte();
+            if (playerCount > MapLayout.getMaxPlayers()) {
+                throw new IOException("Nombre de joueurs invalide: " + playerCount);
+            }
+            List<PlayerSetup> players = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                players.add(new PlayerSetup(in.readUTF(), in.readByte(), in.readByte(), in.readByte()));
+            }
+
+            long endTick = in.readLong();
+            int winnerId = in.readByte();
+            long checksum = in.readLong();
+            int commandCount = in.readInt();
+            int length = in.readInt();
+            int compressedLength = in.readInt();
+            if (length < 0 || length > MAX_COMMAND_BYTES || compressedLength < 0 || compressedLength > MAX_COMMAND_BYTES) {
+                throw new IOException("Flux de commandes invalide");
+            }
+            byte[] compressed = new byte[compressedLength];
+            in.readFully(compressed);
+
+            return new Replay(seed, GameMode.values()[mode], players, endTick, winnerId, checksum,
+                    commandCount, decompress(compressed, length));
+        }
+    }
+
+    private static byte[] compress(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] data, int length) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] result = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(result, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IOException("Flux de commandes tronqué");
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new IOException("Flux de commandes corrompu", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // ===== EMPREINTE =====
+
+    /**
+     * Calcule une empreinte de l'état du moteur : tick, cellules de la carte, joueurs,
+     * bombes et power-ups. Deux parties identiques ont la même empreinte ; une relecture
+     * qui diverge de l'enregistrement en change presque toujours.
+     *
+     * @param engine Moteur à résumer
+     * @return L'empreinte (FNV-1a 64 bits)
+     */
+    public static long checksum(SimulationEngine engine) {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, engine.getTick());
+        for (int y = 0; y < MapLayout.GRID_HEIGHT; y++) {
+            for (int x = 0; x < MapLayout.GRID_WIDTH; x++) {
+                hash = mix(hash, engine.getCell(x, y));
+            }
+        }
+        for (SimPlayer player : engine.getPlayers()) {
+            hash = mix(hash, player.getX());
+            hash = mix(hash, player.getY());
+            hash = mix(hash, player.isAlive() ? player.getLives() : -1);
+            hash = mix(hash, player.getBombInventory());
+            hash = mix(hash, player.getBombPower());
+            hash = mix(hash, player.getSpeed());
+            hash = mix(hash, player.getScore());
+        }
+        for (SimBomb bomb : engine.getBombs()) {
+            hash = mix(hash, bomb.getX());
+            hash = mix(hash, bomb.getY());
+        }
+        for (SimPowerUp powerUp : engine.getPowerUps()) {
+            hash = mix(hash, powerUp.getX());
+            hash = mix(hash, powerUp.getY());
+            hash = mix(hash, powerUp.getType().ordinal());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // ===== GETTERS =====
+
+    public long getSeed() { return seed; }
+
+    public GameMode getGameMode() { return gameMode; }
+
+    /**
+     * @return L'état initial des joueurs, dans l'ordre de leurs identifiants
+     */
+    public List<PlayerSetup> getPlayers() { return players; }
+
+    public long getEndTick() { return endTick; }
+
+    /**
+     * @return L'identifiant du gagnant, -1 si la partie n'a pas de gagnant
+     */
+    public int getWinnerId() { return winnerId; }
+
+    public long getChecksum() { return checksum; }
+
+    public int getCommandCount() { return commandCount; }
+
+    /**
+     * @return Le flux des commandes (non copié : lecture seule)
+     */
+    byte[] getCommands() { return commands; }
+
+    /**
+     * État d'un joueur au démarrage de la partie, bonus de profil compris.
+     */
+    public static final class PlayerSetup {
+        private final String name;
+        private final int bombInventory;
+        private final int bombPower;
+        private final int speed;
+
+        PlayerSetup(String name, int bombInventory, int bombPower, int speed) {
+            this.name = name;
+            this.bombInventory = bombInventory;
+            this.bombPower = bombPower;
+            this.speed = speed;
+        }
+
+        /**
+         * @param player Joueur du moteur à recopier
+         * @return Son état courant
+         */
+        static PlayerSetup of(SimPlayer player) {
+            return new PlayerSetup(player.getName(), player.getBombInventory(), player.getBombPower(), player.getSpeed());
+        }
+
+        /**
+         * Donne cet état à un joueur qui vient d'être ajouté au moteur.
+         *
+         * @param player Joueur du moteur
+         */
+        void applyTo(SimPlayer player) {
+            player.setBombInventory(bombInventory);
+            for (int power = player.getBombPower(); power < bombPower; power++) {
+                player.increaseBombPower();
+            }
+            for (int level = player.getSpeed(); level < speed; level++) {
+                player.increaseSpeed();
+            }
+        }
+
+        public String getName() { return name; }
+
+        public int getBombInventory() { return bombInventory; }
+
+        public int getBombPower() { return bombPower; }
+
+        public int getSpeed() { return speed; }
+    }
+}
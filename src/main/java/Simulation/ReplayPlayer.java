@@ -0,0 +1,170 @@
+package Simulation;
+
+import Etat.Direction;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Relecture d'un {@link Replay} dans un nouveau moteur.
+ * <p>
+ * Le moteur est recréé avec la graine et les joueurs enregistrés, puis chaque
+ * {@link #step()} lui transmet les commandes datées du tick courant avant de le faire
+ * avancer, exactement comme la boucle de jeu d'origine. La vue du jeu appelle
+ * {@link #step()} à son rythme (accéléré ou non) ; {@link #runToEnd()} rejoue la partie
+ * sans affichage, à la vitesse du processeur.
+ * </p>
+ * <p>
+ * {@link #main(String[])} rejoue des fichiers sans interface et vérifie qu'ils aboutissent
+ * au même état final que la partie enregistrée (tests de non-régression du moteur).
+ * </p>
+ */
+public final class ReplayPlayer {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Replay replay;
+    private final SimulationEngine engine;
+    private final byte[] commands;
+
+    /** Position de la prochaine commande dans le flux */
+    private int position;
+    /** Tick de la prochaine commande, ou -1 s'il n'en reste plus */
+    private long nextTick;
+    /** Joueur et action de la prochaine commande */
+    private int nextCode;
+
+    /**
+     * Prépare la relecture : moteur, joueurs et power-ups initiaux.
+     *
+     * @param replay Partie enregistrée
+     */
+    public ReplayPlayer(Replay replay) {
+        this.replay = replay;
+        this.commands = replay.getCommands();
+        this.engine = new SimulationEngine(replay.getGameMode(), replay.getSeed());
+        for (Replay.PlayerSetup setup : replay.getPlayers()) {
+            setup.applyTo(engine.addPlayer(setup.getName()));
+        }
+        engine.start();
+        readNext(0);
+    }
+
+    /**
+     * Applique les commandes du tick courant puis fait avancer le moteur d'un tick.
+     *
+     * @return false si la relecture était déjà terminée
+     */
+    public boolean step() {
+        if (isFinished()) {
+            return false;
+        }
+        long tick = engine.getTick();
+        while (nextTick == tick) {
+            int playerId = nextCode >>> Replay.PLAYER_SHIFT;
+            int op = nextCode & ((1 << Replay.PLAYER_SHIFT) - 1);
+            if (op == Replay.OP_BOMB) {
+                engine.placeBomb(playerId);
+            } else if (op < DIRECTIONS.length) {
+                engine.movePlayer(playerId, DIRECTIONS[op]);
+            }
+            readNext(tick);
+        }
+        engine.tick();
+        return true;
+    }
+
+    /**
+     * Rejoue toute la partie sans affichage.
+     *
+     * @return Le nombre de ticks joués
+     */
+    public long runToEnd() {
+        long startTick = engine.getTick();
+        while (step()) {
+            // Les événements ne sont pas affichés
+            engine.pollEvents();
+        }
+        engine.pollEvents();
+        return engine.getTick() - startTick;
+    }
+
+    /**
+     * @return true si la partie est terminée ou si le dernier tick enregistré est atteint
+     */
+    public boolean isFinished() {
+        return engine.isGameOver() || engine.getTick() >= replay.getEndTick();
+    }
+
+    /**
+     * Compare l'état atteint à celui de la partie enregistrée.
+     *
+     * @return true si la relecture est terminée avec le même tick, le même gagnant et la
+     *         même empreinte que l'enregistrement
+     */
+    public boolean matchesRecording() {
+        SimPlayer winner = engine.getWinner();
+        return isFinished()
+                && engine.getTick() == replay.getEndTick()
+                && (winner != null ? winner.getId() : -1) == replay.getWinnerId()
+                && Replay.checksum(engine) == replay.getChecksum();
+    }
+
+    private void readNext(long previousTick) {
+        if (position >= commands.length) {
+            nextTick = -1;
+            return;
+        }
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = commands[position++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0 && position < commands.length);
+
+        nextTick = previousTick + (value >>> Replay.TICK_SHIFT);
+        nextCode = (int) (value & ((1 << Replay.TICK_SHIFT) - 1));
+    }
+
+    public Replay getReplay() { return replay; }
+
+    /**
+     * @return Le moteur de la relecture (à afficher, sans lui transmettre d'autres commandes)
+     */
+    public SimulationEngine getEngine() { return engine; }
+
+    /**
+     * Rejoue des fichiers de replay sans interface et vérifie leur état final.
+     *
+     * @param args Fichiers à rejouer
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayPlayer <fichier" + Replay.FILE_EXTENSION + ">...");
+            System.exit(2);
+        }
+
+        boolean allMatch = true;
+        for (String arg : args) {
+            try {
+                Replay replay = Replay.read(Path.of(arg));
+                long start = System.nanoTime();
+                ReplayPlayer player = new ReplayPlayer(replay);
+                long ticks = player.runToEnd();
+                double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+                boolean match = player.matchesRecording();
+                allMatch &= match;
+                System.out.printf("%s: %d ticks, %d commandes, gagnant %d, %.2f ms (%.0f ticks/s) -> %s%n",
+                        arg, ticks, replay.getCommandCount(), replay.getWinnerId(), millis,
+                        ticks / Math.max(millis / 1000.0, 1e-9), match ? "OK" : "DIVERGENCE");
+            } catch (IOException e) {
+                allMatch = false;
+                System.err.println(arg + ": " + e.getMessage());
+            }
+        }
+        System.exit(allMatch ? 0 : 1);
+    }
+}
@@ -0,0 +1,107 @@
+package Simulation;
+
+import Etat.Direction;
+import Etat.GameMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enregistreur des commandes appliquées par un {@link SimulationEngine}.
+ * <p>
+ * Branché avec {@link SimulationEngine#setRecorder(ReplayRecorder)}, il est appelé par le
+ * moteur lui-même pour chaque commande qui modifie son état : clavier, déplacement continu
+ * et IA sont ainsi enregistrés par un seul chemin, dans l'ordre exact où le moteur les a
+ * reçus. Une commande coûte un ou deux octets, écrits dans un tampon qui grandit par
+ * doublement.
+ * </p>
+ */
+public final class ReplayRecorder {
+
+    private long seed;
+    private GameMode gameMode;
+    private final List<Replay.PlayerSetup> players = new ArrayList<>();
+
+    private byte[] buffer = new byte[1024];
+    private int length;
+    private int commandCount;
+    /** Tick de la commande précédente */
+    private long lastTick;
+
+    /**
+     * Note la graine, le mode et l'état initial des joueurs ; appelé par le moteur au démarrage.
+     *
+     * @param engine Moteur enregistré, tous ses joueurs ajoutés
+     */
+    void begin(SimulationEngine engine) {
+        seed = engine.getSeed();
+        gameMode = engine.getGameMode();
+        players.clear();
+        for (SimPlayer player : engine.getPlayers()) {
+            players.add(Replay.PlayerSetup.of(player));
+        }
+    }
+
+    /**
+     * Enregistre un déplacement accepté par le moteur (même bloqué par un obstacle,
+     * il relance le cooldown du joueur).
+     *
+     * @param tick Tick courant du moteur
+     * @param playerId Identifiant du joueur
+     * @param direction Direction demandée
+     */
+    void recordMove(long tick, int playerId, Direction direction) {
+        record(tick, playerId, direction.ordinal());
+    }
+
+    /**
+     * Enregistre une bombe posée.
+     *
+     * @param tick Tick courant du moteur
+     * @param playerId Identifiant du joueur
+     */
+    void recordBomb(long tick, int playerId) {
+        record(tick, playerId, Replay.OP_BOMB);
+    }
+
+    private void record(long tick, int playerId, int op) {
+        long value = ((tick - lastTick) << Replay.TICK_SHIFT) | ((long) playerId << Replay.PLAYER_SHIFT) | op;
+        lastTick = tick;
+        commandCount++;
+
+        // Un varint de 64 bits tient en 10 octets au plus
+        if (length + 10 > buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    /**
+     * Fige l'enregistrement dans l'état courant du moteur ; l'enregistrement peut continuer
+     * ensuite.
+     *
+     * @param engine Moteur enregistré
+     * @return Le replay de la partie jusqu'au tick courant
+     * @throws IllegalStateException si la partie n'a pas démarré
+     */
+    public Replay finish(SimulationEngine engine) {
+        if (gameMode == null) {
+            throw new IllegalStateException("La partie enregistrée n'a pas démarré");
+        }
+        SimPlayer winner = engine.getWinner();
+        return new Replay(seed, gameMode, players, engine.getTick(), winner != null ? winner.getId() : -1,
+                Replay.checksum(engine), commandCount, Arrays.copyOf(buffer, length));
+    }
+
+    /**
+     * @return Le nombre de commandes enregistrées
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+}
@@ -0,0 +1,90 @@
+package Simulation;
+
+/**
+ * État logique d'une bombe dans le moteur de simulation.
+ * <p>
+ * La mèche n'est pas décomptée tick par tick : à la pose, le moteur planifie
+ * l'explosion dans son {@link TickScheduler} et conserve ici la tâche
+ * correspondante, ce qui permet de l'annuler ou de l'avancer.
+ * </p>
+ */
+public class SimBomb extends SimEntity {
+
+    /** Identifiant unique de la bombe dans la partie */
+    private final int id;
+    /** Joueur ayant posé la bombe */
+    private final SimPlayer owner;
+    /** Puissance de l'explosion (portée en nombre de cases) */
+    private final int power;
+    /** Tick auquel la bombe a été posée */
+    private final long placedTick;
+    /** Tick auquel la bombe doit exploser */
+    private final long explodeTick;
+    /** Tâche d'explosion planifiée dans l'ordonnanceur du moteur */
+    private TickScheduler.Task fuseTask;
+    /** Indique si la bombe a déjà explosé */
+    private boolean exploded;
+
+    /**
+     * Crée une bombe logique.
+     *
+     * @param id Identifiant unique
+     * @param owner Joueur propriétaire
+     * @param x Position X
+     * @param y Position Y
+     * @param power Puissance de l'explosion
+     * @param placedTick Tick de pose
+     * @param fuseTicks Durée de la mèche en ticks
+     */
+    public SimBomb(int id, SimPlayer owner, int x, int y, int power, long placedTick, int fuseTicks) {
+        super(x, y);
+        this.id = id;
+        this.owner = owner;
+        this.power = power;
+        this.placedTick = placedTick;
+        this.explodeTick = placedTick + fuseTicks;
+        this.exploded = false;
+    }
+
+    /**
+     * La mèche est gérée par l'ordonnanceur du moteur.
+     */
+    @Override
+    public void update() {
+        // Rien à faire : l'explosion est planifiée dans le TickScheduler
+    }
+
+    /**
+     * Retourne le nombre de ticks restants avant l'explosion.
+     *
+     * @param currentTick Tick courant du moteur
+     * @return Ticks restants (0 si la bombe a explosé)
+     */
+    public int getRemainingTicks(long currentTick) {
+        return exploded ? 0 : (int) Math.max(0, explodeTick - currentTick);
+    }
+
+    void markExploded() {
+        exploded = true;
+    }
+
+    TickScheduler.Task getFuseTask() {
+        return fuseTask;
+    }
+
+    void setFuseTask(TickScheduler.Task fuseTask) {
+        this.fuseTask = fuseTask;
+    }
+
+    public int getId() { return id; }
+
+    public SimPlayer getOwner() { return owner; }
+
+    public int getPower() { return power; }
+
+    public long getPlacedTick() { return placedTick; }
+
+    public long getExplodeTick() { return explodeTick; }
+
+    public boolean isExploded() { return exploded; }
+}
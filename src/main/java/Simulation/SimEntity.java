@@ -0,0 +1,28 @@
+package Simulation;
+
+import fonctionnaliteInitial.GameObject;
+
+/**
+ * Entité logique placée sur une cellule de la grille (joueur, bombe, power-up).
+ * <p>
+ * Chaque entité porte le chaînage de la liste de sa cellule dans le {@link CellIndex}
+ * du moteur : l'index n'alloue rien à l'ajout ni au retrait.
+ * </p>
+ */
+public abstract class SimEntity extends GameObject {
+
+    /** Entité suivante sur la même cellule */
+    SimEntity nextInCell;
+    /** Cellule (y * largeur + x) sous laquelle l'entité est indexée, -1 sinon */
+    int indexedCell = -1;
+
+    /**
+     * Crée une entité logique.
+     *
+     * @param x Position X
+     * @param y Position Y
+     */
+    protected SimEntity(int x, int y) {
+        super(x, y);
+    }
+}
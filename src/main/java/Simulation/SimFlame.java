@@ -0,0 +1,55 @@
+package Simulation;
+
+import Etat.Direction;
+
+/**
+ * Cellule enflammée par une explosion.
+ * <p>
+ * Les flammes n'infligent des dégâts qu'au moment de l'explosion ; elles restent
+ * ensuite présentes quelques ticks pour l'affichage et sont retirées par le moteur.
+ * </p>
+ */
+public class SimFlame {
+
+    private final int x;
+    private final int y;
+    /** true pour la cellule centrale de l'explosion */
+    private final boolean center;
+    /** Direction du rayon (null pour le centre) */
+    private final Direction direction;
+    /** true pour la dernière cellule d'un rayon */
+    private final boolean end;
+    /** Tick à partir duquel la flamme disparaît */
+    private final long expireTick;
+
+    /**
+     * Crée une flamme.
+     *
+     * @param x Position X
+     * @param y Position Y
+     * @param center true pour le centre de l'explosion
+     * @param direction Direction du rayon (null pour le centre)
+     * @param end true pour l'extrémité d'un rayon
+     * @param expireTick Tick de disparition
+     */
+    public SimFlame(int x, int y, boolean center, Direction direction, boolean end, long expireTick) {
+        this.x = x;
+        this.y = y;
+        this.center = center;
+        this.direction = direction;
+        this.end = end;
+        this.expireTick = expireTick;
+    }
+
+    public int getX() { return x; }
+
+    public int getY() { return y; }
+
+    public boolean isCenter() { return center; }
+
+    public Direction getDirection() { return direction; }
+
+    public boolean isEnd() { return end; }
+
+    public long getExpireTick() { return expireTick; }
+}
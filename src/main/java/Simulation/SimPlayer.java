@@ -0,0 +1,284 @@
+package Simulation;
+
+import Etat.Direction;
+import Etat.GameMode;
+import Etat.PowerUpType;
+
+/**
+ * État logique d'un joueur dans le moteur de simulation.
+ * <p>
+ * Cette classe reprend les règles de {@link Joueur.JavaFXPlayer} (vies, inventaire
+ * de bombes, puissance, vitesse, score, power-ups) sans aucune dépendance à JavaFX.
+ * La représentation visuelle se contente de recopier cet état à chaque tick.
+ * </p>
+ */
+public class SimPlayer extends SimEntity {
+
+    /** Nombre de vies au début de la partie */
+    public static final int DEFAULT_LIVES = 3;
+    /** Nombre de bombes au début de la partie en mode limité */
+    public static final int DEFAULT_BOMB_INVENTORY = 10;
+    /** Puissance des bombes au début de la partie */
+    public static final int DEFAULT_BOMB_POWER = 2;
+    /** Vitesse au début de la partie */
+    public static final int DEFAULT_SPEED = 1;
+
+    private static final int MAX_BOMB_INVENTORY = 15;
+    private static final int MAX_BOMB_POWER = 8;
+    private static final int MAX_SPEED = 5;
+    private static final int MAX_LIVES = 9;
+    private static final int POWERUP_SCORE_BONUS = 100;
+
+    /** Identifiant du joueur (index dans la partie) */
+    private final int id;
+    /** Nom du joueur */
+    private final String name;
+    /** Mode de gestion des bombes */
+    private GameMode gameMode;
+
+    private boolean alive;
+    private int lives;
+    private int bombInventory;
+    private int bombPower;
+    private int speed;
+    private int score;
+    private int spawnX;
+    private int spawnY;
+    private Direction direction;
+
+    /** Tick du dernier déplacement (pour le cooldown) */
+    private long lastMoveTick;
+
+    /**
+     * Crée un joueur logique.
+     *
+     * @param id Identifiant du joueur
+     * @param name Nom du joueur
+     * @param gameMode Mode de gestion des bombes
+     * @param spawnX Position X de spawn
+     * @param spawnY Position Y de spawn
+     */
+    public SimPlayer(int id, String name, GameMode gameMode, int spawnX, int spawnY) {
+        super(spawnX, spawnY);
+        this.id = id;
+        this.name = name;
+        this.gameMode = gameMode;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+        this.alive = true;
+        this.lives = DEFAULT_LIVES;
+        this.bombInventory = DEFAULT_BOMB_INVENTORY;
+        this.bombPower = DEFAULT_BOMB_POWER;
+        this.speed = DEFAULT_SPEED;
+        this.score = 0;
+        this.direction = Direction.DOWN;
+        this.lastMoveTick = Long.MIN_VALUE / 2;
+    }
+
+    /**
+     * Le joueur logique n'a pas de comportement autonome : il est piloté
+     * par les commandes transmises au moteur.
+     */
+    @Override
+    public void update() {
+        // Rien à faire : l'état évolue uniquement via les commandes du moteur
+    }
+
+    /**
+     * Vérifie si le joueur peut placer une bombe.
+     *
+     * @return true si le joueur est vivant et dispose d'une bombe (ou est en mode infini)
+     */
+    public boolean canPlaceBomb() {
+        if (!alive) return false;
+        return gameMode.isInfinite() || bombInventory > 0;
+    }
+
+    /**
+     * Consomme une bombe de l'inventaire (sans effet en mode infini).
+     */
+    void consumeBomb() {
+        if (alive && gameMode.isLimited() && bombInventory > 0) {
+            bombInventory--;
+        }
+    }
+
+    /**
+     * Ajoute des bombes à l'inventaire, dans la limite de 15 en mode limité.
+     *
+     * @param count Nombre de bombes à ajouter
+     */
+    public void addBombs(int count) {
+        if (gameMode.isLimited()) {
+            bombInventory = Math.min(MAX_BOMB_INVENTORY, bombInventory + count);
+        }
+    }
+
+    /**
+     * Augmente la puissance des bombes (maximum 8).
+     */
+    public void increaseBombPower() {
+        if (bombPower < MAX_BOMB_POWER) {
+            bombPower++;
+        }
+    }
+
+    /**
+     * Augmente la vitesse du joueur (maximum 5).
+     */
+    public void increaseSpeed() {
+        if (speed < MAX_SPEED) {
+            speed++;
+        }
+    }
+
+    /**
+     * Ajoute une vie au joueur (maximum 9).
+     */
+    public void heal() {
+        if (alive && lives < MAX_LIVES) {
+            lives++;
+        }
+    }
+
+    /**
+     * Inflige des dégâts au joueur.
+     *
+     * @return true si le joueur vient d'être éliminé
+     */
+    boolean takeDamage() {
+        if (!alive) return false;
+
+        lives--;
+        if (lives <= 0) {
+            alive = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Vérifie si le joueur peut recevoir un power-up spécifique.
+     *
+     * @param type Type de power-up
+     * @return true si le power-up aurait un effet
+     */
+    public boolean canReceivePowerUp(PowerUpType type) {
+        if (!alive) return false;
+
+        switch (type) {
+            case BOMB_COUNT:
+                return gameMode.isInfinite() || bombInventory < MAX_BOMB_INVENTORY;
+            case BOMB_POWER:
+                return bombPower < MAX_BOMB_POWER;
+            case SPEED:
+                return speed < MAX_SPEED;
+            case LIFE:
+                return lives < MAX_LIVES;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Applique l'effet d'un power-up et accorde le bonus de score.
+     *
+     * @param type Type de power-up
+     * @return true si le power-up a été appliqué
+     */
+    boolean applyPowerUp(PowerUpType type) {
+        if (!canReceivePowerUp(type)) {
+            return false;
+        }
+
+        switch (type) {
+            case BOMB_COUNT -> addBombs(1);
+            case BOMB_POWER -> increaseBombPower();
+            case SPEED -> increaseSpeed();
+            case LIFE -> heal();
+        }
+
+        score += POWERUP_SCORE_BONUS;
+        return true;
+    }
+
+    /**
+     * Replace le joueur sur sa position de spawn.
+     */
+    void respawn() {
+        setPosition(spawnX, spawnY);
+    }
+
+    void setDirection(Direction direction) {
+        this.direction = direction;
+    }
+
+    long getLastMoveTick() {
+        return lastMoveTick;
+    }
+
+    void setLastMoveTick(long lastMoveTick) {
+        this.lastMoveTick = lastMoveTick;
+    }
+
+    /**
+     * Change le mode de gestion des bombes.
+     *
+     * @param gameMode Nouveau mode
+     */
+    public void setGameMode(GameMode gameMode) {
+        this.gameMode = gameMode;
+    }
+
+    /**
+     * Définit le nombre de bombes dans l'inventaire.
+     *
+     * @param bombInventory Nouveau nombre de bombes
+     */
+    public void setBombInventory(int bombInventory) {
+        this.bombInventory = bombInventory;
+    }
+
+    // ===== GETTERS =====
+
+    public int getId() { return id; }
+
+    public String getName() { return name; }
+
+    public GameMode getGameMode() { return gameMode; }
+
+    public boolean isAlive() { return alive; }
+
+    public int getLives() { return lives; }
+
+    public int getBombInventory() { return bombInventory; }
+
+    public int getBombPower() { return bombPower; }
+
+    public int getSpeed() { return speed; }
+
+    public int getScore() { return score; }
+
+    public int getSpawnX() { return spawnX; }
+
+    public int getSpawnY() { return spawnY; }
+
+    public Direction getDirection() { return direction; }
+
+    /**
+     * Vérifie si le joueur est à une position donnée.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si le joueur occupe cette cellule
+     */
+    public boolean isAtPosition(int x, int y) {
+        return this.x == x && this.y == y;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SimPlayer{id=%d, name='%s', alive=%s, lives=%d, position=(%d,%d)}",
+                id, name, alive, lives, x, y);
+    }
+}
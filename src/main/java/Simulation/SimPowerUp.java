@@ -0,0 +1,48 @@
+package Simulation;
+
+import Etat.PowerUpType;
+
+/**
+ * État logique d'un power-up posé sur la carte.
+ */
+public class SimPowerUp extends SimEntity {
+
+    /** Identifiant unique du power-up dans la partie */
+    private final int id;
+    /** Type du power-up */
+    private final PowerUpType type;
+    /** Indique si le power-up a été collecté */
+    private boolean collected;
+
+    /**
+     * Crée un power-up logique.
+     *
+     * @param id Identifiant unique
+     * @param x Position X
+     * @param y Position Y
+     * @param type Type du power-up
+     */
+    public SimPowerUp(int id, int x, int y, PowerUpType type) {
+        super(x, y);
+        this.id = id;
+        this.type = type;
+        this.collected = false;
+    }
+
+    /**
+     * Un power-up est statique : aucune mise à jour n'est nécessaire.
+     */
+    @Override
+    public void update() {
+    }
+
+    void collect() {
+        collected = true;
+    }
+
+    public int getId() { return id; }
+
+    public PowerUpType getType() { return type; }
+
+    public boolean isCollected() { return collected; }
+}
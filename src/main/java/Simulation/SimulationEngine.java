@@ -0,0 +1,834 @@
+package Simulation;
+
+import Etat.Direction;
+import Etat.GameMode;
+import Etat.PowerUpType;
+import Etat.RandomStream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Moteur de simulation du jeu Bomberman, indépendant de JavaFX.
+ * <p>
+ * Le moteur possède la carte, les joueurs, les bombes, les flammes et les power-ups,
+ * et applique toutes les règles du jeu (déplacements, pose de bombes, explosions,
+ * dégâts, collecte des power-ups, condition de victoire). Il avance par pas de temps
+ * fixes via {@link #tick()} : une partie peut ainsi être jouée sans boîte à outils
+ * graphique, à la vitesse du processeur.
+ * </p>
+ * <p>
+ * Les échéances (mèches des bombes, disparition des flammes, apparition des power-ups)
+ * sont rangées dans un {@link TickScheduler} : un tick ne parcourt pas les bombes ni
+ * les flammes, il exécute seulement les tâches arrivées à terme.
+ * </p>
+ * <p>
+ * Les changements d'état sont publiés sous forme de {@link GameEvent} et l'état complet
+ * peut être figé dans un {@link GameSnapshot}. Le {@link fonctionnaliteInitial.GameController}
+ * n'est plus qu'une vue qui transmet les commandes et affiche le résultat.
+ * </p>
+ * <p>
+ * Toute la part aléatoire dépend de la graine : avec un {@link ReplayRecorder}, les
+ * commandes reçues suffisent à rejouer la partie à l'identique ({@link ReplayPlayer}).
+ * </p>
+ */
+public class SimulationEngine {
+
+    /** Nombre de ticks par seconde de jeu */
+    public static final int TICKS_PER_SECOND = 60;
+    /** Durée d'un tick en nanosecondes */
+    public static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND;
+
+    /** Durée de la mèche d'une bombe (3 secondes) */
+    public static final int BOMB_FUSE_TICKS = 3 * TICKS_PER_SECOND;
+    /** Durée d'affichage des flammes (800 ms) */
+    public static final int FLAME_DURATION_TICKS = 48;
+    /** Délai minimal entre deux déplacements d'un joueur (150 ms) */
+    public static final int MOVE_COOLDOWN_TICKS = 9;
+
+    /** Intervalle moyen entre deux apparitions de power-up (5 secondes) */
+    private static final int POWERUP_SPAWN_INTERVAL_TICKS = 5 * TICKS_PER_SECOND;
+    /** Variance de l'intervalle d'apparition (±3 secondes) */
+    private static final int POWERUP_SPAWN_VARIANCE_TICKS = 3 * TICKS_PER_SECOND;
+    /** Nombre maximal de power-ups simultanés sur la carte */
+    private static final int MAX_ACTIVE_POWERUPS = 5;
+    /** Nombre de tentatives pour trouver une cellule libre pour un power-up */
+    private static final int POWERUP_PLACEMENT_ATTEMPTS = 50;
+
+    private final GameMode gameMode;
+    /** Flux aléatoires de la partie */
+    private final GameRandom random;
+    /** Flux des power-ups (type, position, délai), propre au moteur */
+    private final SplittableRandom powerUpRandom;
+    private final GridState grid;
+
+    private final List<SimPlayer> players;
+    private final List<SimBomb> bombs;
+    private final List<SimPowerUp> powerUps;
+    private final List<SimFlame> flames;
+    private final CellIndex<SimPlayer> playerIndex;
+    private final CellIndex<SimBomb> bombIndex;
+    private final CellIndex<SimPowerUp> powerUpIndex;
+    private final List<GameEvent> pendingEvents;
+    private final TickScheduler scheduler;
+    /** Tâche des apparitions de power-ups, créée au démarrage */
+    private TickScheduler.Task powerUpSpawnTask;
+
+    private long tick;
+    /** Une apparition est due mais la carte contient déjà le maximum de power-ups */
+    private boolean powerUpSpawnPending;
+    private int nextEntityId;
+    private boolean started;
+    private boolean gameOver;
+    private SimPlayer winner;
+    /** Enregistreur des commandes, ou null */
+    private ReplayRecorder recorder;
+
+    /**
+     * Crée un moteur avec une nouvelle graine ({@link GameRandom#newMatchSeed()}).
+     *
+     * @param gameMode Mode de gestion des bombes
+     */
+    public SimulationEngine(GameMode gameMode) {
+        this(gameMode, GameRandom.newMatchSeed());
+    }
+
+    /**
+     * Crée un moteur dont toute la part aléatoire (carte, power-ups) dépend de la graine.
+     *
+     * @param gameMode Mode de gestion des bombes
+     * @param seed Graine de la partie
+     */
+    public SimulationEngine(GameMode gameMode, long seed) {
+        this.gameMode = gameMode;
+        this.random = new GameRandom(seed);
+        this.powerUpRandom = random.fork(RandomStream.POWER_UPS);
+        this.grid = GridState.fromLayout(MapLayout.generate(random.fork(RandomStream.MAP)));
+        this.players = new ArrayList<>();
+        this.bombs = new ArrayList<>();
+        this.powerUps = new ArrayList<>();
+        this.flames = new ArrayList<>();
+        this.playerIndex = new CellIndex<>(MapLayout.GRID_WIDTH, MapLayout.GRID_HEIGHT);
+        this.bombIndex = new CellIndex<>(MapLayout.GRID_WIDTH, MapLayout.GRID_HEIGHT);
+        this.powerUpIndex = new CellIndex<>(MapLayout.GRID_WIDTH, MapLayout.GRID_HEIGHT);
+        this.pendingEvents = new ArrayList<>();
+        this.scheduler = new TickScheduler();
+        this.tick = 0;
+        this.nextEntityId = 0;
+        this.started = false;
+        this.gameOver = false;
+    }
+
+    // ===== MISE EN PLACE =====
+
+    /**
+     * Ajoute un joueur à la partie, placé sur le prochain point de spawn libre.
+     *
+     * @param name Nom du joueur
+     * @return Le joueur logique créé
+     * @throws IllegalStateException si la partie est démarrée ou complète
+     */
+    public SimPlayer addPlayer(String name) {
+        if (started) {
+            throw new IllegalStateException("Impossible d'ajouter un joueur après le démarrage");
+        }
+        if (players.size() >= MapLayout.getMaxPlayers()) {
+            throw new IllegalStateException("Nombre maximal de joueurs atteint");
+        }
+
+        int id = players.size();
+        int[] spawn = MapLayout.getSpawnPosition(id);
+        SimPlayer player = new SimPlayer(id, name, gameMode, spawn[0], spawn[1]);
+        players.add(player);
+        playerIndex.add(player);
+        grid.add(GridState.PLAYER, spawn[0], spawn[1]);
+        return player;
+    }
+
+    /**
+     * Branche un enregistreur qui recevra toutes les commandes modifiant l'état du moteur.
+     *
+     * @param recorder Enregistreur, ou null pour n'en utiliser aucun
+     * @throws IllegalStateException si la partie est démarrée
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        if (started) {
+            throw new IllegalStateException("L'enregistrement doit commencer avant le démarrage");
+        }
+        this.recorder = recorder;
+    }
+
+    /**
+     * Démarre la partie : génère les power-ups initiaux et programme les apparitions.
+     */
+    public void start() {
+        if (started) return;
+        started = true;
+        if (recorder != null) {
+            recorder.begin(this);
+        }
+
+        // Générer seulement 1-2 power-ups au début (priorité aux bombes)
+        PowerUpType[] initialTypes = {PowerUpType.BOMB_COUNT, PowerUpType.BOMB_POWER, PowerUpType.SPEED};
+        int initialCount = 1 + powerUpRandom.nextInt(2);
+        for (int i = 0; i < initialCount; i++) {
+            spawnPowerUp(initialTypes[powerUpRandom.nextInt(initialTypes.length)]);
+        }
+
+        powerUpSpawnTask = scheduler.newTask(this::handleRandomPowerUpSpawning);
+        scheduleNextPowerUpSpawn();
+    }
+
+    // ===== COMMANDES =====
+
+    /**
+     * Déplace un joueur d'une cellule dans la direction donnée.
+     * <p>
+     * Le déplacement est soumis au cooldown du joueur : une tentative pendant
+     * le cooldown est ignorée, une tentative bloquée par un obstacle relance
+     * tout de même le cooldown.
+     * </p>
+     *
+     * @param playerId Identifiant du joueur
+     * @param direction Direction du déplacement
+     * @return true si le joueur a changé de cellule
+     */
+    public boolean movePlayer(int playerId, Direction direction) {
+        SimPlayer player = getPlayer(playerId);
+        if (player == null || !player.isAlive() || gameOver) {
+            return false;
+        }
+
+        if (isOnMoveCooldown(player)) {
+            return false;
+        }
+        // À partir d'ici la commande modifie l'état (au moins le cooldown) : elle est enregistrée
+        if (recorder != null) {
+            recorder.recordMove(tick, playerId, direction);
+        }
+        player.setLastMoveTick(tick);
+        player.setDirection(direction);
+
+        int oldX = player.getX();
+        int oldY = player.getY();
+        int newX = oldX + dx(direction);
+        int newY = oldY + dy(direction);
+
+        if (!isWalkable(newX, newY) || isOccupiedByPlayer(newX, newY, player)) {
+            return false;
+        }
+
+        playerIndex.move(player, newX, newY);
+        grid.remove(GridState.PLAYER, oldX, oldY);
+        grid.add(GridState.PLAYER, newX, newY);
+        pendingEvents.add(GameEvent.playerMoved(tick, player, oldX, oldY, direction));
+
+        collectPowerUpAt(player);
+        return true;
+    }
+
+    /**
+     * Pose une bombe sous le joueur.
+     *
+     * @param playerId Identifiant du joueur
+     * @return true si la bombe a été posée
+     */
+    public boolean placeBomb(int playerId) {
+        SimPlayer player = getPlayer(playerId);
+        if (player == null || gameOver || !player.canPlaceBomb()) {
+            return false;
+        }
+        if (recorder != null) {
+            recorder.recordBomb(tick, playerId);
+        }
+
+        placeBombAt(player, player.getX(), player.getY());
+        player.consumeBomb();
+        return true;
+    }
+
+    /**
+     * Pose une bombe d'un joueur sur une cellule quelconque, sans toucher à son inventaire.
+     * <p>
+     * Utilisé par {@link #placeBomb(int)} et pour construire des situations de jeu
+     * (bancs d'essai).
+     * </p>
+     *
+     * @param owner Propriétaire de la bombe (fixe sa puissance)
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return La bombe posée
+     */
+    SimBomb placeBombAt(SimPlayer owner, int x, int y) {
+        SimBomb bomb = new SimBomb(nextEntityId++, owner, x, y, owner.getBombPower(), tick, BOMB_FUSE_TICKS);
+        bombs.add(bomb);
+        bombIndex.add(bomb);
+        grid.add(GridState.BOMB, x, y);
+        bomb.setFuseTask(scheduler.schedule(() -> explodeBomb(bomb), BOMB_FUSE_TICKS));
+
+        pendingEvents.add(GameEvent.bombPlaced(tick, bomb));
+        return bomb;
+    }
+
+    // ===== BOUCLE DE SIMULATION =====
+
+    /**
+     * Fait avancer la simulation d'un pas de temps fixe.
+     */
+    public void tick() {
+        if (!started) {
+            start();
+        }
+        if (gameOver) return;
+
+        tick++;
+
+        // Mèches, flammes et apparitions de power-ups arrivées à échéance
+        scheduler.advanceTo(tick);
+
+        for (SimPlayer player : players) {
+            collectPowerUpAt(player);
+        }
+
+        checkWinCondition();
+    }
+
+    /**
+     * Fait tourner la simulation jusqu'à la fin de la partie ou jusqu'à la limite de ticks.
+     *
+     * @param maxTicks Nombre maximal de ticks à simuler
+     * @return Le nombre de ticks effectivement simulés
+     */
+    public long runUntilGameOver(long maxTicks) {
+        long startTick = tick;
+        while (!gameOver && tick - startTick < maxTicks) {
+            tick();
+        }
+        return tick - startTick;
+    }
+
+    /**
+     * Récupère et vide la liste des événements produits depuis le dernier appel.
+     *
+     * @return Les événements dans leur ordre d'apparition
+     */
+    public List<GameEvent> pollEvents() {
+        if (pendingEvents.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<GameEvent> events = new ArrayList<>(pendingEvents);
+        pendingEvents.clear();
+        return events;
+    }
+
+    /**
+     * Fige l'état courant du moteur.
+     *
+     * @return Un instantané immuable de la partie
+     */
+    public GameSnapshot snapshot() {
+        List<GameSnapshot.PlayerState> playerStates = new ArrayList<>(players.size());
+        for (SimPlayer player : players) {
+            playerStates.add(new GameSnapshot.PlayerState(player));
+        }
+        List<GameSnapshot.BombState> bombStates = new ArrayList<>(bombs.size());
+        for (SimBomb bomb : bombs) {
+            bombStates.add(new GameSnapshot.BombState(bomb, tick));
+        }
+        List<GameSnapshot.PowerUpState> powerUpStates = new ArrayList<>(powerUps.size());
+        for (SimPowerUp powerUp : powerUps) {
+            powerUpStates.add(new GameSnapshot.PowerUpState(powerUp));
+        }
+        List<GameSnapshot.FlameState> flameStates = new ArrayList<>(flames.size());
+        for (SimFlame flame : flames) {
+            flameStates.add(new GameSnapshot.FlameState(flame));
+        }
+
+        return new GameSnapshot(tick, grid.copy(), playerStates, bombStates, powerUpStates, flameStates,
+                gameOver, winner != null ? winner.getId() : -1);
+    }
+
+    // ===== BOMBES ET EXPLOSIONS =====
+
+    /**
+     * Fait exploser une bombe et résout toute la réaction en chaîne dans le même tick.
+     * <p>
+     * Les bombes touchées par une flamme rejoignent une liste de travail et n'explosent
+     * qu'une fois. Les cellules atteintes sont dédupliquées dans un masque : les murs
+     * détruits, les flammes et les dégâts sont ensuite appliqués une seule fois par
+     * cellule. Les rayons s'arrêtent sur les blocs destructibles présents au début de
+     * la réaction, même si une autre bombe de la chaîne les détruit.
+     * </p>
+     */
+    private void explodeBomb(SimBomb bomb) {
+        if (bomb.isExploded()) return;
+
+        ArrayDeque<SimBomb> worklist = new ArrayDeque<>();
+        long[] burned = grid.newMask();
+        List<SimFlame> burst = new ArrayList<>();
+        List<int[]> destroyedWalls = new ArrayList<>();
+
+        bomb.markExploded();
+        worklist.add(bomb);
+
+        while (!worklist.isEmpty()) {
+            SimBomb current = worklist.poll();
+
+            // Retirer la bombe AVANT de traiter les dégâts
+            scheduler.cancel(current.getFuseTask());
+            bombs.remove(current);
+            bombIndex.remove(current);
+            grid.remove(GridState.BOMB, current.getX(), current.getY());
+            pendingEvents.add(GameEvent.bombExploded(tick, current));
+
+            propagateBlast(current, worklist, burned, burst, destroyedWalls);
+        }
+
+        // Murs détruits d'abord, pour que la vue ne recouvre pas les flammes
+        for (int[] wall : destroyedWalls) {
+            destroyWall(wall[0], wall[1]);
+        }
+
+        for (SimFlame flame : burst) {
+            flames.add(flame);
+            grid.add(GridState.FLAME, flame.getX(), flame.getY());
+            pendingEvents.add(GameEvent.flameStarted(tick, flame));
+        }
+
+        damagePlayersIn(burned);
+
+        // Toutes les flammes d'une réaction disparaissent ensemble
+        scheduler.schedule(() -> clearFlames(burst), FLAME_DURATION_TICKS);
+    }
+
+    /**
+     * Parcourt les rayons d'une bombe, marque les cellules atteintes et ajoute à la
+     * liste de travail les bombes qu'ils touchent.
+     */
+    private void propagateBlast(SimBomb bomb, ArrayDeque<SimBomb> worklist, long[] burned,
+                                List<SimFlame> burst, List<int[]> destroyedWalls) {
+        int centerX = bomb.getX();
+        int centerY = bomb.getY();
+        int power = bomb.getPower();
+
+        // Explosion au centre
+        burnCell(centerX, centerY, true, null, false, worklist, burned, burst);
+
+        // Explosion dans les 4 directions
+        for (Direction dir : Direction.values()) {
+            for (int i = 1; i <= power; i++) {
+                int x = centerX + dx(dir) * i;
+                int y = centerY + dy(dir) * i;
+
+                int cellType = getCell(x, y);
+
+                // Bord de la carte ou mur indestructible : l'explosion s'arrête
+                if (cellType == -1 || cellType == MapLayout.WALL) {
+                    break;
+                }
+
+                // Mur destructible arrête l'explosion après destruction
+                if (cellType == MapLayout.DESTRUCTIBLE) {
+                    if (burnCell(x, y, false, dir, true, worklist, burned, burst)) {
+                        destroyedWalls.add(new int[]{x, y});
+                    }
+                    break;
+                }
+
+                burnCell(x, y, false, dir, i == power, worklist, burned, burst);
+            }
+        }
+    }
+
+    /**
+     * Marque une cellule comme atteinte et déclenche les bombes qui s'y trouvent.
+     *
+     * @return true si la cellule n'avait pas encore été atteinte par la réaction
+     */
+    private boolean burnCell(int x, int y, boolean center, Direction direction, boolean end,
+                             ArrayDeque<SimBomb> worklist, long[] burned, List<SimFlame> burst) {
+        long bit = 1L << x;
+        if ((burned[y] & bit) != 0) return false;
+        burned[y] |= bit;
+
+        burst.add(new SimFlame(x, y, center, direction, end, tick + FLAME_DURATION_TICKS));
+
+        for (SimBomb other = bombIndex.first(x, y); other != null; other = bombIndex.next(other)) {
+            if (!other.isExploded()) {
+                other.markExploded();
+                worklist.add(other);
+            }
+        }
+        return true;
+    }
+
+    private void clearFlames(List<SimFlame> burst) {
+        flames.removeAll(new HashSet<>(burst));
+        for (SimFlame flame : burst) {
+            grid.remove(GridState.FLAME, flame.getX(), flame.getY());
+            pendingEvents.add(GameEvent.flameCleared(tick, flame));
+        }
+    }
+
+    private void destroyWall(int x, int y) {
+        grid.clear(GridState.DESTRUCTIBLE, x, y);
+        pendingEvents.add(GameEvent.wallDestroyed(tick, x, y));
+    }
+
+    /**
+     * Inflige un coup à chaque joueur présent dans la zone, une seule fois par réaction :
+     * les joueurs sont relevés avant les dégâts, car un joueur touché retourne au spawn.
+     */
+    private void damagePlayersIn(long[] burned) {
+        List<SimPlayer> hit = new ArrayList<>();
+        for (int y = 0; y < burned.length; y++) {
+            long row = burned[y] & grid.getRow(GridState.PLAYER, y);
+            while (row != 0) {
+                int x = Long.numberOfTrailingZeros(row);
+                row &= row - 1;
+                for (SimPlayer player = playerIndex.first(x, y); player != null; player = playerIndex.next(player)) {
+                    hit.add(player);
+                }
+            }
+        }
+
+        for (SimPlayer player : hit) {
+            damagePlayer(player);
+        }
+    }
+
+    private void damagePlayer(SimPlayer player) {
+        boolean eliminated = player.takeDamage();
+        pendingEvents.add(GameEvent.playerDamaged(tick, player));
+
+        if (eliminated) {
+            playerIndex.remove(player);
+            grid.remove(GridState.PLAYER, player.getX(), player.getY());
+            pendingEvents.add(GameEvent.playerEliminated(tick, player));
+        } else {
+            // Retour au spawn
+            int oldX = player.getX();
+            int oldY = player.getY();
+            playerIndex.remove(player);
+            player.respawn();
+            playerIndex.add(player);
+            grid.remove(GridState.PLAYER, oldX, oldY);
+            grid.add(GridState.PLAYER, player.getX(), player.getY());
+            pendingEvents.add(GameEvent.playerRespawned(tick, player, oldX, oldY));
+        }
+    }
+
+    // ===== POWER-UPS =====
+
+    private void scheduleNextPowerUpSpawn() {
+        int variance = powerUpRandom.nextInt(2 * POWERUP_SPAWN_VARIANCE_TICKS + 1) - POWERUP_SPAWN_VARIANCE_TICKS;
+        scheduler.schedule(powerUpSpawnTask, POWERUP_SPAWN_INTERVAL_TICKS + variance);
+    }
+
+    private void handleRandomPowerUpSpawning() {
+        // Limiter le nombre de power-ups simultanés : l'apparition attend qu'une place se libère
+        if (powerUps.size() >= MAX_ACTIVE_POWERUPS) {
+            powerUpSpawnPending = true;
+            return;
+        }
+
+        spawnPowerUp(pickRandomPowerUpType());
+        scheduleNextPowerUpSpawn();
+    }
+
+    private PowerUpType pickRandomPowerUpType() {
+        double roll = powerUpRandom.nextDouble();
+
+        if (gameMode == GameMode.INFINITE_BOMBS) {
+            // En mode infini, exclure les power-ups BOMB_COUNT
+            return roll < 0.8 ? PowerUpType.SPEED : PowerUpType.LIFE;
+        }
+
+        // Mode normal avec toutes les possibilités
+        if (roll < 0.4) return PowerUpType.BOMB_COUNT;
+        if (roll < 0.7) return PowerUpType.BOMB_POWER;
+        if (roll < 0.9) return PowerUpType.SPEED;
+        return PowerUpType.LIFE;
+    }
+
+    private void spawnPowerUp(PowerUpType type) {
+        for (int attempt = 0; attempt < POWERUP_PLACEMENT_ATTEMPTS; attempt++) {
+            int x = 1 + powerUpRandom.nextInt(MapLayout.GRID_WIDTH - 2);
+            int y = 1 + powerUpRandom.nextInt(MapLayout.GRID_HEIGHT - 2);
+
+            if (grid.getCellType(x, y) == MapLayout.EMPTY &&
+                    !MapLayout.isSpawnPosition(x, y) &&
+                    !grid.has(GridState.POWERUP, x, y) &&
+                    !grid.has(GridState.PLAYER, x, y) &&
+                    !grid.has(GridState.BOMB, x, y)) {
+
+                SimPowerUp powerUp = new SimPowerUp(nextEntityId++, x, y, type);
+                powerUps.add(powerUp);
+                powerUpIndex.add(powerUp);
+                grid.set(GridState.POWERUP, x, y);
+                pendingEvents.add(GameEvent.powerUpSpawned(tick, powerUp));
+                return;
+            }
+        }
+    }
+
+    private void collectPowerUpAt(SimPlayer player) {
+        if (!player.isAlive()) return;
+
+        SimPowerUp powerUp = powerUpIndex.first(player.getX(), player.getY());
+        if (powerUp == null) return;
+
+        powerUp.collect();
+        powerUps.remove(powerUp);
+        powerUpIndex.remove(powerUp);
+        grid.clear(GridState.POWERUP, powerUp.getX(), powerUp.getY());
+        player.applyPowerUp(powerUp.getType());
+        pendingEvents.add(GameEvent.powerUpCollected(tick, player, powerUp));
+
+        if (powerUpSpawnPending) {
+            powerUpSpawnPending = false;
+            scheduler.schedule(powerUpSpawnTask, 1);
+        }
+    }
+
+    // ===== FIN DE PARTIE =====
+
+    private void checkWinCondition() {
+        SimPlayer lastAlive = null;
+        int aliveCount = 0;
+        for (SimPlayer player : players) {
+            if (player.isAlive()) {
+                aliveCount++;
+                lastAlive = player;
+            }
+        }
+
+        if (aliveCount <= 1) {
+            gameOver = true;
+            winner = lastAlive;
+            pendingEvents.add(GameEvent.gameOver(tick, winner));
+        }
+    }
+
+    // ===== REQUÊTES =====
+
+    /**
+     * Retourne les directions que le joueur peut emprunter sans obstacle
+     * (mur, autre joueur ou bombe) sur la cellule voisine.
+     *
+     * @param playerId Identifiant du joueur
+     * @return Liste des directions libres
+     */
+    public List<Direction> getSafeDirections(int playerId) {
+        List<Direction> safeDirections = new ArrayList<>();
+        SimPlayer player = getPlayer(playerId);
+        if (player == null) return safeDirections;
+
+        for (Direction dir : Direction.values()) {
+            // Le joueur n'occupe pas la cellule voisine : le masque joueurs suffit
+            if (grid.isFreeNeighbour(player.getX(), player.getY(), dir)) {
+                safeDirections.add(dir);
+            }
+        }
+        return safeDirections;
+    }
+
+    /**
+     * Vérifie si une cellule est dans la grille et traversable.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true pour une cellule vide ou une zone de spawn
+     */
+    public boolean isWalkable(int x, int y) {
+        return grid.isWalkable(x, y);
+    }
+
+    /**
+     * Vérifie si un joueur vivant (autre que celui indiqué) occupe une cellule.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @param except Joueur à ignorer (peut être null)
+     * @return true si la cellule est occupée
+     */
+    public boolean isOccupiedByPlayer(int x, int y, SimPlayer except) {
+        for (SimPlayer player = playerIndex.first(x, y); player != null; player = playerIndex.next(player)) {
+            if (player != except) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Vérifie si une bombe se trouve sur une cellule.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si une bombe occupe la cellule
+     */
+    public boolean isOccupiedByBomb(int x, int y) {
+        return grid.has(GridState.BOMB, x, y);
+    }
+
+    /**
+     * Vérifie si un power-up non collecté se trouve sur une cellule.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si un power-up occupe la cellule
+     */
+    public boolean isPowerUpAt(int x, int y) {
+        return grid.has(GridState.POWERUP, x, y);
+    }
+
+    /**
+     * Vérifie si une flamme est encore présente sur une cellule.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return true si la cellule est en feu
+     */
+    public boolean isOnFire(int x, int y) {
+        return grid.has(GridState.FLAME, x, y);
+    }
+
+    private boolean isOnMoveCooldown(SimPlayer player) {
+        return tick - player.getLastMoveTick() < MOVE_COOLDOWN_TICKS;
+    }
+
+    /**
+     * Retourne le type d'une cellule.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return Le type de cellule, ou -1 hors de la grille
+     */
+    public int getCell(int x, int y) {
+        return grid.getCellType(x, y);
+    }
+
+    /**
+     * Retourne le premier joueur vivant présent sur une cellule.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return Le joueur, ou null si la cellule est libre
+     */
+    public SimPlayer getPlayerAt(int x, int y) {
+        return playerIndex.first(x, y);
+    }
+
+    /**
+     * Retourne la bombe posée sur une cellule (la plus récente s'il y en a plusieurs).
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return La bombe, ou null si la cellule n'en contient pas
+     */
+    public SimBomb getBombAt(int x, int y) {
+        return bombIndex.first(x, y);
+    }
+
+    /**
+     * Retourne le power-up non collecté posé sur une cellule.
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @return Le power-up, ou null si la cellule n'en contient pas
+     */
+    public SimPowerUp getPowerUpAt(int x, int y) {
+        return powerUpIndex.first(x, y);
+    }
+
+    /**
+     * Retourne la zone dangereuse : flammes actives et souffle prévu de toutes les bombes.
+     *
+     * @return Un masque (un mot par ligne, un bit par colonne)
+     */
+    public long[] getDangerMask() {
+        return grid.dangerMask(bombs);
+    }
+
+    /**
+     * Retourne un joueur par son identifiant.
+     *
+     * @param playerId Identifiant du joueur
+     * @return Le joueur, ou null s'il n'existe pas
+     */
+    public SimPlayer getPlayer(int playerId) {
+        if (playerId >= 0 && playerId < players.size()) {
+            return players.get(playerId);
+        }
+        return null;
+    }
+
+    /**
+     * Convertit une durée en millisecondes en nombre de ticks (au moins 1).
+     *
+     * @param millis Durée en millisecondes
+     * @return Nombre de ticks correspondant
+     */
+    public static long millisToTicks(long millis) {
+        return Math.max(1, Math.round(millis * TICKS_PER_SECOND / 1000.0));
+    }
+
+    static int dx(Direction direction) {
+        return switch (direction) {
+            case LEFT -> -1;
+            case RIGHT -> 1;
+            default -> 0;
+        };
+    }
+
+    static int dy(Direction direction) {
+        return switch (direction) {
+            case UP -> -1;
+            case DOWN -> 1;
+            default -> 0;
+        };
+    }
+
+    // ===== GETTERS =====
+
+    public List<SimPlayer> getPlayers() { return Collections.unmodifiableList(players); }
+
+    public List<SimBomb> getBombs() { return Collections.unmodifiableList(bombs); }
+
+    public List<SimPowerUp> getPowerUps() { return Collections.unmodifiableList(powerUps); }
+
+    public List<SimFlame> getFlames() { return Collections.unmodifiableList(flames); }
+
+    /**
+     * @return Les bitboards de la grille (lecture seule hors du moteur)
+     */
+    public GridState getGridState() { return grid; }
+
+    public GameMode getGameMode() { return gameMode; }
+
+    /**
+     * @return La graine de la partie, qui suffit à reproduire sa part aléatoire
+     */
+    public long getSeed() { return random.getSeed(); }
+
+    /**
+     * @return Les flux aléatoires de la partie, dont ceux des IA et des effets
+     */
+    public GameRandom getRandom() { return random; }
+
+    public long getTick() { return tick; }
+
+    public boolean isStarted() { return started; }
+
+    public boolean isGameOver() { return gameOver; }
+
+    /**
+     * @return Le gagnant de la partie, ou null (partie en cours ou match nul)
+     */
+    public SimPlayer getWinner() { return winner; }
+}
@@ -0,0 +1,232 @@
+package Simulation;
+
+/**
+ * Ordonnanceur de tâches à pas de temps fixe, basé sur une roue temporelle.
+ * <p>
+ * Remplace les {@code Timeline} JavaFX créées pour chaque bombe et chaque IA :
+ * toutes les échéances (mèches, clignotements, décisions des IA, apparitions de
+ * power-ups) sont rangées dans une seule roue avancée par la boucle de jeu.
+ * </p>
+ * <p>
+ * Chaque emplacement de la roue contient une liste doublement chaînée intrusive de
+ * {@link Task} : l'insertion, la replanification et l'annulation se font en O(1) et
+ * n'allouent rien. Une tâche dont l'échéance dépasse un tour de roue reste simplement
+ * dans son emplacement jusqu'au bon tour. À échéance égale, les tâches sont exécutées
+ * dans leur ordre de planification, ce qui rend l'exécution reproductible.
+ * </p>
+ */
+public final class TickScheduler {
+
+    /** Nombre d'emplacements par défaut (environ 8,5 secondes à 60 ticks/s) */
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /**
+     * Tâche planifiable.
+     * <p>
+     * Une tâche est créée une seule fois puis replanifiée autant que nécessaire,
+     * ce qui évite toute allocation pendant la partie.
+     * </p>
+     */
+    public static final class Task {
+        private final Runnable action;
+        private long deadline;
+        private int slot = -1;
+        private Task prev;
+        private Task next;
+
+        private Task(Runnable action) {
+            this.action = action;
+        }
+
+        /**
+         * @return true si la tâche est en attente d'exécution
+         */
+        public boolean isScheduled() {
+            return slot >= 0;
+        }
+
+        /**
+         * @return Le tick auquel la tâche doit s'exécuter
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+    private final Task[] heads;
+    private final Task[] tails;
+    private final int mask;
+
+    private long currentTick;
+    private int size;
+    /** Compteur de retraits, pour détecter une annulation faite par une tâche exécutée */
+    private long removals;
+
+    /**
+     * Crée un ordonnanceur avec la taille de roue par défaut.
+     */
+    public TickScheduler() {
+        this(DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Crée un ordonnanceur.
+     *
+     * @param wheelSize Nombre d'emplacements de la roue (puissance de deux)
+     * @throws IllegalArgumentException si la taille n'est pas une puissance de deux
+     */
+    public TickScheduler(int wheelSize) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("La taille de la roue doit être une puissance de deux : " + wheelSize);
+        }
+        this.heads = new Task[wheelSize];
+        this.tails = new Task[wheelSize];
+        this.mask = wheelSize - 1;
+        this.currentTick = 0;
+    }
+
+    /**
+     * Crée une tâche non planifiée.
+     *
+     * @param action Action exécutée à l'échéance
+     * @return La tâche, à planifier avec {@link #schedule(Task, long)}
+     */
+    public Task newTask(Runnable action) {
+        return new Task(action);
+    }
+
+    /**
+     * Planifie (ou replanifie) une tâche.
+     *
+     * @param task Tâche à planifier
+     * @param delayTicks Délai en ticks ; un délai inférieur à 1 correspond au tick suivant
+     */
+    public void schedule(Task task, long delayTicks) {
+        if (task.isScheduled()) {
+            unlink(task);
+        }
+
+        task.deadline = currentTick + Math.max(1, delayTicks);
+        link(task, (int) (task.deadline & mask));
+    }
+
+    /**
+     * Crée et planifie une tâche en une seule étape.
+     *
+     * @param action Action exécutée à l'échéance
+     * @param delayTicks Délai en ticks
+     * @return La tâche planifiée
+     */
+    public Task schedule(Runnable action, long delayTicks) {
+        Task task = newTask(action);
+        schedule(task, delayTicks);
+        return task;
+    }
+
+    /**
+     * Annule une tâche.
+     *
+     * @param task Tâche à annuler (peut être null)
+     * @return true si la tâche était planifiée
+     */
+    public boolean cancel(Task task) {
+        if (task == null || !task.isScheduled()) {
+            return false;
+        }
+        unlink(task);
+        return true;
+    }
+
+    /**
+     * Avance d'un tick et exécute les tâches arrivées à échéance.
+     */
+    public void advance() {
+        currentTick++;
+
+        int slot = (int) (currentTick & mask);
+        Task task = heads[slot];
+        while (task != null) {
+            Task next = task.next;
+
+            if (task.deadline <= currentTick) {
+                unlink(task);
+                long removalsBefore = removals;
+                task.action.run();
+
+                // La tâche exécutée a pu annuler la suivante : reprendre au début de l'emplacement
+                if (removals != removalsBefore) {
+                    next = heads[slot];
+                }
+            }
+            task = next;
+        }
+    }
+
+    /**
+     * Avance jusqu'au tick indiqué en exécutant toutes les échéances intermédiaires.
+     *
+     * @param tick Tick cible
+     */
+    public void advanceTo(long tick) {
+        while (currentTick < tick) {
+            advance();
+        }
+    }
+
+    /**
+     * Annule toutes les tâches en attente.
+     */
+    public void clear() {
+        for (int slot = 0; slot < heads.length; slot++) {
+            while (heads[slot] != null) {
+                unlink(heads[slot]);
+            }
+        }
+    }
+
+    /**
+     * @return Le tick courant de l'ordonnanceur
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return Le nombre de tâches en attente
+     */
+    public int size() {
+        return size;
+    }
+
+    private void link(Task task, int slot) {
+        task.slot = slot;
+        task.next = null;
+        task.prev = tails[slot];
+        if (tails[slot] != null) {
+            tails[slot].next = task;
+        } else {
+            heads[slot] = task;
+        }
+        tails[slot] = task;
+        size++;
+    }
+
+    private void unlink(Task task) {
+        int slot = task.slot;
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            heads[slot] = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        } else {
+            tails[slot] = task.prev;
+        }
+        task.prev = null;
+        task.next = null;
+        task.slot = -1;
+        size--;
+        removals++;
+    }
+}
@@ -1,12 +1,16 @@
 package bombermanMain;
 
 import Etat.GameMode;
+import Etat.RenderMode;
 import IABomberMan.AIManager;
 import Joueur.Profile;
 import Joueur.ProfileInterface;
+import Simulation.Replay;
 import fonctionnaliteInitial.BombermanMap;
 import fonctionnaliteInitial.GameController;
+import fonctionnaliteInitial.SpriteCache;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -17,6 +21,8 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +46,9 @@ public class BombermanApplication extends Application {
     
     /** Mode de jeu sélectionné, par défaut limité en bombes */
     private GameMode selectedGameMode = GameMode.LIMITED_BOMBS;
+
+    /** Mode de rendu du plateau, par défaut le rendu d'origine par nœuds */
+    private RenderMode selectedRenderMode = RenderMode.NODES;
     
     /** Interface de gestion des profils */
     private ProfileInterface profileInterface;
@@ -75,6 +84,16 @@ public class BombermanApplication extends Application {
         selectedProfiles = new ArrayList<>();
 
         showMainMenu();
+
+        // Décoder les images pendant que le menu est affiché ; la première partie attendra la fin
+        SpriteCache.preload();
+        Platform.runLater(BombermanMap::preloadTileAtlases);
+
+        // Relecture directe d'une partie : --replay=<fichier>
+        String replayFile = getParameters().getNamed().get("replay");
+        if (replayFile != null) {
+            Platform.runLater(() -> openReplay(Path.of(replayFile)));
+        }
     }
 
     /**
@@ -133,7 +152,24 @@ public class BombermanApplication extends Application {
         backButton.setStyle("-fx-background-color: #E74C3C; -fx-text-fill: white;");
         backButton.setOnAction(e -> showMainMenu());
 
-        settingsLayout.getChildren().addAll(title, themeLabel, themeButtons, backButton);
+        // Section rendu
+        Label renderLabel = new Label("MODE DE RENDU");
+        renderLabel.setFont(Font.font("Arial", FontWeight.BOLD, 20));
+        renderLabel.setTextFill(Color.WHITE);
+
+        HBox renderButtons = new HBox(20);
+        renderButtons.setAlignment(Pos.CENTER);
+
+        Label renderDescription = new Label(selectedRenderMode.getDescription());
+        renderDescription.setFont(Font.font("Arial", 14));
+        renderDescription.setTextFill(Color.WHITE);
+
+        for (RenderMode mode : RenderMode.values()) {
+            renderButtons.getChildren().add(createRenderModeButton(mode, renderButtons, renderDescription));
+        }
+
+        settingsLayout.getChildren().addAll(title, themeLabel, themeButtons,
+                renderLabel, renderButtons, renderDescription, backButton);
 
         Scene settingsScene = new Scene(settingsLayout, 800, 600);
         primaryStage.setScene(settingsScene);
@@ -178,6 +214,46 @@ public class BombermanApplication extends Application {
         return button;
     }
 
+    /**
+     * Crée un bouton de sélection du mode de rendu pour l'écran des paramètres.
+     *
+     * @param mode Le mode de rendu associé au bouton
+     * @param group Conteneur des boutons de rendu (pour mettre à jour la sélection)
+     * @param description Étiquette affichant la description du mode choisi
+     * @return Un bouton configuré pour changer le mode de rendu
+     */
+    private Button createRenderModeButton(RenderMode mode, HBox group, Label description) {
+        Button button = new Button(mode.getDisplayName());
+        button.setPrefSize(200, 60);
+        button.setFont(Font.font("Arial", FontWeight.BOLD, 16));
+        button.setUserData(mode);
+        button.setStyle(getRenderModeButtonStyle(mode));
+
+        button.setOnAction(e -> {
+            selectedRenderMode = mode;
+            description.setText(mode.getDescription());
+            System.out.println("Mode de rendu changé en : " + mode.getDisplayName());
+
+            for (javafx.scene.Node node : group.getChildren()) {
+                node.setStyle(getRenderModeButtonStyle((RenderMode) node.getUserData()));
+            }
+        });
+
+        return button;
+    }
+
+    /**
+     * Retourne le style d'un bouton de rendu selon qu'il est sélectionné ou non.
+     *
+     * @param mode Le mode de rendu du bouton
+     * @return Le style CSS du bouton
+     */
+    private String getRenderModeButtonStyle(RenderMode mode) {
+        return mode == selectedRenderMode
+                ? "-fx-background-color: #27AE60; -fx-text-fill: white;"
+                : "-fx-background-color: #7F8C8D; -fx-text-fill: white;";
+    }
+
     /**
      * Ferme l'application.
      */
@@ -248,8 +324,6 @@ public class BombermanApplication extends Application {
             System.out.println("✅ Jeu lancé avec succès en mode " + selectedGameMode.getDisplayName() + " !");
             System.out.println("🔍 Focus sur gameScene: " + gameScene.isFocused());
 
-            gameController.initializeGameWithProfiles(playerCount, selectedProfiles);
-
             if (isAIMode) {
                 aiManager = new AIManager(gameController); // Ajouté
                 gameController.setAIManager(aiManager);    // Ajouté
@@ -262,6 +336,63 @@ public class BombermanApplication extends Application {
         }
     }
 
+    /**
+     * Lit un fichier de replay et lance sa relecture.
+     *
+     * @param file Fichier enregistré par une partie précédente
+     */
+    public void openReplay(Path file) {
+        try {
+            showReplay(Replay.read(file));
+        } catch (IOException e) {
+            System.out.println("❌ Erreur: " + e.getMessage());
+            showAlert("ERREUR", "Impossible de lire le replay: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Affiche la relecture d'une partie enregistrée.
+     * <p>
+     * Les joueurs rejouent les commandes enregistrées ; les touches + et - règlent la
+     * vitesse de lecture.
+     * </p>
+     *
+     * @param replay Partie à revoir
+     */
+    public void showReplay(Replay replay) {
+        try {
+            gameController = new GameController();
+            gameController.setApplication(this);
+
+            BorderPane gameScene = gameController.createGameScene();
+            Scene scene = new Scene(gameScene, 1200, 700);
+
+            scene.setOnKeyPressed(event -> {
+                gameController.handleKeyPressed(event);
+                event.consume();
+            });
+
+            scene.setOnKeyReleased(event -> {
+                gameController.handleKeyReleased(event);
+                event.consume();
+            });
+
+            gameScene.setFocusTraversable(true);
+
+            primaryStage.setScene(scene);
+            primaryStage.setTitle("BOMBERMAN - Replay (" + replay.getGameMode().getDisplayName() + ")");
+
+            primaryStage.show();
+            gameScene.requestFocus();
+
+            gameController.initializeReplay(replay);
+        } catch (Exception e) {
+            System.out.println("❌ Erreur: " + e.getMessage());
+            e.printStackTrace();
+            showAlert("ERREUR", "Impossible de lancer le replay: " + e.getMessage());
+        }
+    }
+
     /**
      * Sélectionne les profils pour chaque joueur participant à la partie.
      * <p>
@@ -463,15 +594,10 @@ public class BombermanApplication extends Application {
             System.out.println("🤖 Joueur " + i + " configuré comme IA");
         }
 
-        // Lancer l'IA après un petit délai
-        javafx.application.Platform.runLater(() -> {
-            try {
-                Thread.sleep(1000); // Laisser le temps à la scène de se charger
-                aiManager.startAllAI();
-                System.out.println("🚀 Mode IA démarré avec succès !");
-            } catch (InterruptedException e) {
-                System.out.println("❌ Erreur IA: " + e.getMessage());
-            }
+        // Lancer l'IA au premier tick, une fois la scène affichée (et le compte à rebours écoulé)
+        gameController.addGameStartListener(() -> {
+            aiManager.startAllAI();
+            System.out.println("🚀 Mode IA démarré avec succès !");
         });
     }
 
@@ -581,6 +707,15 @@ public class BombermanApplication extends Application {
         return selectedGameMode;
     }
 
+    /**
+     * Retourne le mode de rendu du plateau choisi dans les paramètres.
+     *
+     * @return Le mode de rendu sélectionné
+     */
+    public RenderMode getSelectedRenderMode() {
+        return selectedRenderMode;
+    }
+
     /**
      * Retourne l'interface de gestion des profils.
      * 
@@ -602,7 +737,7 @@ public class BombermanApplication extends Application {
     /**
      * Point d'entrée principal de l'application.
      * 
-     * @param args Arguments de ligne de commande (non utilisés)
+     * @param args Arguments de ligne de commande ({@code --replay=<fichier>} pour revoir une partie)
      */
     public static void main(String[] args) {
         launch(args);
@@ -0,0 +1,126 @@
+package fonctionnaliteInitial;
+
+import Etat.BoardLayer;
+import Etat.RenderMode;
+import javafx.scene.Node;
+import javafx.scene.layout.Region;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Rendu du plateau de jeu (les cellules de la carte).
+ * <p>
+ * Le {@link GameController} ne manipule plus directement les cellules : il signale
+ * au renderer les cellules à dessiner ou à mettre à jour. Les éléments dynamiques
+ * (joueurs, bombes, power-ups, flammes) restent des nœuds, placés dans une
+ * {@link BoardLayer couche} de leur cellule par {@link #addEntity(BoardLayer, Node, int, int)}.
+ * </p>
+ * <p>
+ * Chaque cellule possède un nœud fixe par couche : le nombre de nœuds du plateau ne
+ * dépend pas de la durée de la partie.
+ * </p>
+ */
+public interface BoardRenderer {
+
+    /**
+     * Retourne le nœud à placer dans la scène.
+     *
+     * @return La vue complète du plateau
+     */
+    Region getView();
+
+    /**
+     * Dessine l'ensemble du plateau.
+     *
+     * @param tiles Carte fournissant l'apparence des cellules selon le thème
+     * @param cells Type de chaque cellule, en fonction de (x, y)
+     */
+    void drawBoard(BombermanMap tiles, IntBinaryOperator cells);
+
+    /**
+     * Met à jour une cellule dont le type a changé (mur détruit).
+     *
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @param cellType Nouveau type de la cellule
+     */
+    void updateCell(int x, int y, int cellType);
+
+    /**
+     * Place un élément dynamique dans une couche d'une cellule ; un élément déjà
+     * placé est déplacé.
+     *
+     * @param layer Couche de l'élément (ITEM, BOMB, ACTOR ou FX)
+     * @param node Nœud de l'élément
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     */
+    void addEntity(BoardLayer layer, Node node, int x, int y);
+
+    /**
+     * Retire un élément dynamique du plateau.
+     *
+     * @param node Nœud de l'élément
+     */
+    void removeEntity(Node node);
+
+    /**
+     * Prend un nœud dans une réserve et le place dans une couche d'une cellule.
+     *
+     * @param pool Réserve du genre d'élément
+     * @param layer Couche de l'élément
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @param <T> Type des nœuds de la réserve
+     * @return Le nœud placé, dont l'appelant met à jour l'apparence
+     */
+    default <T extends Node> T acquireEntity(NodePool<T> pool, BoardLayer layer, int x, int y) {
+        T node = pool.acquire();
+        addEntity(layer, node, x, y);
+        return node;
+    }
+
+    /**
+     * Retire un élément du plateau et rend son nœud à sa réserve.
+     *
+     * @param pool Réserve d'origine du nœud
+     * @param node Nœud de l'élément
+     * @param <T> Type des nœuds de la réserve
+     */
+    default <T extends Node> void releaseEntity(NodePool<T> pool, T node) {
+        removeEntity(node);
+        pool.release(node);
+    }
+
+    /**
+     * Applique les modifications en attente ; appelé à chaque frame.
+     */
+    void render();
+
+    /**
+     * Vide le plateau et retire tous les éléments dynamiques.
+     */
+    void clear();
+
+    /**
+     * Retourne le nombre de nœuds de la scène utilisés par le plateau (diagnostic).
+     *
+     * @return Le nombre de nœuds, éléments dynamiques compris
+     */
+    int getNodeCount();
+
+    /**
+     * Crée le renderer correspondant au mode choisi dans les paramètres.
+     *
+     * @param mode Mode de rendu
+     * @param width Largeur du plateau en cellules
+     * @param height Hauteur du plateau en cellules
+     * @return Le renderer
+     */
+    static BoardRenderer create(RenderMode mode, int width, int height) {
+        if (mode == RenderMode.CANVAS) {
+            return new CanvasBoardRenderer(width, height);
+        }
+        return new NodeBoardRenderer(width, height);
+    }
+}
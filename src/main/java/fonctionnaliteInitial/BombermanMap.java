@@ -1,5 +1,13 @@
 package fonctionnaliteInitial;
 
+import Journal.Log;
+import Journal.Logger;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -7,7 +15,13 @@ import javafx.scene.shape.Circle;
 import javafx.scene.shape.Polygon;
 import javafx.scene.effect.Glow;
 import javafx.geometry.Pos;
-import java.util.Random;
+import Etat.RandomStream;
+import Simulation.GameRandom;
+import Simulation.MapLayout;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
 
 /**
  * Classe représentant la carte du jeu Bomberman.
@@ -18,6 +32,7 @@ import java.util.Random;
  * </p>
  */
 public class BombermanMap {
+    private static final Logger LOG = Log.getLogger(BombermanMap.class);
 
     /** Largeur de la grille de jeu en nombre de cellules */
     private static final int GRID_WIDTH = 15;
@@ -49,32 +64,30 @@ public class BombermanMap {
     private static final int WALL = 1;
     private static final int DESTRUCTIBLE = 2;
     private static final int SPAWN_ZONE = 3;
+    /** Nombre de types de cellules */
+    private static final int CELL_TYPE_COUNT = 4;
 
-    /** Générateur de nombres aléatoires pour la génération de carte */
-    private Random random = new Random();
+    /** Zone de chaque type de cellule dans l'atlas, partagée par toutes les vues */
+    private static final Rectangle2D[] TILE_VIEWPORTS = new Rectangle2D[CELL_TYPE_COUNT];
+
+    static {
+        for (int cellType = 0; cellType < CELL_TYPE_COUNT; cellType++) {
+            TILE_VIEWPORTS[cellType] = new Rectangle2D(cellType * CELL_SIZE, 0, CELL_SIZE, CELL_SIZE);
+        }
+    }
 
     /**
-     * Structure de base de la carte avec les murs fixes et les zones de spawn.
+     * Atlas des tuiles de chaque thème : une ligne de cellules, une par type.
      * <p>
-     * Cette matrice 2D définit la disposition fondamentale du terrain de jeu :
-     * 1 = mur indestructible, 3 = zone de spawn, 0 = espace vide
+     * Les cellules vectorielles (formes et effets) sont rastérisées une seule fois
+     * par thème et conservées : changer de thème ne reconstruit pas l'atlas.
      * </p>
      */
-    private int[][] baseMap = {
-            {1,1,1,1,1,1,1,1,1,1,1,1,1,1,1},
-            {1,3,0,0,0,0,0,0,0,0,0,0,0,3,1},
-            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
-            {1,0,0,0,0,0,0,0,0,0,0,0,0,0,1},
-            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
-            {1,0,0,0,0,0,0,0,0,0,0,0,0,0,1},
-            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
-            {1,0,0,0,0,0,0,0,0,0,0,0,0,0,1},
-            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
-            {1,0,0,0,0,0,0,0,0,0,0,0,0,0,1},
-            {1,0,1,0,1,0,1,0,1,0,1,0,1,0,1},
-            {1,3,0,0,0,0,0,0,0,0,0,0,0,3,1},
-            {1,1,1,1,1,1,1,1,1,1,1,1,1,1,1}
-    };
+    private static final Map<Theme, WritableImage> TILE_ATLASES = new EnumMap<>(Theme.class);
+
+    /** Graine fixe des variations visuelles des tuiles : l'atlas est identique d'un lancement à l'autre */
+    private static final long TILE_EFFECTS_SEED = 0x54494C45L;
+
     /**
      * Carte de jeu actuellement utilisée.
      * <p>
@@ -85,26 +98,18 @@ public class BombermanMap {
     private int[][] gameMap;
 
     public void generateRandomMap() {
-        Random random = new Random();
-        gameMap = new int[GRID_HEIGHT][GRID_WIDTH];
-
-        // Copie de la carte de base
-        for (int row = 0; row < GRID_HEIGHT; row++) {
-            for (int col = 0; col < GRID_WIDTH; col++) {
-                gameMap[row][col] = baseMap[row][col];
-            }
-        }
+        generateRandomMap(new GameRandom(GameRandom.newMatchSeed()));
+    }
 
-        // Ajout de murs destructibles aléatoires
-        for (int row = 1; row < GRID_HEIGHT - 1; row++) {
-            for (int col = 1; col < GRID_WIDTH - 1; col++) {
-                if (gameMap[row][col] == 0 && !isNearSpawn(row, col)) {
-                    if (random.nextDouble() < 0.65) {
-                        gameMap[row][col] = DESTRUCTIBLE;
-                    }
-                }
-            }
-        }
+    /**
+     * Génère la carte d'une partie à partir de ses flux aléatoires : pour une même graine,
+     * c'est la carte du moteur de simulation.
+     *
+     * @param random Flux aléatoires de la partie
+     */
+    public void generateRandomMap(GameRandom random) {
+        // La génération est partagée avec le moteur de simulation
+        gameMap = MapLayout.generate(random.fork(RandomStream.MAP));
     }
     /**
      * Énumération définissant les thèmes visuels disponibles pour la carte.
@@ -122,26 +127,6 @@ public class BombermanMap {
      * </p>
      */
     private static Theme currentTheme = Theme.CLASSIC;
-    /**
-     * Vérifie si une position est proche d'une zone de spawn.
-     * <p>
-     * Cette méthode est utilisée lors de la génération de la carte pour éviter
-     * de bloquer les joueurs dans leurs zones de spawn.
-     * </p>
-     *
-     * @param row Ligne dans la grille
-     * @param col Colonne dans la grille
-     * @return true si la position est adjacente à une zone de spawn, false sinon
-     */
-    private boolean isNearSpawn(int row, int col) {
-        // Zones de spawn aux 4 coins
-        if ((row <= 2 && col <= 2)) return true;
-        if ((row <= 2 && col >= GRID_WIDTH - 3)) return true;
-        if ((row >= GRID_HEIGHT - 3 && col <= 2)) return true;
-        if ((row >= GRID_HEIGHT - 3 && col >= GRID_WIDTH - 3)) return true;
-
-        return false;
-    }
     /**
      * Change le thème visuel de la carte.
      * <p>
@@ -182,11 +167,12 @@ public class BombermanMap {
             sand.setStroke(Color.web("#D4AC0D"));
             sand.setStrokeWidth(1);
 
+            SplittableRandom effects = new GameRandom(TILE_EFFECTS_SEED).fork(RandomStream.EFFECTS);
             for (int i = 0; i < 5; i++) {
                 Circle grain = new Circle(1);
                 grain.setFill(Color.web("#D4AC0D"));
-                grain.setTranslateX(random.nextInt(CELL_SIZE) - CELL_SIZE/2);
-                grain.setTranslateY(random.nextInt(CELL_SIZE) - CELL_SIZE/2);
+                grain.setTranslateX(effects.nextInt(CELL_SIZE) - CELL_SIZE/2);
+                grain.setTranslateY(effects.nextInt(CELL_SIZE) - CELL_SIZE/2);
                 container.getChildren().add(grain);
             }
 
@@ -473,6 +459,151 @@ public class BombermanMap {
         container.getChildren().addAll(floor, spawnCircle, star, pixel1, pixel2, pixel3, pixel4);
         return container;
     }
+    /**
+     * Crée une vue légère d'une cellule, découpée dans l'atlas du thème courant.
+     *
+     * @param cellType Type de cellule (EMPTY, WALL, DESTRUCTIBLE ou SPAWN_ZONE)
+     * @return Une ImageView de la cellule, ou null pour un type inconnu
+     */
+    public ImageView createTileView(int cellType) {
+        if (cellType < 0 || cellType >= CELL_TYPE_COUNT) {
+            return null;
+        }
+
+        ImageView tile = new ImageView(getTileAtlas());
+        tile.setViewport(getTileViewport(cellType));
+        return tile;
+    }
+
+    /**
+     * Affiche une cellule dans les vues réutilisables de ses couches sol et bloc.
+     * <p>
+     * Seule l'une des deux vues est visible : le sol pour une cellule vide ou une zone
+     * d'apparition, le bloc pour un mur ou un bloc destructible. Aucun nœud n'est créé.
+     * </p>
+     *
+     * @param floor Vue de la couche sol
+     * @param block Vue de la couche bloc
+     * @param cellType Type de cellule
+     */
+    void applyTileLayers(ImageView floor, ImageView block, int cellType) {
+        Image atlas = getTileAtlas();
+        boolean isBlock = cellType == WALL || cellType == DESTRUCTIBLE;
+
+        floor.setImage(atlas);
+        floor.setViewport(TILE_VIEWPORTS[cellType == SPAWN_ZONE ? SPAWN_ZONE : EMPTY]);
+        floor.setVisible(!isBlock);
+
+        if (isBlock) {
+            block.setImage(atlas);
+            block.setViewport(TILE_VIEWPORTS[cellType]);
+        }
+        block.setVisible(isBlock);
+    }
+
+    /**
+     * Dessine une cellule sur un canvas en la copiant depuis l'atlas du thème courant.
+     *
+     * @param gc Contexte graphique du canvas
+     * @param cellType Type de cellule
+     * @param x Position X en pixels
+     * @param y Position Y en pixels
+     */
+    public void drawTile(GraphicsContext gc, int cellType, double x, double y) {
+        if (cellType < 0 || cellType >= CELL_TYPE_COUNT) {
+            gc.clearRect(x, y, CELL_SIZE, CELL_SIZE);
+            return;
+        }
+
+        gc.drawImage(getTileAtlas(), cellType * CELL_SIZE, 0, CELL_SIZE, CELL_SIZE,
+                x, y, CELL_SIZE, CELL_SIZE);
+    }
+
+    /**
+     * Retourne l'atlas des tuiles du thème courant, en le construisant si nécessaire.
+     *
+     * @return L'image contenant une tuile par type de cellule
+     */
+    public Image getTileAtlas() {
+        WritableImage tileAtlas = TILE_ATLASES.get(currentTheme);
+        if (tileAtlas == null) {
+            tileAtlas = buildTileAtlas();
+            TILE_ATLASES.put(currentTheme, tileAtlas);
+            LOG.debug("🖼️ Atlas des tuiles construit pour le thème {}", currentTheme);
+        }
+        return tileAtlas;
+    }
+
+    /**
+     * Construit d'avance l'atlas de chaque thème.
+     * <p>
+     * La rastérisation passe par la scène JavaFX : cette méthode doit être appelée
+     * sur le thread JavaFX, pendant l'affichage du menu.
+     * </p>
+     */
+    public static void preloadTileAtlases() {
+        Theme selectedTheme = currentTheme;
+        BombermanMap tiles = new BombermanMap();
+        try {
+            // Les cellules sont dessinées selon le thème courant
+            for (Theme theme : Theme.values()) {
+                currentTheme = theme;
+                tiles.getTileAtlas();
+            }
+        } finally {
+            currentTheme = selectedTheme;
+        }
+    }
+
+    /**
+     * Retourne la zone de l'atlas correspondant à un type de cellule.
+     *
+     * @param cellType Type de cellule
+     * @return Le rectangle de la tuile dans l'atlas
+     */
+    public Rectangle2D getTileViewport(int cellType) {
+        return TILE_VIEWPORTS[cellType];
+    }
+
+    /**
+     * Rastérise chaque type de cellule et les assemble dans une seule image.
+     *
+     * @return Le nouvel atlas
+     */
+    private WritableImage buildTileAtlas() {
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setViewport(new Rectangle2D(0, 0, CELL_SIZE, CELL_SIZE));
+
+        WritableImage atlas = new WritableImage(CELL_TYPE_COUNT * CELL_SIZE, CELL_SIZE);
+        for (int cellType = 0; cellType < CELL_TYPE_COUNT; cellType++) {
+            StackPane cell = createCell(cellType);
+            cell.resize(CELL_SIZE, CELL_SIZE);
+            cell.applyCss();
+            cell.layout();
+
+            WritableImage tile = cell.snapshot(parameters, null);
+            atlas.getPixelWriter().setPixels(cellType * CELL_SIZE, 0, CELL_SIZE, CELL_SIZE,
+                    tile.getPixelReader(), 0, 0);
+        }
+        return atlas;
+    }
+
+    /**
+     * Crée la représentation vectorielle d'une cellule selon son type.
+     *
+     * @param cellType Type de cellule (EMPTY, WALL, DESTRUCTIBLE ou SPAWN_ZONE)
+     * @return Le conteneur de la cellule, ou null pour un type inconnu
+     */
+    public StackPane createCell(int cellType) {
+        switch (cellType) {
+            case EMPTY: return createRetroEmptyCell();
+            case WALL: return createRetroWallCell();
+            case DESTRUCTIBLE: return createRetroDestructibleCell();
+            case SPAWN_ZONE: return createRetroSpawnZoneCell();
+            default: return null;
+        }
+    }
     /**
      * Obtient la carte de jeu actuelle.
      *
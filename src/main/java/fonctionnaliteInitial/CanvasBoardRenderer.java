@@ -0,0 +1,177 @@
+package fonctionnaliteInitial;
+
+import Etat.BoardLayer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Rendu du plateau sur un seul {@link Canvas}.
+ * <p>
+ * Les cellules sont copiées depuis l'atlas de tuiles de {@link BombermanMap}, rastérisé
+ * une fois par {@link BombermanMap.Theme}. Seules les cellules marquées comme modifiées
+ * sont redessinées à chaque frame ; un changement de thème marque tout le plateau. Les
+ * éléments dynamiques sont placés dans les couches d'une grille transparente superposée
+ * au canvas ({@link CellLayers} sans couches sol et bloc).
+ * </p>
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+
+    private final int width;
+    private final int height;
+
+    private final StackPane view;
+    private final Canvas canvas;
+    private final CellLayers layers;
+    private final GridPane entityLayer;
+
+    /** Type de cellule affiché, par index y * width + x */
+    private final int[] cellTypes;
+    private final boolean[] dirty;
+    private final int[] dirtyQueue;
+    private int dirtyCount;
+
+    private BombermanMap tiles;
+    private BombermanMap.Theme drawnTheme;
+    private int cellSize;
+
+    /**
+     * Crée un renderer Canvas.
+     *
+     * @param width Largeur du plateau en cellules
+     * @param height Hauteur du plateau en cellules
+     */
+    public CanvasBoardRenderer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cellTypes = new int[width * height];
+        this.dirty = new boolean[width * height];
+        this.dirtyQueue = new int[width * height];
+
+        canvas = new Canvas();
+
+        layers = new CellLayers(width, height, false);
+        entityLayer = layers.getGrid();
+        entityLayer.setAlignment(Pos.TOP_LEFT);
+        entityLayer.setPickOnBounds(false);
+
+        view = new StackPane(canvas, entityLayer);
+        view.setAlignment(Pos.CENTER);
+        view.setStyle("-fx-background-color: #000033; -fx-border-color: #FFFFFF; -fx-border-width: 4;");
+        view.setPadding(new Insets(10));
+    }
+
+    @Override
+    public Region getView() {
+        return view;
+    }
+
+    @Override
+    public void drawBoard(BombermanMap tiles, IntBinaryOperator cells) {
+        this.tiles = tiles;
+        resize(tiles.getCellSize());
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                cellTypes[y * width + x] = cells.applyAsInt(x, y);
+            }
+        }
+        markAllDirty();
+        render();
+    }
+
+    @Override
+    public void updateCell(int x, int y, int cellType) {
+        if (!isInside(x, y)) return;
+
+        cellTypes[y * width + x] = cellType;
+        markDirty(y * width + x);
+    }
+
+    @Override
+    public void addEntity(BoardLayer layer, Node node, int x, int y) {
+        layers.add(layer, node, x, y);
+    }
+
+    @Override
+    public void removeEntity(Node node) {
+        layers.remove(node);
+    }
+
+    @Override
+    public void render() {
+        if (tiles == null) return;
+
+        // Un changement de thème invalide tout le plateau
+        if (drawnTheme != BombermanMap.getCurrentTheme()) {
+            drawnTheme = BombermanMap.getCurrentTheme();
+            markAllDirty();
+        }
+        if (dirtyCount == 0) return;
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+
+        for (int i = 0; i < dirtyCount; i++) {
+            int index = dirtyQueue[i];
+            dirty[index] = false;
+
+            tiles.drawTile(gc, cellTypes[index], (index % width) * cellSize, (index / width) * cellSize);
+        }
+        dirtyCount = 0;
+    }
+
+    @Override
+    public void clear() {
+        layers.clearEntities();
+        canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (int i = 0; i < dirtyCount; i++) {
+            dirty[dirtyQueue[i]] = false;
+        }
+        dirtyCount = 0;
+        tiles = null;
+    }
+
+    @Override
+    public int getNodeCount() {
+        // La vue et le canvas, plus la grille des éléments dynamiques
+        return 2 + layers.getNodeCount();
+    }
+
+    private void resize(int newCellSize) {
+        if (newCellSize == cellSize) return;
+        cellSize = newCellSize;
+
+        canvas.setWidth(width * cellSize);
+        canvas.setHeight(height * cellSize);
+
+        // Les cellules de la couche d'entités ont une taille fixe,
+        // car elles ne contiennent pas de tuile pour les dimensionner
+        layers.setCellSize(cellSize);
+        entityLayer.setMinSize(width * cellSize, height * cellSize);
+        entityLayer.setMaxSize(width * cellSize, height * cellSize);
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    private void markDirty(int index) {
+        if (!dirty[index]) {
+            dirty[index] = true;
+            dirtyQueue[dirtyCount++] = index;
+        }
+    }
+
+    private void markAllDirty() {
+        for (int index = 0; index < cellTypes.length; index++) {
+            markDirty(index);
+        }
+    }
+}
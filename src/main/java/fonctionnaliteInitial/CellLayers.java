@@ -0,0 +1,220 @@
+package fonctionnaliteInitial;
+
+import Etat.BoardLayer;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+
+import java.util.List;
+
+/**
+ * Grille du plateau à nœuds fixes : chaque cellule possède un nœud par {@link BoardLayer couche}.
+ * <p>
+ * Les nœuds sont tous créés à la construction. Les couches sol et bloc sont des
+ * {@link ImageView} dont seules l'image et la visibilité changent ; les autres couches
+ * sont des conteneurs qui reçoivent les éléments dynamiques (power-ups, bombes, joueurs,
+ * flammes). Le nombre de nœuds de la grille reste donc constant pendant toute la partie,
+ * et retirer un élément ne parcourt que le contenu de son conteneur.
+ * </p>
+ */
+class CellLayers {
+
+    private static final BoardLayer[] LAYERS = BoardLayer.values();
+
+    private final int width;
+    private final int height;
+    private final boolean withTiles;
+
+    private final GridPane grid;
+    private final StackPane[] cells;
+    private final ImageView[] floors;
+    private final ImageView[] blocks;
+    /** Conteneur de chaque couche dynamique, par index (y * width + x) * LAYERS.length + couche */
+    private final StackPane[] slots;
+
+    /** Nœuds créés une fois pour toutes : la grille, ses cellules et leurs couches */
+    private int structureNodeCount;
+    private int cellSize;
+    private int entityCount;
+
+    /**
+     * Crée la grille et tous ses nœuds.
+     *
+     * @param width Largeur du plateau en cellules
+     * @param height Hauteur du plateau en cellules
+     * @param withTiles true si les couches sol et bloc sont des nœuds ; false si la carte
+     *                  est dessinée ailleurs (canvas) et que seules les couches dynamiques existent
+     */
+    CellLayers(int width, int height, boolean withTiles) {
+        this.width = width;
+        this.height = height;
+        this.withTiles = withTiles;
+
+        grid = new GridPane();
+        grid.setHgap(0);
+        grid.setVgap(0);
+
+        cells = new StackPane[width * height];
+        floors = withTiles ? new ImageView[width * height] : null;
+        blocks = withTiles ? new ImageView[width * height] : null;
+        slots = new StackPane[width * height * LAYERS.length];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                StackPane cell = new StackPane();
+                cell.setPickOnBounds(false);
+
+                // Les enfants sont ajoutés dans l'ordre des couches : la dernière est au-dessus
+                for (BoardLayer layer : LAYERS) {
+                    if (layer.isTile()) {
+                        if (!withTiles) continue;
+
+                        ImageView tile = new ImageView();
+                        tile.setVisible(false);
+                        if (layer == BoardLayer.FLOOR) {
+                            floors[index] = tile;
+                        } else {
+                            blocks[index] = tile;
+                        }
+                        cell.getChildren().add(tile);
+                    } else {
+                        StackPane slot = new StackPane();
+                        slot.setAlignment(Pos.CENTER);
+                        slot.setPickOnBounds(false);
+                        slot.setVisible(false);
+                        slot.setUserData(layer);
+                        slots[index * LAYERS.length + layer.ordinal()] = slot;
+                        cell.getChildren().add(slot);
+                    }
+                }
+
+                cells[index] = cell;
+                grid.add(cell, x, y);
+                structureNodeCount += 1 + cell.getChildren().size();
+            }
+        }
+        structureNodeCount++;
+    }
+
+    /**
+     * @return La grille à placer dans la scène
+     */
+    GridPane getGrid() {
+        return grid;
+    }
+
+    /**
+     * Fixe la taille des cellules, qui ne dépend ainsi pas de leur contenu.
+     *
+     * @param cellSize Côté d'une cellule en pixels
+     */
+    void setCellSize(int cellSize) {
+        if (cellSize == this.cellSize) return;
+        this.cellSize = cellSize;
+
+        for (StackPane cell : cells) {
+            cell.setMinSize(cellSize, cellSize);
+            cell.setPrefSize(cellSize, cellSize);
+            cell.setMaxSize(cellSize, cellSize);
+        }
+    }
+
+    /**
+     * Affiche le type d'une cellule dans ses couches sol et bloc.
+     *
+     * @param tiles Carte fournissant l'atlas du thème courant
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     * @param cellType Type de la cellule
+     */
+    void showTile(BombermanMap tiles, int x, int y, int cellType) {
+        if (!withTiles || !isInside(x, y)) return;
+
+        int index = y * width + x;
+        tiles.applyTileLayers(floors[index], blocks[index], cellType);
+    }
+
+    /**
+     * Place un élément dynamique dans une couche d'une cellule.
+     *
+     * @param layer Couche de l'élément (ni le sol ni les blocs)
+     * @param node Nœud de l'élément
+     * @param x Coordonnée X
+     * @param y Coordonnée Y
+     */
+    void add(BoardLayer layer, Node node, int x, int y) {
+        if (layer.isTile()) {
+            throw new IllegalArgumentException("La couche " + layer + " n'accepte pas d'élément dynamique");
+        }
+        if (!isInside(x, y)) return;
+
+        StackPane slot = slots[(y * width + x) * LAYERS.length + layer.ordinal()];
+        if (node.getParent() == slot) return;
+
+        // Un nœud déjà placé est déplacé
+        remove(node);
+        slot.getChildren().add(node);
+        slot.setVisible(true);
+        entityCount++;
+    }
+
+    /**
+     * Retire un élément dynamique de la cellule où il est placé.
+     *
+     * @param node Nœud de l'élément
+     * @return true si le nœud était placé dans la grille
+     */
+    boolean remove(Node node) {
+        Parent parent = node.getParent();
+        if (!(parent instanceof StackPane slot) || !(slot.getUserData() instanceof BoardLayer)
+                || slot.getParent() == null || slot.getParent().getParent() != grid) {
+            return false;
+        }
+
+        List<Node> children = slot.getChildren();
+        children.remove(node);
+        slot.setVisible(!children.isEmpty());
+        entityCount--;
+        return true;
+    }
+
+    /**
+     * Retire tous les éléments dynamiques ; les nœuds des cellules sont conservés.
+     */
+    void clearEntities() {
+        for (StackPane slot : slots) {
+            if (slot != null && !slot.getChildren().isEmpty()) {
+                slot.getChildren().clear();
+                slot.setVisible(false);
+            }
+        }
+        entityCount = 0;
+    }
+
+    /**
+     * Masque les couches sol et bloc de toutes les cellules.
+     */
+    void hideTiles() {
+        if (!withTiles) return;
+
+        for (int index = 0; index < cells.length; index++) {
+            floors[index].setVisible(false);
+            blocks[index].setVisible(false);
+        }
+    }
+
+    /**
+     * @return Le nombre de nœuds de la grille : cellules, couches et éléments dynamiques
+     */
+    int getNodeCount() {
+        return structureNodeCount + entityCount;
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
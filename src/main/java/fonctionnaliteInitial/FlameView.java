@@ -0,0 +1,140 @@
+package fonctionnaliteInitial;
+
+import Etat.Direction;
+import javafx.geometry.Pos;
+import javafx.scene.effect.Blend;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.Glow;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Nœud réutilisable d'une cellule enflammée.
+ * <p>
+ * Ses enfants sont créés une seule fois : {@link #show(boolean, Direction, boolean)}
+ * se contente de choisir l'image, la rotation ou la forme visible. Les effets
+ * (brillance et ombre portée) sont partagés par toutes les flammes au lieu d'être
+ * recréés pour chaque cellule.
+ * </p>
+ */
+final class FlameView extends StackPane {
+
+    /** Effets des sprites : brillance forte au centre, plus légère sur le rayon */
+    private static final Effect SPRITE_CENTER_EFFECT = createSpriteEffect(0.8);
+    private static final Effect SPRITE_RAY_EFFECT = createSpriteEffect(0.5);
+
+    /** Effets des formes de secours (sans sprite) */
+    private static final Glow SHAPE_CENTER_GLOW = createGlow(0.9);
+    private static final Glow SHAPE_RAY_GLOW = createGlow(0.6);
+
+    private final Image startImage;
+    private final Image endImage;
+    private final Image centerImage;
+
+    // Sprite, ou formes de secours si les images ne sont pas chargées
+    private final ImageView sprite;
+    private final Circle center;
+    private final Rectangle ray;
+
+    /**
+     * @param startImage Image du rayon
+     * @param endImage Image de l'extrémité du rayon
+     * @param centerImage Image du centre de l'explosion
+     */
+    FlameView(Image startImage, Image endImage, Image centerImage) {
+        this.startImage = startImage;
+        this.endImage = endImage;
+        this.centerImage = centerImage;
+
+        setPrefSize(40, 40);
+        setAlignment(Pos.CENTER);
+        setPickOnBounds(false);
+
+        if (startImage != null && endImage != null) {
+            sprite = new ImageView();
+            sprite.setFitWidth(35);
+            sprite.setFitHeight(35);
+            sprite.setPreserveRatio(true);
+            sprite.setSmooth(true);
+            getChildren().add(sprite);
+            center = null;
+            ray = null;
+        } else {
+            sprite = null;
+
+            center = new Circle(18);
+            center.setFill(Color.ORANGE);
+            center.setStroke(Color.RED);
+            center.setStrokeWidth(3);
+            center.setEffect(SHAPE_CENTER_GLOW);
+
+            ray = new Rectangle();
+            ray.setStroke(Color.ORANGE);
+            ray.setStrokeWidth(2);
+
+            getChildren().addAll(center, ray);
+        }
+    }
+
+    /**
+     * Donne à la flamme l'apparence d'une cellule de l'explosion.
+     *
+     * @param isCenter true pour la cellule de la bombe
+     * @param direction Direction du rayon (null au centre)
+     * @param isEnd true pour la dernière cellule du rayon
+     */
+    void show(boolean isCenter, Direction direction, boolean isEnd) {
+        if (sprite != null) {
+            sprite.setImage(isCenter ? centerImage : (isEnd ? endImage : startImage));
+            sprite.setRotate(rotationOf(direction));
+            sprite.setEffect(isCenter ? SPRITE_CENTER_EFFECT : SPRITE_RAY_EFFECT);
+            return;
+        }
+
+        center.setVisible(isCenter);
+        ray.setVisible(!isCenter);
+        setEffect(isCenter ? null : SHAPE_RAY_GLOW);
+        if (isCenter) return;
+
+        boolean horizontal = direction == Direction.LEFT || direction == Direction.RIGHT;
+        double length = isEnd ? 30 : 40;
+        ray.setWidth(horizontal ? length : 20);
+        ray.setHeight(horizontal ? 20 : length);
+        ray.setFill(isEnd ? Color.LIGHTYELLOW : Color.YELLOW);
+    }
+
+    private static double rotationOf(Direction direction) {
+        if (direction == null) return 0;
+
+        return switch (direction) {
+            case UP -> 270;
+            case DOWN -> 90;
+            case LEFT -> 180;
+            case RIGHT -> 0;
+        };
+    }
+
+    private static Effect createSpriteEffect(double glowLevel) {
+        DropShadow shadow = new DropShadow();
+        shadow.setColor(Color.BLACK);
+        shadow.setRadius(3);
+        shadow.setOffsetX(1);
+        shadow.setOffsetY(1);
+
+        Blend blend = new Blend();
+        blend.setTopInput(createGlow(glowLevel));
+        blend.setBottomInput(shadow);
+        return blend;
+    }
+
+    private static Glow createGlow(double level) {
+        Glow glow = new Glow();
+        glow.setLevel(level);
+        return glow;
+    }
+}
@@ -1,14 +1,33 @@
 package fonctionnaliteInitial;
 
+import Journal.FrameProfiler;
+import Journal.Log;
+import Journal.Logger;
+import Etat.BoardLayer;
 import Etat.Direction;
+import Etat.FramePhase;
 import Etat.GameMode;
 import Etat.GameState;
 import Etat.PowerUpType;
+import Etat.RenderMode;
+import Etat.ReplaySpeed;
 import IABomberMan.AIManager;
 import Joueur.JavaFXBomb;
 import Joueur.JavaFXPlayer;
 import Joueur.Profile;
 import Joueur.ProfileManager;
+import Joueur.SkillRating;
+import Simulation.GameEvent;
+import Simulation.GameRandom;
+import Simulation.Replay;
+import Simulation.ReplayPlayer;
+import Simulation.ReplayRecorder;
+import Simulation.SimBomb;
+import Simulation.SimFlame;
+import Simulation.SimPlayer;
+import Simulation.SimPowerUp;
+import Simulation.SimulationEngine;
+import Simulation.TickScheduler;
 import bombermanMain.BombermanApplication;
 import javafx.animation.*;
 import javafx.application.Platform;
@@ -21,16 +40,19 @@ import javafx.scene.control.Label;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
-import javafx.scene.shape.Circle;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.paint.Color;
-import javafx.scene.effect.Glow;
 import javafx.scene.image.Image;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.util.Duration;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -46,17 +68,19 @@ import java.util.Set;
  * </p>
  * <p>
  * Le GameController fait le lien entre l'interface graphique et la logique du jeu.
- * Il interagit avec les différents éléments du jeu comme la carte, les joueurs,
- * les IA et les power-ups.
+ * Les règles elles-mêmes sont appliquées par le {@link SimulationEngine} : le contrôleur
+ * lui transmet les commandes (clavier et IA), le fait avancer à pas de temps fixe et
+ * met à jour l'affichage à partir des événements qu'il publie.
  * </p>
  */
 
 public class GameController {
+    private static final Logger LOG = Log.getLogger(GameController.class);
 
     /**
-     * Grille de jeu où sont affichés tous les éléments visuels
+     * Rendu du plateau (nœuds ou Canvas selon les paramètres), où sont affichés tous les éléments visuels
      */
-    private GridPane gameGrid;
+    private BoardRenderer boardRenderer;
     /**
      * Étiquette affichant les informations du joueur 1
      */
@@ -73,6 +97,12 @@ public class GameController {
      * Étiquette affichant les informations du joueur 4
      */
     private Label player4Info;
+    /**
+     * Fiches des joueurs, mises à jour quand leurs statistiques changent
+     */
+    private PlayerInfoHud[] playerHuds;
+    /** Nombre de joueurs vivants affiché dans le statut (-1 : à réafficher) */
+    private int shownAliveCount = -1;
     /**
      * Étiquette affichant l'état actuel du jeu
      */
@@ -99,21 +129,30 @@ public class GameController {
      */
     private BombermanApplication application;
     /**
-     * Carte du jeu contenant la disposition des murs et obstacles
+     * Moteur de simulation appliquant les règles du jeu
+     */
+    private SimulationEngine engine;
+    /**
+     * Ordonnanceur des tâches de présentation (clignotement des bombes, décisions des IA),
+     * avancé d'un tick à chaque pas du moteur
+     */
+    private final TickScheduler scheduler;
+    /**
+     * Carte du jeu utilisée pour la représentation visuelle des cellules
      */
     private BombermanMap gameMap;
     /**
-     * Liste des joueurs présents dans la partie
+     * Liste des joueurs présents dans la partie (l'index correspond à l'identifiant du moteur)
      */
     private List<JavaFXPlayer> players;
     /**
-     * Liste des bombes actives sur la carte
+     * Représentations visuelles des bombes actives, indexées par bombe du moteur
      */
-    private List<JavaFXBomb> bombs;
+    private Map<SimBomb, JavaFXBomb> bombs;
     /**
-     * Liste des power-ups présents sur la carte
+     * Représentations visuelles des power-ups présents, indexées par power-up du moteur
      */
-    private List<PowerUp> powerUps;
+    private Map<SimPowerUp, PowerUp> powerUps;
     /**
      * Ensemble des touches actuellement pressées
      */
@@ -137,29 +176,60 @@ public class GameController {
 
     // Tracking des nodes pour éviter les traces
     private Map<JavaFXPlayer, Node> playerNodes;
-    private Map<JavaFXBomb, Node> bombNodes;
-    private Map<PowerUp, Node> powerUpNodes;
+    private Map<JavaFXBomb, StackPane> bombNodes;
+    private Map<PowerUp, StackPane> powerUpNodes;
+
+    // Réserves de nœuds réutilisés d'une bombe ou d'un power-up à l'autre
+    private final NodePool<StackPane> bombPool = new NodePool<>(StackPane::new, 32);
+    private final Map<PowerUpType, NodePool<StackPane>> powerUpPools = new EnumMap<>(PowerUpType.class);
+
+    // Système d'effets d'explosion (une entrée par flamme du moteur)
+    private Map<SimFlame, FlameView> explosionNodes;
 
-    // Positions de spawn pour chaque joueur
-    private int[][] spawnPositions;
+    /** Répertoire où chaque partie est enregistrée pour être rejouée */
+    private static final Path REPLAY_DIRECTORY = Path.of(System.getProperty("bomberman.replay.dir", "replays"));
 
-    // Système de cooldown pour éviter les mouvements trop rapides
-    private Map<JavaFXPlayer, Long> lastMoveTime;
-    private static final long MOVE_COOLDOWN = 150_000_000; // 150ms en nanosecondes
+    /** Enregistreur des commandes de la partie en cours (null pendant un replay) */
+    private ReplayRecorder replayRecorder;
+    /** Relecture en cours, ou null pendant une partie normale */
+    private ReplayPlayer replayPlayer;
+    /** Vitesse de lecture du replay en cours */
+    private ReplaySpeed replaySpeed = ReplaySpeed.X1;
+    /** Dernière partie terminée, proposée à la revoir sur l'écran de victoire */
+    private Replay lastReplay;
 
-    // Système d'apparition aléatoire des power-ups
-    private long lastPowerUpSpawn;
-    private static final long POWERUP_SPAWN_INTERVAL = 5_000_000_000L; // 5 secondes en nanosecondes
-    private static final long POWERUP_SPAWN_VARIANCE = 3_000_000_000L; // ±3 secondes de variance
+    /** Retard maximal rattrapé en une frame (évite l'emballement après une pause) */
+    private static final long MAX_CATCH_UP_NANOS = 250_000_000L;
 
-    // Système d'effets d'explosion
-    private List<ExplosionEffect> explosionEffects;
-    private static final long EXPLOSION_EFFECT_DURATION = 800_000_000L; // 800ms en nanosecondes
+    /**
+     * Durée du compte à rebours avant le premier tick : propriété {@code bomberman.countdown}
+     * en millisecondes, aucun par défaut (la partie est jouable dès la première frame)
+     */
+    private static final int START_COUNTDOWN_TICKS = countdownTicks(Long.getLong("bomberman.countdown", 0));
+
+    /** Actions exécutées au premier tick de la partie (démarrage des IA...) */
+    private final List<Runnable> gameStartListeners = new ArrayList<>();
+    /** Instant de la demande de démarrage, pour mesurer la première frame et le premier tick */
+    private long startRequestNanos;
+    /** Indique que la scène a été mise en page et qu'une première frame a été affichée */
+    private boolean gameReady;
+    /** Ticks restants avant le début de la partie */
+    private int countdownTicks;
+
+    /** Mesure du temps passé dans chaque phase des frames */
+    private final FrameProfiler profiler = new FrameProfiler();
+    /** Surcouche du profileur dans le panneau d'informations (masquée par défaut) */
+    private VBox profilerOverlay;
+    private Label profilerLabel;
+    /** Nombre de frames entre deux rafraîchissements de la surcouche */
+    private static final int PROFILER_REFRESH_FRAMES = 30;
 
     // Images des flammes d'explosion
     private javafx.scene.image.Image flameStartImage;
     private javafx.scene.image.Image flameEndImage;
     private javafx.scene.image.Image flameCenterImage;
+    /** Réserve des nœuds de flammes, créée avec les sprites d'explosion */
+    private NodePool<FlameView> flamePool;
 
     // Constantes
     private static final int GRID_WIDTH = 15;
@@ -168,23 +238,16 @@ public class GameController {
 
     public GameController() {
         players = new ArrayList<>();
-        bombs = new ArrayList<>();
-        powerUps = new ArrayList<>();
-        explosionEffects = new ArrayList<>();
+        bombs = new HashMap<>();
+        powerUps = new HashMap<>();
+        explosionNodes = new HashMap<>();
+        scheduler = new TickScheduler();
         pressedKeys = new HashSet<>();
         playerNodes = new HashMap<>();
         bombNodes = new HashMap<>();
         powerUpNodes = new HashMap<>();
-        lastMoveTime = new HashMap<>();
         currentState = GameState.MENU;
         currentGameMode = GameMode.LIMITED_BOMBS; // Mode par défaut
-        lastPowerUpSpawn = 0;
-
-        // Initialisation des positions de spawn
-        spawnPositions = new int[][]{
-                {1, 1}, {GRID_WIDTH - 2, 1},
-                {1, GRID_HEIGHT - 2}, {GRID_WIDTH - 2, GRID_HEIGHT - 2}
-        };
     }
 
     /**
@@ -215,7 +278,7 @@ public class GameController {
         // Récupérer immédiatement le mode de jeu sélectionné
         if (app != null) {
             this.currentGameMode = app.getSelectedGameMode();
-            System.out.println("🎮 Mode de jeu configuré dans GameController: " + currentGameMode.getDisplayName());
+            LOG.info("🎮 Mode de jeu configuré dans GameController: {}", currentGameMode.getDisplayName());
         }
     }
     /**
@@ -232,7 +295,7 @@ public class GameController {
 
         // Création de la grille de jeu
         createGameGrid();
-        root.setCenter(gameGrid);
+        root.setCenter(boardRenderer.getView());
 
         // Création du panneau d'informations
         createInfoPanel();
@@ -242,12 +305,10 @@ public class GameController {
     }
 
     private void createGameGrid() {
-        gameGrid = new GridPane();
-        gameGrid.setHgap(0);
-        gameGrid.setVgap(0);
-        gameGrid.setAlignment(Pos.CENTER);
-        gameGrid.setStyle("-fx-background-color: #000033; -fx-border-color: #FFFFFF; -fx-border-width: 4;");
-        gameGrid.setPadding(new Insets(10));
+        // Le mode de rendu est choisi dans les paramètres
+        RenderMode renderMode = application != null ? application.getSelectedRenderMode() : RenderMode.NODES;
+        boardRenderer = BoardRenderer.create(renderMode, GRID_WIDTH, GRID_HEIGHT);
+        LOG.info("🖥️ Mode de rendu: {}", renderMode.getDisplayName());
     }
 
     // ===== NOUVELLES MÉTHODES POUR L'IA =====
@@ -262,7 +323,32 @@ public class GameController {
      */
     public void setAIManager(AIManager aiManager) {
         this.aiManager = aiManager;
-        System.out.println("🤖 AIManager configuré dans GameController");
+        LOG.info("🤖 AIManager configuré dans GameController");
+    }
+
+    /**
+     * Retourne l'ordonnanceur avancé par la boucle de jeu.
+     * <p>
+     * Les IA y planifient leurs décisions : elles sont ainsi suspendues
+     * en même temps que la partie.
+     * </p>
+     *
+     * @return L'ordonnanceur de la boucle de jeu
+     */
+    public TickScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Retourne les flux aléatoires de la partie en cours.
+     * <p>
+     * Chaque IA en tire son propre générateur : une même graine redonne les mêmes décisions.
+     * </p>
+     *
+     * @return Les flux aléatoires du moteur, ou null avant la création de la partie
+     */
+    public GameRandom getRandom() {
+        return engine != null ? engine.getRandom() : null;
     }
 
     /**
@@ -273,23 +359,11 @@ public class GameController {
             if (!isPressed) return; // On ne traite que les pressions de touches
 
             // Vérification sécurisée de l'existence du joueur
-            if (playerId < 0 || playerId >= players.size()) {
-                System.out.println("❌ ID joueur IA invalide: " + playerId);
-                return;
-            }
-
-            JavaFXPlayer player = players.get(playerId);
-            if (player == null || !player.isAlive()) {
+            if (engine == null || engine.getPlayer(playerId) == null) {
+                LOG.warn("❌ ID joueur IA invalide: {}", playerId);
                 return;
             }
 
-            // Vérifier le cooldown pour ce joueur
-            long currentTime = System.nanoTime();
-            Long lastMove = lastMoveTime.get(player);
-            if (lastMove != null && (currentTime - lastMove) < MOVE_COOLDOWN) {
-                return; // Joueur encore en cooldown
-            }
-
             // Convertir la direction string en Direction enum
             Direction dir = null;
             switch (direction.toUpperCase()) {
@@ -299,44 +373,33 @@ public class GameController {
                 case "RIGHT" -> dir = Direction.RIGHT;
             }
 
-            if (dir != null) {
-                movePlayer(player, dir);
-                lastMoveTime.put(player, currentTime);
-                System.out.println("🤖 IA Joueur " + playerId + " bouge " + direction);
+            // Le moteur applique lui-même le cooldown de déplacement
+            if (dir != null && engine.movePlayer(playerId, dir)) {
+                LOG.debug("🤖 IA Joueur {} bouge {}", playerId, direction);
             }
 
         } catch (Exception e) {
-            System.out.println("❌ Erreur mouvement IA: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Erreur mouvement IA", e);
         }
     }
     /**
      * Retourne une liste des directions que le joueur peut emprunter sans obstacle
      */
     public List<Direction> getSafeDirections(JavaFXPlayer player) {
-        List<Direction> safeDirections = new ArrayList<>();
-
-        int x = player.getGridX();
-        int y = player.getGridY();
-
-        for (Direction dir : Direction.values()) {
-            int newX = x, newY = y;
-
-            switch (dir) {
-                case UP -> newY--;
-                case DOWN -> newY++;
-                case LEFT -> newX--;
-                case RIGHT -> newX++;
-            }
+        return getSafeDirections(players.indexOf(player));
+    }
 
-            if (isValidPosition(newX, newY) &&
-                    !isOccupiedByPlayer(newX, newY, player) &&
-                    !isOccupiedByBomb(newX, newY)) {
-                safeDirections.add(dir);
-            }
+    /**
+     * Retourne une liste des directions que le joueur peut emprunter sans obstacle
+     *
+     * @param playerId Identifiant du joueur
+     * @return Liste des directions libres (vide si le joueur n'existe pas)
+     */
+    public List<Direction> getSafeDirections(int playerId) {
+        if (engine == null) {
+            return new ArrayList<>();
         }
-
-        return safeDirections;
+        return engine.getSafeDirections(playerId);
     }
 
     /**
@@ -345,22 +408,17 @@ public class GameController {
     public void handleAIBombPlacement(int playerId) {
         try {
             // Vérification sécurisée de l'existence du joueur
-            if (playerId < 0 || playerId >= players.size()) {
-                System.out.println("❌ ID joueur IA invalide pour bombe: " + playerId);
+            if (engine == null || engine.getPlayer(playerId) == null) {
+                LOG.warn("❌ ID joueur IA invalide pour bombe: {}", playerId);
                 return;
             }
 
-            JavaFXPlayer player = players.get(playerId);
-            if (player == null || !player.isAlive()) {
-                return;
+            if (engine.placeBomb(playerId)) {
+                LOG.debug("💣 IA Joueur {} place une bombe", playerId);
             }
 
-            placeBomb(player);
-            System.out.println("💣 IA Joueur " + playerId + " place une bombe");
-
         } catch (Exception e) {
-            System.out.println("❌ Erreur placement bombe IA: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Erreur placement bombe IA", e);
         }
     }
 
@@ -371,7 +429,7 @@ public class GameController {
         if (playerId >= 0 && playerId < players.size()) {
             return players.get(playerId);
         }
-        System.out.println("⚠️ Tentative d'accès à un joueur inexistant: " + playerId);
+        LOG.warn("⚠️ Tentative d'accès à un joueur inexistant: {}", playerId);
         return null;
     }
 
@@ -379,10 +437,14 @@ public class GameController {
      * Appelé quand un joueur est éliminé - VERSION SÉCURISÉE
      */
     public void onPlayerEliminated(int playerId) {
+        if (playerId >= 0 && playerId < players.size()) {
+            LOG.info("💀 {} est éliminé !", players.get(playerId).getName());
+        }
+
         if (aiManager != null && playerId >= 0 && playerId < players.size()) {
             if (aiManager.hasAIPlayer(playerId)) {
                 aiManager.removeAIPlayer(playerId);
-                System.out.println("🤖 IA du joueur " + playerId + " arrêtée (joueur éliminé)");
+                LOG.info("🤖 IA du joueur {} arrêtée (joueur éliminé)", playerId);
             }
         }
     }
@@ -393,7 +455,7 @@ public class GameController {
     public void pauseAI() {
         if (aiManager != null) {
             aiManager.pauseAllAI();
-            System.out.println("🤖 Toutes les IA mises en pause");
+            LOG.info("🤖 Toutes les IA mises en pause");
         }
     }
 
@@ -403,7 +465,7 @@ public class GameController {
     public void resumeAI() {
         if (aiManager != null) {
             aiManager.resumeAllAI();
-            System.out.println("🤖 Toutes les IA reprises");
+            LOG.info("🤖 Toutes les IA reprises");
         }
     }
 
@@ -439,6 +501,14 @@ public class GameController {
                 "-fx-border-color: #FFFFFF; -fx-border-width: 2; -fx-font-size: 12; -fx-font-weight: bold;");
         backToMenuButton.setOnAction(e -> handleBackToMenu());
 
+        // Profileur des frames (F3)
+        Button profilerButton = new Button("PROFILER (F3)");
+        profilerButton.setStyle("-fx-background-color: #333333; -fx-text-fill: #FFFFFF; " +
+                "-fx-border-color: #FFFFFF; -fx-border-width: 1; -fx-font-size: 10;");
+        profilerButton.setFocusTraversable(false);
+        profilerButton.setOnAction(e -> toggleProfiler());
+        createProfilerOverlay();
+
         // Assemblage
         gameInfoPanel.getChildren().addAll(
                 titleLabel,
@@ -450,10 +520,57 @@ public class GameController {
                 player3Info,
                 player4Info,
                 controlsInfo,
-                backToMenuButton
+                backToMenuButton,
+                profilerButton,
+                profilerOverlay
         );
     }
 
+    private void createProfilerOverlay() {
+        profilerLabel = new Label();
+        profilerLabel.setStyle("-fx-text-fill: #00FF00; -fx-font-family: 'Monospaced'; -fx-font-size: 9;");
+
+        Button exportButton = new Button("EXPORT CSV");
+        exportButton.setStyle("-fx-background-color: #333333; -fx-text-fill: #FFFFFF; -fx-font-size: 10;");
+        exportButton.setFocusTraversable(false);
+        exportButton.setOnAction(e -> exportProfilerCsv());
+
+        profilerOverlay = new VBox(5, profilerLabel, exportButton);
+        profilerOverlay.setAlignment(Pos.TOP_LEFT);
+        profilerOverlay.setVisible(false);
+        profilerOverlay.setManaged(false);
+    }
+
+    /**
+     * Affiche ou masque la surcouche du profileur ; la mesure n'est active que lorsqu'elle est visible.
+     */
+    private void toggleProfiler() {
+        boolean enabled = !profiler.isEnabled();
+        profiler.setEnabled(enabled);
+        profilerOverlay.setVisible(enabled);
+        profilerOverlay.setManaged(enabled);
+        profilerLabel.setText(enabled ? "Mesure en cours..." : "");
+        LOG.info("📈 Profileur {}", enabled ? "activé" : "désactivé");
+    }
+
+    private void refreshProfilerOverlay() {
+        profilerLabel.setText(profiler.formatReport());
+    }
+
+    /**
+     * Exporte les frames mesurées dans un fichier CSV du répertoire courant.
+     */
+    private void exportProfilerCsv() {
+        Path file = Path.of("profiler-" +
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+        try {
+            profiler.exportCsv(file);
+            LOG.info("📈 {} frames exportées dans {}", profiler.getFrameCount(), file.toAbsolutePath());
+        } catch (IOException e) {
+            LOG.error("❌ Export du profileur impossible: {}", e.getMessage());
+        }
+    }
+
     private void toggleGameMode() {
         // Alterner entre les modes
         currentGameMode = currentGameMode.toggle();
@@ -462,30 +579,34 @@ public class GameController {
         updateGameModeDisplay();
 
         // Appliquer le nouveau mode à tous les joueurs
-        for (JavaFXPlayer player : players) {
+        for (int i = 0; i < players.size(); i++) {
+            JavaFXPlayer player = players.get(i);
+            SimPlayer simPlayer = engine.getPlayer(i);
             player.setGameMode(currentGameMode);
+            simPlayer.setGameMode(currentGameMode);
 
             // En mode infini, s'assurer qu'ils peuvent placer des bombes
             if (currentGameMode == GameMode.INFINITE_BOMBS) {
-                System.out.println("🔄 " + player.getName() + " passe en mode bombes infinies");
+                LOG.debug("🔄 {} passe en mode bombes infinies", player.getName());
             } else {
                 // En mode limité, s'assurer qu'ils ont au moins quelques bombes
-                if (player.getBombInventory() == 0) {
-                    player.setBombInventory(3); // Redonner des bombes
-                    System.out.println("🔄 " + player.getName() + " reçoit 3 bombes pour le mode limité");
+                if (simPlayer.getBombInventory() == 0) {
+                    simPlayer.setBombInventory(3); // Redonner des bombes
+                    LOG.debug("🔄 {} reçoit 3 bombes pour le mode limité", player.getName());
                 }
             }
         }
+        syncPlayersFromEngine();
 
         // Mettre à jour les informations des joueurs
         updatePlayerInfo();
 
-        System.out.println("🔄 Mode de jeu changé: " + currentGameMode.getDisplayName());
+        LOG.info("🔄 Mode de jeu changé: {}", currentGameMode.getDisplayName());
 
         // Afficher une notification visuelle (optionnel)
         String modeDescription = currentGameMode == GameMode.INFINITE_BOMBS ?
                 "Bombes illimitées activées !" : "Bombes limitées activées !";
-        System.out.println("📢 " + modeDescription);
+        LOG.info("📢 {}", modeDescription);
     }
 
     private void updateGameModeDisplay() {
@@ -508,6 +629,11 @@ public class GameController {
         player4Info = new Label("JOUEUR 4\nVies: 3\nBombes: 3\nPuissance: 2");
         player4Info.setStyle("-fx-text-fill: #FFFF44; -fx-font-size: 12; -fx-font-weight: bold;");
         player4Info.setVisible(false);
+
+        playerHuds = new PlayerInfoHud[]{
+                new PlayerInfoHud(player1Info), new PlayerInfoHud(player2Info),
+                new PlayerInfoHud(player3Info), new PlayerInfoHud(player4Info)
+        };
     }
 
     private VBox createControlsInfo() {
@@ -524,21 +650,25 @@ public class GameController {
     }
 
     public void initializeGame(int playerCount) {
-        System.out.println("Initialisation du jeu avec " + playerCount + " joueurs...");
+        LOG.info("Initialisation du jeu avec {} joueurs...", playerCount);
         this.currentPlayerCount = playerCount;
 
         // Récupérer le mode de jeu sélectionné depuis l'application
         if (application != null) {
             currentGameMode = application.getSelectedGameMode();
-            System.out.println("🎮 Mode de jeu récupéré: " + currentGameMode.getDisplayName());
+            LOG.debug("🎮 Mode de jeu récupéré: {}", currentGameMode.getDisplayName());
         }
 
+        // Les images préchargées pendant le menu doivent être prêtes
+        SpriteCache.awaitPreload();
+
         // Nettoyage des données précédentes
         cleanupGame();
 
-        // Création de la carte
+        // Création du moteur (la carte logique est générée par le moteur)
+        engine = new SimulationEngine(currentGameMode);
         gameMap = new BombermanMap();
-        gameMap.generateRandomMap();
+        startRecording();
 
         // Création des joueurs
         createPlayers(playerCount);
@@ -552,7 +682,7 @@ public class GameController {
         // Placement des joueurs
         placePlayers();
 
-        // Générer seulement quelques power-ups au début (optionnel)
+        // Démarrer le moteur (génère quelques power-ups au début)
         generateInitialPowerUps();
 
         // Mise à jour des infos (y compris le mode de jeu)
@@ -565,31 +695,34 @@ public class GameController {
         // Charger les sprites d'explosion
         loadExplosionSprites();
 
-        System.out.println("Jeu initialisé avec succès en mode " + currentGameMode.getDisplayName() + " !");
+        LOG.info("Jeu initialisé avec succès en mode {} !", currentGameMode.getDisplayName());
     }
 
     private void diagnosticPlayersState() {
-        System.out.println("=== DIAGNOSTIC DES JOUEURS ===");
+        LOG.debug("=== DIAGNOSTIC DES JOUEURS ===");
         for (int i = 0; i < players.size(); i++) {
             JavaFXPlayer player = players.get(i);
-            System.out.println("Joueur " + (i+1) + ": " + player.getName());
-            System.out.println("  - Mode: " + player.getGameMode().getDisplayName());
-            System.out.println("  - Inventaire bombes: " + player.getBombInventory());
-            System.out.println("  - Peut placer bombe: " + player.canPlaceBomb());
+            LOG.debug("Joueur {}: {}", i + 1, player.getName());
+            LOG.debug("  - Mode: {}", player.getGameMode().getDisplayName());
+            LOG.debug("  - Inventaire bombes: {}", player.getBombInventory());
+            LOG.debug("  - Peut placer bombe: {}", player.canPlaceBomb());
         }
-        System.out.println("================================");
+        LOG.debug("================================");
     }
 
     private void diagnosticPlayerNodes() {
-        System.out.println("==== DIAGNOSTIC DES NŒUDS DE JOUEURS ====");
+        LOG.debug("==== DIAGNOSTIC DES NŒUDS DE JOUEURS ====");
         for (JavaFXPlayer player : players) {
-            System.out.println("Joueur: " + player.getName() + " Position: (" +
-                    player.getGridX() + "," + player.getGridY() + ")");
-            System.out.println("Est au spawn: " + player.isAtSpawn());
-            System.out.println("Nœud présent: " + playerNodes.containsKey(player));
+            LOG.debug("Joueur: {} Position: ({},{})", player.getName(), player.getGridX(), player.getGridY());
+            LOG.debug("Est au spawn: {}", player.isAtSpawn());
+            LOG.debug("Nœud présent: {}", playerNodes.containsKey(player));
         }
-        System.out.println("Nombre total de nœuds dans la grille: " + gameGrid.getChildren().size());
-        System.out.println("=====================================");
+        LOG.debug("Nombre total de nœuds dans la grille: {}", boardRenderer.getNodeCount());
+        if (flamePool != null) {
+            LOG.debug("Nœuds de flammes créés: {} (libres: {})", flamePool.getCreatedCount(), flamePool.getFreeCount());
+        }
+        LOG.debug("Nœuds de bombes créés: {} (libres: {})", bombPool.getCreatedCount(), bombPool.getFreeCount());
+        LOG.debug("=====================================");
     }
 
     /**
@@ -603,21 +736,25 @@ public class GameController {
      * @param selectedProfiles Liste des profils sélectionnés pour les joueurs
      */
     public void initializeGameWithProfiles(int playerCount, List<Profile> selectedProfiles) {
-        System.out.println("Initialisation du jeu avec " + playerCount + " joueurs et profils...");
+        LOG.info("Initialisation du jeu avec {} joueurs et profils...", playerCount);
         this.currentPlayerCount = playerCount;
 
         // Récupérer le mode de jeu sélectionné depuis l'application
         if (application != null) {
             currentGameMode = application.getSelectedGameMode();
-            System.out.println("🎮 Mode de jeu récupéré: " + currentGameMode.getDisplayName());
+            LOG.debug("🎮 Mode de jeu récupéré: {}", currentGameMode.getDisplayName());
         }
 
+        // Les images préchargées pendant le menu doivent être prêtes
+        SpriteCache.awaitPreload();
+
         // Nettoyage des données précédentes
         cleanupGame();
 
-        // Création de la carte
+        // Création du moteur (la carte logique est générée par le moteur)
+        engine = new SimulationEngine(currentGameMode);
         gameMap = new BombermanMap();
-        gameMap.generateRandomMap();
+        startRecording();
 
         // Création des joueurs avec profils
         createPlayersWithProfiles(playerCount, selectedProfiles);
@@ -628,7 +765,7 @@ public class GameController {
         // Placement des joueurs
         placePlayers();
 
-        // Générer quelques power-ups au début
+        // Démarrer le moteur (génère quelques power-ups au début)
         generateInitialPowerUps();
 
         // Mise à jour des infos
@@ -641,7 +778,49 @@ public class GameController {
         // Charger les sprites d'explosion
         loadExplosionSprites();
 
-        System.out.println("Jeu initialisé avec succès avec profils !");
+        LOG.info("Jeu initialisé avec succès avec profils !");
+    }
+
+    /**
+     * Initialise la relecture d'une partie enregistrée.
+     * <p>
+     * Le moteur est celui du {@link ReplayPlayer} : les joueurs n'obéissent ni au clavier
+     * ni aux IA, seulement aux commandes enregistrées. Les touches + et - changent la
+     * vitesse de lecture (x1 à x32).
+     * </p>
+     *
+     * @param replay Partie à revoir
+     */
+    public void initializeReplay(Replay replay) {
+        LOG.info("🎬 Lecture d'un replay: {} joueurs, {} ticks", replay.getPlayers().size(), replay.getEndTick());
+        this.currentPlayerCount = replay.getPlayers().size();
+        this.currentGameMode = replay.getGameMode();
+
+        // Les images préchargées pendant le menu doivent être prêtes
+        SpriteCache.awaitPreload();
+
+        // Nettoyage des données précédentes
+        cleanupGame();
+
+        // Le moteur de la relecture est recréé avec la graine et les joueurs enregistrés
+        replayRecorder = null;
+        replayPlayer = new ReplayPlayer(replay);
+        replaySpeed = ReplaySpeed.X1;
+        engine = replayPlayer.getEngine();
+        gameMap = new BombermanMap();
+
+        createReplayPlayers(replay);
+
+        displayMap();
+        placePlayers();
+
+        // Le moteur est déjà démarré : seuls ses power-ups initiaux restent à afficher
+        generateInitialPowerUps();
+
+        updateGameModeDisplay();
+        updatePlayerInfo();
+        startGame();
+        loadExplosionSprites();
     }
 
     private void cleanupGame() {
@@ -651,23 +830,41 @@ public class GameController {
             gameLoop = null;
         }
 
+        // Arrêter les animations des bombes encore actives
+        for (JavaFXBomb bomb : bombs.values()) {
+            bomb.explode();
+        }
+
+        // Annuler toutes les tâches planifiées (clignotements, IA)
+        scheduler.clear();
+        gameStartListeners.clear();
+
+        // Rendre les nœuds encore affichés à leurs réserves, conservées d'une partie à l'autre
+        if (boardRenderer != null) {
+            for (StackPane bombNode : bombNodes.values()) {
+                boardRenderer.releaseEntity(bombPool, bombNode);
+            }
+            for (Map.Entry<PowerUp, StackPane> entry : powerUpNodes.entrySet()) {
+                boardRenderer.releaseEntity(powerUpPool(entry.getKey()), entry.getValue());
+            }
+            for (FlameView flameNode : explosionNodes.values()) {
+                boardRenderer.releaseEntity(flamePool, flameNode);
+            }
+        }
+
         // Nettoyer les collections
         players.clear();
         bombs.clear();
         powerUps.clear();
-        explosionEffects.clear();
+        explosionNodes.clear();
         playerNodes.clear();
         bombNodes.clear();
         powerUpNodes.clear();
-        lastMoveTime.clear();
         pressedKeys.clear();
 
-        // Réinitialiser les timers
-        lastPowerUpSpawn = 0;
-
         // Nettoyer la grille
-        if (gameGrid != null) {
-            gameGrid.getChildren().clear();
+        if (boardRenderer != null) {
+            boardRenderer.clear();
         }
     }
 
@@ -693,6 +890,7 @@ public class GameController {
 
         for (int i = 0; i < playerCount && i < 4; i++) {
             JavaFXPlayer player = new JavaFXPlayer(playerNames[i], playerColors[i]);
+            engine.addPlayer(playerNames[i]);
             player.setKeys(playerKeys[i][0], playerKeys[i][1], playerKeys[i][2], playerKeys[i][3], playerKeys[i][4]);
 
             // IMPORTANT: Appliquer le mode de jeu AVANT d'ajouter le joueur
@@ -700,16 +898,17 @@ public class GameController {
 
             // En mode bombes infinies, l'inventaire initial n'a pas d'importance
             if (currentGameMode == GameMode.INFINITE_BOMBS) {
-                System.out.println("🚀 " + playerNames[i] + " configuré en mode BOMBES INFINIES");
+                LOG.debug("🚀 {} configuré en mode BOMBES INFINIES", playerNames[i]);
             } else {
-                System.out.println("🎯 " + playerNames[i] + " configuré en mode BOMBES LIMITÉES (3 bombes)");
+                LOG.debug("🎯 {} configuré en mode BOMBES LIMITÉES (3 bombes)", playerNames[i]);
             }
 
             players.add(player);
-            System.out.println("Joueur créé: " + playerNames[i] + " (Couleur: " + playerColors[i] + ", Mode: " + currentGameMode.getDisplayName() + ")");
-            System.out.println("  Touches: " +
-                    playerKeys[i][0] + " " + playerKeys[i][1] + " " +
-                    playerKeys[i][2] + " " + playerKeys[i][3] + " " + playerKeys[i][4]);
+            syncPlayerFromEngine(player, engine.getPlayer(i));
+            LOG.debug("Joueur créé: {} (Couleur: {}, Mode: {})", playerNames[i], playerColors[i], currentGameMode.getDisplayName());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("  Touches: " + playerKeys[i][0] + " " + playerKeys[i][1] + " " + playerKeys[i][2] + " " + playerKeys[i][3] + " " + playerKeys[i][4]);
+            }
         }
     }
 
@@ -742,12 +941,14 @@ public class GameController {
             Profile selectedProfile = (i < selectedProfiles.size()) ? selectedProfiles.get(i) : null;
 
             if (selectedProfile != null) {
-                System.out.println("🎯 Création du joueur " + (i + 1) + " avec le profil: " + selectedProfile.getFullName());
+                LOG.debug("🎯 Création du joueur {} avec le profil: {}", i + 1, selectedProfile.getFullName());
                 player = new JavaFXPlayer(selectedProfile.getFullName(), selectedProfile.getColor());
-                applyProfileBonuses(player, selectedProfile);
+                SimPlayer simPlayer = engine.addPlayer(player.getName());
+                applyProfileBonuses(simPlayer, selectedProfile);
             } else {
-                System.out.println("⚪ Création du joueur " + (i + 1) + " avec paramètres par défaut");
+                LOG.debug("⚪ Création du joueur {} avec paramètres par défaut", i + 1);
                 player = new JavaFXPlayer(defaultPlayerNames[i], defaultPlayerColors[i]);
+                engine.addPlayer(player.getName());
             }
 
             // Configuration des touches
@@ -757,46 +958,72 @@ public class GameController {
             player.setGameMode(currentGameMode);
 
             players.add(player);
+            syncPlayerFromEngine(player, engine.getPlayer(i));
+
+            LOG.debug("✅ Joueur ajouté: {} (Couleur: {})", player.getName(), player.getColor());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("  Touches: " + playerKeys[i][0] + " " + playerKeys[i][1] + " " + playerKeys[i][2] + " " + playerKeys[i][3] + " " + playerKeys[i][4]);
+            }
+        }
+    }
+
+    /**
+     * Crée les représentations des joueurs d'un replay, sans touches de contrôle.
+     */
+    private void createReplayPlayers(Replay replay) {
+        players.clear();
+        playerNodes.clear();
+
+        javafx.scene.paint.Color[] playerColors = {
+                javafx.scene.paint.Color.RED,
+                javafx.scene.paint.Color.BLUE,
+                javafx.scene.paint.Color.GREEN,
+                javafx.scene.paint.Color.YELLOW
+        };
 
-            System.out.println("✅ Joueur ajouté: " + player.getName() + " (Couleur: " + player.getColor() + ")");
-            System.out.println("  Touches: " +
-                    playerKeys[i][0] + " " + playerKeys[i][1] + " " +
-                    playerKeys[i][2] + " " + playerKeys[i][3] + " " + playerKeys[i][4]);
+        List<Replay.PlayerSetup> setups = replay.getPlayers();
+        for (int i = 0; i < setups.size(); i++) {
+            JavaFXPlayer player = new JavaFXPlayer(setups.get(i).getName(), playerColors[i]);
+            player.setGameMode(currentGameMode);
+            players.add(player);
+            syncPlayerFromEngine(player, engine.getPlayer(i));
         }
     }
 
     /**
      * Applique des bonus basés sur l'expérience du profil (optionnel)
      */
-    private void applyProfileBonuses(JavaFXPlayer player, Profile profile) {
+    private void applyProfileBonuses(SimPlayer player, Profile profile) {
         // Bonus basés sur le nombre de parties jouées
         int gamesPlayed = profile.getGamesPlayed();
 
         if (gamesPlayed >= 10) {
             // Joueur expérimenté: +1 bombe de départ
             player.addBombs(1);
-            System.out.println("🎁 Bonus expérience: +1 bombe pour " + player.getName());
+            LOG.debug("🎁 Bonus expérience: +1 bombe pour {}", player.getName());
         }
 
         if (gamesPlayed >= 25) {
             // Joueur vétéran: +1 puissance de bombe
             player.increaseBombPower();
-            System.out.println("🎁 Bonus vétéran: +1 puissance pour " + player.getName());
+            LOG.debug("🎁 Bonus vétéran: +1 puissance pour {}", player.getName());
         }
 
         if (gamesPlayed >= 50) {
             // Joueur expert: +1 vitesse
             player.increaseSpeed();
-            System.out.println("🎁 Bonus expert: +1 vitesse pour " + player.getName());
+            LOG.debug("🎁 Bonus expert: +1 vitesse pour {}", player.getName());
         }
     }
 
     /**
-     * Met à jour les statistiques des profils à la fin de la partie
+     * Met à jour les statistiques et la cote ({@link SkillRating}) des profils à la fin de la partie
      */
     public void updateProfileStats(JavaFXPlayer winner) {
         ProfileManager profileManager = ProfileManager.getInstance();
         List<Profile> selectedProfiles = application.getSelectedProfiles();
+        List<Profile> participants = new ArrayList<>();
+        Profile winnerProfile = null;
 
         for (int i = 0; i < players.size() && i < selectedProfiles.size(); i++) {
             Profile profile = selectedProfiles.get(i);
@@ -807,36 +1034,26 @@ public class GameController {
 
                 // Mettre à jour les statistiques
                 profile.updateStats(won, score);
-                profileManager.updateProfile(profile);
+                participants.add(profile);
+                if (won) {
+                    winnerProfile = profile;
+                }
 
-                System.out.println("📊 Statistiques mises à jour pour " + profile.getFullName() +
-                        " (Victoire: " + won + ", Score: " + score + ")");
+                LOG.debug("📊 Statistiques mises à jour pour {} (Victoire: {}, Score: {})", profile.getFullName(), won, score);
             }
         }
-    }
 
-    private void displayMap() {
-        gameGrid.getChildren().clear();
-        int[][] map = gameMap.getGameMap();
-
-        for (int row = 0; row < GRID_HEIGHT; row++) {
-            for (int col = 0; col < GRID_WIDTH; col++) {
-                StackPane cell = createCellForType(map[row][col]);
-                if (cell != null) {
-                    gameGrid.add(cell, col, row);
-                }
-            }
+        // Cotes calculées ensemble, à partir des cotes d'avant la partie
+        SkillRating.rateMatch(participants, winnerProfile);
+        for (Profile profile : participants) {
+            profileManager.updateProfile(profile);
+            LOG.debug("📈 Cote de {}: {}", profile.getFullName(), Math.round(profile.getRating()));
         }
     }
 
-    private StackPane createCellForType(int cellType) {
-        switch (cellType) {
-            case 0: return gameMap.createRetroEmptyCell();
-            case 1: return gameMap.createRetroWallCell();
-            case 2: return gameMap.createRetroDestructibleCell();
-            case 3: return gameMap.createRetroSpawnZoneCell();
-            default: return null;
-        }
+    private void displayMap() {
+        boardRenderer.clear();
+        boardRenderer.drawBoard(gameMap, engine::getCell);
     }
 
     /**
@@ -845,14 +1062,15 @@ public class GameController {
     private void placePlayers() {
         for (int i = 0; i < players.size(); i++) {
             JavaFXPlayer player = players.get(i);
-            int spawnX = spawnPositions[i][0];
-            int spawnY = spawnPositions[i][1];
+            SimPlayer simPlayer = engine.getPlayer(i);
+            int spawnX = simPlayer.getSpawnX();
+            int spawnY = simPlayer.getSpawnY();
 
             // Stocker la position de spawn dans le joueur
             player.setSpawnPosition(spawnX, spawnY);
             player.setGridPosition(spawnX, spawnY);
 
-            System.out.println("🎯 Placement du joueur " + (i + 1) + " en position (" + spawnX + ", " + spawnY + ")");
+            LOG.debug("🎯 Placement du joueur {} en position ({}, {})", i + 1, spawnX, spawnY);
 
             // Capture sécurisée des variables locales pour la lambda
             final JavaFXPlayer currentPlayer = player;
@@ -865,7 +1083,7 @@ public class GameController {
                     StackPane playerNode = currentPlayer.createVisualRepresentation();
 
                     if (playerNode == null) {
-                        System.out.println("⚠️ Node visuel NULL pour " + currentPlayer.getName() + " — IA mal initialisée ?");
+                        LOG.warn("⚠️ Node visuel NULL pour {} — IA mal initialisée ?", currentPlayer.getName());
                         return;
                     }
 
@@ -874,17 +1092,16 @@ public class GameController {
                     playerNode.setUserData("player-" + currentPlayer.getName());
 
                     // Placement sur la grille
-                    if (gameGrid != null) {
-                        gameGrid.add(playerNode, finalSpawnX, finalSpawnY);
+                    if (boardRenderer != null) {
+                        boardRenderer.addEntity(BoardLayer.ACTOR, playerNode, finalSpawnX, finalSpawnY);
                         playerNodes.put(currentPlayer, playerNode);
-                        System.out.println("✅ " + currentPlayer.getName() + " placé en (" + finalSpawnX + ", " + finalSpawnY + ")");
+                        LOG.debug("✅ {} placé en ({}, {})", currentPlayer.getName(), finalSpawnX, finalSpawnY);
                     } else {
-                        System.out.println("❌ gameGrid est null lors du placement de " + currentPlayer.getName());
+                        LOG.warn("❌ boardRenderer est null lors du placement de {}", currentPlayer.getName());
                     }
 
                 } catch (Exception e) {
-                    System.out.println("❌ Erreur lors du placement visuel de " + currentPlayer.getName() + ": " + e.getMessage());
-                    e.printStackTrace();
+                    LOG.error("❌ Erreur lors du placement visuel de " + currentPlayer.getName(), e);
                 }
             });
         }
@@ -893,299 +1110,459 @@ public class GameController {
     // ===== SYSTÈME DE POWER-UPS =====
 
     private void generateInitialPowerUps() {
-        System.out.println("Génération de quelques power-ups initiaux...");
+        LOG.debug("Génération de quelques power-ups initiaux...");
 
-        // Générer seulement 1-2 power-ups au début
-        int initialCount = 1 + (int)(Math.random() * 2); // 1-2 power-ups
+        // Le moteur génère 1-2 power-ups au démarrage
+        engine.start();
+        applyEngineEvents();
 
-        for (int i = 0; i < initialCount; i++) {
-            // Types possibles au début (priorité aux bombes)
-            PowerUpType[] initialTypes = {PowerUpType.BOMB_COUNT, PowerUpType.BOMB_POWER, PowerUpType.SPEED};
-            PowerUpType randomType = initialTypes[(int)(Math.random() * initialTypes.length)];
-            generateSinglePowerUp(randomType);
-        }
+        LOG.debug("Power-ups initiaux générés: {}", powerUps.size());
+    }
+
+    private void showPowerUp(SimPowerUp simPowerUp) {
+        PowerUp powerUp = new PowerUp(simPowerUp.getX(), simPowerUp.getY(), simPowerUp.getType());
+        powerUps.put(simPowerUp, powerUp);
 
-        System.out.println("Power-ups initiaux générés: " + powerUps.size());
+        // Ajouter visuellement le power-up (nœud repris d'un power-up du même type)
+        StackPane powerUpNode = boardRenderer.acquireEntity(powerUpPool(powerUp),
+                BoardLayer.ITEM, simPowerUp.getX(), simPowerUp.getY());
+        powerUpNodes.put(powerUp, powerUpNode);
+
+        LOG.debug("✨ Power-up {} apparu en ({}, {})", simPowerUp.getType(), simPowerUp.getX(), simPowerUp.getY());
     }
 
-    private void handleRandomPowerUpSpawning() {
-        long currentTime = System.nanoTime();
+    /**
+     * Affiche la collecte d'un power-up par un joueur.
+     * <p>
+     * L'effet du power-up a déjà été appliqué par le moteur ; cette méthode
+     * retire simplement le power-up de la carte.
+     * </p>
+     *
+     * @param player Le joueur qui collecte le power-up
+     * @param simPowerUp Le power-up collecté
+     */
+    private void collectPowerUp(JavaFXPlayer player, SimPowerUp simPowerUp) {
+        LOG.debug("{} collecte un power-up {}", player.getName(), simPowerUp.getType());
 
-        // Calculer le prochain temps d'apparition avec variance
-        long variance = (long)(Math.random() * POWERUP_SPAWN_VARIANCE * 2) - POWERUP_SPAWN_VARIANCE;
-        long nextSpawnTime = lastPowerUpSpawn + POWERUP_SPAWN_INTERVAL + variance;
+        PowerUp powerUp = powerUps.remove(simPowerUp);
+        if (powerUp == null) return;
 
-        // Vérifier s'il est temps de faire apparaître un power-up
-        if (currentTime >= nextSpawnTime) {
-            // Limiter le nombre de power-ups simultanés
-            int maxPowerUps = 5; // Maximum 5 power-ups sur la carte
+        // Marquer comme collecté
+        powerUp.collect();
 
-            if (powerUps.stream().mapToInt(p -> p.isCollected() ? 0 : 1).sum() < maxPowerUps) {
-                spawnRandomPowerUp();
-                lastPowerUpSpawn = currentTime;
+        // Supprimer visuellement
+        StackPane powerUpNode = powerUpNodes.remove(powerUp);
+        if (powerUpNode != null) {
+            boardRenderer.releaseEntity(powerUpPool(powerUp), powerUpNode);
+        }
+    }
 
-                System.out.println("🎁 Nouveau power-up apparu ! Total actifs: " +
-                        powerUps.stream().mapToInt(p -> p.isCollected() ? 0 : 1).sum());
-            }
+    /**
+     * Retourne la réserve des nœuds d'un type de power-up ; l'apparence d'un
+     * power-up ne dépend que de son type.
+     *
+     * @param powerUp Power-up à afficher
+     * @return La réserve de son type
+     */
+    private NodePool<StackPane> powerUpPool(PowerUp powerUp) {
+        NodePool<StackPane> pool = powerUpPools.get(powerUp.getType());
+        if (pool == null) {
+            pool = new NodePool<>(powerUp::createVisualRepresentation, 8);
+            powerUpPools.put(powerUp.getType(), pool);
         }
+        return pool;
     }
 
-    private void spawnRandomPowerUp() {
-        // Probabilités d'apparition des différents types
-        double random = Math.random();
-        PowerUpType typeToSpawn;
+    // ===== SYNCHRONISATION AVEC LE MOTEUR =====
 
-        if (currentGameMode == GameMode.INFINITE_BOMBS) {
-            // En mode infini, exclure les power-ups BOMB_COUNT
-            if (random < 0) { // 0% - Puissance
-                typeToSpawn = PowerUpType.BOMB_POWER;
-            } else if (random < 0.8) { // 30% - Vitesse
-                typeToSpawn = PowerUpType.SPEED;
-            } else { // 20% - Vie
-                typeToSpawn = PowerUpType.LIFE;
-            }
-        } else {
-            // Mode normal avec toutes les possibilités
-            if (random < 0.4) {
-                typeToSpawn = PowerUpType.BOMB_COUNT; // 40% - Bombes (plus fréquent)
-            } else if (random < 0.7) {
-                typeToSpawn = PowerUpType.BOMB_POWER; // 30% - Puissance
-            } else if (random < 0.9) {
-                typeToSpawn = PowerUpType.SPEED; // 20% - Vitesse
-            } else {
-                typeToSpawn = PowerUpType.LIFE; // 10% - Vie (rare)
+    /**
+     * Applique à l'affichage tous les événements publiés par le moteur
+     * depuis le dernier appel.
+     */
+    private void applyEngineEvents() {
+        for (GameEvent event : engine.pollEvents()) {
+            switch (event.getType()) {
+                case PLAYER_MOVED -> onPlayerMoved(event);
+                case PLAYER_DAMAGED -> onPlayerDamaged(event);
+                case PLAYER_RESPAWNED -> onPlayerRespawned(event);
+                case PLAYER_ELIMINATED -> onPlayerEliminated(event.getPlayerId());
+                case BOMB_PLACED -> onBombPlaced(event.getBomb());
+                case BOMB_EXPLODED -> onBombExploded(event.getBomb());
+                case FLAME_STARTED -> createExplosionEffect(event.getFlame());
+                case FLAME_CLEARED -> removeExplosionEffect(event.getFlame());
+                case WALL_DESTROYED -> destroyWall(event.getX(), event.getY());
+                case POWERUP_SPAWNED -> showPowerUp(event.getPowerUp());
+                case POWERUP_COLLECTED -> collectPowerUp(players.get(event.getPlayerId()), event.getPowerUp());
+                case GAME_OVER -> {
+                    syncPlayersFromEngine();
+                    SimPlayer winner = engine.getWinner();
+                    endGame(winner != null ? players.get(winner.getId()) : null);
+                    return;
+                }
             }
         }
+    }
+
+    /**
+     * Recopie l'état logique de tous les joueurs dans leurs représentations JavaFX.
+     */
+    private void syncPlayersFromEngine() {
+        for (int i = 0; i < players.size(); i++) {
+            syncPlayerFromEngine(players.get(i), engine.getPlayer(i));
+        }
+    }
+
+    private void syncPlayerFromEngine(JavaFXPlayer player, SimPlayer simPlayer) {
+        player.setLives(simPlayer.getLives());
+        player.setAlive(simPlayer.isAlive());
+        player.setBombInventory(simPlayer.getBombInventory());
+        player.setBombPower(simPlayer.getBombPower());
+        player.setSpeed(simPlayer.getSpeed());
+        player.setScore(simPlayer.getScore());
+    }
+
+    private void onPlayerMoved(GameEvent event) {
+        JavaFXPlayer player = players.get(event.getPlayerId());
+
+        // Mettre à jour la position interne et l'animation du joueur
+        player.setGridPosition(event.getX(), event.getY());
+        player.move(event.getDirection());
 
-        generateSinglePowerUp(typeToSpawn);
+        // Replacer le nœud du joueur ; la cellule quittée est inchangée sous lui
+        updatePlayerVisual(player);
     }
 
-    private void generateSinglePowerUp(PowerUpType type) {
-        int[][] map = gameMap.getGameMap();
-        int attempts = 0;
+    private void onPlayerDamaged(GameEvent event) {
+        JavaFXPlayer player = players.get(event.getPlayerId());
+        LOG.debug("{} subit des dégâts !", player.getName());
 
-        while (attempts < 50) { // Limite pour éviter les boucles infinies
-            int x = 1 + (int)(Math.random() * (GRID_WIDTH - 2));
-            int y = 1 + (int)(Math.random() * (GRID_HEIGHT - 2));
+        // Supprimer le joueur de sa position actuelle
+        removePlayerFromPosition(player);
+        syncPlayerFromEngine(player, engine.getPlayer(event.getPlayerId()));
+    }
+
+    private void onPlayerRespawned(GameEvent event) {
+        JavaFXPlayer player = players.get(event.getPlayerId());
+        LOG.debug("{} perd une vie ! Retour au spawn.", player.getName());
 
-            // Vérifier que la position est valide et libre
-            if (map[y][x] == 0 && // Cellule vide
-                    !isSpawnPosition(x, y) && // Pas une position de spawn
-                    !isPowerUpAt(x, y) && // Pas déjà un power-up
-                    !isOccupiedByPlayer(x, y, null) && // Pas occupé par un joueur
-                    !isOccupiedByBomb(x, y)) { // Pas occupé par une bombe
+        player.setGridPosition(event.getX(), event.getY());
+        updatePlayerVisual(player);
+    }
 
-                PowerUp powerUp = new PowerUp(x, y, type);
-                powerUps.add(powerUp);
+    private void onBombPlaced(SimBomb simBomb) {
+        JavaFXPlayer owner = players.get(simBomb.getOwner().getId());
 
-                // Ajouter visuellement le power-up
-                StackPane powerUpNode = powerUp.createVisualRepresentation();
-                gameGrid.add(powerUpNode, x, y);
-                powerUpNodes.put(powerUp, powerUpNode);
+        JavaFXBomb bomb = new JavaFXBomb(owner, simBomb.getX(), simBomb.getY(), simBomb.getPower());
+        bombs.put(simBomb, bomb);
+        syncPlayerFromEngine(owner, simBomb.getOwner());
 
-                System.out.println("✨ Power-up " + type + " apparu en (" + x + ", " + y + ")");
-                return;
-            }
-            attempts++;
-        }
+        // Ajout visuel de la bombe, dans un conteneur repris d'une bombe explosée
+        StackPane bombNode = boardRenderer.acquireEntity(bombPool, BoardLayer.BOMB, simBomb.getX(), simBomb.getY());
+        bomb.attachVisual(bombNode);
+        bombNode.setUserData("bomb-" + simBomb.getId());
+        bombNodes.put(bomb, bombNode);
+
+        // Animation de clignotement (l'explosion est décidée par le moteur)
+        bomb.startBlinking(scheduler);
 
-        System.out.println("⚠️ Impossible de placer un power-up " + type + " après 50 tentatives");
+        LOG.debug("✅ {} a placé une bombe en ({}, {})", owner.getName(), simBomb.getX(), simBomb.getY());
     }
 
-    private boolean isOccupiedByBomb(int x, int y) {
-        return bombs.stream().anyMatch(bomb -> bomb.getGridX() == x && bomb.getGridY() == y);
+    private void onBombExploded(SimBomb simBomb) {
+        LOG.debug("Explosion de la bombe en ({}, {})", simBomb.getX(), simBomb.getY());
+
+        JavaFXBomb bomb = bombs.remove(simBomb);
+        if (bomb == null) return;
+
+        // Arrêter les animations et retirer la bombe de la grille
+        bomb.explode();
+        removeBombFromPosition(bomb);
+
+        bomb.getOwner().bombExploded();
     }
 
-    private boolean isSpawnPosition(int x, int y) {
-        for (int[] spawn : spawnPositions) {
-            if (spawn[0] == x && spawn[1] == y) {
-                return true;
+    /**
+     * Associe les fiches du panneau d'informations aux joueurs de la partie.
+     * <p>
+     * Les fiches ne sont ensuite réaffichées que sur un changement de statistique
+     * signalé par le joueur ({@link JavaFXPlayer.StatsListener}), pas à chaque frame.
+     * </p>
+     */
+    private void updatePlayerInfo() {
+        for (int i = 0; i < playerHuds.length; i++) {
+            JavaFXPlayer player = i < players.size() ? players.get(i) : null;
+            if (player != null) {
+                player.setStatsListener(this::onPlayerStatsChanged);
             }
+            playerHuds[i].bind(player);
         }
-        return false;
+        showPlayingStatus();
     }
 
-    private boolean isPowerUpAt(int x, int y) {
-        return powerUps.stream().anyMatch(p -> p.getGridX() == x && p.getGridY() == y && !p.isCollected());
+    private void onPlayerStatsChanged(JavaFXPlayer player) {
+        for (PlayerInfoHud hud : playerHuds) {
+            if (hud.getPlayer() == player) {
+                hud.refresh();
+                break;
+            }
+        }
+        updateAliveStatus();
     }
 
-    private void checkPowerUpCollection() {
-        for (JavaFXPlayer player : players) {
-            if (!player.isAlive()) continue;
-
-            int playerX = player.getGridX();
-            int playerY = player.getGridY();
+    /**
+     * Réaffiche le statut de la partie en cours (nombre de joueurs vivants).
+     */
+    private void showPlayingStatus() {
+        shownAliveCount = -1;
+        updateAliveStatus();
+    }
 
-            // Chercher un power-up à la position du joueur
-            PowerUp powerUpToCollect = powerUps.stream()
-                    .filter(p -> !p.isCollected() &&
-                            p.getGridX() == playerX &&
-                            p.getGridY() == playerY)
-                    .findFirst()
-                    .orElse(null);
+    /**
+     * Met à jour le nombre de joueurs vivants dans le statut, s'il a changé.
+     */
+    private void updateAliveStatus() {
+        if (currentState != GameState.PLAYING) return;
 
-            if (powerUpToCollect != null) {
-                collectPowerUp(player, powerUpToCollect);
-            }
+        int aliveCount = 0;
+        for (JavaFXPlayer player : players) {
+            if (player.isAlive()) aliveCount++;
         }
+        if (aliveCount == shownAliveCount) return;
+
+        shownAliveCount = aliveCount;
+        String status = replayPlayer != null ? "REPLAY " + replaySpeed.getDisplayName() : "EN JEU";
+        gameStatusLabel.setText(status + " (" + aliveCount + "/" + currentPlayerCount + " vivants)");
     }
+
     /**
-     * Gère la collecte d'un power-up par un joueur.
+     * Démarre le cycle de vie d'une partie.
      * <p>
-     * Cette méthode est appelée lorsqu'un joueur entre en collision avec un power-up.
-     * Elle applique l'effet du power-up au joueur et le retire de la carte.
+     * La boucle de jeu est lancée immédiatement, mais la partie ne commence qu'une fois
+     * la scène mise en page et une première frame affichée : le compte à rebours éventuel
+     * part de cet instant, puis le premier tick est joué et les actions enregistrées avec
+     * {@link #addGameStartListener(Runnable)} sont exécutées. Rien ne bloque le thread JavaFX.
      * </p>
-     *
-     * @param player Le joueur qui collecte le power-up
-     * @param powerUp Le power-up collecté
      */
-    private void collectPowerUp(JavaFXPlayer player, PowerUp powerUp) {
-        System.out.println(player.getName() + " collecte un power-up " + powerUp.getType());
+    public void startGame() {
+        currentState = GameState.STARTING;
+        gameReady = false;
+        countdownTicks = START_COUNTDOWN_TICKS;
+        startRequestNanos = System.nanoTime();
+        gameStatusLabel.setText("PRÊT ?");
 
-        // Marquer comme collecté
-        powerUp.collect();
+        startGameLoop();
+    }
 
-        // Supprimer visuellement
-        Node powerUpNode = powerUpNodes.get(powerUp);
-        if (powerUpNode != null) {
-            gameGrid.getChildren().remove(powerUpNode);
-            powerUpNodes.remove(powerUp);
+    /**
+     * Enregistre une action à exécuter au premier tick de la partie.
+     * <p>
+     * Si la partie a déjà commencé, l'action est exécutée immédiatement.
+     * </p>
+     *
+     * @param listener Action à exécuter (sur le thread JavaFX)
+     */
+    public void addGameStartListener(Runnable listener) {
+        if (currentState == GameState.PLAYING || currentState == GameState.PAUSED) {
+            listener.run();
+        } else {
+            gameStartListeners.add(listener);
         }
+    }
 
-        // Appliquer l'effet du power-up
-        player.applyPowerUp(powerUp.getType());
+    /**
+     * Appelé à la première frame affichée : la scène est prête, le compte à rebours commence.
+     */
+    private void onGameReady() {
+        gameReady = true;
+        long readyMillis = (System.nanoTime() - startRequestNanos) / 1_000_000;
+        LOG.info("⏱️ Première frame affichée {} ms après le lancement", readyMillis);
 
-        // Remettre la cellule de base
-        restoreBaseCell(powerUp.getGridX(), powerUp.getGridY());
+        if (countdownTicks <= 0) {
+            beginPlaying();
+        } else {
+            showCountdown();
+        }
     }
 
-    private void updatePlayerInfo() {
-        Label[] infoLabels = {player1Info, player2Info, player3Info, player4Info};
-
-        for (int i = 0; i < infoLabels.length; i++) {
-            if (i < players.size()) {
-                JavaFXPlayer player = players.get(i);
-                String aliveStatus = player.isAlive() ? "VIVANT" : "MORT";
-
-                // Affichage spécial pour les bombes selon le mode
-                String bombDisplay;
-                if (player.getGameMode() == GameMode.INFINITE_BOMBS) {
-                    bombDisplay = "∞"; // Symbole infini
-                } else {
-                    bombDisplay = String.valueOf(player.getBombInventory());
-                }
+    /**
+     * Fait avancer le compte à rebours d'un tick ; lance la partie à zéro.
+     */
+    private void updateCountdown() {
+        countdownTicks--;
 
-                infoLabels[i].setText(String.format("%s\nVies: %d\nBombes: %s\nPuissance: %d\nStatut: %s",
-                        player.getName(), player.getLives(), bombDisplay,
-                        player.getBombPower(), aliveStatus));
-                infoLabels[i].setVisible(true);
-            } else {
-                infoLabels[i].setVisible(false);
-            }
+        if (countdownTicks <= 0) {
+            beginPlaying();
+        } else if (countdownTicks % SimulationEngine.TICKS_PER_SECOND == 0) {
+            showCountdown();
         }
+    }
 
-        // Mise à jour du statut de jeu
-        long aliveCount = players.stream().filter(JavaFXPlayer::isAlive).count();
-        gameStatusLabel.setText("EN JEU (" + aliveCount + "/" + currentPlayerCount + " vivants)");
+    /**
+     * Affiche les secondes restantes du compte à rebours, arrondies à la seconde supérieure.
+     */
+    private void showCountdown() {
+        int seconds = (countdownTicks + SimulationEngine.TICKS_PER_SECOND - 1) / SimulationEngine.TICKS_PER_SECOND;
+        gameStatusLabel.setText(String.valueOf(seconds));
     }
 
-    public void startGame() {
+    /**
+     * Lance la partie : les entrées sont prises en compte et le prochain tick est joué.
+     */
+    private void beginPlaying() {
         currentState = GameState.PLAYING;
-        gameStatusLabel.setText("EN JEU");
+        showPlayingStatus();
+        long playingMillis = (System.nanoTime() - startRequestNanos) / 1_000_000;
+        LOG.info("🚦 Début de la partie, jouable {} ms après le lancement", playingMillis);
+
+        List<Runnable> listeners = new ArrayList<>(gameStartListeners);
+        gameStartListeners.clear();
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
 
-        // Initialiser le timer pour les power-ups
-        lastPowerUpSpawn = System.nanoTime();
+    /**
+     * @param millis Durée du compte à rebours en millisecondes
+     * @return La durée en ticks, 0 pour une durée nulle ou négative
+     */
+    private static int countdownTicks(long millis) {
+        return millis <= 0 ? 0 : (int) SimulationEngine.millisToTicks(millis);
+    }
 
+    private void startGameLoop() {
         gameLoop = new AnimationTimer() {
-            private long lastUpdate = 0;
+            private long lastTime = 0;
+            private long accumulator = 0;
 
             @Override
             public void handle(long currentTime) {
-                if (currentTime - lastUpdate >= 16_000_000) { // ~60 FPS
+                if (lastTime == 0) {
+                    lastTime = currentTime;
+                    return;
+                }
+
+                // Deuxième impulsion : la première frame de la partie a été affichée
+                if (!gameReady) {
+                    onGameReady();
+                    lastTime = currentTime;
+                    return;
+                }
+
+                // Le moteur avance par pas fixes, indépendamment de la cadence d'affichage ;
+                // un replay accéléré joue plusieurs ticks par tick de temps réel
+                int speedFactor = replayPlayer != null ? replaySpeed.getFactor() : 1;
+                accumulator = Math.min(accumulator + (currentTime - lastTime) * speedFactor,
+                        MAX_CATCH_UP_NANOS * speedFactor);
+                lastTime = currentTime;
+
+                while (accumulator >= SimulationEngine.TICK_NANOS && currentState == GameState.STARTING) {
+                    updateCountdown();
+                    accumulator -= SimulationEngine.TICK_NANOS;
+                }
+
+                profiler.beginFrame();
+                int ticks = 0;
+                while (accumulator >= SimulationEngine.TICK_NANOS && currentState == GameState.PLAYING) {
                     updateGame();
-                    lastUpdate = currentTime;
+                    accumulator -= SimulationEngine.TICK_NANOS;
+                    ticks++;
+                }
+
+                if (ticks > 0 && currentState == GameState.PLAYING) {
+                    // Les fiches des joueurs ne sont réaffichées que si une valeur a changé
+                    syncPlayersFromEngine();
+                    profiler.mark(FramePhase.HUD);
+                }
+
+                // Redessiner les cellules modifiées (mode Canvas)
+                boardRenderer.render();
+                profiler.mark(FramePhase.RENDER);
+                profiler.endFrame(ticks);
+
+                if (profiler.isEnabled() && profiler.getFrameCount() % PROFILER_REFRESH_FRAMES == 0) {
+                    refreshProfilerOverlay();
                 }
             }
         };
 
         gameLoop.start();
-        System.out.println("Boucle de jeu démarrée avec mode: " + currentGameMode.getDisplayName());
+        LOG.info("Boucle de jeu démarrée avec mode: {}", currentGameMode.getDisplayName());
     }
 
-    private void updateGame() {
-        // Gestion continue des mouvements basée sur les touches pressées
-        processContinuousMovement();
+    /**
+     * Exécute un tick de jeu : transmet les entrées au moteur, le fait avancer
+     * puis affiche les événements produits.
+     */
+    private void updateGame() {
+        if (replayPlayer != null) {
+            // Commandes enregistrées du tick, puis bombes, flammes, power-ups et victoire
+            replayPlayer.step();
+            profiler.mark(FramePhase.ENGINE);
 
-        // Apparition aléatoire de power-ups pendant la partie
-        handleRandomPowerUpSpawning();
+            applyEngineEvents();
+            profiler.mark(FramePhase.EVENTS);
 
-        // Mise à jour des effets d'explosion
-        updateExplosionEffects();
+            // Partie quittée avant sa fin : la relecture s'arrête au dernier tick enregistré
+            if (replayPlayer.isFinished() && currentState == GameState.PLAYING) {
+                finishReplay("FIN DU REPLAY");
+                return;
+            }
+        } else {
+            // Décisions des IA calculées hors du thread JavaFX depuis le tick précédent
+            if (aiManager != null) {
+                aiManager.applyPendingCommands();
+            }
+            profiler.mark(FramePhase.AI_COMMANDS);
 
-        // Vérification de la collecte des power-ups
-        checkPowerUpCollection();
+            // Gestion continue des mouvements basée sur les touches pressées
+            processContinuousMovement();
+            profiler.mark(FramePhase.INPUT);
 
-        // Mise à jour des joueurs
-        for (JavaFXPlayer player : players) {
-            player.update();
+            // Bombes, flammes, power-ups et condition de victoire
+            engine.tick();
+            profiler.mark(FramePhase.ENGINE);
+
+            // Mise à jour de l'affichage
+            applyEngineEvents();
+            profiler.mark(FramePhase.EVENTS);
         }
 
-        // Mise à jour des bombes
-        bombs.removeIf(bomb -> {
-            bomb.update();
-            return bomb.isExploded();
-        });
+        // Publier l'état de la partie pour les calculs de décision des IA
+        if (replayPlayer == null && aiManager != null && aiManager.hasAIPlayers()) {
+            aiManager.publishSnapshot(engine.snapshot());
+        }
+        profiler.mark(FramePhase.AI_SNAPSHOT);
 
-        // Vérification des conditions de victoire
-        checkWinCondition();
+        // Clignotement des bombes et décisions des IA arrivés à échéance
+        scheduler.advance();
+        profiler.mark(FramePhase.SCHEDULER);
 
-        // Mise à jour des infos
-        updatePlayerInfo();
-    }
-
-    private void cleanupPlayerTraces() {
-        // S'assurer que cette méthode retire correctement tous les anciens nœuds
+        // Mise à jour des joueurs
         for (JavaFXPlayer player : players) {
-            if (playerNodes.containsKey(player)) {
-                Node oldNode = playerNodes.get(player);
-                gameGrid.getChildren().remove(oldNode);
-
-                // Recréer et placer le nœud à la nouvelle position
-                StackPane newNode = player.createVisualRepresentation();
-                gameGrid.add(newNode, player.getGridX(), player.getGridY());
-                playerNodes.put(player, newNode);
-            }
+            player.update();
         }
+        profiler.mark(FramePhase.PLAYERS);
     }
 
-
     private void processContinuousMovement() {
-        long currentTime = System.nanoTime();
-
-        for (JavaFXPlayer player : players) {
+        for (int i = 0; i < players.size(); i++) {
+            JavaFXPlayer player = players.get(i);
             if (!player.isAlive()) continue;
 
-            // Vérifier le cooldown pour ce joueur
-            Long lastMove = lastMoveTime.get(player);
-            if (lastMove != null && (currentTime - lastMove) < MOVE_COOLDOWN) {
-                continue; // Ce joueur est encore en cooldown
-            }
-
-            boolean playerMoved = false;
+            boolean playerMoved = true;
 
             // Vérifier les touches de mouvement pressées pour ce joueur
+            // (le moteur ignore les tentatives pendant le cooldown)
             if (pressedKeys.contains(player.getUpKey())) {
-                movePlayer(player, Direction.UP);
-                playerMoved = true;
+                engine.movePlayer(i, Direction.UP);
             } else if (pressedKeys.contains(player.getDownKey())) {
-                movePlayer(player, Direction.DOWN);
-                playerMoved = true;
+                engine.movePlayer(i, Direction.DOWN);
             } else if (pressedKeys.contains(player.getLeftKey())) {
-                movePlayer(player, Direction.LEFT);
-                playerMoved = true;
+                engine.movePlayer(i, Direction.LEFT);
             } else if (pressedKeys.contains(player.getRightKey())) {
-                movePlayer(player, Direction.RIGHT);
-                playerMoved = true;
+                engine.movePlayer(i, Direction.RIGHT);
+            } else {
+                playerMoved = false;
             }
 
             if (!playerMoved && player.isMoving()) {
@@ -1193,47 +1570,34 @@ public class GameController {
                 // Mettre à jour le visuel
                 updatePlayerVisual(player);
             }
-
-            // Mettre à jour le temps du dernier mouvement
-            if (playerMoved) {
-                lastMoveTime.put(player, currentTime);
-            }
         }
     }
 
     private void updatePlayerVisual(JavaFXPlayer player) {
-        // Supprimer l'ancienne représentation
         Node playerNode = playerNodes.get(player);
-        if (playerNode != null) {
-            gameGrid.getChildren().remove(playerNode);
-            playerNodes.remove(player);
+        if (playerNode == null) {
+            // Première apparition : la représentation est créée une fois
+            playerNode = player.createVisualRepresentation();
+            playerNodes.put(player, playerNode);
+        } else {
+            // Le nœud existant est conservé : seul son sprite change
+            player.updateVisual();
         }
 
-        // Créer et ajouter la nouvelle représentation avec animation
-        StackPane newPlayerNode = player.createVisualRepresentation();
-        newPlayerNode.getStyleClass().add("player-node");
-        newPlayerNode.setUserData("player-" + player.getName());
-
-        gameGrid.add(newPlayerNode, player.getGridX(), player.getGridY());
-        playerNodes.put(player, newPlayerNode);
-    }
-
-    private void checkWinCondition() {
-        long aliveCount = players.stream().filter(JavaFXPlayer::isAlive).count();
-
-        if (aliveCount <= 1) {
-            JavaFXPlayer winner = players.stream()
-                    .filter(JavaFXPlayer::isAlive)
-                    .findFirst()
-                    .orElse(null);
-            endGame(winner);
-        }
+        // Le nœud est déplacé vers la cellule du joueur
+        boardRenderer.addEntity(BoardLayer.ACTOR, playerNode, player.getGridX(), player.getGridY());
     }
 
     /**
      * Version modifiée de endGame pour afficher l'écran de victoire
      */
     private void endGame(JavaFXPlayer winner) {
+        if (replayPlayer != null) {
+            // Un replay ne compte pas dans les statistiques : on reste sur le plateau final
+            finishReplay(winner != null ? winner.getName() + " GAGNE !" : "MATCH NUL !");
+            return;
+        }
+
         currentState = GameState.GAME_OVER;
 
         if (gameLoop != null) {
@@ -1248,7 +1612,10 @@ public class GameController {
         String message = winner != null ? winner.getName() + " GAGNE !" : "MATCH NUL !";
         gameStatusLabel.setText(message);
 
-        System.out.println("Fin de partie: " + message);
+        LOG.info("Fin de partie: {}", message);
+
+        // Enregistrer la partie pour pouvoir la revoir
+        saveReplay();
 
         // Mettre à jour les statistiques des profils
         updateProfileStats(winner);
@@ -1336,7 +1703,7 @@ public class GameController {
         // Bouton Rejouer
         Button replayButton = createVictoryButton("🔄 REJOUER", Color.web("#00AA00"));
         replayButton.setOnAction(e -> {
-            System.out.println("🔄 Relancement de la partie...");
+            LOG.info("🔄 Relancement de la partie...");
             // Relancer la même partie avec les mêmes paramètres
             restartGame();
         });
@@ -1344,12 +1711,23 @@ public class GameController {
         // Bouton Retour au menu
         Button menuButton = createVictoryButton("🏠 MENU PRINCIPAL", Color.web("#0088FF"));
         menuButton.setOnAction(e -> {
-            System.out.println("🏠 Retour au menu principal");
+            LOG.info("🏠 Retour au menu principal");
             application.showMenu();
         });
 
         buttonContainer.getChildren().addAll(replayButton, menuButton);
 
+        // Bouton Revoir la partie qui vient de se terminer
+        if (lastReplay != null) {
+            Replay replay = lastReplay;
+            Button watchButton = createVictoryButton("🎬 REVOIR", Color.web("#AA00AA"));
+            watchButton.setOnAction(e -> {
+                LOG.info("🎬 Relecture de la partie");
+                application.showReplay(replay);
+            });
+            buttonContainer.getChildren().add(watchButton);
+        }
+
         // Assemblage final
         mainContainer.getChildren().addAll(titleLabel, winnerContainer, buttonContainer);
         victoryRoot.getChildren().add(mainContainer);
@@ -1362,7 +1740,7 @@ public class GameController {
         // Animation d'apparition (optionnel)
         startVictoryAnimation(titleLabel, winnerContainer);
 
-        System.out.println("🎉 Écran de victoire affiché pour: " + (winner != null ? winner.getName() : "Match nul"));
+        LOG.info("🎉 Écran de victoire affiché pour: {}", winner != null ? winner.getName() : "Match nul");
     }
 
     /**
@@ -1474,11 +1852,10 @@ public class GameController {
             // Réinitialiser le jeu avec les mêmes profils
             initializeGameWithProfiles(playerCount, profiles);
 
-            System.out.println("✅ Partie relancée avec " + playerCount + " joueurs !");
+            LOG.info("✅ Partie relancée avec {} joueurs !", playerCount);
 
         } catch (Exception e) {
-            System.err.println("❌ Erreur lors du redémarrage: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("❌ Erreur lors du redémarrage", e);
             // En cas d'erreur, retourner au menu
             application.showMenu();
         }
@@ -1501,53 +1878,48 @@ public class GameController {
         pressedKeys.add(key);
 
         // Debug
-        System.out.println("Touche pressée: " + key);
+        LOG.trace("Touche pressée: {}", key);
 
         // Gestion des touches spéciales
         if (key == KeyCode.ESCAPE) {
             pauseGame();
             return;
         }
+        if (key == KeyCode.F3) {
+            toggleProfiler();
+            return;
+        }
+        if (replayPlayer != null) {
+            // Pendant un replay, le clavier ne règle que la vitesse de lecture
+            handleReplayKey(key);
+            return;
+        }
 
         // Traitement immédiat pour chaque joueur (mouvement simultané possible)
-        for (JavaFXPlayer player : players) {
+        // Le moteur applique le cooldown de déplacement de chaque joueur
+        for (int i = 0; i < players.size(); i++) {
+            JavaFXPlayer player = players.get(i);
             if (!player.isAlive()) continue;
 
-            // Vérifier le cooldown pour ce joueur spécifique
-            long currentTime = System.nanoTime();
-            Long lastMove = lastMoveTime.get(player);
-            if (lastMove != null && (currentTime - lastMove) < MOVE_COOLDOWN) {
-                continue; // Ce joueur est encore en cooldown
-            }
-
-            boolean playerMoved = false;
-
             if (key == player.getUpKey()) {
-                System.out.println(player.getName() + " - UP");
-                movePlayer(player, Direction.UP);
-                playerMoved = true;
+                LOG.trace("{} - UP", player.getName());
+                engine.movePlayer(i, Direction.UP);
             } else if (key == player.getDownKey()) {
-                System.out.println(player.getName() + " - DOWN");
-                movePlayer(player, Direction.DOWN);
-                playerMoved = true;
+                LOG.trace("{} - DOWN", player.getName());
+                engine.movePlayer(i, Direction.DOWN);
             } else if (key == player.getLeftKey()) {
-                System.out.println(player.getName() + " - LEFT");
-                movePlayer(player, Direction.LEFT);
-                playerMoved = true;
+                LOG.trace("{} - LEFT", player.getName());
+                engine.movePlayer(i, Direction.LEFT);
             } else if (key == player.getRightKey()) {
-                System.out.println(player.getName() + " - RIGHT");
-                movePlayer(player, Direction.RIGHT);
-                playerMoved = true;
+                LOG.trace("{} - RIGHT", player.getName());
+                engine.movePlayer(i, Direction.RIGHT);
             } else if (key == player.getBombKey()) {
-                System.out.println(player.getName() + " - BOMB");
-                placeBomb(player);
+                LOG.trace("{} - BOMB", player.getName());
+                if (!engine.placeBomb(i)) {
+                    LOG.debug("❌ {} ne peut pas placer de bombe", player.getName());
+                }
                 // Pas de cooldown pour les bombes
             }
-
-            // Mettre à jour le temps du dernier mouvement pour ce joueur
-            if (playerMoved) {
-                lastMoveTime.put(player, currentTime);
-            }
         }
     }
     /**
@@ -1563,420 +1935,27 @@ public class GameController {
         pressedKeys.remove(event.getCode());
     }
 
-    private void movePlayer(JavaFXPlayer player, Direction direction) {
-        // Vérifier si le joueur est en vie
-        if (!player.isAlive()) {
-            return;
-        }
-
-        // Sauvegarder l'ancienne position
-        int oldX = player.getGridX();
-        int oldY = player.getGridY();
-
-        // Calculer la nouvelle position en fonction de la direction
-        int newX = oldX;
-        int newY = oldY;
-
-        switch (direction) {
-            case UP:
-                newY = oldY - 1;
-                break;
-            case DOWN:
-                newY = oldY + 1;
-                break;
-            case LEFT:
-                newX = oldX - 1;
-                break;
-            case RIGHT:
-                newX = oldX + 1;
-                break;
-        }
-
-        // Vérifier si la nouvelle position est valide
-        if (!isValidPosition(newX, newY)) {
-            return;
-        }
-
-        // Vérifier s'il y a un obstacle à la nouvelle position
-        int cellType = gameMap.getCell(newX, newY);
-        if (cellType == 1 || cellType == 2) {  // 1 = WALL, 2 = DESTRUCTIBLE
-            return;
-        }
-
-        // Vérifier si un autre joueur occupe déjà cette position
-        if (isOccupiedByPlayer(newX, newY, player)) {
-            return;
-        }
-
-        // Si tout est OK, déplacer le joueur
-
-        // 1. Supprimer seulement le nœud du joueur actuel de l'ancienne position
-        if (playerNodes.containsKey(player)) {
-            Node oldNode = playerNodes.get(player);
-            gameGrid.getChildren().remove(oldNode);
-            playerNodes.remove(player);
-        }
-
-        // 2. Mettre à jour la position interne du joueur
-        player.setGridPosition(newX, newY);
-        player.move(direction);
-
-        // 3. Créer une nouvelle représentation visuelle à la nouvelle position
-        StackPane newNode = player.createVisualRepresentation();
-        gameGrid.add(newNode, newX, newY);
-        playerNodes.put(player, newNode);
-
-        // 4. Vérifier si le joueur a collecté un power-up
-        checkPowerUpCollection();
-
-        // 5. Restaurer visuellement la cellule de base à l'ancienne position
-        restoreBaseCell(oldX, oldY);
-    }
-
     private void removePlayerFromPosition(JavaFXPlayer player) {
-        // S'assurer que cette méthode retire correctement le nœud du joueur
-        if (playerNodes.containsKey(player)) {
-            Node node = playerNodes.get(player);
-            gameGrid.getChildren().remove(node);
-            playerNodes.remove(player);
+        // Le nœud quitte le plateau mais reste associé au joueur : il est replacé à la réapparition
+        Node node = playerNodes.get(player);
+        if (node != null) {
+            boardRenderer.removeEntity(node);
         }
-
-        // Restaurer la cellule de base à l'ancienne position
-        restoreBaseCell(player.getGridX(), player.getGridY());
-    }
-    /**
-     * Restaure une cellule de la grille à son état de base.
-     * <p>
-     * Cette méthode est appelée après qu'un power-up a été collecté
-     * pour restaurer la cellule à son apparence normale.
-     * </p>
-     *
-     * @param x Coordonnée X de la cellule
-     * @param y Coordonnée Y de la cellule
-     */
-    private void restoreBaseCell(int x, int y) {
-        // Vérifier qu'il n'y a pas d'autres éléments importants à cette position
-        boolean hasOtherElements = players.stream()
-                .anyMatch(p -> p.getGridX() == x && p.getGridY() == y) ||
-                bombs.stream()
-                        .anyMatch(b -> b.getGridX() == x && b.getGridY() == y) ||
-                powerUps.stream()
-                        .anyMatch(p -> p.getGridX() == x && p.getGridY() == y && !p.isCollected());
-
-        if (!hasOtherElements) {
-            int[][] map = gameMap.getGameMap();
-            if (y >= 0 && y < map.length && x >= 0 && x < map[0].length) {
-                StackPane baseCell = createCellForType(map[y][x]);
-                if (baseCell != null) {
-                    gameGrid.add(baseCell, x, y);
-                }
-            }
-        }
-    }
-
-    private boolean isValidPosition(int x, int y) {
-        if (x < 0 || x >= GRID_WIDTH || y < 0 || y >= GRID_HEIGHT) {
-            return false;
-        }
-
-        int[][] map = gameMap.getGameMap();
-        int cellType = map[y][x];
-        return cellType == 0 || cellType == 3; // EMPTY ou SPAWN_ZONE
-    }
-
-    private boolean isOccupiedByPlayer(int x, int y, JavaFXPlayer currentPlayer) {
-        return players.stream()
-                .filter(p -> p != currentPlayer && p.isAlive())
-                .anyMatch(p -> p.getGridX() == x && p.getGridY() == y);
-    }
-
-    private void placeBomb(JavaFXPlayer player) {
-        System.out.println("🔍 " + player.getName() + " tente de placer une bombe...");
-        System.out.println("🔍 Mode actuel du joueur: " + player.getGameMode().getDisplayName());
-        System.out.println("🔍 Inventaire du joueur: " + player.getBombInventory());
-
-        if (!player.canPlaceBomb()) {
-            System.out.println("❌ " + player.getName() + " ne peut pas placer de bombe");
-            return;
-        }
-
-        int bombX = player.getGridX();
-        int bombY = player.getGridY();
-
-        JavaFXBomb bomb = new JavaFXBomb(player, bombX, bombY, player.getBombPower());
-        bombs.add(bomb);
-
-        // IMPORTANT: Appeler placeBomb() APRÈS avoir créé la bombe pour la logique d'inventaire
-        player.placeBomb();
-
-        // Ajout visuel de la bombe
-        StackPane bombNode = bomb.createVisualRepresentation();
-        bombNode.getStyleClass().add("bomb-node");
-        bombNode.setUserData("bomb-" + System.currentTimeMillis());
-
-        gameGrid.add(bombNode, bombX, bombY);
-        bombNodes.put(bomb, bombNode);
-
-        // Démarrage du timer de la bombe
-        bomb.startCountdown(() -> explodeBomb(bomb));
-
-        System.out.println("✅ " + player.getName() + " a placé une bombe en (" + bombX + ", " + bombY + ")");
-        System.out.println("🔍 Inventaire après placement: " + player.getBombInventory());
-    }
-
-    private void explodeBomb(JavaFXBomb bomb) {
-        System.out.println("Explosion de la bombe en (" + bomb.getGridX() + ", " + bomb.getGridY() + ")");
-
-        // Supprimer la bombe de la liste ET de la grille AVANT de traiter les dégâts
-        removeBombFromPosition(bomb);
-        bombs.remove(bomb);
-
-        // Création de l'explosion (qui va endommager les joueurs)
-        createExplosion(bomb.getGridX(), bomb.getGridY(), bomb.getPower());
-
-        // Le joueur peut replacer une bombe
-        bomb.getOwner().bombExploded();
     }
 
     private void removeBombFromPosition(JavaFXBomb bomb) {
-        Node bombNode = bombNodes.get(bomb);
+        StackPane bombNode = bombNodes.remove(bomb);
         if (bombNode != null) {
-            gameGrid.getChildren().remove(bombNode);
-            bombNodes.remove(bomb);
-        }
-    }
-
-    private void createExplosion(int centerX, int centerY, int power) {
-        System.out.println("Création d'explosion au centre (" + centerX + ", " + centerY +
-                ") avec puissance " + power);
-
-        // Explosion au centre
-        createExplosionEffect(centerX, centerY, true); // Centre = true
-        damageAtPosition(centerX, centerY);
-
-        // Explosion dans les 4 directions
-        Direction[] directions = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
-
-        for (Direction dir : directions) {
-            for (int i = 1; i <= power; i++) {
-                int x = centerX;
-                int y = centerY;
-
-                switch (dir) {
-                    case LEFT -> x -= i;
-                    case RIGHT -> x += i;
-                    case UP -> y -= i;
-                    case DOWN -> y += i;
-                }
-
-                // Vérification des limites
-                if (x < 0 || x >= GRID_WIDTH || y < 0 || y >= GRID_HEIGHT) {
-                    break;
-                }
-
-                int[][] map = gameMap.getGameMap();
-                int cellType = map[y][x];
-
-                // Mur indestructible arrête l'explosion
-                if (cellType == 1) {
-                    break;
-                }
-
-                // Créer l'effet visuel d'explosion
-                boolean isLastCell = (i == power); // Dernière cellule de cette direction
-                createExplosionEffect(x, y, false, dir, isLastCell);
-
-                // Dommages à cette position
-                damageAtPosition(x, y);
-
-                // Mur destructible arrête l'explosion après destruction
-                if (cellType == 2) {
-                    destroyWall(x, y);
-                    break;
-                }
-            }
-        }
-    }
-
-    private void damageAtPosition(int x, int y) {
-        players.stream()
-                .filter(p -> p.isAlive() && p.getGridX() == x && p.getGridY() == y)
-                .forEach(player -> {
-                    System.out.println(player.getName() + " subit des dégâts !");
-                    damagePlayer(player);
-                });
-    }
-
-    private void damagePlayer(JavaFXPlayer player) {
-        // Supprimer le joueur de sa position actuelle
-        removePlayerFromPosition(player);
-
-        // Restaurer la cellule de base à l'ancienne position
-        restoreBaseCell(player.getGridX(), player.getGridY());
-
-        // Le joueur subit des dégâts
-        player.takeDamage();
-
-        if (!player.isAlive()) {
-            System.out.println(player.getName() + " est éliminé !");
-            // Ne pas remettre le joueur sur la grille s'il est mort
-        } else {
-            System.out.println(player.getName() + " perd une vie ! Retour au spawn.");
-            // Remettre le joueur à son spawn
-            respawnPlayer(player);
+            boardRenderer.releaseEntity(bombPool, bombNode);
         }
     }
 
-    private void respawnPlayer(JavaFXPlayer player) {
-        // Supprimer d'abord le nœud existant s'il existe
-        if (playerNodes.containsKey(player)) {
-            Node oldNode = playerNodes.get(player);
-            gameGrid.getChildren().remove(oldNode);
-            playerNodes.remove(player);
-        }
-
-        // Puis définir la nouvelle position
-        player.setGridPosition(player.getSpawnX(), player.getSpawnY());
-
-        // Enfin, créer et ajouter le nouveau nœud
-        StackPane newNode = player.createVisualRepresentation();
-        gameGrid.add(newNode, player.getGridX(), player.getGridY());
-        playerNodes.put(player, newNode);
-    }
-
-    private boolean isPositionSafeForRespawn(int x, int y, JavaFXPlayer playerToRespawn) {
-        // Vérifier que la position est valide
-        if (!isValidPosition(x, y)) {
-            return false;
-        }
-
-        // Vérifier qu'il n'y a pas d'autre joueur (en excluant le joueur à respawn)
-        boolean occupiedByOtherPlayer = players.stream()
-                .filter(p -> p != playerToRespawn && p.isAlive())
-                .anyMatch(p -> p.getGridX() == x && p.getGridY() == y);
-
-        if (occupiedByOtherPlayer) {
-            System.out.println("Position (" + x + ", " + y + ") occupée par un autre joueur");
-            return false;
-        }
-
-        // Vérifier qu'il n'y a pas de bombe
-        boolean hasBomb = bombs.stream()
-                .anyMatch(bomb -> bomb.getGridX() == x && bomb.getGridY() == y);
-
-        if (hasBomb) {
-            System.out.println("Position (" + x + ", " + y + ") contient une bombe");
-            return false;
-        }
-
-        System.out.println("Position (" + x + ", " + y + ") est sûre pour " + playerToRespawn.getName());
-        return true;
-    }
-
-    private void respawnPlayerToSafePosition(JavaFXPlayer player) {
-        int originalSpawnX = player.getSpawnX();
-        int originalSpawnY = player.getSpawnY();
-
-        // Essayer d'abord le spawn exact même s'il semble occupé (cas des bombes qui viennent d'exploser)
-        System.out.println("🔍 Vérification alternative du spawn exact pour " + player.getName());
-
-        // Double vérification : il se peut que la bombe ait été supprimée entre temps
-        if (isPositionSafeForRespawn(originalSpawnX, originalSpawnY, player)) {
-            // Finalement le spawn est libre !
-            player.setGridPosition(originalSpawnX, originalSpawnY);
-
-            StackPane newPlayerNode = player.createVisualRepresentation();
-            newPlayerNode.getStyleClass().add("player-node");
-            newPlayerNode.setUserData("player-" + player.getName());
-
-            gameGrid.add(newPlayerNode, originalSpawnX, originalSpawnY);
-            playerNodes.put(player, newPlayerNode);
-
-            System.out.println("✅ " + player.getName() + " respawn finalement au spawn exact (" + originalSpawnX + ", " + originalSpawnY + ")");
-            return;
-        }
-
-        // Chercher une position sûre autour du spawn original
-        int[] dx = {1, -1, 0, 0, 1, 1, -1, -1}; // Positions à tester (sans 0,0 car déjà testé)
-        int[] dy = {0, 0, 1, -1, 1, -1, 1, -1};
-
-        for (int i = 0; i < dx.length; i++) {
-            int testX = originalSpawnX + dx[i];
-            int testY = originalSpawnY + dy[i];
-
-            if (isPositionSafeForRespawn(testX, testY, player)) {
-                // Position sûre trouvée
-                player.setGridPosition(testX, testY);
-
-                StackPane newPlayerNode = player.createVisualRepresentation();
-                newPlayerNode.getStyleClass().add("player-node");
-                newPlayerNode.setUserData("player-" + player.getName());
-
-                gameGrid.add(newPlayerNode, testX, testY);
-                playerNodes.put(player, newPlayerNode);
-
-                System.out.println("⚠️ " + player.getName() + " respawn à une position proche (" + testX + ", " + testY + ")");
-                return;
-            }
-        }
-
-        // Si vraiment aucune position n'est trouvée, forcer le respawn au spawn (ignorer les obstacles)
-        System.out.println("🚨 Respawn forcé au spawn original pour " + player.getName());
-        forceRespawnAtSpawn(player);
-    }
-
-    private void forceRespawnAtSpawn(JavaFXPlayer player) {
-        int spawnX = player.getSpawnX();
-        int spawnY = player.getSpawnY();
-
-        // Nettoyer complètement la position du spawn de tout élément
-        cleanPositionCompletely(spawnX, spawnY);
-
-        // Forcer le placement du joueur
-        player.setGridPosition(spawnX, spawnY);
-
-        StackPane newPlayerNode = player.createVisualRepresentation();
-        newPlayerNode.getStyleClass().add("player-node");
-        newPlayerNode.setUserData("player-" + player.getName());
-
-        gameGrid.add(newPlayerNode, spawnX, spawnY);
-        playerNodes.put(player, newPlayerNode);
-
-        // Restaurer la cellule de base par dessus
-        restoreBaseCell(spawnX, spawnY);
-
-        System.out.println("🔧 " + player.getName() + " respawn forcé au spawn (" + spawnX + ", " + spawnY + ")");
-    }
-
-    private void cleanPositionCompletely(int x, int y) {
-        // Supprimer tous les éléments à cette position
-        gameGrid.getChildren().removeIf(node -> {
-            Integer colIndex = GridPane.getColumnIndex(node);
-            Integer rowIndex = GridPane.getRowIndex(node);
-            int col = (colIndex != null) ? colIndex : 0;
-            int row = (rowIndex != null) ? rowIndex : 0;
-            return col == x && row == y;
-        });
-    }
-
     private void destroyWall(int x, int y) {
-        System.out.println("Destruction du mur en (" + x + ", " + y + ")");
-
-        // Mise à jour de la carte
-        gameMap.setCell(x, y, 0); // EMPTY
-
-        // Suppression visuelle de l'ancien mur et ajout de la cellule vide
-        gameGrid.getChildren().removeIf(node -> {
-            Integer colIndex = GridPane.getColumnIndex(node);
-            Integer rowIndex = GridPane.getRowIndex(node);
-            int col = (colIndex != null) ? colIndex : 0;
-            int row = (rowIndex != null) ? rowIndex : 0;
-            return col == x && row == y;
-        });
+        LOG.debug("Destruction du mur en ({}, {})", x, y);
 
-        // Ajout de la nouvelle cellule vide
-        StackPane emptyCell = gameMap.createRetroEmptyCell();
-        gameGrid.add(emptyCell, x, y);
+        // La carte logique a déjà été mise à jour par le moteur
+        // Remplacement visuel de l'ancien mur par la cellule vide
+        boardRenderer.updateCell(x, y, engine.getCell(x, y));
     }
 
     public void pauseGame() {
@@ -1986,279 +1965,161 @@ public class GameController {
             if (gameLoop != null) {
                 gameLoop.stop();
             }
-            System.out.println("Jeu mis en pause");
+            LOG.info("Jeu mis en pause");
         } else if (currentState == GameState.PAUSED) {
             currentState = GameState.PLAYING;
-            gameStatusLabel.setText("EN JEU");
-            startGame();
-            System.out.println("Jeu repris");
+            showPlayingStatus();
+            startGameLoop();
+            LOG.info("Jeu repris");
         }
     }
 
     private void handleBackToMenu() {
-        System.out.println("Retour au menu demandé");
+        LOG.info("Retour au menu demandé");
+        // Une partie interrompue est enregistrée aussi (reproduction d'un bug)
+        saveReplay();
         cleanupGame();
         application.showMenu();
     }
 
-    public class SpriteCache {
-        private static final Map<String, Image[]> cache = new HashMap<>();
+    // ===== REPLAYS =====
 
-        public static Image[] getSprites(String color) {
-            if (!cache.containsKey(color)) {
-                loadSprites(color);
-            }
-            return cache.get(color);
-        }
-
-        private static void loadSprites(String color) {
-            Image[] sprites = new Image[8];
-            String[] paths = { /* vos chemins */ };
-
-            try {
-                for (int i = 0; i < paths.length; i++) {
-                    String path = "/com/example/bombermansae201/Personnage/Bleu/" + color + "/" + paths[i];
-                    sprites[i] = new Image(SpriteCache.class.getResourceAsStream(path));
-                }
-                cache.put(color, sprites);
-            } catch (Exception e) {
-                System.err.println("Erreur de chargement des sprites: " + e.getMessage());
-                cache.put(color, null);
-            }
-        }
+    /**
+     * Branche un nouvel enregistreur sur le moteur, avant son démarrage.
+     */
+    private void startRecording() {
+        replayPlayer = null;
+        replayRecorder = new ReplayRecorder();
+        engine.setRecorder(replayRecorder);
     }
 
-    // ===== SYSTÈME D'EFFETS D'EXPLOSION =====
-
-    private void loadExplosionSprites() {
-        try {
-            // Charger les sprites d'explosion depuis vos ressources
-            String flameStartPath = "/com/example/bombermansae201/Bombe/Debut_flamme.png";
-            String flameEndPath = "/com/example/bombermansae201/Bombe/Fin_flamme.png";
-            String flameCenterPath = "/com/example/bombermansae201/Bombe/Milieu_flamme.png";
-
-            flameStartImage = new javafx.scene.image.Image(getClass().getResourceAsStream(flameStartPath));
-            flameEndImage = new javafx.scene.image.Image(getClass().getResourceAsStream(flameEndPath));
-
-            try {
-                flameCenterImage = new javafx.scene.image.Image(getClass().getResourceAsStream(flameCenterPath));
-            } catch (Exception e) {
-                flameCenterImage = flameStartImage;
-            }
+    /**
+     * Enregistre la partie en cours dans le répertoire des replays ; l'enregistrement
+     * s'arrête ensuite.
+     */
+    private void saveReplay() {
+        if (replayRecorder == null || engine == null || !engine.isStarted()) return;
 
-            System.out.println("✅ Sprites d'explosion chargés avec succès");
+        lastReplay = replayRecorder.finish(engine);
+        replayRecorder = null;
 
-        } catch (Exception e) {
-            System.err.println("❌ Erreur lors du chargement des sprites d'explosion: " + e.getMessage());
-            flameStartImage = null;
-            flameEndImage = null;
-            flameCenterImage = null;
+        Path file = REPLAY_DIRECTORY.resolve("replay-" +
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + Replay.FILE_EXTENSION);
+        try {
+            Files.createDirectories(REPLAY_DIRECTORY);
+            long size = lastReplay.write(file);
+            LOG.info("🎬 Replay enregistré dans {} ({} commandes, {} octets)",
+                    file.toAbsolutePath(), lastReplay.getCommandCount(), size);
+        } catch (IOException e) {
+            LOG.error("❌ Enregistrement du replay impossible: {}", e.getMessage());
         }
     }
 
-    private static class ExplosionEffect {
-        int x, y;
-        long startTime;
-        boolean isCenter;
-        Direction direction;
-        boolean isEnd;
-        StackPane effectNode;
-
-        ExplosionEffect(int x, int y, long startTime, boolean isCenter, Direction direction, boolean isEnd, StackPane effectNode) {
-            this.x = x;
-            this.y = y;
-            this.startTime = startTime;
-            this.isCenter = isCenter;
-            this.direction = direction;
-            this.isEnd = isEnd;
-            this.effectNode = effectNode;
+    /**
+     * Change la vitesse de lecture du replay en cours.
+     *
+     * @param key Touche pressée
+     */
+    private void handleReplayKey(KeyCode key) {
+        ReplaySpeed speed = switch (key) {
+            case ADD, PLUS, EQUALS, PAGE_UP -> replaySpeed.faster();
+            case SUBTRACT, MINUS, PAGE_DOWN -> replaySpeed.slower();
+            default -> replaySpeed;
+        };
+        if (speed != replaySpeed) {
+            replaySpeed = speed;
+            showPlayingStatus();
+            LOG.info("🎬 Vitesse du replay: {}", speed.getDisplayName());
         }
     }
 
-    private void createExplosionEffect(int x, int y, boolean isCenter) {
-        createExplosionEffect(x, y, isCenter, null, false);
-    }
-
-    private void createExplosionEffect(int x, int y, boolean isCenter, Direction direction, boolean isEnd) {
-        StackPane explosionNode = new StackPane();
-        explosionNode.setPrefSize(40, 40);
-        explosionNode.setAlignment(javafx.geometry.Pos.CENTER);
-
-        if (flameStartImage != null && flameEndImage != null) {
-            createSpriteExplosionEffect(explosionNode, isCenter, direction, isEnd);
-        } else {
-            createGeometricExplosionEffect(explosionNode, isCenter, direction, isEnd);
+    /**
+     * Arrête la relecture sur l'état final du plateau.
+     *
+     * @param message Message affiché dans le statut
+     */
+    private void finishReplay(String message) {
+        currentState = GameState.GAME_OVER;
+        if (gameLoop != null) {
+            gameLoop.stop();
         }
+        syncPlayersFromEngine();
+        gameStatusLabel.setText(message);
 
-        gameGrid.add(explosionNode, x, y);
-
-        ExplosionEffect effect = new ExplosionEffect(x, y, System.nanoTime(), isCenter, direction, isEnd, explosionNode);
-        explosionEffects.add(effect);
-
-        System.out.println("💥 Effet d'explosion créé en (" + x + ", " + y + ")" +
-                (isCenter ? " [CENTRE]" : " [RAYON " + direction + (isEnd ? " - FIN]" : " - MILIEU]")));
+        LOG.info("🎬 Fin du replay au tick {}: {} (état {})", engine.getTick(), message,
+                replayPlayer.matchesRecording() ? "identique à la partie enregistrée" : "DIFFÉRENT de la partie enregistrée");
     }
 
-    private void createSpriteExplosionEffect(StackPane container, boolean isCenter, Direction direction, boolean isEnd) {
-        javafx.scene.image.ImageView flameView;
+    // ===== SYSTÈME D'EFFETS D'EXPLOSION =====
 
-        if (isCenter) {
-            flameView = new javafx.scene.image.ImageView(flameCenterImage);
-        } else if (isEnd) {
-            flameView = new javafx.scene.image.ImageView(flameEndImage);
-        } else {
-            flameView = new javafx.scene.image.ImageView(flameStartImage);
+    private void loadExplosionSprites() {
+        // Les images sont décodées une seule fois par le cache partagé
+        flameStartImage = SpriteCache.getImage(SpriteCache.FLAME_START);
+        flameEndImage = SpriteCache.getImage(SpriteCache.FLAME_END);
+        flameCenterImage = SpriteCache.getImage(SpriteCache.FLAME_CENTER);
+        if (flameCenterImage == null) {
+            flameCenterImage = flameStartImage;
         }
 
-        flameView.setFitWidth(35);
-        flameView.setFitHeight(35);
-        flameView.setPreserveRatio(true);
-        flameView.setSmooth(true);
-
-        if (direction != null) {
-            switch (direction) {
-                case UP -> flameView.setRotate(270);
-                case DOWN -> flameView.setRotate(90);
-                case LEFT -> flameView.setRotate(180);
-                case RIGHT -> flameView.setRotate(0);
-            }
+        // Les images du cache ne changent pas d'une partie à l'autre : la réserve est conservée
+        if (flamePool == null) {
+            Image start = flameStartImage;
+            Image end = flameEndImage;
+            Image center = flameCenterImage;
+            flamePool = new NodePool<>(() -> new FlameView(start, end, center), GRID_WIDTH * GRID_HEIGHT);
         }
-
-        StackPane.setAlignment(flameView, javafx.geometry.Pos.CENTER);
-
-        javafx.scene.effect.Glow glow = new javafx.scene.effect.Glow();
-        glow.setLevel(isCenter ? 0.8 : 0.5);
-
-        javafx.scene.effect.DropShadow shadow = new javafx.scene.effect.DropShadow();
-        shadow.setColor(javafx.scene.paint.Color.BLACK);
-        shadow.setRadius(3);
-        shadow.setOffsetX(1);
-        shadow.setOffsetY(1);
-
-        javafx.scene.effect.Blend blend = new javafx.scene.effect.Blend();
-        blend.setTopInput(glow);
-        blend.setBottomInput(shadow);
-        flameView.setEffect(blend);
-
-        container.getChildren().add(flameView);
     }
 
-    private void createGeometricExplosionEffect(StackPane container, boolean isCenter, Direction direction, boolean isEnd) {
-        if (isCenter) {
-            Circle centerExplosion = new Circle(18);
-            centerExplosion.setFill(Color.ORANGE);
-            centerExplosion.setStroke(Color.RED);
-            centerExplosion.setStrokeWidth(3);
-
-            Glow glow = new Glow();
-            glow.setLevel(0.9);
-            centerExplosion.setEffect(glow);
-
-            container.getChildren().add(centerExplosion);
-
-        } else {
-            if (direction == Direction.LEFT || direction == Direction.RIGHT) {
-                Rectangle ray = new Rectangle(40, 20);
-                ray.setFill(Color.YELLOW);
-                ray.setStroke(Color.ORANGE);
-                ray.setStrokeWidth(2);
-
-                if (isEnd) {
-                    ray.setWidth(30);
-                    ray.setFill(Color.LIGHTYELLOW);
-                }
-
-                container.getChildren().add(ray);
-
-            } else {
-                Rectangle ray = new Rectangle(20, 40);
-                ray.setFill(Color.YELLOW);
-                ray.setStroke(Color.ORANGE);
-                ray.setStrokeWidth(2);
-
-                if (isEnd) {
-                    ray.setHeight(30);
-                    ray.setFill(Color.LIGHTYELLOW);
-                }
+    /**
+     * Affiche une flamme produite par le moteur.
+     * <p>
+     * Le nœud est pris dans la réserve des flammes : pendant une explosion, aucun
+     * nœud ni effet n'est créé une fois la réserve remplie.
+     * </p>
+     *
+     * @param flame Cellule enflammée (centre ou rayon)
+     */
+    private void createExplosionEffect(SimFlame flame) {
+        boolean isCenter = flame.isCenter();
+        Direction direction = flame.getDirection();
+        boolean isEnd = flame.isEnd();
 
-                container.getChildren().add(ray);
-            }
+        FlameView explosionNode = boardRenderer.acquireEntity(flamePool, BoardLayer.FX, flame.getX(), flame.getY());
+        explosionNode.show(isCenter, direction, isEnd);
+        explosionNodes.put(flame, explosionNode);
 
-            Glow rayGlow = new Glow();
-            rayGlow.setLevel(0.6);
-            container.setEffect(rayGlow);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("💥 Effet d'explosion créé en ({}, {}){}", flame.getX(), flame.getY(),
+                    isCenter ? " [CENTRE]" : " [RAYON " + direction + (isEnd ? " - FIN]" : " - MILIEU]"));
         }
     }
 
-    private void updateExplosionEffects() {
-        long currentTime = System.nanoTime();
-
-        explosionEffects.removeIf(effect -> {
-            if (currentTime - effect.startTime >= EXPLOSION_EFFECT_DURATION) {
-                gameGrid.getChildren().remove(effect.effectNode);
-                restoreBaseCell(effect.x, effect.y);
-                return true;
-            }
-            return false;
-        });
+    /**
+     * Retire une flamme expirée et rend son nœud à la réserve ; la cellule en dessous
+     * réapparaît d'elle-même.
+     *
+     * @param flame Cellule enflammée
+     */
+    private void removeExplosionEffect(SimFlame flame) {
+        FlameView explosionNode = explosionNodes.remove(flame);
+        if (explosionNode != null) {
+            boardRenderer.releaseEntity(flamePool, explosionNode);
+        }
     }
+
     /**
      * Rafraîchit l'affichage de la map avec le thème actuel
      * sans modifier les autres éléments (joueurs, bombes, power-ups)
      */
     public void refreshMapDisplay() {
-        if (gameGrid == null || gameMap == null) return;
-
-        System.out.println("🔄 Rafraîchissement de l'affichage de la map avec le thème: " + BombermanMap.getCurrentTheme());
+        if (boardRenderer == null || gameMap == null || engine == null) return;
 
-        // Sauvegarder les éléments dynamiques (joueurs, bombes, power-ups)
-        Map<JavaFXPlayer, Node> savedPlayerNodes = new HashMap<>(playerNodes);
-        Map<JavaFXBomb, Node> savedBombNodes = new HashMap<>(bombNodes);
-        Map<PowerUp, Node> savedPowerUpNodes = new HashMap<>(powerUpNodes);
+        LOG.info("🔄 Rafraîchissement de l'affichage de la map avec le thème: {}", BombermanMap.getCurrentTheme());
 
-        // Nettoyer la grille
-        gameGrid.getChildren().clear();
-
-        // Reconstruire la map avec le nouveau thème
-        int[][] map = gameMap.getGameMap();
-        for (int row = 0; row < GRID_HEIGHT; row++) {
-            for (int col = 0; col < GRID_WIDTH; col++) {
-                StackPane cell = createCellForType(map[row][col]);
-                if (cell != null) {
-                    gameGrid.add(cell, col, row);
-                }
-            }
-        }
-
-        // Réajouter les joueurs
-        savedPlayerNodes.forEach((player, node) -> {
-            if (player.isAlive()) { // Ne réafficher que les joueurs vivants
-                StackPane playerNode = player.createVisualRepresentation();
-                playerNode.getStyleClass().add("player-node");
-                playerNode.setUserData("player-" + player.getName());
-                gameGrid.add(playerNode, player.getGridX(), player.getGridY());
-                playerNodes.put(player, playerNode);
-            }
-        });
-
-        // Réajouter les bombes
-        savedBombNodes.forEach((bomb, node) -> {
-            StackPane bombNode = bomb.createVisualRepresentation();
-            bombNode.getStyleClass().add("bomb-node");
-            bombNode.setUserData("bomb-" + System.currentTimeMillis());
-            gameGrid.add(bombNode, bomb.getGridX(), bomb.getGridY());
-            bombNodes.put(bomb, bombNode);
-        });
-
-        // Réajouter les power-ups non collectés
-        savedPowerUpNodes.forEach((powerUp, node) -> {
-            if (!powerUp.isCollected()) {
-                StackPane powerUpNode = powerUp.createVisualRepresentation();
-                gameGrid.add(powerUpNode, powerUp.getGridX(), powerUp.getGridY());
-                powerUpNodes.put(powerUp, powerUpNode);
-            }
-        });
+        // Les tuiles sont redessinées dans les nœuds existants du plateau ; les joueurs,
+        // bombes et power-ups ne dépendent pas du thème et restent en place
+        boardRenderer.drawBoard(gameMap, engine::getCell);
 
-        System.out.println("✅ Affichage de la map rafraîchi avec succès");
+        LOG.info("✅ Affichage de la map rafraîchi avec succès");
     }
 }
\ No newline at end of file
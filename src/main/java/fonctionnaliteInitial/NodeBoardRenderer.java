@@ -0,0 +1,99 @@
+package fonctionnaliteInitial;
+
+import Etat.BoardLayer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Rendu d'origine du plateau : chaque cellule est un ensemble de nœuds de la scène.
+ * <p>
+ * Les cellules sont des {@link ImageView} découpées dans l'atlas de tuiles de
+ * {@link BombermanMap} plutôt que des formes vectorielles avec effets. Elles sont
+ * créées une seule fois par {@link CellLayers} : dessiner le plateau ou détruire un
+ * mur ne fait que changer l'image et la visibilité des couches sol et bloc.
+ * </p>
+ */
+public class NodeBoardRenderer implements BoardRenderer {
+
+    private final int width;
+    private final int height;
+
+    private final CellLayers layers;
+    private final GridPane grid;
+    private BombermanMap tiles;
+
+    /**
+     * Crée un renderer à nœuds.
+     *
+     * @param width Largeur du plateau en cellules
+     * @param height Hauteur du plateau en cellules
+     */
+    public NodeBoardRenderer(int width, int height) {
+        this.width = width;
+        this.height = height;
+
+        layers = new CellLayers(width, height, true);
+        grid = layers.getGrid();
+        grid.setAlignment(Pos.CENTER);
+        grid.setStyle("-fx-background-color: #000033; -fx-border-color: #FFFFFF; -fx-border-width: 4;");
+        grid.setPadding(new Insets(10));
+    }
+
+    @Override
+    public Region getView() {
+        return grid;
+    }
+
+    @Override
+    public void drawBoard(BombermanMap tiles, IntBinaryOperator cells) {
+        this.tiles = tiles;
+        layers.setCellSize(tiles.getCellSize());
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                layers.showTile(tiles, x, y, cells.applyAsInt(x, y));
+            }
+        }
+    }
+
+    @Override
+    public void updateCell(int x, int y, int cellType) {
+        if (tiles == null) return;
+
+        // Le nœud de la cellule est réutilisé : seule sa tuile change
+        layers.showTile(tiles, x, y, cellType);
+    }
+
+    @Override
+    public void addEntity(BoardLayer layer, Node node, int x, int y) {
+        layers.add(layer, node, x, y);
+    }
+
+    @Override
+    public void removeEntity(Node node) {
+        layers.remove(node);
+    }
+
+    @Override
+    public void render() {
+        // Les nœuds sont rendus directement par la scène
+    }
+
+    @Override
+    public void clear() {
+        layers.clearEntities();
+        layers.hideTiles();
+        tiles = null;
+    }
+
+    @Override
+    public int getNodeCount() {
+        return layers.getNodeCount();
+    }
+}
@@ -0,0 +1,81 @@
+package fonctionnaliteInitial;
+
+import javafx.scene.Node;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Réserve de nœuds réutilisables pour les éléments dynamiques du plateau.
+ * <p>
+ * Un nœud retiré du plateau est rendu à la réserve au lieu d'être abandonné au
+ * ramasse-miettes ; le suivant du même genre le reprend tel quel et se contente d'en
+ * modifier l'apparence. Pendant une partie, les explosions successives réutilisent
+ * donc toujours les mêmes nœuds. La réserve est bornée pour ne pas garder indéfiniment
+ * les nœuds d'un pic exceptionnel.
+ * </p>
+ * <p>
+ * Les nœuds sont normalement pris et rendus par
+ * {@link BoardRenderer#acquireEntity(NodePool, Etat.BoardLayer, int, int)} et
+ * {@link BoardRenderer#releaseEntity(NodePool, Node)}.
+ * </p>
+ *
+ * @param <T> Type des nœuds de la réserve
+ */
+public final class NodePool<T extends Node> {
+
+    private final Supplier<? extends T> factory;
+    private final int maxFree;
+    private final ArrayDeque<T> free;
+
+    private int createdCount;
+
+    /**
+     * @param factory Fabrique appelée quand la réserve est vide
+     * @param maxFree Nombre maximal de nœuds libres conservés
+     */
+    public NodePool(Supplier<? extends T> factory, int maxFree) {
+        this.factory = factory;
+        this.maxFree = maxFree;
+        this.free = new ArrayDeque<>(Math.min(maxFree, 64));
+    }
+
+    /**
+     * Prend un nœud libre, ou en crée un si la réserve est vide.
+     *
+     * @return Un nœud sans parent
+     */
+    public T acquire() {
+        T node = free.pollLast();
+        if (node == null) {
+            node = factory.get();
+            createdCount++;
+        }
+        return node;
+    }
+
+    /**
+     * Rend un nœud à la réserve ; il doit déjà avoir été retiré de la scène.
+     *
+     * @param node Nœud à réutiliser
+     */
+    public void release(T node) {
+        if (node != null && free.size() < maxFree) {
+            free.addLast(node);
+        }
+    }
+
+    /**
+     * @return Le nombre de nœuds libres
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+
+    /**
+     * @return Le nombre de nœuds créés depuis la création de la réserve
+     */
+    public int getCreatedCount() {
+        return createdCount;
+    }
+}
@@ -0,0 +1,87 @@
+package fonctionnaliteInitial;
+
+import Etat.GameMode;
+import Joueur.JavaFXPlayer;
+import javafx.scene.control.Label;
+
+/**
+ * Fiche d'un joueur dans le panneau d'informations.
+ * <p>
+ * La fiche retient les valeurs affichées et ne modifie le texte du label que si
+ * l'une d'elles a changé : un {@code setText} inutile déclenche quand même une passe
+ * CSS et une mise en page du panneau.
+ * </p>
+ */
+class PlayerInfoHud {
+
+    private final Label label;
+
+    private JavaFXPlayer player;
+
+    // Valeurs actuellement affichées
+    private String shownName;
+    private int shownLives;
+    private int shownBombs;
+    private boolean shownInfiniteBombs;
+    private int shownPower;
+    private boolean shownAlive;
+
+    /**
+     * @param label Label de la fiche (masqué tant qu'aucun joueur n'est associé)
+     */
+    PlayerInfoHud(Label label) {
+        this.label = label;
+    }
+
+    /**
+     * Associe la fiche à un joueur et l'affiche entièrement.
+     *
+     * @param player Le joueur, ou null pour masquer la fiche
+     */
+    void bind(JavaFXPlayer player) {
+        this.player = player;
+        if (player == null) {
+            label.setVisible(false);
+            return;
+        }
+        render();
+        label.setVisible(true);
+    }
+
+    JavaFXPlayer getPlayer() {
+        return player;
+    }
+
+    /**
+     * Met à jour le texte si une valeur affichée a changé.
+     */
+    void refresh() {
+        if (player == null) return;
+
+        boolean infinite = player.getGameMode() == GameMode.INFINITE_BOMBS;
+        if (player.getName().equals(shownName)
+                && player.getLives() == shownLives
+                && infinite == shownInfiniteBombs
+                && (infinite || player.getBombInventory() == shownBombs)
+                && player.getBombPower() == shownPower
+                && player.isAlive() == shownAlive) {
+            return;
+        }
+        render();
+    }
+
+    private void render() {
+        shownName = player.getName();
+        shownLives = player.getLives();
+        shownInfiniteBombs = player.getGameMode() == GameMode.INFINITE_BOMBS;
+        shownBombs = player.getBombInventory();
+        shownPower = player.getBombPower();
+        shownAlive = player.isAlive();
+
+        // Affichage spécial pour les bombes selon le mode
+        String bombDisplay = shownInfiniteBombs ? "∞" : String.valueOf(shownBombs);
+
+        label.setText(String.format("%s\nVies: %d\nBombes: %s\nPuissance: %d\nStatut: %s",
+                shownName, shownLives, bombDisplay, shownPower, shownAlive ? "VIVANT" : "MORT"));
+    }
+}
@@ -117,41 +117,34 @@ public class PowerUp extends GameObject {
     /**
      * Crée l'icône d'une bombe en utilisant un sprite.
      * <p>
-     * Cette méthode tente de charger une image de bombe depuis les ressources.
-     * En cas d'échec, elle utilise une méthode de secours pour créer une bombe simplifiée.
+     * Cette méthode utilise l'image de bombe du {@link SpriteCache}.
+     * Si elle manque, elle utilise une méthode de secours pour créer une bombe simplifiée.
      * </p>
      *
      * @param container Le conteneur où ajouter l'icône
      */
     private void createBombSpriteIcon(StackPane container) {
-        try {
-            // Charger le sprite depuis les ressources
-            String imagePath = "/com/example/bombermansae201/Bombe/PowerUp_bombe.png";
-
-            javafx.scene.image.Image bombImage = new javafx.scene.image.Image(
-                    getClass().getResourceAsStream(imagePath)
-            );
-
-            javafx.scene.image.ImageView imageView = new javafx.scene.image.ImageView(bombImage);
+        javafx.scene.image.Image bombImage = SpriteCache.getImage(SpriteCache.POWERUP_BOMB);
+        if (bombImage == null) {
+            // Fallback : utiliser l'ancienne méthode si l'image ne se charge pas
+            createBombFallbackIcon(container);
+            return;
+        }
 
-            // Redimensionner l'image pour qu'elle s'adapte à la cellule
-            imageView.setFitWidth(35);
-            imageView.setFitHeight(35);
-            imageView.setPreserveRatio(true);
-            imageView.setSmooth(true);
+        javafx.scene.image.ImageView imageView = new javafx.scene.image.ImageView(bombImage);
 
-            // Effet de brillance
-            Glow glow = new Glow();
-            glow.setLevel(0.3);
-            imageView.setEffect(glow);
+        // Redimensionner l'image pour qu'elle s'adapte à la cellule
+        imageView.setFitWidth(35);
+        imageView.setFitHeight(35);
+        imageView.setPreserveRatio(true);
+        imageView.setSmooth(true);
 
-            container.getChildren().add(imageView);
+        // Effet de brillance
+        Glow glow = new Glow();
+        glow.setLevel(0.3);
+        imageView.setEffect(glow);
 
-        } catch (Exception e) {
-            System.err.println("Erreur lors du chargement du sprite bomb_powerup: " + e.getMessage());
-            // Fallback : utiliser l'ancienne méthode si l'image ne se charge pas
-            createBombFallbackIcon(container);
-        }
+        container.getChildren().add(imageView);
     }
 
     /**
@@ -0,0 +1,228 @@
+package fonctionnaliteInitial;
+
+import Journal.Log;
+import Journal.Logger;
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache des images du jeu, partagé par toute l'application.
+ * <p>
+ * Chaque image (sprites des joueurs, bombes, flammes, power-ups) n'est lue dans les
+ * ressources et décodée qu'une seule fois ; les joueurs, bombes et power-ups reçoivent
+ * ensuite la même instance. Une ressource absente est elle aussi retenue, pour ne pas
+ * parcourir de nouveau le classpath à chaque demande.
+ * </p>
+ * <p>
+ * {@link #preload()} décode toutes les images en parallèle sur des threads de fond
+ * pendant que le menu est affiché ; le lancement de la première partie attend la fin
+ * du chargement par {@link #awaitPreload()}. Une image demandée avant la fin du
+ * préchargement est chargée immédiatement sur le thread appelant.
+ * </p>
+ */
+public final class SpriteCache {
+
+    private static final Logger LOG = Log.getLogger(SpriteCache.class);
+
+    /** Dossier racine des ressources du jeu */
+    private static final String ROOT = "/com/example/bombermansae201/";
+
+    // Images nommées
+    public static final String BOMB_SAFE = "Bombe/Bombe_safe.png";
+    public static final String BOMB_RED = "Bombe/Bombe_rouge.png";
+    public static final String FLAME_START = "Bombe/Debut_flamme.png";
+    public static final String FLAME_END = "Bombe/Fin_flamme.png";
+    public static final String FLAME_CENTER = "Bombe/Milieu_flamme.png";
+    public static final String POWERUP_BOMB = "Bombe/PowerUp_bombe.png";
+
+    private static final String[] NAMED_IMAGES = {
+            BOMB_SAFE, BOMB_RED, FLAME_START, FLAME_END, FLAME_CENTER, POWERUP_BOMB
+    };
+
+    /** Dossiers de sprites des couleurs de joueur */
+    private static final String[] PLAYER_COLOR_FOLDERS = {"Bleu", "Rose", "Vert", "Orange", "Rouge", "Jaune"};
+
+    /**
+     * Noms des fichiers de sprites pour les différentes animations.
+     */
+    private static final String[] PLAYER_SPRITE_NAMES = {
+            "PersoBleu.png",             // 0 - face
+            "PersoBleuMarcheDevant.png", // 1 - face_walking
+            "PersoBleuDos.png",          // 2 - back
+            "PersoBleuMarcheDeriere.png",// 3 - back_walking
+            "PersoBleuDroite.png",       // 4 - right
+            "PersoBleuMarcheDroite.png", // 5 - right_walking
+            "PersoBleuGauche.png",       // 6 - left
+            "PersoBleuMarcheGauche.png"  // 7 - left_walking
+    };
+
+    /** Images par chemin relatif à {@link #ROOT} ; vide si la ressource est absente */
+    private static final Map<String, Optional<Image>> IMAGES = new ConcurrentHashMap<>();
+
+    /** Sprites complets par dossier de couleur ; vide si l'un d'eux manque */
+    private static final Map<String, Optional<Image[]>> PLAYER_SPRITES = new ConcurrentHashMap<>();
+
+    private static volatile CompletableFuture<Void> preloading;
+
+    private SpriteCache() {
+    }
+
+    // ===== PRÉCHARGEMENT =====
+
+    /**
+     * Lance le décodage de toutes les images sur des threads de fond.
+     * <p>
+     * Sans effet si le préchargement est déjà lancé.
+     * </p>
+     *
+     * @return La tâche de préchargement
+     */
+    public static synchronized CompletableFuture<Void> preload() {
+        if (preloading != null) {
+            return preloading;
+        }
+
+        long start = System.nanoTime();
+        ExecutorService loaders = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())), new LoaderThreadFactory());
+
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        for (String path : NAMED_IMAGES) {
+            tasks.add(CompletableFuture.runAsync(() -> getImage(path), loaders));
+        }
+        for (String colorFolder : PLAYER_COLOR_FOLDERS) {
+            tasks.add(CompletableFuture.runAsync(() -> getPlayerSprites(colorFolder), loaders));
+        }
+
+        preloading = CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, error) -> {
+                    loaders.shutdown();
+                    if (error != null) {
+                        LOG.error("❌ Erreur lors du préchargement des images", error);
+                    } else {
+                        LOG.info("🖼️ {} images préchargées en {} ms", IMAGES.size(),
+                                (System.nanoTime() - start) / 1_000_000);
+                    }
+                });
+        return preloading;
+    }
+
+    /**
+     * Attend la fin du préchargement, en le lançant si nécessaire.
+     * <p>
+     * Appelé au lancement d'une partie ; ne bloque que si le menu a été quitté
+     * avant la fin du chargement.
+     * </p>
+     */
+    public static void awaitPreload() {
+        try {
+            preload().join();
+        } catch (CompletionException e) {
+            // Les images manquantes seront chargées (ou remplacées) à la demande
+            LOG.warn("⚠️ Préchargement des images incomplet: {}", e.getMessage());
+        }
+    }
+
+    // ===== ACCÈS =====
+
+    /**
+     * Retourne une image du jeu, décodée une seule fois.
+     *
+     * @param path Chemin relatif au dossier des ressources (par exemple {@link #BOMB_SAFE})
+     * @return L'image, ou null si elle est absente ou illisible
+     */
+    public static Image getImage(String path) {
+        return IMAGES.computeIfAbsent(path, p -> Optional.ofNullable(load(ROOT + p))).orElse(null);
+    }
+
+    /**
+     * Retourne les huit sprites d'une couleur de joueur (face, dos, droite, gauche,
+     * à l'arrêt puis en marche), dans l'ordre attendu par {@code JavaFXPlayer}.
+     * <p>
+     * Le tableau est partagé par tous les joueurs de cette couleur et ne doit pas
+     * être modifié.
+     * </p>
+     *
+     * @param colorFolder Dossier de la couleur (Bleu, Rose...)
+     * @return Les sprites, ou null si l'un d'eux n'a pas pu être chargé
+     */
+    public static Image[] getPlayerSprites(String colorFolder) {
+        return PLAYER_SPRITES.computeIfAbsent(colorFolder,
+                folder -> Optional.ofNullable(loadPlayerSprites(folder))).orElse(null);
+    }
+
+    // ===== CHARGEMENT =====
+
+    private static Image[] loadPlayerSprites(String colorFolder) {
+        Image[] sprites = new Image[PLAYER_SPRITE_NAMES.length];
+
+        for (int i = 0; i < PLAYER_SPRITE_NAMES.length; i++) {
+            // Essayer différents chemins possibles
+            String[] possiblePaths = {
+                    ROOT + "Personnage/" + colorFolder + "/" + PLAYER_SPRITE_NAMES[i],
+                    ROOT + "Personnage/" + colorFolder + ".png/" + PLAYER_SPRITE_NAMES[i],
+                    "/Personnage/" + colorFolder + "/" + PLAYER_SPRITE_NAMES[i],
+                    "/sprites/" + colorFolder + "/" + PLAYER_SPRITE_NAMES[i]
+            };
+
+            for (String path : possiblePaths) {
+                sprites[i] = load(path);
+                if (sprites[i] != null) break;
+            }
+
+            if (sprites[i] == null) {
+                LOG.debug("Sprite {} introuvable pour la couleur {}", PLAYER_SPRITE_NAMES[i], colorFolder);
+                return null;
+            }
+        }
+
+        LOG.debug("✅ Sprites chargés pour la couleur {}", colorFolder);
+        return sprites;
+    }
+
+    /**
+     * Lit et décode une image des ressources.
+     *
+     * @param path Chemin absolu dans le classpath
+     * @return L'image, ou null si elle est absente ou illisible
+     */
+    private static Image load(String path) {
+        try (InputStream stream = SpriteCache.class.getResourceAsStream(path)) {
+            if (stream == null) {
+                return null;
+            }
+            Image image = new Image(stream);
+            return image.isError() ? null : image;
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("⚠️ Impossible de charger l'image {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Threads de chargement : démons, pour ne pas retenir la fermeture de l'application.
+     */
+    private static final class LoaderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "bomberman-asset-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -5,6 +5,8 @@ module com.example.bombermansae201 {
     requires org.controlsfx.controls;
     requires org.kordamp.bootstrapfx.core;
     requires java.desktop;
+    requires java.management;
+    requires jdk.management;
 
     opens Parametre to javafx.fxml;
     exports Parametre;
@@ -22,4 +24,8 @@ module com.example.bombermansae201 {
     opens Test to javafx.fxml;
     exports Etat;
     opens Etat to javafx.fxml;
+    exports Simulation;
+    opens Simulation to javafx.fxml;
+    exports Journal;
+    opens Journal to javafx.fxml;
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+package Joueur;
+
+import Etat.ProfileBackend;
+import Etat.ProfileSort;
+import Etat.SyncPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests des deux stockages de profils : relecture sur disque et cohérence des classements.
+ */
+class ProfileRepositoryTest {
+
+    private static final int PROFILE_COUNT = 2000;
+    private static final int UPDATE_COUNT = 20_000;
+    private static final int DELETE_COUNT = 500;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRoundTrip() throws IOException {
+        for (ProfileBackend backend : ProfileBackend.values()) {
+            Path file = directory.resolve(backend.name() + "-roundtrip.db");
+            ProfileRepository repository = open(backend, file);
+
+            Profile rated = new Profile("Alice", "Dupont", "Rouge", 12, 7, 4300);
+            rated.setRating(1612.37, 87.25, 0.05932);
+            assertTrue(repository.add(rated));
+            assertTrue(repository.add(new Profile("Bob", "Martin", "Bleu")));
+            assertFalse(repository.add(new Profile("ALICE", "dupont", "Vert")));
+
+            rated.updateStats(true, 900);
+            assertTrue(repository.update(rated));
+            assertTrue(repository.remove(repository.find("Bob", "Martin")));
+            assertTrue(repository.add(new Profile("Claire", "Durand", "Vert", 3, 1, 250)));
+
+            ProfileRepository reopened = reopen(backend, file, repository);
+            assertEquals(2, reopened.size());
+            assertNull(reopened.find("Bob", "Martin"));
+
+            Profile alice = reopened.find("alice", "DUPONT");
+            assertNotNull(alice);
+            assertEquals("Rouge", alice.getColorName());
+            assertEquals(13, alice.getGamesPlayed());
+            assertEquals(8, alice.getGamesWon());
+            assertEquals(5200, alice.getTotalScore());
+            assertEquals(1612.37, alice.getRating(), 0.01);
+            assertEquals(87.25, alice.getRatingDeviation(), 0.01);
+            assertEquals(0.05932, alice.getVolatility(), 0.00001);
+
+            Profile claire = reopened.find("Claire", "Durand");
+            assertNotNull(claire);
+            assertEquals(SkillRating.DEFAULT_RATING, claire.getRating(), 0.01);
+            assertEquals(List.of("Alice Dupont", "Claire Durand"), names(reopened.all()));
+            close(reopened);
+        }
+    }
+
+    @Test
+    void testRankingsStayConsistentAfterUpdatesAndDeletes() throws IOException {
+        for (ProfileBackend backend : ProfileBackend.values()) {
+            Path file = directory.resolve(backend.name() + "-rankings.db");
+            ProfileRepository repository = open(backend, file);
+            String[] colors = ProfileManager.getAvailableColors();
+            for (int i = 0; i < PROFILE_COUNT; i++) {
+                repository.add(new Profile("Joueur" + i, "Nom" + i, colors[i % colors.length]));
+            }
+            // Classements construits avant les modifications : ils sont tenus à jour au fil de l'eau
+            for (ProfileSort sort : ProfileSort.values()) {
+                repository.sorted(sort);
+            }
+
+            Random random = new Random(20_000);
+            Set<Integer> deleted = new HashSet<>();
+            for (int update = 0; update < UPDATE_COUNT; update++) {
+                if (update % (UPDATE_COUNT / DELETE_COUNT) == 0) {
+                    int victim;
+                    do {
+                        victim = random.nextInt(PROFILE_COUNT);
+                    } while (!deleted.add(victim));
+                    assertTrue(repository.remove(repository.find("Joueur" + victim, "Nom" + victim)));
+                }
+
+                int a = random.nextInt(PROFILE_COUNT);
+                int b = random.nextInt(PROFILE_COUNT);
+                if (a == b || deleted.contains(a) || deleted.contains(b)) continue;
+
+                Profile winner = repository.find("Joueur" + a, "Nom" + a);
+                Profile loser = repository.find("Joueur" + b, "Nom" + b);
+                winner.updateStats(true, random.nextInt(1000));
+                loser.updateStats(false, random.nextInt(1000));
+                SkillRating.rateMatch(List.of(winner, loser), winner);
+                assertTrue(repository.update(winner));
+                assertTrue(repository.update(loser));
+            }
+            assertEquals(DELETE_COUNT, deleted.size());
+
+            assertRankingsConsistent(backend, repository, PROFILE_COUNT - DELETE_COUNT);
+            for (int victim : deleted) {
+                assertNull(repository.find("Joueur" + victim, "Nom" + victim));
+            }
+
+            List<String> creationOrder = names(repository.all());
+            ProfileRepository reopened = reopen(backend, file, repository);
+            assertEquals(creationOrder, names(reopened.all()));
+            assertRankingsConsistent(backend, reopened, PROFILE_COUNT - DELETE_COUNT);
+            close(reopened);
+        }
+    }
+
+    @Test
+    void testTruncatedLogTailIsDropped() throws IOException {
+        Path file = directory.resolve("truncated.db");
+        ProfileRepository repository = open(ProfileBackend.LOG, file);
+        repository.add(new Profile("Alice", "Dupont", "Rouge", 4, 2, 800));
+        repository.add(new Profile("Bob", "Martin", "Bleu", 1, 0, 50));
+        assertTrue(repository.flush());
+
+        // Arrêt brutal pendant l'écriture du dernier enregistrement
+        long length = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length - 3);
+        }
+
+        ProfileRepository recovered = open(ProfileBackend.LOG, file);
+        assertEquals(1, recovered.size());
+        assertEquals(800, recovered.find("Alice", "Dupont").getTotalScore());
+        assertNull(recovered.find("Bob", "Martin"));
+        assertTrue(Files.size(file) < length - 3);
+
+        // Le journal tronqué reste utilisable
+        recovered.add(new Profile("Claire", "Durand", "Vert"));
+        assertTrue(recovered.flush());
+        ProfileRepository reopened = open(ProfileBackend.LOG, file);
+        assertEquals(List.of("Alice Dupont", "Claire Durand"), names(reopened.all()));
+    }
+
+    @Test
+    void testUnreadableMappedFileIsLeftUntouched() throws IOException {
+        byte[][] contents = {new byte[]{1, 2, 3}, new byte[64 * 1024]};
+        for (byte[] content : contents) {
+            Path file = directory.resolve("unreadable-" + content.length + ".dat");
+            Files.write(file, content);
+
+            ProfileRepository repository = ProfileRepository.create(ProfileBackend.MAPPED, file, SyncPolicy.NONE, 5);
+            assertThrows(IOException.class, repository::load);
+
+            // Le stockage reste vide et refuse les modifications sans toucher au fichier
+            Profile profile = new Profile("Alice", "Dupont", "Rouge");
+            assertEquals(0, repository.size());
+            assertNull(repository.find("Alice", "Dupont"));
+            assertEquals(List.of(), repository.search("ali", ProfileSort.WINS, 10));
+            assertThrows(IllegalStateException.class, () -> repository.add(profile));
+            assertFalse(repository.update(profile));
+            assertFalse(repository.remove(profile));
+            assertTrue(repository.flush());
+            close(repository);
+            assertArrayEquals(content, Files.readAllBytes(file));
+        }
+    }
+
+    /**
+     * Vérifie chaque classement : mêmes profils que l'ordre de création, clés décroissantes,
+     * position et page cohérentes avec le classement complet.
+     */
+    private static void assertRankingsConsistent(ProfileBackend backend, ProfileRepository repository, int expectedSize) {
+        assertEquals(expectedSize, repository.size());
+        Set<String> all = new HashSet<>(names(repository.all()));
+        assertEquals(expectedSize, all.size());
+
+        for (ProfileSort sort : ProfileSort.values()) {
+            List<Profile> sorted = new ArrayList<>(repository.sorted(sort));
+            assertEquals(expectedSize, sorted.size(), sort.name());
+            assertEquals(all, new HashSet<>(names(sorted)), sort.name());
+
+            for (int position = 0; position < sorted.size(); position++) {
+                Profile profile = sorted.get(position);
+                if (position > 0) {
+                    assertTrue(sortKey(backend, sort, sorted.get(position - 1)) >= sortKey(backend, sort, profile),
+                            sort + " trié à la position " + position);
+                }
+                assertEquals(position, repository.rank(profile, sort), sort + " position de " + profile.getFullName());
+            }
+            assertEquals(sorted.subList(10, 30), repository.page(sort, 10, 20), sort.name());
+        }
+    }
+
+    /**
+     * Clé de classement d'un profil, avec la précision de la cote propre au stockage.
+     */
+    private static int sortKey(ProfileBackend backend, ProfileSort sort, Profile profile) {
+        double rating = backend == ProfileBackend.MAPPED ? (float) profile.getRating() : profile.getRating();
+        return ProfileRepository.sortKey(sort, profile.getGamesPlayed(), profile.getGamesWon(),
+                profile.getTotalScore(), rating);
+    }
+
+    private static ProfileRepository open(ProfileBackend backend, Path file) throws IOException {
+        ProfileRepository repository = ProfileRepository.create(backend, file, SyncPolicy.NONE, 5);
+        repository.load();
+        return repository;
+    }
+
+    private static ProfileRepository reopen(ProfileBackend backend, Path file, ProfileRepository repository)
+            throws IOException {
+        assertTrue(repository.flush());
+        close(repository);
+        return open(backend, file);
+    }
+
+    private static void close(ProfileRepository repository) {
+        if (repository instanceof MappedProfileRepository mapped) {
+            mapped.close();
+        }
+    }
+
+    private static List<String> names(List<Profile> profiles) {
+        List<String> names = new ArrayList<>(profiles.size());
+        for (Profile profile : profiles) {
+            names.add(profile.getFullName());
+        }
+        return names;
+    }
+}
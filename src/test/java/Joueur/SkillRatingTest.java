@@ -0,0 +1,92 @@
+package Joueur;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du calcul des cotes Glicko-2.
+ */
+class SkillRatingTest {
+
+    /** Facteur entre l'échelle Glicko et l'échelle Glicko-2 */
+    private static final double SCALE = 173.7178;
+
+    @Test
+    void testGlickmanExample() {
+        // Glickman, « Example of the Glicko-2 system » : 1500 / 200 / 0.06 contre trois adversaires
+        double mu = 0;
+        double phi = 200 / SCALE;
+        double[][] opponents = {{1400, 30, 1}, {1550, 100, 0}, {1700, 300, 0}};
+
+        // Étapes 3 et 4 : variance estimée et amélioration
+        double inverseVariance = 0;
+        double improvement = 0;
+        for (double[] opponent : opponents) {
+            double muJ = (opponent[0] - SkillRating.DEFAULT_RATING) / SCALE;
+            double phiJ = opponent[1] / SCALE;
+            double g = 1 / Math.sqrt(1 + 3 * phiJ * phiJ / (Math.PI * Math.PI));
+            double expected = 1 / (1 + Math.exp(-g * (mu - muJ)));
+            inverseVariance += g * g * expected * (1 - expected);
+            improvement += g * (opponent[2] - expected);
+        }
+
+        double[] updated = SkillRating.update(mu, phi, 0.06, 1 / inverseVariance, improvement);
+
+        assertEquals(1464.05, SkillRating.DEFAULT_RATING + SCALE * updated[0], 0.01);
+        assertEquals(151.52, SCALE * updated[1], 0.01);
+        assertEquals(0.06000, updated[2], 0.00001);
+    }
+
+    @Test
+    void testWinnerGainsWhatLoserLoses() {
+        Profile winner = new Profile("Alice", "Dupont", "Rouge");
+        Profile loser = new Profile("Bob", "Martin", "Bleu");
+
+        SkillRating.rateMatch(List.of(winner, loser), winner);
+
+        assertTrue(winner.getRating() > SkillRating.DEFAULT_RATING);
+        assertTrue(loser.getRating() < SkillRating.DEFAULT_RATING);
+        assertEquals(winner.getRating() - SkillRating.DEFAULT_RATING,
+                SkillRating.DEFAULT_RATING - loser.getRating(), 1e-9);
+        assertTrue(winner.getRatingDeviation() < SkillRating.DEFAULT_DEVIATION);
+        assertEquals(winner.getRatingDeviation(), loser.getRatingDeviation(), 1e-9);
+    }
+
+    @Test
+    void testDrawKeepsEqualRatings() {
+        Profile first = new Profile("Alice", "Dupont", "Rouge");
+        Profile second = new Profile("Bob", "Martin", "Bleu");
+
+        SkillRating.rateMatch(List.of(first, second), null);
+
+        assertEquals(SkillRating.DEFAULT_RATING, first.getRating(), 1e-9);
+        assertEquals(SkillRating.DEFAULT_RATING, second.getRating(), 1e-9);
+        assertTrue(first.getRatingDeviation() < SkillRating.DEFAULT_DEVIATION);
+    }
+
+    @Test
+    void testLosersAreNotRankedAgainstEachOther() {
+        Profile winner = new Profile("Alice", "Dupont", "Rouge");
+        Profile second = new Profile("Bob", "Martin", "Bleu");
+        Profile third = new Profile("Claire", "Durand", "Vert");
+
+        SkillRating.rateMatch(List.of(winner, second, third), winner);
+
+        assertEquals(second.getRating(), third.getRating(), 1e-9);
+        assertTrue(second.getRating() < SkillRating.DEFAULT_RATING);
+    }
+
+    @Test
+    void testSingleDistinctProfileIsNotRated() {
+        Profile profile = new Profile("Alice", "Dupont", "Rouge");
+
+        SkillRating.rateMatch(List.of(profile, profile), profile);
+
+        assertEquals(SkillRating.DEFAULT_RATING, profile.getRating());
+        assertEquals(SkillRating.DEFAULT_DEVIATION, profile.getRatingDeviation());
+        assertEquals(SkillRating.DEFAULT_VOLATILITY, profile.getVolatility());
+    }
+}
@@ -0,0 +1,119 @@
+package Simulation;
+
+import Etat.Direction;
+import Etat.GameMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'enregistrement des parties : écriture, relecture et reproduction à l'identique.
+ */
+class ReplayTest {
+
+    private static final long[] SEEDS = {1, 7, 42, 1234, -987654321L};
+    private static final int PLAYER_COUNT = 4;
+    /** Durée maximale d'une partie de test : 10 minutes de jeu */
+    private static final int MAX_TICKS = 10 * 60 * SimulationEngine.TICKS_PER_SECOND;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordedMatchesReplayIdentically() throws IOException {
+        for (long seed : SEEDS) {
+            SimulationEngine engine = new SimulationEngine(GameMode.INFINITE_BOMBS, seed);
+            for (int i = 0; i < PLAYER_COUNT; i++) {
+                engine.addPlayer("Joueur " + (i + 1));
+            }
+            // Un état initial différent des valeurs par défaut doit lui aussi être enregistré
+            engine.getPlayer(0).increaseSpeed();
+            engine.getPlayer(1).setBombInventory(7);
+
+            ReplayRecorder recorder = new ReplayRecorder();
+            engine.setRecorder(recorder);
+            engine.start();
+            play(engine, new Random(seed));
+
+            Replay recorded = recorder.finish(engine);
+            Path file = directory.resolve("match-" + seed + Replay.FILE_EXTENSION);
+            long size = recorded.write(file);
+            assertEquals(Files.size(file), size);
+
+            Replay read = Replay.read(file);
+            assertEquals(seed, read.getSeed());
+            assertEquals(GameMode.INFINITE_BOMBS, read.getGameMode());
+            assertEquals(PLAYER_COUNT, read.getPlayers().size());
+            assertEquals(recorded.getEndTick(), read.getEndTick());
+            assertEquals(recorded.getWinnerId(), read.getWinnerId());
+            assertEquals(recorded.getChecksum(), read.getChecksum());
+            assertEquals(recorder.getCommandCount(), read.getCommandCount());
+            assertTrue(read.getCommandCount() > 0);
+
+            ReplayPlayer player = new ReplayPlayer(read);
+            assertEquals(engine.getTick(), player.runToEnd());
+            assertTrue(player.matchesRecording(), "Replay divergent pour la graine " + seed);
+            assertEquals(Replay.checksum(engine), Replay.checksum(player.getEngine()));
+        }
+    }
+
+    @Test
+    void testReplayWithAnotherSeedDoesNotMatch() {
+        SimulationEngine engine = new SimulationEngine(GameMode.LIMITED_BOMBS, 42);
+        for (int i = 0; i < PLAYER_COUNT; i++) {
+            engine.addPlayer("Joueur " + (i + 1));
+        }
+        ReplayRecorder recorder = new ReplayRecorder();
+        engine.setRecorder(recorder);
+        engine.start();
+        play(engine, new Random(42));
+        Replay recorded = recorder.finish(engine);
+
+        Replay tampered = new Replay(recorded.getSeed() + 1, recorded.getGameMode(), recorded.getPlayers(),
+                recorded.getEndTick(), recorded.getWinnerId(), recorded.getChecksum(),
+                recorded.getCommandCount(), recorded.getCommands());
+        ReplayPlayer player = new ReplayPlayer(tampered);
+        player.runToEnd();
+        assertFalse(player.matchesRecording());
+    }
+
+    @Test
+    void testReadRejectsOtherFiles() throws IOException {
+        Path file = directory.resolve("not-a-replay" + Replay.FILE_EXTENSION);
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> Replay.read(file));
+    }
+
+    /**
+     * Joue une partie avec des entrées pseudo-aléatoires : chaque joueur garde sa direction
+     * quelques ticks, avec des périodes d'inactivité pour produire de longs écarts entre
+     * commandes.
+     */
+    private static void play(SimulationEngine engine, Random random) {
+        Direction[] held = new Direction[PLAYER_COUNT];
+        for (int tick = 0; tick < MAX_TICKS && !engine.isGameOver(); tick++) {
+            boolean idle = (tick / 600) % 3 == 2;
+            for (int id = 0; id < PLAYER_COUNT && !idle; id++) {
+                if (held[id] == null || random.nextInt(40) == 0) {
+                    List<Direction> safe = engine.getSafeDirections(id);
+                    held[id] = safe.isEmpty() ? null : safe.get(random.nextInt(safe.size()));
+                }
+                if (held[id] != null) {
+                    engine.movePlayer(id, held[id]);
+                }
+                if (random.nextInt(90) == 0) {
+                    engine.placeBomb(id);
+                }
+            }
+            engine.tick();
+            engine.pollEvents();
+        }
+    }
+}